@@ -0,0 +1,32 @@
+package com.example.account.application;
+
+import com.example.account.domain.AccountView;
+import com.example.account.infrastructure.readmodel.AccountReadModel;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Query side for accounts, served from the in-memory read model.
+ *
+ * Deliberately not transactional: a hit touches neither the persistence context nor the
+ * connection pool, and a miss reads the account row in a single autocommit statement.
+ */
+@Service
+public class AccountQueryService {
+
+    private final AccountReadModel readModel;
+
+    public AccountQueryService(AccountReadModel readModel) {
+        this.readModel = readModel;
+    }
+
+    /**
+     * Precondition: accountNumber != null
+     * Postcondition: the latest committed view the read model holds, or empty if the account
+     *   does not exist; the view's version and asOf say how fresh it is
+     */
+    public Optional<AccountView> getAccount(String accountNumber) {
+        return readModel.get(accountNumber);
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.account.application;
 
 import com.example.account.domain.Account;
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.AccountCreationResult;
 import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.dto.BatchDebitItem;
 import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,6 +19,7 @@ import java.util.Optional;
  * Contract definitions:
  * - All methods throw AccountNotFoundException if account does not exist (except create)
  * - Debit operations may throw InsufficientBalanceException or AccountFrozenException
+ * - tryDebit reports an unknown or frozen account as a DebitResult instead
  */
 public interface AccountService {
 
@@ -32,6 +39,14 @@ public interface AccountService {
      */
     Account createAccount(CreateAccountRequest request);
 
+    /**
+     * Create a chunk of accounts in one transaction.
+     * Precondition: requests are valid
+     * Postcondition: one result per request, in order; every request whose account number is
+     *   neither taken nor repeated earlier in the chunk is created with ACTIVE status
+     */
+    List<AccountCreationResult> createAccounts(List<CreateAccountRequest> requests);
+
     /**
      * Debit the specified amount from an account.
      * Precondition: accountNumber exists, amount > 0
@@ -42,6 +57,46 @@ public interface AccountService {
      */
     DebitResponse debit(String accountNumber, BigDecimal amount);
 
+    /**
+     * Debit, reporting an unknown or frozen account as a rejected result.
+     * Precondition: amount > 0
+     * Postcondition: as for debit; a rejected result leaves the account unchanged
+     *
+     * Implementations should decide the rejection without throwing; this default only
+     * adapts debit.
+     */
+    default DebitResult tryDebit(String accountNumber, BigDecimal amount) {
+        try {
+            return DebitResult.completed(debit(accountNumber, amount));
+        } catch (AccountNotFoundException e) {
+            return DebitResult.rejected(AccountRejection.NOT_FOUND, accountNumber);
+        } catch (AccountFrozenException e) {
+            return DebitResult.rejected(AccountRejection.FROZEN, accountNumber);
+        }
+    }
+
+    /**
+     * Debit at most once per idempotency key.
+     * Precondition: as for debit; idempotencyKey is not blank
+     * Postcondition: the first call with a key debits; later calls with the same key and
+     *   request return the stored response without touching the account
+     *
+     * @throws IdempotencyKeyConflictException if the key was used for a different debit
+     *
+     * Implementations without a dedupe store debit every time.
+     */
+    default DebitResponse debit(String accountNumber, BigDecimal amount, String idempotencyKey) {
+        return debit(accountNumber, amount);
+    }
+
+    /**
+     * Apply a batch of debits in one transaction.
+     * Precondition: items != null
+     * Postcondition: one result per item, in order; failed items leave their account unchanged
+     *   while the remaining items still apply (partial failure)
+     */
+    List<DebitResponse> debitBatch(List<BatchDebitItem> items);
+
     /**
      * Freeze an account.
      * Precondition: accountNumber exists, status == ACTIVE
@@ -61,4 +116,15 @@ public interface AccountService {
      * @throws IllegalStateException if account is not in FROZEN status
      */
     Account unfreeze(String accountNumber);
+
+    /**
+     * Split a hot account's balance across stripe rows so concurrent debits spread out.
+     * Precondition: accountNumber exists, not yet striped, 1 <= stripes <= Account.MAX_STRIPES
+     * Postcondition: account is striped, reported balance unchanged
+     *
+     * @throws AccountNotFoundException if account does not exist
+     * @throws IllegalStateException if account is already striped
+     * @throws IllegalArgumentException if the stripe count is out of range
+     */
+    Account stripe(String accountNumber, int stripes);
 }
@@ -1,19 +1,36 @@
 package com.example.account.application;
 
 import com.example.account.domain.Account;
+import com.example.account.domain.AccountCreationResult;
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.domain.AccountRejection;
 import com.example.account.domain.AccountStatus;
 import com.example.account.domain.DebitResponse;
+import com.example.account.domain.Money;
+import com.example.account.infrastructure.config.DebitProperties;
+import com.example.account.infrastructure.dto.BatchDebitItem;
 import com.example.account.infrastructure.dto.CreateAccountRequest;
-import com.example.account.infrastructure.exception.AccountFrozenException;
 import com.example.account.infrastructure.exception.AccountNotFoundException;
 import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.BalanceStripeRepository;
+import com.example.logging.Markers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -22,9 +39,25 @@ public class AccountServiceImpl implements AccountService {
     private static final Logger log = LoggerFactory.getLogger(AccountServiceImpl.class);
 
     private final AccountRepository accountRepository;
+    private final DebitProperties debitProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BalanceStripeRepository stripeRepository;
 
-    public AccountServiceImpl(AccountRepository accountRepository) {
+    /**
+     * Without a stripe repository, striped accounts are debited through the entity in every mode.
+     */
+    public AccountServiceImpl(AccountRepository accountRepository, DebitProperties debitProperties,
+                              ApplicationEventPublisher eventPublisher) {
+        this(accountRepository, debitProperties, eventPublisher, null);
+    }
+
+    @Autowired
+    public AccountServiceImpl(AccountRepository accountRepository, DebitProperties debitProperties,
+                              ApplicationEventPublisher eventPublisher, BalanceStripeRepository stripeRepository) {
         this.accountRepository = accountRepository;
+        this.debitProperties = debitProperties;
+        this.eventPublisher = eventPublisher;
+        this.stripeRepository = stripeRepository;
     }
 
     @Override
@@ -49,36 +82,204 @@ public class AccountServiceImpl implements AccountService {
         );
 
         Account saved = accountRepository.save(account);
+        eventPublisher.publishEvent(AccountMutatedEvent.created(saved));
         log.info("Account created: {}", saved.getAccountNumber());
         return saved;
     }
 
+    /**
+     * One set-based query finds the taken account numbers, then all new accounts are saved
+     * together; sequence ids let the flush send the INSERTs as JDBC batches.
+     */
+    @Override
+    public List<AccountCreationResult> createAccounts(List<CreateAccountRequest> requests) {
+        log.info("Creating accounts: size={}", requests.size());
+
+        Set<String> requested = new HashSet<>();
+        requests.forEach(request -> requested.add(request.accountNumber()));
+        Set<String> taken = new HashSet<>(accountRepository.findExistingAccountNumbers(requested));
+
+        List<AccountCreationResult> results = new ArrayList<>(requests.size());
+        List<Account> accounts = new ArrayList<>();
+        for (CreateAccountRequest request : requests) {
+            if (!taken.add(request.accountNumber())) {
+                results.add(AccountCreationResult.rejected(request.accountNumber(),
+                        "Account number already exists: " + request.accountNumber()));
+                continue;
+            }
+            accounts.add(new Account(request.accountNumber(), request.ownerName(), request.initialBalance()));
+            results.add(AccountCreationResult.created(request.accountNumber()));
+        }
+
+        accountRepository.saveAll(accounts);
+        accounts.forEach(account -> eventPublisher.publishEvent(AccountMutatedEvent.created(account)));
+        log.info("Accounts created: created={}, rejected={}", accounts.size(), requests.size() - accounts.size());
+        return results;
+    }
+
     @Override
     public DebitResponse debit(String accountNumber, BigDecimal amount) {
-        log.info("Debiting account: {}, amount: {}", accountNumber, amount);
+        return tryDebit(accountNumber, amount).orElseThrow();
+    }
 
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+    @Override
+    public DebitResult tryDebit(String accountNumber, BigDecimal amount) {
+        log.info(Markers.SAMPLED, "Debiting account: {}, amount: {}", accountNumber, amount);
+
+        return switch (debitProperties.mode()) {
+            case READ_MODIFY_WRITE -> debitByReadModifyWrite(accountNumber, amount);
+            case ATOMIC -> debitAtomically(accountNumber, amount);
+            case SHARDED -> throw new IllegalStateException(
+                    "Sharded debits are applied by ShardedDebitEngine, not inside a service transaction");
+        };
+    }
+
+    private DebitResult debitByReadModifyWrite(String accountNumber, BigDecimal amount) {
+        Account account = accountRepository.findByAccountNumber(accountNumber).orElse(null);
+        if (account == null) {
+            return DebitResult.rejected(AccountRejection.NOT_FOUND, accountNumber);
+        }
 
         // Check if account is frozen
         if (account.getStatus() == AccountStatus.FROZEN) {
-            throw new AccountFrozenException(accountNumber);
+            return DebitResult.rejected(AccountRejection.FROZEN, accountNumber);
         }
 
-        BigDecimal previousBalance = account.getBalance();
+        Account.requireValidDebitAmount(amount);
+        Money debited = Money.of(amount);
+        long previousBalance = account.getBalanceMinorUnits();
 
-        boolean success = account.debit(amount);
+        boolean success = account.debit(debited);
 
         if (success) {
             accountRepository.save(account);
-            log.info("Debit successful: account={}, previousBalance={}, newBalance={}",
-                    accountNumber, previousBalance, account.getBalance());
-            return DebitResponse.success(accountNumber, previousBalance, account.getBalance(), amount);
+            eventPublisher.publishEvent(AccountMutatedEvent.debited(accountNumber, amount,
+                    account.getBalanceMinorUnits()));
+            log.info(Markers.SAMPLED, "Debit successful: account={}, previousBalance={}, newBalance={}",
+                    accountNumber, Money.toBigDecimal(previousBalance), account.getBalance());
+            return DebitResult.completed(DebitResponse.success(accountNumber, previousBalance,
+                    account.getBalanceMinorUnits(), debited.minorUnits()));
         } else {
-            log.warn("Debit failed due to insufficient balance: account={}, balance={}, requested={}",
-                    accountNumber, account.getBalance(), amount);
-            return DebitResponse.insufficientBalance(accountNumber, account.getBalance(), amount);
+            return insufficientBalance(accountNumber, account.getBalance(), amount);
+        }
+    }
+
+    private DebitResult debitAtomically(String accountNumber, BigDecimal amount) {
+        Account.requireValidDebitAmount(amount);
+
+        Optional<DebitResponse> debited = accountRepository.debitAtomically(accountNumber, amount);
+        if (debited.isPresent()) {
+            DebitResponse response = debited.get();
+            eventPublisher.publishEvent(AccountMutatedEvent.debited(accountNumber, amount,
+                    response.currentBalanceMinorUnits()));
+            log.info(Markers.SAMPLED, "Debit successful: account={}, previousBalance={}, newBalance={}",
+                    accountNumber, response.previousBalance(), response.currentBalance());
+            return DebitResult.completed(response);
+        }
+
+        // No row matched: re-read to report the same outcome as the read-modify-write path
+        Account account = accountRepository.findByAccountNumber(accountNumber).orElse(null);
+        if (account == null) {
+            return DebitResult.rejected(AccountRejection.NOT_FOUND, accountNumber);
+        }
+        if (account.getStatus() == AccountStatus.FROZEN) {
+            return DebitResult.rejected(AccountRejection.FROZEN, accountNumber);
+        }
+        if (!account.getStatus().canDebit()) {
+            throw new IllegalStateException("Cannot debit from account with status: " + account.getStatus());
+        }
+        if (account.isStriped()) {
+            return debitStripes(account, amount);
         }
+        return insufficientBalance(accountNumber, account.getBalance(), amount);
+    }
+
+    /**
+     * One conditional UPDATE per stripe tried, starting at a random stripe so concurrent
+     * debits spread over the rows. When no single stripe covers the amount, fall back to
+     * Account.debit, which rebalances the stripes under their version checks.
+     *
+     * Only the debited stripe is locked, so the account total read afterwards may include
+     * other stripes' concurrent debits or miss their uncommitted ones. The ledger entry
+     * records the amount only; the response reports that reading as the balances.
+     */
+    private DebitResult debitStripes(Account account, BigDecimal amount) {
+        String accountNumber = account.getAccountNumber();
+        if (stripeRepository != null) {
+            int stripes = account.getStripeCount();
+            int first = ThreadLocalRandom.current().nextInt(stripes);
+            for (int i = 0; i < stripes; i++) {
+                if (stripeRepository.debitIfSufficient(account.getId(), (first + i) % stripes, amount) == 1) {
+                    long currentBalance = Money.minorUnitsOf(stripeRepository.sumBalance(account.getId()));
+                    long debited = Money.minorUnitsOf(amount);
+                    eventPublisher.publishEvent(AccountMutatedEvent.debited(accountNumber, amount));
+                    log.info(Markers.SAMPLED,
+                            "Striped debit successful: account={}, stripe={}, newBalance={}",
+                            accountNumber, (first + i) % stripes, Money.toBigDecimal(currentBalance));
+                    return DebitResult.completed(
+                            DebitResponse.success(accountNumber, currentBalance + debited, currentBalance, debited));
+                }
+            }
+        }
+        return debitByReadModifyWrite(accountNumber, amount);
+    }
+
+    private DebitResult insufficientBalance(String accountNumber, BigDecimal balance, BigDecimal amount) {
+        log.warn("Debit failed due to insufficient balance: account={}, balance={}, requested={}",
+                accountNumber, balance, amount);
+        return DebitResult.completed(DebitResponse.insufficientBalance(accountNumber, balance, amount));
+    }
+
+    /**
+     * Loads every account of the batch with one query, applies Account.debit in request
+     * order and lets the flush at commit send the updates as JDBC batches
+     * (hibernate.jdbc.batch_size). Used for every debit mode: the version check keeps it
+     * safe next to the atomic and sharded paths.
+     */
+    @Override
+    public List<DebitResponse> debitBatch(List<BatchDebitItem> items) {
+        log.info("Debiting batch: size={}", items.size());
+
+        Set<String> accountNumbers = new HashSet<>();
+        items.forEach(item -> accountNumbers.add(item.accountNumber()));
+        Map<String, Account> accounts = accountRepository.findByAccountNumberIn(accountNumbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+
+        List<DebitResponse> results = new ArrayList<>(items.size());
+        for (BatchDebitItem item : items) {
+            results.add(debitBatchItem(accounts.get(item.accountNumber()), item));
+        }
+        accountRepository.saveAll(accounts.values());
+
+        long succeeded = results.stream().filter(DebitResponse::success).count();
+        log.info("Batch debited: size={}, succeeded={}, failed={}",
+                items.size(), succeeded, items.size() - succeeded);
+        return results;
+    }
+
+    private DebitResponse debitBatchItem(Account account, BatchDebitItem item) {
+        if (account == null) {
+            return DebitResponse.rejected(item.accountNumber(), item.amount(), AccountRejection.NOT_FOUND);
+        }
+        if (account.getStatus() == AccountStatus.FROZEN) {
+            return DebitResponse.rejected(item.accountNumber(), item.amount(), AccountRejection.FROZEN);
+        }
+        long previousBalance = account.getBalanceMinorUnits();
+        Money debited;
+        try {
+            Account.requireValidDebitAmount(item.amount());
+            debited = Money.of(item.amount());
+            if (!account.debit(debited)) {
+                return DebitResponse.insufficientBalanceItem(item.accountNumber(), previousBalance,
+                        debited.minorUnits());
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return DebitResponse.invalidAmount(item.accountNumber(), item.amount(), e.getMessage());
+        }
+        eventPublisher.publishEvent(AccountMutatedEvent.debited(item.accountNumber(), item.amount(),
+                account.getBalanceMinorUnits()));
+        return DebitResponse.success(item.accountNumber(), previousBalance, account.getBalanceMinorUnits(),
+                debited.minorUnits());
     }
 
     @Override
@@ -90,6 +291,7 @@ public class AccountServiceImpl implements AccountService {
 
         account.freeze();
         Account saved = accountRepository.save(account);
+        eventPublisher.publishEvent(AccountMutatedEvent.frozen(accountNumber));
 
         log.info("Account frozen: {}", accountNumber);
         return saved;
@@ -104,8 +306,25 @@ public class AccountServiceImpl implements AccountService {
 
         account.unfreeze();
         Account saved = accountRepository.save(account);
+        eventPublisher.publishEvent(AccountMutatedEvent.unfrozen(accountNumber));
 
         log.info("Account unfrozen: {}", accountNumber);
         return saved;
     }
+
+    @Override
+    public Account stripe(String accountNumber, int stripes) {
+        log.info("Striping account: {}, stripes={}", accountNumber, stripes);
+
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+
+        // The account is managed here: the new stripe rows are persisted by cascade at flush.
+        // save() would merge it, and merge does not cascade to the still-transient stripes.
+        account.stripe(stripes);
+        eventPublisher.publishEvent(AccountMutatedEvent.striped(accountNumber, stripes));
+
+        log.info("Account striped: {}, stripes={}", accountNumber, stripes);
+        return account;
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.account.application;
+
+/**
+ * Strategy used to apply a debit.
+ *
+ * - READ_MODIFY_WRITE: load the entity, apply Account.debit, save it back
+ * - ATOMIC: a single conditional UPDATE that only succeeds while the account
+ *   is ACTIVE and the balance covers the amount
+ * - SHARDED: hand the debit to the single-writer {@link ShardedDebitEngine},
+ *   which applies Account.debit in memory and group-commits per shard
+ */
+public enum DebitMode {
+    READ_MODIFY_WRITE,
+    ATOMIC,
+    SHARDED
+}
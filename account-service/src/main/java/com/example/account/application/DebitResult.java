@@ -0,0 +1,46 @@
+package com.example.account.application;
+
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+
+/**
+ * Outcome of a debit: the response (successful or insufficient balance), or the rejection
+ * that refused it before the balance was read (unknown or frozen account).
+ *
+ * Lets the request path turn a rejection into an error body without an exception being
+ * thrown and unwound through the transaction, retry and shard layers.
+ *
+ * Invariant: exactly one of response and rejection is non-null
+ */
+public record DebitResult(String accountNumber, DebitResponse response, AccountRejection rejection) {
+
+    public static DebitResult completed(DebitResponse response) {
+        return new DebitResult(response.accountNumber(), response, null);
+    }
+
+    public static DebitResult rejected(AccountRejection rejection, String accountNumber) {
+        return new DebitResult(accountNumber, null, rejection);
+    }
+
+    public boolean isRejected() {
+        return rejection != null;
+    }
+
+    /**
+     * Postcondition: the response, for callers that report rejections as exceptions
+     *
+     * @throws AccountNotFoundException if the account does not exist
+     * @throws AccountFrozenException if the account is frozen
+     */
+    public DebitResponse orElseThrow() {
+        if (rejection == null) {
+            return response;
+        }
+        throw switch (rejection) {
+            case NOT_FOUND -> new AccountNotFoundException(accountNumber);
+            case FROZEN -> new AccountFrozenException(accountNumber);
+        };
+    }
+}
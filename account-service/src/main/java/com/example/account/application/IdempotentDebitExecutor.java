@@ -0,0 +1,103 @@
+package com.example.account.application;
+
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.IdempotencyProperties;
+import com.example.account.infrastructure.exception.IdempotencyKeyConflictException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a debit at most once per Idempotency-Key, within a bounded, expiring in-memory store.
+ *
+ * The first request for a key runs the debit; concurrent and later requests with the same
+ * key wait for and replay its DebitResponse without touching the account. A debit that
+ * throws (unknown or frozen account, exhausted retries) changed nothing, so its key is
+ * released and the next request runs again. Reusing a key for a different account or
+ * amount is rejected.
+ *
+ * Metrics:
+ * - account.idempotency.replays: requests answered with a stored result
+ * - account.idempotency.conflicts: keys reused for a different debit
+ * - cache.* tagged cache=debit-idempotency: size and evictions
+ */
+@Component
+public class IdempotentDebitExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotentDebitExecutor.class);
+
+    private final Cache<String, KeyedDebit> debits;
+    private final Counter replays;
+    private final Counter conflicts;
+
+    public IdempotentDebitExecutor(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.debits = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, debits, "debit-idempotency");
+        this.replays = meterRegistry.counter("account.idempotency.replays", "store", "memory");
+        this.conflicts = meterRegistry.counter("account.idempotency.conflicts");
+    }
+
+    /**
+     * Precondition: idempotencyKey is not blank
+     * Postcondition: debit ran at most once for this key while the key is remembered
+     * @throws IdempotencyKeyConflictException if the key was used for a different debit
+     */
+    public DebitResponse execute(String idempotencyKey, String accountNumber, BigDecimal amount,
+                                 Supplier<DebitResponse> debit) {
+        KeyedDebit mine = new KeyedDebit(accountNumber, amount, new CompletableFuture<>());
+        KeyedDebit existing = debits.asMap().putIfAbsent(idempotencyKey, mine);
+        if (existing != null) {
+            return replay(idempotencyKey, existing, accountNumber, amount);
+        }
+
+        try {
+            DebitResponse response = debit.get();
+            mine.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            debits.asMap().remove(idempotencyKey, mine);
+            mine.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private DebitResponse replay(String idempotencyKey, KeyedDebit existing, String accountNumber,
+                                 BigDecimal amount) {
+        if (!existing.matches(accountNumber, amount)) {
+            conflicts.increment();
+            throw new IdempotencyKeyConflictException(idempotencyKey);
+        }
+        try {
+            DebitResponse response = existing.result().join();
+            replays.increment();
+            log.debug("Replaying debit for Idempotency-Key {}", idempotencyKey);
+            return response;
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * The request a key was first used for, and its (possibly still running) result.
+     */
+    private record KeyedDebit(String accountNumber, BigDecimal amount, CompletableFuture<DebitResponse> result) {
+
+        boolean matches(String otherAccountNumber, BigDecimal otherAmount) {
+            return accountNumber.equals(otherAccountNumber) && amount.compareTo(otherAmount) == 0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.account.application;
+
+import com.example.account.domain.LedgerEntry;
+import com.example.account.infrastructure.config.LedgerProperties;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+import com.example.account.infrastructure.exception.InvalidLedgerRangeException;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.BalanceSnapshotRepository;
+import com.example.account.infrastructure.repository.LedgerEntryRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read side of the debit ledger: an account's entries over a time range and its balance
+ * as derived from the latest snapshot plus the entries after it.
+ */
+@Service
+@Transactional(readOnly = true)
+public class LedgerService {
+
+    private final LedgerEntryRepository entryRepository;
+    private final BalanceSnapshotRepository snapshotRepository;
+    private final AccountRepository accountRepository;
+    private final LedgerProperties properties;
+
+    public LedgerService(LedgerEntryRepository entryRepository, BalanceSnapshotRepository snapshotRepository,
+                         AccountRepository accountRepository, LedgerProperties properties) {
+        this.entryRepository = entryRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.accountRepository = accountRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Precondition: from < to, limit >= 1 (capped at maxQueryEntries)
+     * Postcondition: the account's entries created in [from, to), oldest first, at most limit of them
+     *
+     * @throws AccountNotFoundException if account does not exist
+     * @throws InvalidLedgerRangeException if the range or limit is invalid
+     */
+    public List<LedgerEntry> findEntries(String accountNumber, LocalDateTime from, LocalDateTime to, int limit) {
+        if (!from.isBefore(to) || limit < 1) {
+            throw new InvalidLedgerRangeException(from, to, limit);
+        }
+        if (!accountRepository.existsByAccountNumber(accountNumber)) {
+            throw new AccountNotFoundException(accountNumber);
+        }
+        return entryRepository.findInRange(accountNumber, from, to,
+                PageRequest.of(0, Math.min(limit, properties.maxQueryEntries())));
+    }
+
+    /**
+     * Postcondition: latest snapshot balance minus the amounts of the entries after it;
+     *   empty if the account has no snapshot (unknown account)
+     */
+    public Optional<BigDecimal> getLedgerBalance(String accountNumber) {
+        return snapshotRepository.findLedgerBalance(accountNumber);
+    }
+}
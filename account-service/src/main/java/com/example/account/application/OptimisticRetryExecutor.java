@@ -0,0 +1,114 @@
+package com.example.account.application;
+
+import com.example.account.infrastructure.config.OptimisticRetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs an action that lost an optimistic-lock race.
+ *
+ * Each attempt must run in its own transaction so it re-reads the current version.
+ * Retries back off exponentially and are limited both per call (maxAttempts) and
+ * globally (retry budget).
+ *
+ * Metrics, tagged with {@code operation}:
+ * - account.optimistic.conflicts: version conflicts observed
+ * - account.optimistic.retries: attempts re-run after a conflict
+ * - account.optimistic.exhausted: calls that gave up and rethrew the conflict
+ */
+@Component
+public class OptimisticRetryExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticRetryExecutor.class);
+
+    /**
+     * Pause between attempts; replaced in tests to avoid real sleeps.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    private final OptimisticRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget retryBudget;
+    private final Sleeper sleeper;
+
+    @Autowired
+    public OptimisticRetryExecutor(OptimisticRetryProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, duration -> TimeUnit.NANOSECONDS.sleep(duration.toNanos()));
+    }
+
+    OptimisticRetryExecutor(OptimisticRetryProperties properties, MeterRegistry meterRegistry, Sleeper sleeper) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.retryBudget = new RetryBudget(properties.retryBudgetRatio(), properties.retryBudgetCapacity());
+        this.sleeper = sleeper;
+        Gauge.builder("account.optimistic.retry.budget", retryBudget, RetryBudget::available)
+                .description("Retry tokens currently available")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the action, retrying on optimistic-lock conflicts.
+     * Precondition: action starts a new transaction on every invocation
+     * Postcondition: returns the first successful result
+     *
+     * @throws OptimisticLockingFailureException if attempts or the retry budget are exhausted
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        retryBudget.recordCall();
+        int attempt = 1;
+        while (true) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                counter("account.optimistic.conflicts", operation).increment();
+                if (attempt >= properties.maxAttempts() || !retryBudget.tryAcquireRetry()) {
+                    counter("account.optimistic.exhausted", operation).increment();
+                    log.warn("Optimistic lock retries exhausted: operation={}, attempts={}", operation, attempt);
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict: operation={}, attempt={}", operation, attempt);
+                counter("account.optimistic.retries", operation).increment();
+                backOff(attempt, e);
+                attempt++;
+            }
+        }
+    }
+
+    Duration backoffFor(int attempt) {
+        double millis = properties.initialBackoff().toNanos() * Math.pow(properties.multiplier(), attempt - 1);
+        long nanos = (long) Math.min(millis, properties.maxBackoff().toNanos());
+        if (properties.jitter()) {
+            nanos = nanos / 2 + ThreadLocalRandom.current().nextLong(nanos / 2 + 1);
+        }
+        return Duration.ofNanos(nanos);
+    }
+
+    private void backOff(int attempt, OptimisticLockingFailureException conflict) {
+        try {
+            sleeper.sleep(backoffFor(attempt));
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
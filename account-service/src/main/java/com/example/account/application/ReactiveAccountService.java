@@ -0,0 +1,243 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountCreationResult;
+import com.example.account.domain.AccountSnapshot;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.AccountView;
+import com.example.account.domain.DebitResponse;
+import com.example.account.domain.Money;
+import com.example.account.infrastructure.config.AccountMutationListeners;
+import com.example.account.infrastructure.config.DebitProperties;
+import com.example.account.infrastructure.dto.BatchDebitItem;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+import com.example.account.infrastructure.ledger.LedgerWriter;
+import com.example.account.infrastructure.readmodel.AccountReadModel;
+import com.example.account.infrastructure.repository.ReactiveAccountRepository;
+import com.example.account.infrastructure.repository.ReactiveAccountRepository.StoredAccount;
+import com.example.logging.Markers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * Account operations for the reactive API. No method blocks the calling (event loop) thread.
+ *
+ * Reads, creates, plain debits of unstriped accounts, freeze and unfreeze go through the
+ * non-blocking {@link ReactiveAccountRepository}; after each commit the account's snapshot
+ * cache entry is evicted and the committed view is offered to the read model, which is
+ * what the event listeners do for the JPA paths. Everything else (idempotent, batch,
+ * bulk and striped debits, striping) reuses the blocking {@link AccountService} on the
+ * bounded elastic scheduler.
+ *
+ * Native writes publish no AccountMutatedEvent, so they are used only while every
+ * listener of that event is in REPLICATED_LISTENERS, and debits are not sharded (the shard
+ * workers must see every debit). A new listener, such as the journal writer when the
+ * write-ahead journal is enabled, sends all writes through AccountService until its effect
+ * is reproduced here and it is added to the set.
+ *
+ * Contract: as AccountService, with errors signalled through the returned Mono.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAccountService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveAccountService.class);
+
+    /**
+     * Listeners whose effect a native write reproduces: committed() feeds the read model,
+     * ReactiveAccountRepository writes the ledger rows.
+     */
+    static final Set<Class<?>> REPLICATED_LISTENERS = Set.of(AccountReadModel.class, LedgerWriter.class);
+
+    private final ReactiveAccountRepository repository;
+    private final AccountService accountService;
+    private final AccountReadModel readModel;
+    private final boolean nativeWrites;
+
+    public ReactiveAccountService(ReactiveAccountRepository repository, AccountService accountService,
+                                  AccountReadModel readModel,
+                                  DebitProperties debitProperties, AccountMutationListeners listeners) {
+        this.repository = repository;
+        this.accountService = accountService;
+        this.readModel = readModel;
+        this.nativeWrites = debitProperties.mode() != DebitMode.SHARDED
+                && REPLICATED_LISTENERS.containsAll(listeners.types());
+        if (!nativeWrites) {
+            log.info("Reactive writes go through AccountService: mode={}, listeners={}",
+                    debitProperties.mode(), listeners.types());
+        }
+    }
+
+    /**
+     * Precondition: accountNumber != null
+     * Postcondition: the read model's view of the account, read over R2DBC on a miss; empty
+     *   if the account does not exist
+     */
+    public Mono<AccountView> getAccount(String accountNumber) {
+        return Mono.justOrEmpty(readModel.peek(accountNumber))
+                .switchIfEmpty(Mono.defer(() -> repository.findByAccountNumber(accountNumber)
+                        .map(account -> readModel.offer(account.view()))));
+    }
+
+    /**
+     * Precondition: request is valid, accountNumber is unique
+     * Postcondition: new account created with ACTIVE status
+     *
+     * Signals IllegalArgumentException if the account number already exists.
+     */
+    public Mono<AccountSnapshot> createAccount(CreateAccountRequest request) {
+        if (!nativeWrites) {
+            return blocking(() -> AccountSnapshot.from(accountService.createAccount(request)));
+        }
+        return Mono.fromCallable(() -> new Account(request.accountNumber(), request.ownerName(),
+                        request.initialBalance()))
+                .flatMap(account -> repository.existsByAccountNumber(account.getAccountNumber())
+                        .flatMap(taken -> taken
+                                ? Mono.error(new IllegalArgumentException(
+                                        "Account number already exists: " + account.getAccountNumber()))
+                                : repository.insert(account)))
+                .map(account -> {
+                    committed(account);
+                    log.info("Account created: {}", request.accountNumber());
+                    return account.view().account();
+                });
+    }
+
+    /**
+     * Postcondition: as AccountService.createAccounts
+     */
+    public Mono<List<AccountCreationResult>> createAccounts(List<CreateAccountRequest> requests) {
+        return blocking(() -> accountService.createAccounts(requests));
+    }
+
+    /**
+     * Precondition: accountNumber exists, amount > 0
+     * Postcondition: if successful, balance decreased by amount; otherwise unchanged
+     *
+     * Signals AccountNotFoundException, AccountFrozenException, or IllegalStateException for
+     * an account that cannot be debited, as the servlet path throws them.
+     */
+    public Mono<DebitResponse> debit(String accountNumber, BigDecimal amount) {
+        if (!nativeWrites) {
+            return blocking(() -> accountService.debit(accountNumber, amount));
+        }
+        return Mono.fromCallable(() -> {
+                    Account.requireValidDebitAmount(amount);
+                    return Money.minorUnitsOf(amount);
+                })
+                .flatMap(debited -> repository.debitIfActiveAndSufficient(accountNumber, debited)
+                        .map(account -> {
+                            committed(account);
+                            long currentBalance = account.balanceMinorUnits();
+                            log.info(Markers.SAMPLED, "Debit successful: account={}, newBalance={}",
+                                    accountNumber, account.view().account().balance());
+                            return DebitResponse.success(accountNumber, currentBalance + debited, currentBalance,
+                                    debited);
+                        })
+                        .switchIfEmpty(Mono.defer(() -> refusedDebit(accountNumber, amount))));
+    }
+
+    /**
+     * No row matched the conditional debit: re-read to report the same outcome as the
+     * servlet path, and hand striped accounts to it.
+     */
+    private Mono<DebitResponse> refusedDebit(String accountNumber, BigDecimal amount) {
+        return repository.findByAccountNumber(accountNumber)
+                .switchIfEmpty(Mono.error(() -> new AccountNotFoundException(accountNumber)))
+                .flatMap(account -> {
+                    if (account.status() == AccountStatus.FROZEN) {
+                        return Mono.error(new AccountFrozenException(accountNumber));
+                    }
+                    if (!account.status().canDebit()) {
+                        return Mono.error(new IllegalStateException(
+                                "Cannot debit from account with status: " + account.status()));
+                    }
+                    if (account.striped()) {
+                        return blocking(() -> accountService.debit(accountNumber, amount));
+                    }
+                    log.warn("Debit failed due to insufficient balance: account={}, balance={}, requested={}",
+                            accountNumber, account.view().account().balance(), amount);
+                    return Mono.just(DebitResponse.insufficientBalance(accountNumber,
+                            account.view().account().balance(), amount));
+                });
+    }
+
+    /**
+     * Postcondition: as AccountService.debit with an idempotency key
+     */
+    public Mono<DebitResponse> debit(String accountNumber, BigDecimal amount, String idempotencyKey) {
+        return blocking(() -> accountService.debit(accountNumber, amount, idempotencyKey));
+    }
+
+    /**
+     * Postcondition: as AccountService.debitBatch
+     */
+    public Mono<List<DebitResponse>> debitBatch(List<BatchDebitItem> items) {
+        return blocking(() -> accountService.debitBatch(items));
+    }
+
+    /**
+     * Precondition: accountNumber exists, status == ACTIVE
+     * Postcondition: status == FROZEN
+     */
+    public Mono<AccountSnapshot> freeze(String accountNumber) {
+        if (!nativeWrites) {
+            return blocking(() -> AccountSnapshot.from(accountService.freeze(accountNumber)));
+        }
+        return changeStatus(accountNumber, AccountStatus.ACTIVE, AccountStatus.FROZEN, "freeze");
+    }
+
+    /**
+     * Precondition: accountNumber exists, status == FROZEN
+     * Postcondition: status == ACTIVE
+     */
+    public Mono<AccountSnapshot> unfreeze(String accountNumber) {
+        if (!nativeWrites) {
+            return blocking(() -> AccountSnapshot.from(accountService.unfreeze(accountNumber)));
+        }
+        return changeStatus(accountNumber, AccountStatus.FROZEN, AccountStatus.ACTIVE, "unfreeze");
+    }
+
+    private Mono<AccountSnapshot> changeStatus(String accountNumber, AccountStatus from, AccountStatus to,
+                                               String operation) {
+        return repository.updateStatus(accountNumber, from, to)
+                .map(account -> {
+                    committed(account);
+                    log.info("Account status changed: {}, {} -> {}", accountNumber, from, to);
+                    return account.view().account();
+                })
+                .switchIfEmpty(Mono.defer(() -> repository.findByAccountNumber(accountNumber)
+                        .switchIfEmpty(Mono.error(() -> new AccountNotFoundException(accountNumber)))
+                        .flatMap(account -> Mono.error(new IllegalStateException(
+                                "Cannot " + operation + " account with status: " + account.status())))));
+    }
+
+    /**
+     * Postcondition: as AccountService.stripe
+     */
+    public Mono<AccountSnapshot> stripe(String accountNumber, int stripes) {
+        return blocking(() -> AccountSnapshot.from(accountService.stripe(accountNumber, stripes)));
+    }
+
+    /**
+     * Runs once the R2DBC transaction has committed.
+     */
+    private void committed(StoredAccount account) {
+        readModel.offer(account.view());
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
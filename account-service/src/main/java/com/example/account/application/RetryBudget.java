@@ -0,0 +1,49 @@
+package com.example.account.application;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that caps retries as a fraction of calls.
+ *
+ * Every call deposits {@code ratio} tokens, every retry withdraws one. Under sustained
+ * contention the bucket drains and callers fail fast instead of multiplying load on a
+ * hot row.
+ *
+ * Invariant: 0 <= tokens <= capacity
+ */
+class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerCall;
+    private final long capacity;
+    private final AtomicLong tokens;
+
+    RetryBudget(double ratio, int capacity) {
+        this.depositPerCall = Math.round(ratio * SCALE);
+        this.capacity = capacity * SCALE;
+        this.tokens = new AtomicLong(this.capacity);
+    }
+
+    void recordCall() {
+        tokens.updateAndGet(current -> Math.min(capacity, current + depositPerCall));
+    }
+
+    /**
+     * Postcondition: returns true and removes one token if one was available
+     */
+    boolean tryAcquireRetry() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    double available() {
+        return (double) tokens.get() / SCALE;
+    }
+}
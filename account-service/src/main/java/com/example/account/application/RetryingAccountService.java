@@ -0,0 +1,122 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountCreationResult;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.dto.BatchDebitItem;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.idempotency.IdempotencyRecordStore;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AccountService that retries mutating operations on optimistic-lock conflicts.
+ *
+ * Delegates to the transactional AccountServiceImpl, so every attempt runs in a
+ * fresh transaction against the latest account version. Reads and account
+ * creation pass straight through.
+ *
+ * In sharded mode debits go to the ShardedDebitEngine instead, outside any
+ * transaction, so callers waiting for their batch hold no database connection.
+ * The engine resolves version conflicts itself by replaying the batch.
+ *
+ * Debits with an Idempotency-Key run through the IdempotentDebitExecutor. With the
+ * persistent store enabled, each attempt also records the key in the debit's own
+ * transaction (not in sharded mode, where the engine owns the transactions).
+ */
+@Service
+@Primary
+public class RetryingAccountService implements AccountService {
+
+    private final AccountServiceImpl delegate;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final ShardedDebitEngine shardedDebitEngine;
+    private final IdempotentDebitExecutor idempotentDebits;
+    private final IdempotencyRecordStore idempotencyRecords;
+
+    public RetryingAccountService(AccountServiceImpl delegate, OptimisticRetryExecutor retryExecutor,
+                                  Optional<ShardedDebitEngine> shardedDebitEngine,
+                                  IdempotentDebitExecutor idempotentDebits,
+                                  Optional<IdempotencyRecordStore> idempotencyRecords) {
+        this.delegate = delegate;
+        this.retryExecutor = retryExecutor;
+        this.shardedDebitEngine = shardedDebitEngine.orElse(null);
+        this.idempotentDebits = idempotentDebits;
+        this.idempotencyRecords = idempotencyRecords.orElse(null);
+    }
+
+    @Override
+    public Optional<Account> getAccount(String accountNumber) {
+        return delegate.getAccount(accountNumber);
+    }
+
+    @Override
+    public Account createAccount(CreateAccountRequest request) {
+        return delegate.createAccount(request);
+    }
+
+    @Override
+    public List<AccountCreationResult> createAccounts(List<CreateAccountRequest> requests) {
+        return delegate.createAccounts(requests);
+    }
+
+    @Override
+    public DebitResponse debit(String accountNumber, BigDecimal amount) {
+        if (shardedDebitEngine != null) {
+            return shardedDebitEngine.debit(accountNumber, amount);
+        }
+        return retryExecutor.execute("debit", () -> delegate.debit(accountNumber, amount));
+    }
+
+    @Override
+    public DebitResult tryDebit(String accountNumber, BigDecimal amount) {
+        if (shardedDebitEngine != null) {
+            return shardedDebitEngine.tryDebit(accountNumber, amount);
+        }
+        return retryExecutor.execute("debit", () -> delegate.tryDebit(accountNumber, amount));
+    }
+
+    @Override
+    public DebitResponse debit(String accountNumber, BigDecimal amount, String idempotencyKey) {
+        return idempotentDebits.execute(idempotencyKey, accountNumber, amount,
+                () -> recordedDebit(accountNumber, amount, idempotencyKey));
+    }
+
+    private DebitResponse recordedDebit(String accountNumber, BigDecimal amount, String idempotencyKey) {
+        if (idempotencyRecords == null || shardedDebitEngine != null) {
+            return debit(accountNumber, amount);
+        }
+        try {
+            return retryExecutor.execute("debit", () -> idempotencyRecords.debitOnce(
+                    idempotencyKey, accountNumber, amount, () -> delegate.debit(accountNumber, amount)));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance committed this key first; our debit rolled back with the insert
+            return idempotencyRecords.find(idempotencyKey, accountNumber, amount).orElseThrow(() -> e);
+        }
+    }
+
+    @Override
+    public List<DebitResponse> debitBatch(List<BatchDebitItem> items) {
+        return retryExecutor.execute("debitBatch", () -> delegate.debitBatch(items));
+    }
+
+    @Override
+    public Account freeze(String accountNumber) {
+        return retryExecutor.execute("freeze", () -> delegate.freeze(accountNumber));
+    }
+
+    @Override
+    public Account unfreeze(String accountNumber) {
+        return retryExecutor.execute("unfreeze", () -> delegate.unfreeze(accountNumber));
+    }
+
+    @Override
+    public Account stripe(String accountNumber, int stripes) {
+        return retryExecutor.execute("stripe", () -> delegate.stripe(accountNumber, stripes));
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.DebitResponse;
+import com.example.account.domain.Money;
+import com.example.account.infrastructure.config.DebitProperties;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+import com.example.account.infrastructure.repository.AccountRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Single-writer debit engine.
+ *
+ * Account numbers are hashed onto N shards, each drained by one worker thread that
+ * owns the in-memory Account state of its accounts. The worker applies Account.debit
+ * without locks and commits everything it drained in one transaction (group commit).
+ * Callers are completed only after that transaction has committed.
+ *
+ * Accounts changed outside the engine (freeze, unfreeze, other debit paths) are caught
+ * by the optimistic version check: the shard drops its cached state and replays the
+ * batch against fresh rows. An account that keeps conflicting fails only its own debits.
+ *
+ * Invariant: an account's cached state is only read and written by its shard's thread
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.debit", name = "mode", havingValue = "sharded")
+public class ShardedDebitEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedDebitEngine.class);
+
+    static final int MAX_COMMIT_ATTEMPTS = 3;
+
+    private static final PendingDebit STOP = new PendingDebit(null, null, null);
+
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DebitProperties.Sharded settings;
+    private final Shard[] shards;
+    private volatile boolean running;
+
+    public ShardedDebitEngine(AccountRepository accountRepository,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              DebitProperties debitProperties) {
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.settings = debitProperties.sharded();
+        this.shards = new Shard[settings.shards()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+        log.info("Sharded debit engine started: shards={}, maxBatchSize={}",
+                settings.shards(), settings.maxBatchSize());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Shard shard : shards) {
+            shard.queue.put(STOP);
+        }
+        for (Shard shard : shards) {
+            shard.thread.join();
+        }
+        log.info("Sharded debit engine stopped");
+    }
+
+    /**
+     * Debit through the owning shard and wait until the result is durable.
+     * Precondition: amount > 0
+     * Postcondition: same outcomes as AccountService.debit, committed before returning
+     *
+     * @throws AccountNotFoundException if account does not exist
+     * @throws AccountFrozenException if account is frozen
+     */
+    public DebitResponse debit(String accountNumber, BigDecimal amount) {
+        return tryDebit(accountNumber, amount).orElseThrow();
+    }
+
+    /**
+     * Debit through the owning shard, reporting an unknown or frozen account as a result.
+     * Precondition: amount > 0
+     * Postcondition: same outcomes as AccountService.tryDebit, committed before returning
+     */
+    public DebitResult tryDebit(String accountNumber, BigDecimal amount) {
+        try {
+            return submitResult(accountNumber, amount).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Queue a debit on the owning shard.
+     * Precondition: amount > 0, engine is running
+     * Postcondition: the future completes after the batch containing this debit committed
+     */
+    public CompletableFuture<DebitResponse> submit(String accountNumber, BigDecimal amount) {
+        return submitResult(accountNumber, amount).thenApply(DebitResult::orElseThrow);
+    }
+
+    /**
+     * Queue a debit on the owning shard; rejections complete the future normally.
+     * Precondition: amount > 0, engine is running
+     * Postcondition: the future completes after the batch containing this debit committed
+     */
+    public CompletableFuture<DebitResult> submitResult(String accountNumber, BigDecimal amount) {
+        Account.requireValidDebitAmount(amount);
+        if (!running) {
+            throw new IllegalStateException("Sharded debit engine is not running");
+        }
+        PendingDebit debit = new PendingDebit(accountNumber, amount, new CompletableFuture<>());
+        try {
+            shardFor(accountNumber).queue.put(debit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing debit", e);
+        }
+        return debit.result();
+    }
+
+    int shardIndex(String accountNumber) {
+        return Math.floorMod(accountNumber.hashCode(), shards.length);
+    }
+
+    private Shard shardFor(String accountNumber) {
+        return shards[shardIndex(accountNumber)];
+    }
+
+    private record PendingDebit(String accountNumber, BigDecimal amount, CompletableFuture<DebitResult> result) {
+    }
+
+    /**
+     * Outcome of one debit inside a batch: either a result or the exception to surface.
+     */
+    private record Outcome(DebitResult result, RuntimeException failure) {
+        void completeTo(CompletableFuture<DebitResult> future) {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+
+    /**
+     * A version conflict raised while saving one account of a batch.
+     */
+    private static final class StaleAccountException extends OptimisticLockingFailureException {
+
+        private final String accountNumber;
+        private final OptimisticLockingFailureException conflict;
+
+        StaleAccountException(String accountNumber, OptimisticLockingFailureException conflict) {
+            super("Stale state for account " + accountNumber, conflict);
+            this.accountNumber = accountNumber;
+            this.conflict = conflict;
+        }
+    }
+
+    private final class Shard implements Runnable {
+
+        private final BlockingQueue<PendingDebit> queue = new ArrayBlockingQueue<>(settings.queueCapacity());
+        private final Map<String, Account> accounts = new HashMap<>();
+        private final Thread thread;
+
+        Shard(int index) {
+            this.thread = new Thread(this, "debit-shard-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<PendingDebit> batch = new ArrayList<>(settings.maxBatchSize());
+            boolean stopping = false;
+            while (!stopping) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                queue.drainTo(batch, settings.maxBatchSize() - 1);
+                int stopAt = batch.indexOf(STOP);
+                if (stopAt >= 0) {
+                    batch.subList(stopAt, batch.size()).clear();
+                    stopping = true;
+                }
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+                batch.clear();
+            }
+            List<PendingDebit> abandoned = new ArrayList<>();
+            queue.drainTo(abandoned);
+            abandoned.stream()
+                    .filter(debit -> debit != STOP)
+                    .forEach(debit -> debit.result().completeExceptionally(
+                            new IllegalStateException("Sharded debit engine stopped")));
+        }
+
+        /**
+         * Replays the batch on version conflicts. After MAX_COMMIT_ATTEMPTS, only the debits
+         * of the accounts that kept conflicting fail; the rest of the batch is replayed
+         * without them. A conflict that cannot be traced to an account fails the whole batch.
+         */
+        private void process(List<PendingDebit> batch) {
+            List<PendingDebit> pending = new ArrayList<>(batch);
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    List<Outcome> outcomes = transactionTemplate.execute(status -> apply(pending));
+                    for (int i = 0; i < pending.size(); i++) {
+                        outcomes.get(i).completeTo(pending.get(i).result());
+                    }
+                    return;
+                } catch (OptimisticLockingFailureException e) {
+                    Set<String> conflicting = conflicting(e, pending);
+                    evict(pending);
+                    if (attempt >= MAX_COMMIT_ATTEMPTS) {
+                        RuntimeException failure = e instanceof StaleAccountException stale ? stale.conflict : e;
+                        if (conflicting.isEmpty()) {
+                            fail(pending, failure);
+                            return;
+                        }
+                        log.warn("Version conflicts persisted, failing their debits: accounts={}", conflicting);
+                        pending.removeIf(debit -> {
+                            boolean conflicted = conflicting.contains(debit.accountNumber());
+                            if (conflicted) {
+                                debit.result().completeExceptionally(failure);
+                            }
+                            return conflicted;
+                        });
+                        if (pending.isEmpty()) {
+                            return;
+                        }
+                        attempt = 0;
+                    }
+                    log.debug("Shard state stale, replaying batch: size={}, attempt={}", pending.size(), attempt);
+                } catch (RuntimeException e) {
+                    log.error("Group commit failed: size={}", pending.size(), e);
+                    evict(pending);
+                    fail(pending, e);
+                    return;
+                }
+            }
+        }
+
+        private List<Outcome> apply(List<PendingDebit> batch) {
+            List<Outcome> outcomes = new ArrayList<>(batch.size());
+            Map<String, Account> dirty = new LinkedHashMap<>();
+            for (PendingDebit debit : batch) {
+                outcomes.add(applyOne(debit, dirty));
+            }
+            dirty.forEach((accountNumber, account) -> {
+                try {
+                    accounts.put(accountNumber, accountRepository.save(account));
+                } catch (OptimisticLockingFailureException e) {
+                    throw new StaleAccountException(accountNumber, e);
+                }
+            });
+            return outcomes;
+        }
+
+        private Outcome applyOne(PendingDebit debit, Map<String, Account> dirty) {
+            String accountNumber = debit.accountNumber();
+            Account account = cached(accountNumber);
+            // A row read just now needs no second read; state already debited in this
+            // batch is checked by the version at commit
+            boolean fresh = account == null || dirty.containsKey(accountNumber);
+            if (account == null) {
+                account = reload(accountNumber);
+            }
+            while (true) {
+                if (account == null) {
+                    return new Outcome(DebitResult.rejected(AccountRejection.NOT_FOUND, accountNumber), null);
+                }
+                if (account.getStatus() == AccountStatus.FROZEN) {
+                    return new Outcome(DebitResult.rejected(AccountRejection.FROZEN, accountNumber), null);
+                }
+                long previousBalance = account.getBalanceMinorUnits();
+                Money debited;
+                try {
+                    Account.requireValidDebitAmount(debit.amount());
+                    debited = Money.of(debit.amount());
+                    if (!account.debit(debited)) {
+                        if (!fresh) {
+                            account = reload(accountNumber);
+                            fresh = true;
+                            continue;
+                        }
+                        return new Outcome(DebitResult.completed(DebitResponse.insufficientBalance(
+                                accountNumber, previousBalance, debited.minorUnits())), null);
+                    }
+                } catch (RuntimeException e) {
+                    return new Outcome(null, e);
+                }
+                dirty.put(accountNumber, account);
+                eventPublisher.publishEvent(AccountMutatedEvent.debited(accountNumber, debit.amount(),
+                        account.getBalanceMinorUnits()));
+                return new Outcome(DebitResult.completed(DebitResponse.success(
+                        accountNumber, previousBalance, account.getBalanceMinorUnits(), debited.minorUnits())), null);
+            }
+        }
+
+        /**
+         * Cached state is trusted only while ACTIVE; anything else is re-read because
+         * a rejection does not write and so is never checked against the version.
+         * Striped accounts are always re-read: their stripes load lazily inside the transaction.
+         *
+         * @return the cached account if it can be trusted, null if the row must be read
+         */
+        private Account cached(String accountNumber) {
+            Account cached = accounts.get(accountNumber);
+            if (cached != null && cached.getStatus() == AccountStatus.ACTIVE && !cached.isStriped()) {
+                return cached;
+            }
+            return null;
+        }
+
+        /**
+         * A rejection is not version-checked, so an insufficient balance is confirmed
+         * against the row before it is reported.
+         */
+        private Account reload(String accountNumber) {
+            Account fresh = accountRepository.findByAccountNumber(accountNumber).orElse(null);
+            if (fresh == null) {
+                accounts.remove(accountNumber);
+            } else {
+                accounts.put(accountNumber, fresh);
+            }
+            return fresh;
+        }
+
+        /**
+         * @return the accounts of this batch the conflict names, empty if it names none
+         */
+        private Set<String> conflicting(OptimisticLockingFailureException e, List<PendingDebit> batch) {
+            if (e instanceof StaleAccountException stale) {
+                return Set.of(stale.accountNumber);
+            }
+            if (e instanceof ObjectOptimisticLockingFailureException object && object.getIdentifier() != null) {
+                return batch.stream()
+                        .map(PendingDebit::accountNumber)
+                        .filter(accountNumber -> accounts.containsKey(accountNumber)
+                                && object.getIdentifier().equals(accounts.get(accountNumber).getId()))
+                        .collect(Collectors.toSet());
+            }
+            return Set.of();
+        }
+
+        private void evict(List<PendingDebit> batch) {
+            batch.forEach(debit -> accounts.remove(debit.accountNumber()));
+        }
+
+        private void fail(List<PendingDebit> batch, RuntimeException e) {
+            batch.forEach(debit -> debit.result().completeExceptionally(e));
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.example.account.domain;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Account domain entity.
@@ -11,13 +15,24 @@ import java.time.LocalDateTime;
  * - balance >= 0 (non-negative balance)
  * - accountNumber is unique and immutable after creation
  * - status follows state machine rules defined in AccountStatus
+ * - version increases on every update; a stale version fails the update (optimistic locking)
+ * - balance is held in minor units (see Money); the column stays DECIMAL(19, 2)
+ * - striped (stripeCount > 0): the funds live in stripeCount BalanceStripe rows and the
+ *   balance column is 0; the reported balance is always the total over both
  */
 @Entity
 @Table(name = "accounts")
 public class Account {
 
+    public static final int MAX_STRIPES = 64;
+
+    /**
+     * Pooled sequence: one round trip reserves allocationSize ids, and unlike IDENTITY
+     * the id is known before the INSERT, so Hibernate can batch inserts.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq")
+    @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "account_number", unique = true, nullable = false, length = 20)
@@ -26,8 +41,9 @@ public class Account {
     @Column(name = "owner_name", nullable = false, length = 100)
     private String ownerName;
 
+    @Convert(converter = MoneyColumnConverter.class)
     @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal balance;
+    private long balance;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -39,6 +55,21 @@ public class Account {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "stripe_count", nullable = false)
+    private int stripeCount;
+
+    /**
+     * Only touched when stripeCount > 0, so unstriped accounts never load it. Stripes are
+     * changed through a managed Account only, so merge is not cascaded.
+     */
+    @OneToMany(mappedBy = "account", cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
+    @OrderBy("stripeIndex")
+    private List<BalanceStripe> stripes = new ArrayList<>();
+
     protected Account() {
         // JPA required
     }
@@ -49,6 +80,15 @@ public class Account {
      * Postcondition: new account with ACTIVE status and given initial balance
      */
     public Account(String accountNumber, String ownerName, BigDecimal initialBalance) {
+        this(accountNumber, ownerName, initialBalance, LocalDateTime.now());
+    }
+
+    /**
+     * Recreate an account opened at a known time, e.g. from the journal.
+     * Precondition: as above, openedAt != null
+     * Postcondition: createdAt == updatedAt == openedAt
+     */
+    public Account(String accountNumber, String ownerName, BigDecimal initialBalance, LocalDateTime openedAt) {
         if (accountNumber == null || accountNumber.isBlank()) {
             throw new IllegalArgumentException("Account number cannot be null or blank");
         }
@@ -58,13 +98,16 @@ public class Account {
         if (initialBalance == null || initialBalance.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Initial balance cannot be null or negative");
         }
+        if (openedAt == null) {
+            throw new IllegalArgumentException("Opening time cannot be null");
+        }
 
         this.accountNumber = accountNumber;
         this.ownerName = ownerName;
-        this.balance = initialBalance;
+        this.balance = Money.minorUnitsOf(initialBalance);
         this.status = AccountStatus.ACTIVE;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.createdAt = openedAt;
+        this.updatedAt = openedAt;
     }
 
     /**
@@ -78,21 +121,110 @@ public class Account {
      * @throws IllegalArgumentException if amount is invalid or insufficient balance
      */
     public boolean debit(BigDecimal amount) {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+        requireValidDebitAmount(amount);
+        return debit(Money.minorUnitsOf(amount));
+    }
+
+    /**
+     * Debit on the hot path: primitive compare and subtract, no allocation.
+     * updatedAt is stamped when the change is flushed (see {@link #touch()}); a striped
+     * debit only writes its stripe row and leaves updatedAt alone.
+     * Precondition: amount > 0, status == ACTIVE, balance >= amount
+     * Postcondition: balance = old_balance - amount
+     *
+     * @param amount the amount to debit
+     * @return true if debit was successful, false on insufficient balance
+     * @throws IllegalStateException if account is not active
+     * @throws IllegalArgumentException if amount is not positive
+     */
+    public boolean debit(Money amount) {
+        return debit(amount.minorUnits());
+    }
+
+    private boolean debit(long amount) {
+        if (amount <= 0) {
             throw new IllegalArgumentException("Debit amount must be positive");
         }
         if (!status.canDebit()) {
             throw new IllegalStateException("Cannot debit from account with status: " + status);
         }
-        if (balance.compareTo(amount) < 0) {
+        if (stripeCount > 0) {
+            return debitStripes(amount, ThreadLocalRandom.current().nextInt(stripeCount));
+        }
+        if (balance < amount) {
             return false; // Insufficient balance
         }
 
-        this.balance = this.balance.subtract(amount);
-        this.updatedAt = LocalDateTime.now();
+        this.balance -= amount;
+        return true;
+    }
+
+    /**
+     * Take the amount from the first stripe, starting at firstStripe, that covers it alone.
+     * When none does but the total still covers it, rebalance: spread the remaining total
+     * evenly over all stripes (touches every stripe row).
+     * Postcondition: every stripe >= 0; total = old_total - amount, or unchanged on false
+     */
+    boolean debitStripes(long amount, int firstStripe) {
+        for (int i = 0; i < stripeCount; i++) {
+            if (stripes.get((firstStripe + i) % stripeCount).debit(amount)) {
+                return true;
+            }
+        }
+        long total = getBalanceMinorUnits();
+        if (total < amount) {
+            return false; // Insufficient balance
+        }
+        spread(total - amount);
         return true;
     }
 
+    /**
+     * Split the balance across stripes so hot debits stop contending on one row.
+     * Precondition: not yet striped, 1 <= count <= MAX_STRIPES
+     * Postcondition: stripeCount == count, balance column == 0, total balance unchanged
+     */
+    public void stripe(int count) {
+        if (count < 1 || count > MAX_STRIPES) {
+            throw new IllegalArgumentException("Stripe count must be between 1 and " + MAX_STRIPES);
+        }
+        if (stripeCount > 0) {
+            throw new IllegalStateException("Account is already striped: " + accountNumber);
+        }
+        long total = balance;
+        for (int i = 0; i < count; i++) {
+            stripes.add(new BalanceStripe(this, i, 0));
+        }
+        this.stripeCount = count;
+        spread(total);
+    }
+
+    private void spread(long total) {
+        long share = total / stripeCount;
+        long remainder = total % stripeCount;
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.get(i).setBalance(share + (i < remainder ? 1 : 0));
+        }
+        this.balance = 0;
+    }
+
+    /**
+     * Check the debit amount precondition shared by every debit path.
+     * Precondition: amount > 0
+     *
+     * @throws IllegalArgumentException if amount is null, zero or negative
+     */
+    public static void requireValidDebitAmount(BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Debit amount must be positive");
+        }
+    }
+
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     /**
      * Freeze the account.
      * Precondition: status == ACTIVE
@@ -132,8 +264,34 @@ public class Account {
         return ownerName;
     }
 
+    /**
+     * Balance as a scale-2 decimal for the API and logging boundaries.
+     */
     public BigDecimal getBalance() {
-        return balance;
+        return Money.toBigDecimal(getBalanceMinorUnits());
+    }
+
+    public long getBalanceMinorUnits() {
+        if (stripeCount == 0) {
+            return balance;
+        }
+        long total = balance;
+        for (int i = 0; i < stripeCount; i++) {
+            total += stripes.get(i).getBalanceMinorUnits();
+        }
+        return total;
+    }
+
+    public boolean isStriped() {
+        return stripeCount > 0;
+    }
+
+    public int getStripeCount() {
+        return stripeCount;
+    }
+
+    public List<BalanceStripe> getStripes() {
+        return Collections.unmodifiableList(stripes);
     }
 
     public AccountStatus getStatus() {
@@ -148,6 +306,10 @@ public class Account {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     // For testing purposes
     public void setId(Long id) {
         this.id = id;
@@ -0,0 +1,20 @@
+package com.example.account.domain;
+
+/**
+ * Value object for the outcome of creating one account in a bulk request.
+ *
+ * Postcondition: created == true iff the account was inserted
+ */
+public record AccountCreationResult(
+        String accountNumber,
+        boolean created,
+        String message
+) {
+    public static AccountCreationResult created(String accountNumber) {
+        return new AccountCreationResult(accountNumber, true, "Account created");
+    }
+
+    public static AccountCreationResult rejected(String accountNumber, String message) {
+        return new AccountCreationResult(accountNumber, false, message);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.account.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published for every state change applied to an account.
+ *
+ * Invariants:
+ * - CREATED carries ownerName and the initial balance as amount
+ * - DEBITED carries the debited amount
+ * - FROZEN / UNFROZEN carry neither
+ * - STRIPED carries the stripe count as amount
+ * - balanceAfter is the balance in minor units once the debit applied, known for
+ *   DEBITED published by a debit path other than a single-stripe debit; UNKNOWN_BALANCE
+ *   otherwise (it is not journaled, so replayed events do not carry it)
+ */
+public record AccountMutatedEvent(
+        Kind kind,
+        String accountNumber,
+        String ownerName,
+        BigDecimal amount,
+        long balanceAfter,
+        LocalDateTime occurredAt
+) {
+
+    public static final long UNKNOWN_BALANCE = Long.MIN_VALUE;
+
+    public enum Kind {
+        CREATED,
+        DEBITED,
+        FROZEN,
+        UNFROZEN,
+        STRIPED
+    }
+
+    public static AccountMutatedEvent created(Account account) {
+        return new AccountMutatedEvent(Kind.CREATED, account.getAccountNumber(), account.getOwnerName(),
+                account.getBalance(), UNKNOWN_BALANCE, LocalDateTime.now());
+    }
+
+    /**
+     * A debit whose resulting balance is not known; the ledger records only its amount.
+     */
+    public static AccountMutatedEvent debited(String accountNumber, BigDecimal amount) {
+        return debited(accountNumber, amount, UNKNOWN_BALANCE);
+    }
+
+    /**
+     * Precondition: balanceAfter is the account balance in minor units right after this debit
+     */
+    public static AccountMutatedEvent debited(String accountNumber, BigDecimal amount, long balanceAfter) {
+        return new AccountMutatedEvent(Kind.DEBITED, accountNumber, null, amount, balanceAfter, LocalDateTime.now());
+    }
+
+    public static AccountMutatedEvent frozen(String accountNumber) {
+        return new AccountMutatedEvent(Kind.FROZEN, accountNumber, null, null, UNKNOWN_BALANCE, LocalDateTime.now());
+    }
+
+    public static AccountMutatedEvent unfrozen(String accountNumber) {
+        return new AccountMutatedEvent(Kind.UNFROZEN, accountNumber, null, null, UNKNOWN_BALANCE, LocalDateTime.now());
+    }
+
+    public static AccountMutatedEvent striped(String accountNumber, int stripes) {
+        return new AccountMutatedEvent(Kind.STRIPED, accountNumber, null, BigDecimal.valueOf(stripes),
+                UNKNOWN_BALANCE, LocalDateTime.now());
+    }
+
+    public boolean hasBalanceAfter() {
+        return balanceAfter != UNKNOWN_BALANCE;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.account.domain;
+
+/**
+ * Expected reasons an operation on an account is refused before the account changes.
+ *
+ * These are business outcomes, not faults: callers on the request path report them as a
+ * result (see DebitResult) instead of throwing.
+ */
+public enum AccountRejection {
+    NOT_FOUND("Account not found: "),
+    FROZEN("Account is frozen: ");
+
+    private final String messagePrefix;
+
+    AccountRejection(String messagePrefix) {
+        this.messagePrefix = messagePrefix;
+    }
+
+    /**
+     * Postcondition: the message the error body and the matching exception carry
+     */
+    public String message(String accountNumber) {
+        return messagePrefix + accountNumber;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.account.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable, detached copy of an account's state for read paths and caches.
+ *
+ * Invariants:
+ * - never attached to a persistence context, so it is safe to share across threads
+ * - version is the entity version it was taken from
+ */
+public record AccountSnapshot(
+        String accountNumber,
+        String ownerName,
+        BigDecimal balance,
+        AccountStatus status,
+        LocalDateTime createdAt,
+        Long version
+) {
+    public static AccountSnapshot from(Account account) {
+        return new AccountSnapshot(
+                account.getAccountNumber(),
+                account.getOwnerName(),
+                account.getBalance(),
+                account.getStatus(),
+                account.getCreatedAt(),
+                account.getVersion()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.account.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * An account as served by the read model: a committed snapshot stamped with how fresh it is.
+ *
+ * Invariants:
+ * - revision is the account row version plus the versions of its stripe rows; every
+ *   committed change raises it, so of two views of one account the higher is the newer
+ * - version is drawn from one counter for the whole read model when the view is applied;
+ *   a view replacing another always has a higher version
+ * - asOf is when the state was read from the database, inside the committing transaction
+ *   for views published by a mutation
+ */
+public record AccountView(
+        AccountSnapshot account,
+        long revision,
+        long version,
+        LocalDateTime asOf
+) {
+    /**
+     * Precondition: account != null, asOf != null
+     * Postcondition: a view not yet applied to the read model (version 0)
+     */
+    public static AccountView unapplied(AccountSnapshot account, long revision, LocalDateTime asOf) {
+        return new AccountView(account, revision, 0, asOf);
+    }
+
+    public AccountView withVersion(long version) {
+        return new AccountView(account, revision, version, asOf);
+    }
+}
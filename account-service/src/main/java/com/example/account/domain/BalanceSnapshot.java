@@ -0,0 +1,61 @@
+package com.example.account.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * An account's ledger balance as of one ledger entry.
+ *
+ * The balance is snapshot.balance minus the amounts of the account's ledger entries with
+ * an id greater than lastEntryId. An opening snapshot (lastEntryId = 0) is written with
+ * the account; the ledger snapshotter adds later ones so the entries to sum stay few.
+ *
+ * Invariants:
+ * - balance >= 0
+ * - no ledger entry of the account with id <= lastEntryId commits after the snapshot
+ */
+@Entity
+@Immutable
+@Table(name = "balance_snapshots",
+        indexes = @Index(name = "idx_balance_snapshots_account_entry", columnList = "account_number, last_entry_id"))
+public class BalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_number", nullable = false, length = 20)
+    private String accountNumber;
+
+    @Convert(converter = MoneyColumnConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private long balance;
+
+    @Column(name = "last_entry_id", nullable = false)
+    private long lastEntryId;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    protected BalanceSnapshot() {
+        // JPA required
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public long getBalanceMinorUnits() {
+        return balance;
+    }
+
+    public long getLastEntryId() {
+        return lastEntryId;
+    }
+
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.account.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * One slice of a striped account's balance.
+ *
+ * Each stripe is its own row with its own version, so concurrent debits that land on
+ * different stripes neither lock nor invalidate each other or the accounts row.
+ *
+ * Invariants:
+ * - balance >= 0, so the account total is never negative either
+ * - (account, stripeIndex) is unique; stripeIndex in [0, account.stripeCount)
+ */
+@Entity
+@Table(name = "account_balance_stripes",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "stripe_index"}))
+public class BalanceStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_stripes_seq")
+    @SequenceGenerator(name = "balance_stripes_seq", sequenceName = "balance_stripes_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "account_id", nullable = false, updatable = false)
+    private Account account;
+
+    @Column(name = "stripe_index", nullable = false, updatable = false)
+    private int stripeIndex;
+
+    @Convert(converter = MoneyColumnConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private long balance;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    protected BalanceStripe() {
+        // JPA required
+    }
+
+    /**
+     * Precondition: account != null, stripeIndex >= 0, balance >= 0
+     */
+    BalanceStripe(Account account, int stripeIndex, long balance) {
+        this.account = account;
+        this.stripeIndex = stripeIndex;
+        this.balance = balance;
+    }
+
+    /**
+     * Precondition: amount > 0
+     * Postcondition: balance = old_balance - amount if it was sufficient, unchanged otherwise
+     *
+     * @return false if this stripe alone cannot cover the amount
+     */
+    boolean debit(long amount) {
+        if (balance < amount) {
+            return false;
+        }
+        balance -= amount;
+        return true;
+    }
+
+    /**
+     * Precondition: balance >= 0 (used by Account when it rebalances its stripes)
+     */
+    void setBalance(long balance) {
+        this.balance = balance;
+    }
+
+    public int getStripeIndex() {
+        return stripeIndex;
+    }
+
+    public long getBalanceMinorUnits() {
+        return balance;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
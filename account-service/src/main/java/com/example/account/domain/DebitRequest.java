@@ -1,6 +1,7 @@
 package com.example.account.domain;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
@@ -8,11 +9,12 @@ import java.math.BigDecimal;
  * Value object for debit request.
  *
  * Invariants:
- * - amount > 0
+ * - amount > 0, at most 2 decimal places (exactly representable as Money)
  */
 public record DebitRequest(
         @NotNull(message = "Amount is required")
         @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+        @Digits(integer = 16, fraction = 2, message = "Amount must have at most 2 decimal places")
         BigDecimal amount
 ) {
 }
@@ -1,29 +1,217 @@
 package com.example.account.domain;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
 import java.math.BigDecimal;
+import java.util.Objects;
 
 /**
  * Value object for debit response.
  *
+ * Amounts are held in minor units (see Money) so building a response on the debit hot
+ * path allocates only this object. The BigDecimal accessors keep the JSON contract
+ * ("previousBalance": 10000.00, ...) and the previous record API unchanged.
+ *
+ * reason is the machine-readable counterpart of message for a refused batch item: the name
+ * of the AccountRejection, INSUFFICIENT_BALANCE or INVALID_AMOUNT. Callers branch on it,
+ * the message is for people. A single debit answers the other refusals with an error
+ * status, so its insufficient-balance response carries no reason and its JSON stays as
+ * it was; null reasons are left out of the JSON.
+ *
  * Postcondition: Contains the result of a debit operation
+ * Invariant: an unknown amount (null in JSON) is held as UNKNOWN
+ * Invariant: success implies reason == null
  */
-public record DebitResponse(
-        String accountNumber,
-        BigDecimal previousBalance,
-        BigDecimal currentBalance,
-        BigDecimal debitedAmount,
-        boolean success,
-        String message
-) {
+@JsonAutoDetect(getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonPropertyOrder({"accountNumber", "previousBalance", "currentBalance", "debitedAmount", "success", "message", "reason"})
+public final class DebitResponse {
+
+    /** Marker for a balance or amount the response does not know (rejected debits). */
+    public static final long UNKNOWN = Long.MIN_VALUE;
+
+    public static final String SUCCESS_MESSAGE = "Debit successful";
+    public static final String INSUFFICIENT_BALANCE_MESSAGE = "Insufficient balance";
+
+    public static final String INSUFFICIENT_BALANCE = "INSUFFICIENT_BALANCE";
+    public static final String INVALID_AMOUNT = "INVALID_AMOUNT";
+
+    private final String accountNumber;
+    private final long previousBalance;
+    private final long currentBalance;
+    private final long debitedAmount;
+    private final boolean success;
+    private final String message;
+    private final String reason;
+
+    @JsonCreator
+    public DebitResponse(@JsonProperty("accountNumber") String accountNumber,
+                         @JsonProperty("previousBalance") BigDecimal previousBalance,
+                         @JsonProperty("currentBalance") BigDecimal currentBalance,
+                         @JsonProperty("debitedAmount") BigDecimal debitedAmount,
+                         @JsonProperty("success") boolean success,
+                         @JsonProperty("message") String message,
+                         @JsonProperty("reason") String reason) {
+        this(accountNumber, minorUnitsOrUnknown(previousBalance), minorUnitsOrUnknown(currentBalance),
+                minorUnitsOrUnknown(debitedAmount), success, message, reason);
+    }
+
+    private DebitResponse(String accountNumber, long previousBalance, long currentBalance,
+                          long debitedAmount, boolean success, String message, String reason) {
+        this.accountNumber = accountNumber;
+        this.previousBalance = previousBalance;
+        this.currentBalance = currentBalance;
+        this.debitedAmount = debitedAmount;
+        this.success = success;
+        this.message = message;
+        this.reason = reason;
+    }
+
     public static DebitResponse success(String accountNumber, BigDecimal previousBalance,
                                          BigDecimal currentBalance, BigDecimal debitedAmount) {
         return new DebitResponse(accountNumber, previousBalance, currentBalance, debitedAmount,
-                true, "Debit successful");
+                true, SUCCESS_MESSAGE, null);
+    }
+
+    /**
+     * Hot-path factory: amounts in minor units.
+     * Precondition: previousBalance - debitedAmount == currentBalance
+     */
+    public static DebitResponse success(String accountNumber, long previousBalance,
+                                         long currentBalance, long debitedAmount) {
+        return new DebitResponse(accountNumber, previousBalance, currentBalance, debitedAmount,
+                true, SUCCESS_MESSAGE, null);
     }
 
     public static DebitResponse insufficientBalance(String accountNumber, BigDecimal currentBalance,
                                                      BigDecimal requestedAmount) {
         return new DebitResponse(accountNumber, currentBalance, currentBalance, requestedAmount,
-                false, "Insufficient balance");
+                false, INSUFFICIENT_BALANCE_MESSAGE, null);
+    }
+
+    public static DebitResponse insufficientBalance(String accountNumber, long currentBalance,
+                                                     long requestedAmount) {
+        return new DebitResponse(accountNumber, currentBalance, currentBalance, requestedAmount,
+                false, INSUFFICIENT_BALANCE_MESSAGE, null);
+    }
+
+    /**
+     * The batch item counterpart of insufficientBalance, tagged with its reason.
+     */
+    public static DebitResponse insufficientBalanceItem(String accountNumber, long currentBalance,
+                                                        long requestedAmount) {
+        return new DebitResponse(accountNumber, currentBalance, currentBalance, requestedAmount,
+                false, INSUFFICIENT_BALANCE_MESSAGE, INSUFFICIENT_BALANCE);
+    }
+
+    /**
+     * Debit rejected before touching the balance (unknown account, frozen).
+     * Balances are unknown and left null.
+     */
+    public static DebitResponse rejected(String accountNumber, BigDecimal requestedAmount,
+                                         AccountRejection rejection) {
+        return new DebitResponse(accountNumber, null, null, requestedAmount, false,
+                rejection.message(accountNumber), rejection.name());
+    }
+
+    /**
+     * Debit refused because the amount itself is not debitable. Balances are unknown and left null.
+     */
+    public static DebitResponse invalidAmount(String accountNumber, BigDecimal requestedAmount, String message) {
+        return new DebitResponse(accountNumber, null, null, requestedAmount, false, message, INVALID_AMOUNT);
+    }
+
+    @JsonProperty
+    public String accountNumber() {
+        return accountNumber;
+    }
+
+    @JsonProperty
+    public BigDecimal previousBalance() {
+        return toBigDecimalOrNull(previousBalance);
+    }
+
+    @JsonProperty
+    public BigDecimal currentBalance() {
+        return toBigDecimalOrNull(currentBalance);
+    }
+
+    @JsonProperty
+    public BigDecimal debitedAmount() {
+        return toBigDecimalOrNull(debitedAmount);
+    }
+
+    @JsonProperty
+    public boolean success() {
+        return success;
+    }
+
+    @JsonProperty
+    public String message() {
+        return message;
+    }
+
+    @JsonProperty
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String reason() {
+        return reason;
+    }
+
+    /** @return the previous balance in minor units, or UNKNOWN */
+    public long previousBalanceMinorUnits() {
+        return previousBalance;
+    }
+
+    /** @return the current balance in minor units, or UNKNOWN */
+    public long currentBalanceMinorUnits() {
+        return currentBalance;
+    }
+
+    /** @return the debited amount in minor units, or UNKNOWN */
+    public long debitedAmountMinorUnits() {
+        return debitedAmount;
+    }
+
+    private static long minorUnitsOrUnknown(BigDecimal amount) {
+        return amount == null ? UNKNOWN : Money.minorUnitsOf(amount);
+    }
+
+    private static BigDecimal toBigDecimalOrNull(long minorUnits) {
+        return minorUnits == UNKNOWN ? null : Money.toBigDecimal(minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof DebitResponse other
+                && previousBalance == other.previousBalance
+                && currentBalance == other.currentBalance
+                && debitedAmount == other.debitedAmount
+                && success == other.success
+                && Objects.equals(accountNumber, other.accountNumber)
+                && Objects.equals(message, other.message)
+                && Objects.equals(reason, other.reason);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountNumber, previousBalance, currentBalance, debitedAmount, success, message, reason);
+    }
+
+    @Override
+    public String toString() {
+        return "DebitResponse[accountNumber=" + accountNumber
+                + ", previousBalance=" + previousBalance()
+                + ", currentBalance=" + currentBalance()
+                + ", debitedAmount=" + debitedAmount()
+                + ", success=" + success
+                + ", message=" + message
+                + ", reason=" + reason + "]";
     }
 }
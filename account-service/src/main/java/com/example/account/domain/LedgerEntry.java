@@ -0,0 +1,89 @@
+package com.example.account.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One debit in an account's append-only ledger, or several consecutive debits of the
+ * account made by one transaction (a batch debit or a sharded group commit), recorded
+ * as their total with the balances before the first and after the last. createdAt is
+ * the time of the last debit it covers.
+ *
+ * Rows are inserted by the ledger writer in JDBC batches and never updated or deleted.
+ * The identity id grows in insert order; balance snapshots use it as their boundary.
+ *
+ * Invariants:
+ * - amount > 0
+ * - previousBalance and currentBalance are both null (a debit of one balance stripe, whose
+ *   account total is not known at that point) or both set, with
+ *   currentBalance = previousBalance - amount, currentBalance >= 0
+ */
+@Entity
+@Immutable
+@Table(name = "ledger_entries",
+        indexes = @Index(name = "idx_ledger_entries_account_created", columnList = "account_number, created_at"))
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_number", nullable = false, length = 20)
+    private String accountNumber;
+
+    @Convert(converter = MoneyColumnConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private long amount;
+
+    @Convert(converter = MoneyColumnConverter.class)
+    @Column(name = "previous_balance", precision = 19, scale = 2)
+    private Long previousBalance;
+
+    @Convert(converter = MoneyColumnConverter.class)
+    @Column(name = "current_balance", precision = 19, scale = 2)
+    private Long currentBalance;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected LedgerEntry() {
+        // JPA required
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public BigDecimal getAmount() {
+        return Money.toBigDecimal(amount);
+    }
+
+    public long getAmountMinorUnits() {
+        return amount;
+    }
+
+    /**
+     * @return the balance before this debit, or null if the entry records only the amount
+     */
+    public BigDecimal getPreviousBalance() {
+        return previousBalance == null ? null : Money.toBigDecimal(previousBalance);
+    }
+
+    /**
+     * @return the balance after this debit, or null if the entry records only the amount
+     */
+    public BigDecimal getCurrentBalance() {
+        return currentBalance == null ? null : Money.toBigDecimal(currentBalance);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
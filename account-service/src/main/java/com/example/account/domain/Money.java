@@ -0,0 +1,123 @@
+package com.example.account.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money amount held as a count of minor units (cents), so the debit hot path
+ * compares and subtracts primitives instead of allocating BigDecimal results.
+ *
+ * Invariants:
+ * - the scale is fixed at 2, matching the balance column (precision = 19, scale = 2)
+ *   and the JSON contract format ("10000.00")
+ * - conversions from BigDecimal are exact: a value with a non-zero third decimal, or
+ *   outside the long range, is rejected instead of rounded
+ * - the range is +/-92,233,720,368,547,758.07, slightly narrower than DECIMAL(19, 2);
+ *   request amounts are validated to 16 integer digits, well inside it
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * Precondition: none (any long is a valid amount of minor units)
+     * Postcondition: result.minorUnits() == minorUnits
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Exact conversion from a decimal amount.
+     * Precondition: amount != null, amount has no more than 2 significant decimals
+     * Postcondition: result.toBigDecimal() compares equal to amount
+     *
+     * @throws IllegalArgumentException if the amount is null, has sub-cent precision or overflows
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinor(minorUnitsOf(amount));
+    }
+
+    /**
+     * Exact minor units of a decimal amount, without wrapping them in a Money.
+     *
+     * @throws IllegalArgumentException if the amount is null, has sub-cent precision or overflows
+     */
+    public static long minorUnitsOf(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        try {
+            return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount must have at most " + SCALE
+                    + " decimal places and fit in a long of minor units: " + amount, e);
+        }
+    }
+
+    /**
+     * Postcondition: result.scale() == 2
+     */
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(minorUnits);
+    }
+
+    /**
+     * @throws ArithmeticException if the result overflows
+     */
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * @throws ArithmeticException if the result overflows
+     */
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    /**
+     * Appends the plain decimal form ("-12.05", "10000.00") without going through BigDecimal.
+     */
+    public static StringBuilder appendTo(StringBuilder out, long minorUnits) {
+        if (minorUnits < 0) {
+            out.append('-');
+        }
+        // Long.MIN_VALUE has no positive counterpart: split before negating
+        long units = Math.abs(minorUnits / 100);
+        int cents = (int) Math.abs(minorUnits % 100);
+        out.append(units).append('.');
+        if (cents < 10) {
+            out.append('0');
+        }
+        return out.append(cents);
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(24), minorUnits).toString();
+    }
+}
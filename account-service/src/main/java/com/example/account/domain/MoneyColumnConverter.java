@@ -0,0 +1,26 @@
+package com.example.account.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Maps a long minor-units attribute to a DECIMAL(19, 2) column, so the schema and the
+ * native debit statements keep working on decimal amounts.
+ *
+ * Postcondition: convertToEntityAttribute(convertToDatabaseColumn(x)) == x
+ */
+@Converter
+public class MoneyColumnConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long minorUnits) {
+        return minorUnits == null ? null : Money.toBigDecimal(minorUnits);
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.minorUnitsOf(amount);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.account.infrastructure.config;
+
+import com.example.account.domain.AccountMutatedEvent;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The bean classes with an {@link EventListener} (including transactional ones) that
+ * receives AccountMutatedEvent.
+ *
+ * A write path that publishes no event can check this set to know what it would skip.
+ *
+ * Invariant: types is unmodifiable
+ */
+public record AccountMutationListeners(Set<Class<?>> types) {
+
+    public AccountMutationListeners {
+        types = Set.copyOf(types);
+    }
+
+    /**
+     * Reads bean types without creating beans.
+     *
+     * Postcondition: every bean class declaring an @EventListener method whose event type
+     *   (its classes attribute, else its parameter) accepts an AccountMutatedEvent
+     */
+    public static AccountMutationListeners scan(ListableBeanFactory beanFactory) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            Class<?> type = beanFactory.getType(name, false);
+            if (type == null) {
+                continue;
+            }
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            if (!MethodIntrospector.selectMethods(userClass, AccountMutationListeners::listens).isEmpty()) {
+                types.add(userClass);
+            }
+        }
+        return new AccountMutationListeners(types);
+    }
+
+    private static boolean listens(Method method) {
+        EventListener listener = AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class);
+        if (listener == null) {
+            return false;
+        }
+        Class<?>[] events = listener.classes().length > 0 ? listener.classes() : method.getParameterTypes();
+        return Arrays.stream(events).anyMatch(event -> event.isAssignableFrom(AccountMutatedEvent.class));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Account read model configuration, bound from {@code account.read-model.*}.
+ *
+ * @param enabled          keep committed account views in memory for queries
+ * @param maximumSize      views kept before the least valuable are evicted
+ * @param expireAfterWrite longest time a view is served without a newer commit; bounds
+ *                         changes made outside this service
+ */
+@ConfigurationProperties(prefix = "account.read-model")
+public record AccountReadModelProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("5m") Duration expireAfterWrite
+) {
+    public AccountReadModelProperties {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative");
+        }
+        if (expireAfterWrite == null || expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("expireAfterWrite must be positive");
+        }
+    }
+
+    public static AccountReadModelProperties disabled() {
+        return new AccountReadModelProperties(false, 0, Duration.ofMinutes(5));
+    }
+}
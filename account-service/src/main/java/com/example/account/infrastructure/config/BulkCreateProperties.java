@@ -0,0 +1,20 @@
+package com.example.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Bulk account creation configuration, bound from {@code account.bulk-create.*}.
+ *
+ * @param chunkSize accounts checked, inserted and committed together
+ */
+@ConfigurationProperties(prefix = "account.bulk-create")
+public record BulkCreateProperties(
+        @DefaultValue("500") int chunkSize
+) {
+    public BulkCreateProperties {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be at least 1");
+        }
+    }
+}
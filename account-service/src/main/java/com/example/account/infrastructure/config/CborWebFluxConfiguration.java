@@ -0,0 +1,79 @@
+package com.example.account.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link CborWebMvcConfiguration} for the reactive API.
+ *
+ * WebFlux has no Jackson CBOR codecs by default, and it consults custom codecs before its
+ * own JSON encoder, which would make CBOR the answer to callers that accept anything. The
+ * application's JSON encoder is therefore registered again ahead of the CBOR one.
+ *
+ * Spring's CBOR encoder only encodes single values, while the message writer always hands
+ * it a stream; {@link ValueCborEncoder} bridges the two.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CborWebFluxConfiguration implements WebFluxConfigurer {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    public CborWebFluxConfiguration(ObjectMapper jsonMapper, Jackson2ObjectMapperBuilder builder) {
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = builder.factory(new CBORFactory()).build();
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new Jackson2JsonEncoder(jsonMapper));
+        // Without explicit MIME types the codecs would claim JSON's
+        configurer.customCodecs().register(new ValueCborEncoder(cborMapper));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+    }
+
+    /**
+     * Jackson2CborEncoder that accepts the publisher the message writer passes: a Mono is
+     * encoded as its value, a Flux as one CBOR array of its elements.
+     */
+    static final class ValueCborEncoder extends Jackson2CborEncoder {
+
+        ValueCborEncoder(ObjectMapper cborMapper) {
+            super(cborMapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, @Nullable MimeType mimeType,
+                                       @Nullable Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+            return Flux.from(inputStream).collectList()
+                    .map(values -> encodeValue(values, bufferFactory, listType, mimeType, hints))
+                    .flux();
+        }
+    }
+}
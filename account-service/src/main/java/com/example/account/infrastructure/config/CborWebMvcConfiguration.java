@@ -0,0 +1,58 @@
+package com.example.account.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Serves {@code application/cbor} next to JSON on the servlet account API.
+ *
+ * Spring MVC lists its CBOR converter after the JSON one, so JSON stays the answer for
+ * callers that accept anything and CBOR is chosen only when a caller names it (Accept or
+ * Content-Type). The converter is rebuilt on the application's Jackson settings
+ * (spring.jackson.*) so both formats carry the same fields. It is deliberately not a
+ * converter bean: Boot would put a bean in front of JSON.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CborWebMvcConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper cborMapper;
+
+    public CborWebMvcConfiguration(Jackson2ObjectMapperBuilder builder) {
+        this.cborMapper = builder.factory(new CBORFactory()).build();
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+        converters.add(new BinaryCborHttpMessageConverter(cborMapper));
+    }
+
+    /**
+     * CBOR converter that ignores a charset parameter on the media type: CBOR is binary, yet
+     * some clients add one (RestAssured does), and Jackson would then read the body as text.
+     */
+    static final class BinaryCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+        BinaryCborHttpMessageConverter(ObjectMapper cborMapper) {
+            super(cborMapper);
+        }
+
+        @Override
+        protected Charset getCharset(@Nullable MediaType contentType) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+}
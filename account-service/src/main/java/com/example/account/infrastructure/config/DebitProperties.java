@@ -0,0 +1,52 @@
+package com.example.account.infrastructure.config;
+
+import com.example.account.application.DebitMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Debit configuration, bound from {@code account.debit.*}.
+ *
+ * @param mode    how debits are applied (default: read-modify-write)
+ * @param sharded settings used when mode is sharded
+ */
+@ConfigurationProperties(prefix = "account.debit")
+public record DebitProperties(
+        @DefaultValue("read-modify-write") DebitMode mode,
+        @DefaultValue Sharded sharded
+) {
+
+    @ConstructorBinding
+    public DebitProperties {
+    }
+
+    public DebitProperties(DebitMode mode) {
+        this(mode, Sharded.defaults());
+    }
+
+    /**
+     * Single-writer shard settings.
+     *
+     * Invariants: shards >= 1, maxBatchSize >= 1, queueCapacity >= 1
+     *
+     * @param shards        number of single-threaded workers accounts are hashed onto
+     * @param maxBatchSize  most debits group-committed in one transaction
+     * @param queueCapacity pending debits per shard before callers block
+     */
+    public record Sharded(
+            @DefaultValue("4") int shards,
+            @DefaultValue("256") int maxBatchSize,
+            @DefaultValue("10000") int queueCapacity
+    ) {
+        public Sharded {
+            if (shards < 1 || maxBatchSize < 1 || queueCapacity < 1) {
+                throw new IllegalArgumentException("shards, maxBatchSize and queueCapacity must be at least 1");
+            }
+        }
+
+        public static Sharded defaults() {
+            return new Sharded(4, 256, 10000);
+        }
+    }
+}
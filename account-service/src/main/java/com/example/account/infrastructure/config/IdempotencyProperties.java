@@ -0,0 +1,34 @@
+package com.example.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Debit idempotency configuration, bound from {@code account.idempotency.*}.
+ *
+ * @param maximumSize keys remembered in memory before the least valuable are evicted
+ * @param ttl         how long a key's result is replayed
+ * @param persistent  also record results in the debit_idempotency_keys table, in the
+ *                    debit's own transaction, so replays survive restarts and span instances
+ */
+@ConfigurationProperties(prefix = "account.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("false") boolean persistent
+) {
+    public IdempotencyProperties {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+    }
+
+    public static IdempotencyProperties defaults() {
+        return new IdempotencyProperties(100_000, Duration.ofHours(24), false);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.account.infrastructure.config;
+
+import com.example.account.infrastructure.journal.AccountJournal;
+import com.example.account.infrastructure.journal.JournalReplayer;
+import com.example.account.infrastructure.journal.JournalWriter;
+import com.example.account.infrastructure.journal.MappedSegmentJournal;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.JournalCheckpointRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Wires the write-ahead journal when {@code account.journal.enabled=true}.
+ *
+ * The memory-mapped journal is the default; declare another AccountJournal bean to replace it.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "account.journal", name = "enabled", havingValue = "true")
+public class JournalConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(AccountJournal.class)
+    public MappedSegmentJournal accountJournal(JournalProperties properties) {
+        return new MappedSegmentJournal(
+                properties.directory(),
+                Math.toIntExact(properties.segmentSize().toBytes()),
+                properties.fsync(),
+                properties.fsyncBatchSize(),
+                properties.fsyncInterval());
+    }
+
+    @Bean
+    public JournalWriter journalWriter(AccountJournal journal, AccountRepository accountRepository,
+                                       JournalCheckpointRepository checkpointRepository) {
+        return new JournalWriter(journal, accountRepository, checkpointRepository);
+    }
+
+    @Bean
+    public JournalReplayer journalReplayer(AccountJournal journal, AccountRepository accountRepository,
+                                           JournalCheckpointRepository checkpointRepository,
+                                           PlatformTransactionManager transactionManager) {
+        return new JournalReplayer(journal, accountRepository, checkpointRepository,
+                new TransactionTemplate(transactionManager));
+    }
+}
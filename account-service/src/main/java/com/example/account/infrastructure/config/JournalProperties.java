@@ -0,0 +1,30 @@
+package com.example.account.infrastructure.config;
+
+import com.example.account.infrastructure.journal.FsyncPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Write-ahead journal configuration, bound from {@code account.journal.*}.
+ *
+ * @param enabled        record mutations and replay them on startup
+ * @param directory      where segment files live
+ * @param segmentSize    size of each memory-mapped segment file
+ * @param fsync          when appended entries are forced to disk
+ * @param fsyncBatchSize pending entries that trigger a force in batch mode
+ * @param fsyncInterval  longest time an entry stays unforced in batch mode
+ */
+@ConfigurationProperties(prefix = "account.journal")
+public record JournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/journal") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("batch") FsyncPolicy fsync,
+        @DefaultValue("64") int fsyncBatchSize,
+        @DefaultValue("10ms") Duration fsyncInterval
+) {
+}
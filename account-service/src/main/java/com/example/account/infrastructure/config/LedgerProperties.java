@@ -0,0 +1,34 @@
+package com.example.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Debit ledger configuration, bound from {@code account.ledger.*}.
+ *
+ * @param snapshotInterval   how often accounts are checked for a new balance snapshot;
+ *                           zero disables the periodic run
+ * @param snapshotMinEntries ledger entries since an account's last snapshot that make it due
+ * @param maxQueryEntries    most entries one ledger query returns
+ */
+@ConfigurationProperties(prefix = "account.ledger")
+public record LedgerProperties(
+        @DefaultValue("5m") Duration snapshotInterval,
+        @DefaultValue("1000") int snapshotMinEntries,
+        @DefaultValue("1000") int maxQueryEntries
+) {
+    public LedgerProperties {
+        if (snapshotInterval == null || snapshotInterval.isNegative()) {
+            throw new IllegalArgumentException("snapshotInterval must not be negative");
+        }
+        if (snapshotMinEntries < 1 || maxQueryEntries < 1) {
+            throw new IllegalArgumentException("snapshotMinEntries and maxQueryEntries must be at least 1");
+        }
+    }
+
+    public static LedgerProperties defaults() {
+        return new LedgerProperties(Duration.ofMinutes(5), 1000, 1000);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Optimistic-lock retry configuration, bound from {@code account.optimistic-retry.*}.
+ *
+ * Invariants: maxAttempts >= 1, multiplier >= 1, initialBackoff <= maxBackoff,
+ * 0 <= retryBudgetRatio, retryBudgetCapacity >= 0
+ *
+ * @param maxAttempts         attempts per call, including the first one
+ * @param initialBackoff      delay before the first retry
+ * @param multiplier          growth factor applied to the delay after each retry
+ * @param maxBackoff          upper bound on a single delay
+ * @param jitter              randomise each delay between half and the full value
+ * @param retryBudgetRatio    retry tokens earned per call (0.1 = at most one retry per ten calls)
+ * @param retryBudgetCapacity maximum number of retry tokens that can be saved up
+ */
+@ConfigurationProperties(prefix = "account.optimistic-retry")
+public record OptimisticRetryProperties(
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("5ms") Duration initialBackoff,
+        @DefaultValue("2.0") double multiplier,
+        @DefaultValue("100ms") Duration maxBackoff,
+        @DefaultValue("true") boolean jitter,
+        @DefaultValue("0.1") double retryBudgetRatio,
+        @DefaultValue("100") int retryBudgetCapacity
+) {
+    public OptimisticRetryProperties {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("multiplier must be at least 1.0");
+        }
+        if (initialBackoff.compareTo(maxBackoff) > 0) {
+            throw new IllegalArgumentException("initialBackoff must not exceed maxBackoff");
+        }
+        if (retryBudgetRatio < 0 || retryBudgetCapacity < 0) {
+            throw new IllegalArgumentException("retry budget must not be negative");
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.account.infrastructure.config;
+
+import com.example.account.infrastructure.repository.ReactiveAccountRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Wires the reactive account API when {@code spring.main.web-application-type=reactive}.
+ *
+ * The R2DBC connection pool opens the database JPA uses (spring.datasource.url), so both
+ * persistence ports see one schema. It is deliberately not a bean: a ConnectionFactory bean
+ * would switch off the DataSource auto-configuration the JPA side and the blocking
+ * fallbacks still need (R2dbcAutoConfiguration is excluded for the same reason).
+ *
+ * Netty serves every connection on a fixed set of account.reactive.event-loop-threads
+ * workers, however many connections are open.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAccountConfiguration {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    @Bean(destroyMethod = "close")
+    public ReactiveAccountRepository reactiveAccountRepository(DataSourceProperties dataSource,
+                                                               ReactiveAccountProperties properties) {
+        String url = dataSource.determineUrl();
+        if (url == null || !url.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("The reactive account API supports H2 only, not " + url);
+        }
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.builder()
+                .option(ConnectionFactoryOptions.DRIVER, "h2")
+                // r2dbc-h2 prefixes the url option with jdbc:h2:
+                .option(Option.valueOf("url"), url.substring(H2_JDBC_PREFIX.length()));
+        if (dataSource.determineUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, dataSource.determineUsername());
+        }
+        if (dataSource.determinePassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, dataSource.determinePassword());
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        ReactiveAccountRepository repository = new ReactiveAccountRepository(
+                new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                        .initialSize(Math.min(2, properties.poolSize()))
+                        .maxSize(properties.poolSize())
+                        .build()));
+        // Startup, not the event loop: blocking once here is fine
+        repository.createIdSequence().block();
+        return repository;
+    }
+
+    @Bean
+    public AccountMutationListeners accountMutationListeners(ListableBeanFactory beanFactory) {
+        return AccountMutationListeners.scan(beanFactory);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources accountHttpLoops(ReactiveAccountProperties properties) {
+        int workers = properties.eventLoopThreads() > 0
+                ? properties.eventLoopThreads()
+                : LoopResources.DEFAULT_IO_WORKER_COUNT;
+        return LoopResources.create("account-http", 1, workers, true);
+    }
+
+    /**
+     * Declared here because Spring Boot prefers Tomcat, which is on the classpath for the
+     * servlet stack, over Netty when it picks a reactive server.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory reactiveWebServerFactory(LoopResources accountHttpLoops) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.addServerCustomizers(server -> server.runOn(accountHttpLoops));
+        return factory;
+    }
+}
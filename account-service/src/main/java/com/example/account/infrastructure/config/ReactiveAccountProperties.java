@@ -0,0 +1,27 @@
+package com.example.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Reactive account API configuration, bound from {@code account.reactive.*}. Only used when
+ * {@code spring.main.web-application-type=reactive}.
+ *
+ * @param poolSize         R2DBC connections shared by all event loops
+ * @param eventLoopThreads Netty worker threads serving every connection; 0 uses Reactor's
+ *                         default of one per CPU
+ */
+@ConfigurationProperties(prefix = "account.reactive")
+public record ReactiveAccountProperties(
+        @DefaultValue("10") int poolSize,
+        @DefaultValue("4") int eventLoopThreads
+) {
+    public ReactiveAccountProperties {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be at least 1");
+        }
+        if (eventLoopThreads < 0) {
+            throw new IllegalArgumentException("eventLoopThreads must not be negative");
+        }
+    }
+}
@@ -1,29 +1,72 @@
 package com.example.account.infrastructure.controller;
 
+import com.example.account.application.AccountQueryService;
 import com.example.account.application.AccountService;
+import com.example.account.application.DebitResult;
 import com.example.account.domain.Account;
+import com.example.account.domain.AccountCreationResult;
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.AccountSnapshot;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.AccountView;
 import com.example.account.domain.DebitRequest;
 import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.dto.BatchDebitRequest;
+import com.example.account.infrastructure.dto.BatchDebitResponse;
+import com.example.account.infrastructure.dto.BulkCreateAccountsRequest;
+import com.example.account.infrastructure.config.BulkCreateProperties;
 import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.dto.ErrorResponse;
 import com.example.account.infrastructure.dto.FreezeAccountRequest;
-import com.example.account.infrastructure.exception.AccountNotFoundException;
+import com.example.account.infrastructure.dto.StripeAccountRequest;
+import com.example.account.infrastructure.exception.AccountRejections;
+import com.example.account.infrastructure.exception.InvalidIdempotencyKeyException;
+import com.example.account.infrastructure.json.AccountResponseSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(BulkCreateProperties.class)
 @RequestMapping("/api/v1/accounts")
 public class AccountController {
 
     private static final Logger log = LoggerFactory.getLogger(AccountController.class);
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final AccountService accountService;
+    private final AccountQueryService accountQueryService;
+    private final BulkCreateProperties bulkCreateProperties;
+    private final ObjectMapper objectMapper;
 
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService,
+                             AccountQueryService accountQueryService,
+                             BulkCreateProperties bulkCreateProperties,
+                             ObjectMapper objectMapper) {
         this.accountService = accountService;
+        this.accountQueryService = accountQueryService;
+        this.bulkCreateProperties = bulkCreateProperties;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -31,14 +74,19 @@ public class AccountController {
      *
      * Precondition: accountNumber is valid format
      * Postcondition: returns account details if found, 404 otherwise
+     *
+     * Served from the read model without a transaction; version and asOf say how fresh it is.
+     * An unknown account is answered directly, without raising AccountNotFoundException.
      */
     @GetMapping("/{accountNumber}")
-    public ResponseEntity<AccountResponse> getAccount(@PathVariable String accountNumber) {
+    public ResponseEntity<?> getAccount(@PathVariable String accountNumber, HttpServletRequest httpRequest) {
         log.debug("GET /api/v1/accounts/{}", accountNumber);
 
-        return accountService.getAccount(accountNumber)
-                .map(account -> ResponseEntity.ok(AccountResponse.from(account)))
-                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+        Optional<AccountView> account = accountQueryService.getAccount(accountNumber);
+        if (account.isPresent()) {
+            return ResponseEntity.ok(AccountResponse.from(account.get()));
+        }
+        return rejected(AccountRejection.NOT_FOUND, accountNumber, httpRequest);
     }
 
     /**
@@ -55,20 +103,93 @@ public class AccountController {
         return ResponseEntity.status(HttpStatus.CREATED).body(AccountResponse.from(account));
     }
 
+    /**
+     * Create many accounts, streaming one NDJSON line per row as each chunk commits.
+     *
+     * Precondition: 1-100000 valid CreateAccountRequests
+     * Postcondition: one AccountCreationResult line per request, in request order; rows
+     *   whose account number is taken (or repeated) are rejected without affecting others.
+     *   If a chunk fails as a whole, each of its rows is reported rejected and the
+     *   remaining chunks still run.
+     */
+    @PostMapping(value = "/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createAccounts(
+            @Valid @RequestBody BulkCreateAccountsRequest request) {
+        List<CreateAccountRequest> accounts = request.accounts();
+        log.debug("POST /api/v1/accounts/bulk - size: {}", accounts.size());
+
+        int chunkSize = bulkCreateProperties.chunkSize();
+        StreamingResponseBody body = out -> {
+            for (int from = 0; from < accounts.size(); from += chunkSize) {
+                List<CreateAccountRequest> chunk = accounts.subList(from, Math.min(from + chunkSize, accounts.size()));
+                writeLines(out, createChunk(chunk));
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private List<AccountCreationResult> createChunk(List<CreateAccountRequest> chunk) {
+        try {
+            return accountService.createAccounts(chunk);
+        } catch (RuntimeException e) {
+            log.warn("Bulk create chunk failed: size={}, error={}", chunk.size(), e.getMessage());
+            return chunk.stream()
+                    .map(row -> AccountCreationResult.rejected(row.accountNumber(), "Chunk failed: " + e.getMessage()))
+                    .toList();
+        }
+    }
+
+    private void writeLines(OutputStream out, List<AccountCreationResult> results) throws IOException {
+        for (AccountCreationResult result : results) {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        }
+    }
+
     /**
      * Debit from an account.
      *
      * Precondition: accountNumber exists, amount > 0, account is ACTIVE
      * Postcondition: if balance sufficient, balance decreased; otherwise unchanged
+     *
+     * With an Idempotency-Key header, a repeated request with the same key replays the
+     * first response without debiting again; reusing the key for another debit is 422.
+     * Without one, an unknown or frozen account comes back as a result, not an exception.
      */
     @PostMapping("/{accountNumber}/debit")
-    public ResponseEntity<DebitResponse> debitAccount(
+    public ResponseEntity<?> debitAccount(
             @PathVariable String accountNumber,
-            @Valid @RequestBody DebitRequest request) {
+            @Valid @RequestBody DebitRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            HttpServletRequest httpRequest) {
         log.debug("POST /api/v1/accounts/{}/debit - amount: {}", accountNumber, request.amount());
 
-        DebitResponse response = accountService.debit(accountNumber, request.amount());
-        return ResponseEntity.ok(response);
+        if (idempotencyKey == null) {
+            DebitResult result = accountService.tryDebit(accountNumber, request.amount());
+            if (result.isRejected()) {
+                return rejected(result.rejection(), accountNumber, httpRequest);
+            }
+            return ResponseEntity.ok(result.response());
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(MAX_IDEMPOTENCY_KEY_LENGTH);
+        }
+        return ResponseEntity.ok(accountService.debit(accountNumber, request.amount(), idempotencyKey));
+    }
+
+    /**
+     * Debit several accounts in one request.
+     *
+     * Precondition: 1-1000 items, each with accountNumber and amount > 0
+     * Postcondition: one DebitResponse per item, in request order; an item that fails
+     *   (unknown account, frozen, insufficient balance) does not affect the others
+     */
+    @PostMapping("/debits:batch")
+    public ResponseEntity<BatchDebitResponse> debitBatch(@Valid @RequestBody BatchDebitRequest request) {
+        log.debug("POST /api/v1/accounts/debits:batch - size: {}", request.debits().size());
+
+        return ResponseEntity.ok(new BatchDebitResponse(accountService.debitBatch(request.debits())));
     }
 
     /**
@@ -101,26 +222,86 @@ public class AccountController {
         return ResponseEntity.ok(AccountResponse.from(account));
     }
 
+    /**
+     * Stripe a hot account: split its balance across sub-balance rows so concurrent
+     * debits stop serializing on the single accounts row.
+     *
+     * Precondition: accountNumber exists, not yet striped, 1 <= stripes <= 64
+     * Postcondition: account striped, reported balance unchanged
+     */
+    @PostMapping("/{accountNumber}/stripe")
+    public ResponseEntity<AccountResponse> stripeAccount(
+            @PathVariable String accountNumber,
+            @Valid @RequestBody StripeAccountRequest request) {
+        log.debug("POST /api/v1/accounts/{}/stripe, stripes={}", accountNumber, request.stripes());
+
+        Account account = accountService.stripe(accountNumber, request.stripes());
+        return ResponseEntity.ok(AccountResponse.from(account));
+    }
+
+    private static ResponseEntity<ErrorResponse> rejected(AccountRejection rejection, String accountNumber,
+                                                          HttpServletRequest httpRequest) {
+        log.warn("Request rejected: account={}, reason={}", accountNumber, rejection);
+        return AccountRejections.toResponse(rejection, accountNumber, httpRequest.getRequestURI());
+    }
+
     /**
      * Response DTO for Account.
      *
      * Version 1.1.0: Added createdAt field (backward compatible - optional field)
+     * Version 1.2.0: Added version and asOf freshness marker (backward compatible - optional fields,
+     * only set when served from the read model)
+     *
+     * Components are kept typed and written by AccountResponseSerializer, so timestamps
+     * are never turned into Strings; the JSON is unchanged (status as its name, dates
+     * ISO-8601, version and asOf omitted when null).
      */
+    @JsonSerialize(using = AccountResponseSerializer.class)
     public record AccountResponse(
             String accountNumber,
             String ownerName,
-            java.math.BigDecimal balance,
-            String status,
+            BigDecimal balance,
+            AccountStatus status,
             // New optional field added in v1.1.0 - backward compatible
-            String createdAt
+            LocalDateTime createdAt,
+            // New optional fields added in v1.2.0 - backward compatible
+            Long version,
+            LocalDateTime asOf
     ) {
         public static AccountResponse from(Account account) {
             return new AccountResponse(
                     account.getAccountNumber(),
                     account.getOwnerName(),
                     account.getBalance(),
-                    account.getStatus().name(),
-                    account.getCreatedAt() != null ? account.getCreatedAt().toString() : null
+                    account.getStatus(),
+                    account.getCreatedAt(),
+                    null,
+                    null
+            );
+        }
+
+        public static AccountResponse from(AccountSnapshot account) {
+            return new AccountResponse(
+                    account.accountNumber(),
+                    account.ownerName(),
+                    account.balance(),
+                    account.status(),
+                    account.createdAt(),
+                    null,
+                    null
+            );
+        }
+
+        public static AccountResponse from(AccountView view) {
+            AccountSnapshot account = view.account();
+            return new AccountResponse(
+                    account.accountNumber(),
+                    account.ownerName(),
+                    account.balance(),
+                    account.status(),
+                    account.createdAt(),
+                    view.version(),
+                    view.asOf()
             );
         }
     }
@@ -0,0 +1,53 @@
+package com.example.account.infrastructure.controller;
+
+import com.example.account.application.LedgerService;
+import com.example.account.infrastructure.dto.LedgerResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/accounts")
+public class LedgerController {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerController.class);
+
+    private final LedgerService ledgerService;
+
+    public LedgerController(LedgerService ledgerService) {
+        this.ledgerService = ledgerService;
+    }
+
+    /**
+     * Ledger entries of an account over a time range.
+     *
+     * Precondition: accountNumber exists, from < to (ISO-8601 local date-times), limit >= 1
+     * Postcondition: entries created in [from, to), oldest first, at most
+     *   min(limit, account.ledger.max-query-entries); 404 for an unknown account, 400 for a bad range
+     */
+    @GetMapping("/{accountNumber}/ledger")
+    public ResponseEntity<LedgerResponse> getLedger(
+            @PathVariable String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.debug("GET /api/v1/accounts/{}/ledger - from: {}, to: {}, limit: {}", accountNumber, from, to, limit);
+
+        List<LedgerResponse.Entry> entries = ledgerService.findEntries(accountNumber, from, to, limit).stream()
+                .map(LedgerResponse.Entry::from)
+                .toList();
+        return ResponseEntity.ok(new LedgerResponse(accountNumber,
+                ledgerService.getLedgerBalance(accountNumber).orElse(null), entries));
+    }
+}
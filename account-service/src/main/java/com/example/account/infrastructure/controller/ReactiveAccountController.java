@@ -0,0 +1,196 @@
+package com.example.account.infrastructure.controller;
+
+import com.example.account.application.ReactiveAccountService;
+import com.example.account.domain.AccountCreationResult;
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.DebitRequest;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.BulkCreateProperties;
+import com.example.account.infrastructure.controller.AccountController.AccountResponse;
+import com.example.account.infrastructure.dto.BatchDebitRequest;
+import com.example.account.infrastructure.dto.BatchDebitResponse;
+import com.example.account.infrastructure.dto.BulkCreateAccountsRequest;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.dto.FreezeAccountRequest;
+import com.example.account.infrastructure.dto.StripeAccountRequest;
+import com.example.account.infrastructure.exception.AccountRejections;
+import com.example.account.infrastructure.exception.InvalidIdempotencyKeyException;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The account API of {@link AccountController} on Spring WebFlux, served when
+ * {@code spring.main.web-application-type=reactive}. Same paths, bodies, statuses and
+ * contracts; handlers return without blocking the event loop.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(BulkCreateProperties.class)
+@RequestMapping("/api/v1/accounts")
+public class ReactiveAccountController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveAccountController.class);
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private final ReactiveAccountService accountService;
+    private final BulkCreateProperties bulkCreateProperties;
+
+    public ReactiveAccountController(ReactiveAccountService accountService,
+                                     BulkCreateProperties bulkCreateProperties) {
+        this.accountService = accountService;
+        this.bulkCreateProperties = bulkCreateProperties;
+    }
+
+    /**
+     * Get account by account number.
+     *
+     * Precondition: accountNumber is valid format
+     * Postcondition: returns account details if found, 404 otherwise
+     *
+     * An unknown account is answered directly, without signalling AccountNotFoundException.
+     */
+    @GetMapping("/{accountNumber}")
+    public Mono<ResponseEntity<?>> getAccount(@PathVariable String accountNumber, ServerHttpRequest httpRequest) {
+        log.debug("GET /api/v1/accounts/{}", accountNumber);
+
+        return accountService.getAccount(accountNumber)
+                .<ResponseEntity<?>>map(account -> ResponseEntity.ok(AccountResponse.from(account)))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("Request rejected: account={}, reason={}", accountNumber, AccountRejection.NOT_FOUND);
+                    return AccountRejections.toResponse(AccountRejection.NOT_FOUND, accountNumber,
+                            httpRequest.getPath().value());
+                }));
+    }
+
+    /**
+     * Create a new account.
+     *
+     * Precondition: request is valid, accountNumber is unique
+     * Postcondition: new account created with ACTIVE status
+     */
+    @PostMapping
+    public Mono<ResponseEntity<AccountResponse>> createAccount(@Valid @RequestBody CreateAccountRequest request) {
+        log.debug("POST /api/v1/accounts - Creating account: {}", request.accountNumber());
+
+        return accountService.createAccount(request)
+                .map(account -> ResponseEntity.status(HttpStatus.CREATED).body(AccountResponse.from(account)));
+    }
+
+    /**
+     * Create many accounts, streaming one NDJSON line per row as each chunk commits.
+     *
+     * Precondition: 1-100000 valid CreateAccountRequests
+     * Postcondition: as AccountController.createAccounts
+     */
+    @PostMapping(value = "/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AccountCreationResult> createAccounts(@Valid @RequestBody BulkCreateAccountsRequest request) {
+        List<CreateAccountRequest> accounts = request.accounts();
+        log.debug("POST /api/v1/accounts/bulk - size: {}", accounts.size());
+
+        int chunkSize = bulkCreateProperties.chunkSize();
+        return Flux.range(0, (accounts.size() + chunkSize - 1) / chunkSize)
+                .map(chunk -> accounts.subList(chunk * chunkSize, Math.min((chunk + 1) * chunkSize, accounts.size())))
+                .concatMap(chunk -> accountService.createAccounts(chunk)
+                        .onErrorResume(RuntimeException.class, e -> {
+                            log.warn("Bulk create chunk failed: size={}, error={}", chunk.size(), e.getMessage());
+                            return Mono.just(chunk.stream()
+                                    .map(row -> AccountCreationResult.rejected(row.accountNumber(),
+                                            "Chunk failed: " + e.getMessage()))
+                                    .toList());
+                        }))
+                .flatMapIterable(results -> results);
+    }
+
+    /**
+     * Debit from an account.
+     *
+     * Precondition: accountNumber exists, amount > 0, account is ACTIVE
+     * Postcondition: if balance sufficient, balance decreased; otherwise unchanged
+     */
+    @PostMapping("/{accountNumber}/debit")
+    public Mono<ResponseEntity<DebitResponse>> debitAccount(
+            @PathVariable String accountNumber,
+            @Valid @RequestBody DebitRequest request,
+            @RequestHeader(value = AccountController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        log.debug("POST /api/v1/accounts/{}/debit - amount: {}", accountNumber, request.amount());
+
+        if (idempotencyKey == null) {
+            return accountService.debit(accountNumber, request.amount()).map(ResponseEntity::ok);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return Mono.error(new InvalidIdempotencyKeyException(MAX_IDEMPOTENCY_KEY_LENGTH));
+        }
+        return accountService.debit(accountNumber, request.amount(), idempotencyKey).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Debit several accounts in one request.
+     *
+     * Precondition: 1-1000 items, each with accountNumber and amount > 0
+     * Postcondition: one DebitResponse per item, in request order
+     */
+    @PostMapping("/debits:batch")
+    public Mono<ResponseEntity<BatchDebitResponse>> debitBatch(@Valid @RequestBody BatchDebitRequest request) {
+        log.debug("POST /api/v1/accounts/debits:batch - size: {}", request.debits().size());
+
+        return accountService.debitBatch(request.debits())
+                .map(results -> ResponseEntity.ok(new BatchDebitResponse(results)));
+    }
+
+    /**
+     * Freeze an account.
+     *
+     * Precondition: accountNumber exists, status is ACTIVE
+     * Postcondition: status changed to FROZEN
+     */
+    @PostMapping("/{accountNumber}/freeze")
+    public Mono<ResponseEntity<AccountResponse>> freezeAccount(
+            @PathVariable String accountNumber,
+            @RequestBody(required = false) FreezeAccountRequest request) {
+        log.debug("POST /api/v1/accounts/{}/freeze", accountNumber);
+
+        return accountService.freeze(accountNumber).map(account -> ResponseEntity.ok(AccountResponse.from(account)));
+    }
+
+    /**
+     * Unfreeze an account.
+     *
+     * Precondition: accountNumber exists, status is FROZEN
+     * Postcondition: status changed to ACTIVE
+     */
+    @PostMapping("/{accountNumber}/unfreeze")
+    public Mono<ResponseEntity<AccountResponse>> unfreezeAccount(@PathVariable String accountNumber) {
+        log.debug("POST /api/v1/accounts/{}/unfreeze", accountNumber);
+
+        return accountService.unfreeze(accountNumber).map(account -> ResponseEntity.ok(AccountResponse.from(account)));
+    }
+
+    /**
+     * Stripe a hot account.
+     *
+     * Precondition: accountNumber exists, not yet striped, 1 <= stripes <= 64
+     * Postcondition: account striped, reported balance unchanged
+     */
+    @PostMapping("/{accountNumber}/stripe")
+    public Mono<ResponseEntity<AccountResponse>> stripeAccount(
+            @PathVariable String accountNumber,
+            @Valid @RequestBody StripeAccountRequest request) {
+        log.debug("POST /api/v1/accounts/{}/stripe, stripes={}", accountNumber, request.stripes());
+
+        return accountService.stripe(accountNumber, request.stripes())
+                .map(account -> ResponseEntity.ok(AccountResponse.from(account)));
+    }
+}
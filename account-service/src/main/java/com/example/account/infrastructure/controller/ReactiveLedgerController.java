@@ -0,0 +1,60 @@
+package com.example.account.infrastructure.controller;
+
+import com.example.account.application.LedgerService;
+import com.example.account.infrastructure.dto.LedgerResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The ledger query of {@link LedgerController} on Spring WebFlux. The JPA queries run on
+ * the bounded elastic scheduler, off the event loop.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/accounts")
+public class ReactiveLedgerController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveLedgerController.class);
+
+    private final LedgerService ledgerService;
+
+    public ReactiveLedgerController(LedgerService ledgerService) {
+        this.ledgerService = ledgerService;
+    }
+
+    /**
+     * Ledger entries of an account over a time range.
+     *
+     * Precondition: accountNumber exists, from < to (ISO-8601 local date-times), limit >= 1
+     * Postcondition: as LedgerController.getLedger
+     */
+    @GetMapping("/{accountNumber}/ledger")
+    public Mono<ResponseEntity<LedgerResponse>> getLedger(
+            @PathVariable String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.debug("GET /api/v1/accounts/{}/ledger - from: {}, to: {}, limit: {}", accountNumber, from, to, limit);
+
+        return Mono.fromCallable(() -> {
+            List<LedgerResponse.Entry> entries = ledgerService.findEntries(accountNumber, from, to, limit).stream()
+                    .map(LedgerResponse.Entry::from)
+                    .toList();
+            return ResponseEntity.ok(new LedgerResponse(accountNumber,
+                    ledgerService.getLedgerBalance(accountNumber).orElse(null), entries));
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.account.infrastructure.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+/**
+ * One debit inside a batch request.
+ *
+ * Preconditions:
+ * - accountNumber: not blank
+ * - amount: > 0, at most 2 decimal places
+ */
+public record BatchDebitItem(
+        @NotBlank(message = "Account number is required")
+        String accountNumber,
+
+        @NotNull(message = "Amount is required")
+        @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+        @Digits(integer = 16, fraction = 2, message = "Amount must have at most 2 decimal places")
+        BigDecimal amount
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.account.infrastructure.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * DTO for a batch of debits applied in one request.
+ *
+ * Preconditions:
+ * - debits: 1-1000 items, each valid
+ */
+public record BatchDebitRequest(
+        @NotEmpty(message = "Debits are required")
+        @Size(max = 1000, message = "At most 1000 debits per batch")
+        List<@Valid BatchDebitItem> debits
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.account.infrastructure.dto;
+
+import com.example.account.domain.DebitResponse;
+import java.util.List;
+
+/**
+ * DTO for the results of a batch debit.
+ *
+ * Postcondition: results.get(i) is the outcome of request debits.get(i)
+ */
+public record BatchDebitResponse(
+        List<DebitResponse> results
+) {
+}
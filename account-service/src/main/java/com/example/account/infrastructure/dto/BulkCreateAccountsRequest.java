@@ -0,0 +1,19 @@
+package com.example.account.infrastructure.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * DTO for creating many accounts in one request.
+ *
+ * Preconditions:
+ * - accounts: 1-100000 items, each a valid CreateAccountRequest
+ */
+public record BulkCreateAccountsRequest(
+        @NotEmpty(message = "Accounts are required")
+        @Size(max = 100000, message = "At most 100000 accounts per request")
+        List<@Valid CreateAccountRequest> accounts
+) {
+}
@@ -0,0 +1,38 @@
+package com.example.account.infrastructure.dto;
+
+import com.example.account.domain.LedgerEntry;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for a ledger query: the account's ledger balance and its entries in the requested range.
+ *
+ * Invariant: entries are ordered oldest first
+ *
+ * @param balance latest balance snapshot minus the entries after it, not limited to the range;
+ *                null if the account has no snapshot yet
+ */
+public record LedgerResponse(
+        String accountNumber,
+        BigDecimal balance,
+        List<Entry> entries
+) {
+
+    /**
+     * One debit, or the total of consecutive debits one transaction made to the account.
+     * previousBalance and currentBalance are null for a debit of one balance stripe.
+     */
+    public record Entry(
+            Long id,
+            BigDecimal amount,
+            BigDecimal previousBalance,
+            BigDecimal currentBalance,
+            String createdAt
+    ) {
+        public static Entry from(LedgerEntry entry) {
+            return new Entry(entry.getId(), entry.getAmount(), entry.getPreviousBalance(),
+                    entry.getCurrentBalance(), entry.getCreatedAt().toString());
+        }
+    }
+}
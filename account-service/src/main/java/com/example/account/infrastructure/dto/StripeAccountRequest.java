@@ -0,0 +1,20 @@
+package com.example.account.infrastructure.dto;
+
+import com.example.account.domain.Account;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for splitting a hot account's balance into stripes.
+ *
+ * Preconditions:
+ * - stripes: 1..Account.MAX_STRIPES
+ */
+public record StripeAccountRequest(
+        @NotNull(message = "Stripe count is required")
+        @Min(value = 1, message = "Stripe count must be at least 1")
+        @Max(value = Account.MAX_STRIPES, message = "Stripe count must be at most " + Account.MAX_STRIPES)
+        Integer stripes
+) {
+}
@@ -1,15 +1,26 @@
 package com.example.account.infrastructure.exception;
 
+import com.example.account.domain.AccountRejection;
+
+/**
+ * A frozen account is an expected outcome, not a fault: the exception fills in no stack
+ * trace and builds its message only when read.
+ */
 public class AccountFrozenException extends RuntimeException {
 
     private final String accountNumber;
 
     public AccountFrozenException(String accountNumber) {
-        super("Account is frozen: " + accountNumber);
+        super(null, null, false, false);
         this.accountNumber = accountNumber;
     }
 
     public String getAccountNumber() {
         return accountNumber;
     }
+
+    @Override
+    public String getMessage() {
+        return AccountRejection.FROZEN.message(accountNumber);
+    }
 }
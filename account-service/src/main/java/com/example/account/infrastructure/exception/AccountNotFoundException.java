@@ -1,15 +1,26 @@
 package com.example.account.infrastructure.exception;
 
+import com.example.account.domain.AccountRejection;
+
+/**
+ * An unknown account is an expected outcome, not a fault: the exception fills in no stack
+ * trace and builds its message only when read.
+ */
 public class AccountNotFoundException extends RuntimeException {
 
     private final String accountNumber;
 
     public AccountNotFoundException(String accountNumber) {
-        super("Account not found: " + accountNumber);
+        super(null, null, false, false);
         this.accountNumber = accountNumber;
     }
 
     public String getAccountNumber() {
         return accountNumber;
     }
+
+    @Override
+    public String getMessage() {
+        return AccountRejection.NOT_FOUND.message(accountNumber);
+    }
 }
@@ -0,0 +1,43 @@
+package com.example.account.infrastructure.exception;
+
+import com.example.account.domain.AccountRejection;
+import com.example.account.infrastructure.dto.ErrorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Error responses for expected rejections, shared by the controllers (result path) and
+ * the exception handlers (exception path) so both answer with the same status and body.
+ *
+ * The headers, statuses and reason phrases are allocated once; only the ErrorResponse,
+ * which carries the time, message and path, is built per rejection.
+ */
+public final class AccountRejections {
+
+    private static final HttpHeaders JSON_HEADERS = jsonHeaders();
+
+    private AccountRejections() {
+    }
+
+    /**
+     * Postcondition: 404 for NOT_FOUND, 403 for FROZEN, JSON ErrorResponse body
+     */
+    public static ResponseEntity<ErrorResponse> toResponse(AccountRejection rejection, String accountNumber,
+                                                           String path) {
+        HttpStatus status = switch (rejection) {
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case FROZEN -> HttpStatus.FORBIDDEN;
+        };
+        ErrorResponse error = ErrorResponse.of(status.value(), status.getReasonPhrase(),
+                rejection.message(accountNumber), path);
+        return new ResponseEntity<>(error, JSON_HEADERS, status);
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.account.infrastructure.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyKeyConflictException(String idempotencyKey) {
+        super("Idempotency-Key was already used for a different debit: " + idempotencyKey);
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
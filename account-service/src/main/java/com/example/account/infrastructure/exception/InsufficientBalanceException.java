@@ -2,6 +2,10 @@ package com.example.account.infrastructure.exception;
 
 import java.math.BigDecimal;
 
+/**
+ * An expected outcome, not a fault: the exception fills in no stack trace and builds its
+ * message only when read.
+ */
 public class InsufficientBalanceException extends RuntimeException {
 
     private final String accountNumber;
@@ -9,8 +13,7 @@ public class InsufficientBalanceException extends RuntimeException {
     private final BigDecimal requestedAmount;
 
     public InsufficientBalanceException(String accountNumber, BigDecimal currentBalance, BigDecimal requestedAmount) {
-        super(String.format("Insufficient balance for account %s: current=%s, requested=%s",
-                accountNumber, currentBalance, requestedAmount));
+        super(null, null, false, false);
         this.accountNumber = accountNumber;
         this.currentBalance = currentBalance;
         this.requestedAmount = requestedAmount;
@@ -27,4 +30,10 @@ public class InsufficientBalanceException extends RuntimeException {
     public BigDecimal getRequestedAmount() {
         return requestedAmount;
     }
+
+    @Override
+    public String getMessage() {
+        return String.format("Insufficient balance for account %s: current=%s, requested=%s",
+                accountNumber, currentBalance, requestedAmount);
+    }
 }
@@ -0,0 +1,8 @@
+package com.example.account.infrastructure.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    public InvalidIdempotencyKeyException(int maxLength) {
+        super("Idempotency-Key must be 1-" + maxLength + " characters");
+    }
+}
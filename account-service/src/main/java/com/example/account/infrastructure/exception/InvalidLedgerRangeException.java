@@ -0,0 +1,10 @@
+package com.example.account.infrastructure.exception;
+
+import java.time.LocalDateTime;
+
+public class InvalidLedgerRangeException extends RuntimeException {
+
+    public InvalidLedgerRangeException(LocalDateTime from, LocalDateTime to, int limit) {
+        super("Ledger query needs from < to and limit >= 1: from=" + from + ", to=" + to + ", limit=" + limit);
+    }
+}
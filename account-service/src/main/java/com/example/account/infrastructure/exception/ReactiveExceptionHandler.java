@@ -0,0 +1,118 @@
+package com.example.account.infrastructure.exception;
+
+import com.example.account.domain.AccountRejection;
+import com.example.account.infrastructure.dto.ErrorResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.stream.Collectors;
+
+/**
+ * {@link GlobalExceptionHandler} for the reactive API: the same statuses and ErrorResponse
+ * bodies (always JSON), with WebFlux's binding and input exceptions in place of Spring MVC's.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(AccountNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleAccountNotFound(
+            AccountNotFoundException ex, ServerHttpRequest request) {
+        log.warn("Account not found: {}", ex.getAccountNumber());
+        return AccountRejections.toResponse(AccountRejection.NOT_FOUND, ex.getAccountNumber(), request.getPath().value());
+    }
+
+    @ExceptionHandler(InsufficientBalanceException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientBalance(
+            InsufficientBalanceException ex, ServerHttpRequest request) {
+        log.warn("Insufficient balance: account={}, current={}, requested={}",
+                ex.getAccountNumber(), ex.getCurrentBalance(), ex.getRequestedAmount());
+        return error(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(AccountFrozenException.class)
+    public ResponseEntity<ErrorResponse> handleAccountFrozen(
+            AccountFrozenException ex, ServerHttpRequest request) {
+        log.warn("Account frozen: {}", ex.getAccountNumber());
+        return AccountRejections.toResponse(AccountRejection.FROZEN, ex.getAccountNumber(), request.getPath().value());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalState(
+            IllegalStateException ex, ServerHttpRequest request) {
+        log.warn("Illegal state: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, ServerHttpRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, "Account was modified concurrently, please retry", request);
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflict(
+            IdempotencyKeyConflictException ex, ServerHttpRequest request) {
+        log.warn("Idempotency-Key reused: {}", ex.getIdempotencyKey());
+        return error(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIdempotencyKey(
+            InvalidIdempotencyKeyException ex, ServerHttpRequest request) {
+        log.warn("Invalid Idempotency-Key: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidLedgerRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidLedgerRange(
+            InvalidLedgerRangeException ex, ServerHttpRequest request) {
+        log.warn("Invalid ledger query: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(
+            WebExchangeBindException ex, ServerHttpRequest request) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+        log.warn("Validation error: {}", message);
+        return error(HttpStatus.BAD_REQUEST, message, request);
+    }
+
+    /**
+     * Missing or mistyped parameters and unreadable bodies.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidInput(
+            ServerWebInputException ex, ServerHttpRequest request) {
+        log.warn("Invalid request input: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getReason(), request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGeneral(
+            Exception ex, ServerHttpRequest request) {
+        log.error("Unexpected error", ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", request);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String message, ServerHttpRequest request) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(ErrorResponse.of(
+                status.value(), status.getReasonPhrase(), message, request.getPath().value()));
+    }
+}
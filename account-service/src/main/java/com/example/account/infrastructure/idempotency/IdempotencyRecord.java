@@ -0,0 +1,85 @@
+package com.example.account.infrastructure.idempotency;
+
+import com.example.account.domain.DebitResponse;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Stored result of a debit made with an Idempotency-Key.
+ *
+ * Invariant: written in the same transaction as the debit it records
+ */
+@Entity
+@Table(name = "debit_idempotency_keys")
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String idempotencyKey;
+
+    @Column(name = "account_number", nullable = false, length = 20)
+    private String accountNumber;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal previousBalance;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal currentBalance;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal debitedAmount;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    private String message;
+
+    @Column(length = 32)
+    private String reason;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    protected IdempotencyRecord() {
+        // JPA
+    }
+
+    public IdempotencyRecord(String idempotencyKey, String accountNumber, BigDecimal amount,
+                             DebitResponse response) {
+        this.idempotencyKey = idempotencyKey;
+        this.accountNumber = accountNumber;
+        this.amount = amount;
+        this.previousBalance = response.previousBalance();
+        this.currentBalance = response.currentBalance();
+        this.debitedAmount = response.debitedAmount();
+        this.success = response.success();
+        this.message = response.message();
+        this.reason = response.reason();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean matches(String otherAccountNumber, BigDecimal otherAmount) {
+        return accountNumber.equals(otherAccountNumber) && amount.compareTo(otherAmount) == 0;
+    }
+
+    public DebitResponse toResponse() {
+        return new DebitResponse(accountNumber, previousBalance, currentBalance, debitedAmount, success, message,
+                reason);
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.account.infrastructure.idempotency;
+
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.IdempotencyProperties;
+import com.example.account.infrastructure.exception.IdempotencyKeyConflictException;
+import com.example.account.infrastructure.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Persistent tier of debit idempotency: the debit and its key are committed together.
+ *
+ * A key that is already recorded (and not older than ttl) replays its stored response
+ * and the debit is not run. Two instances racing on one new key both debit, but only one
+ * commit can insert the key; the loser rolls back, and {@link #find} then returns the
+ * winner's result. Expired rows are purged at most once per minute.
+ */
+@Component
+@ConditionalOnProperty(name = "account.idempotency.persistent", havingValue = "true")
+public class IdempotencyRecordStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyRecordStore.class);
+    private static final long PURGE_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Counter replays;
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+
+    public IdempotencyRecordStore(IdempotencyRecordRepository repository, IdempotencyProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.ttl = properties.ttl();
+        this.replays = meterRegistry.counter("account.idempotency.replays", "store", "table");
+    }
+
+    /**
+     * Precondition: called outside a transaction (each call is one debit transaction)
+     * Postcondition: the key is recorded with the response, or its stored response is replayed
+     * @throws IdempotencyKeyConflictException if the key was recorded for a different debit
+     */
+    @Transactional
+    public DebitResponse debitOnce(String idempotencyKey, String accountNumber, BigDecimal amount,
+                                   Supplier<DebitResponse> debit) {
+        purgeExpiredIfDue();
+        Optional<IdempotencyRecord> existing = findLive(idempotencyKey);
+        if (existing.isPresent()) {
+            return replay(idempotencyKey, existing.get(), accountNumber, amount);
+        }
+
+        DebitResponse response = debit.get();
+        repository.save(new IdempotencyRecord(idempotencyKey, accountNumber, amount, response));
+        return response;
+    }
+
+    /**
+     * Replays a committed key, e.g. after losing the insert race for it.
+     */
+    @Transactional(readOnly = true)
+    public Optional<DebitResponse> find(String idempotencyKey, String accountNumber, BigDecimal amount) {
+        return findLive(idempotencyKey).map(record -> replay(idempotencyKey, record, accountNumber, amount));
+    }
+
+    private Optional<IdempotencyRecord> findLive(String idempotencyKey) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        return repository.findById(idempotencyKey).filter(record -> !record.getCreatedAt().isBefore(cutoff));
+    }
+
+    private DebitResponse replay(String idempotencyKey, IdempotencyRecord record, String accountNumber,
+                                 BigDecimal amount) {
+        if (!record.matches(accountNumber, amount)) {
+            throw new IdempotencyKeyConflictException(idempotencyKey);
+        }
+        replays.increment();
+        return record.toResponse();
+    }
+
+    private void purgeExpiredIfDue() {
+        long now = System.currentTimeMillis();
+        long due = nextPurgeAt.get();
+        if (now < due || !nextPurgeAt.compareAndSet(due, now + PURGE_INTERVAL_MILLIS)) {
+            return;
+        }
+        int purged = repository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+}
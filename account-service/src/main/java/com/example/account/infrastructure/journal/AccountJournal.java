@@ -0,0 +1,48 @@
+package com.example.account.infrastructure.journal;
+
+import com.example.account.domain.AccountMutatedEvent;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Append-only journal of account mutations.
+ *
+ * Contract:
+ * - entries are replayed in the order they were appended, each with its sequence
+ * - sequences increase in append order and never repeat
+ * - an append is durable once the configured fsync policy has forced it
+ * - an aborted entry is not replayed
+ * - a torn trailing entry (crash mid-write) is ignored on replay
+ */
+public interface AccountJournal extends AutoCloseable {
+
+    /**
+     * Append one entry.
+     * Precondition: journal is open
+     * Postcondition: entry is visible to replay; forced to disk according to the fsync policy
+     *
+     * @return the entry's sequence
+     */
+    long append(AccountMutatedEvent event);
+
+    /**
+     * Mark an appended entry as rolled back, so replay skips it.
+     * Precondition: journal is open, sequence was returned by append
+     */
+    void abort(long sequence);
+
+    /**
+     * Feed every intact, non-aborted entry, oldest first, to the consumer with its sequence.
+     *
+     * @return number of entries replayed
+     */
+    long replay(ObjLongConsumer<AccountMutatedEvent> consumer);
+
+    /**
+     * Force every appended entry to disk.
+     */
+    void sync();
+
+    @Override
+    void close();
+}
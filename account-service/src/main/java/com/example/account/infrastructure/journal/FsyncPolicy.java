@@ -0,0 +1,14 @@
+package com.example.account.infrastructure.journal;
+
+/**
+ * When appended journal entries are forced to disk.
+ *
+ * - ALWAYS: force after every append (no loss window, slowest)
+ * - BATCH: force once fsyncBatchSize entries are pending or fsyncInterval elapsed
+ * - NEVER: leave flushing to the OS page cache (survives process crash, not power loss)
+ */
+public enum FsyncPolicy {
+    ALWAYS,
+    BATCH,
+    NEVER
+}
@@ -0,0 +1,51 @@
+package com.example.account.infrastructure.journal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Sequence of the last journal entry an account's row already reflects.
+ *
+ * Invariant: advanced in the same transaction as the mutation it covers, and never lowered
+ */
+@Entity
+@Table(name = "journal_checkpoints")
+public class JournalCheckpoint {
+
+    @Id
+    @Column(name = "account_number", length = 20)
+    private String accountNumber;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long sequence;
+
+    protected JournalCheckpoint() {
+        // JPA
+    }
+
+    public JournalCheckpoint(String accountNumber, long sequence) {
+        this.accountNumber = accountNumber;
+        this.sequence = sequence;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Postcondition: sequence = max(old sequence, applied)
+     */
+    public void advanceTo(long applied) {
+        sequence = Math.max(sequence, applied);
+    }
+
+    public boolean covers(long entry) {
+        return entry <= sequence;
+    }
+}
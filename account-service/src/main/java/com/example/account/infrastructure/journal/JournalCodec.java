@@ -0,0 +1,93 @@
+package com.example.account.infrastructure.journal;
+
+import com.example.account.domain.AccountMutatedEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary payload format of one journal entry.
+ *
+ * kind (byte) | occurredAt (epoch second long, nano int) | accountNumber (UTF) |
+ * ownerName (flag byte + UTF) | amount (flag byte + scale int + unscaled length short + bytes)
+ *
+ * balanceAfter is not journaled: replay re-derives balances by applying the mutations.
+ *
+ * An abort marker is ABORT (byte) | sequence of the aborted entry (long); its tag lies
+ * outside the Kind ordinals.
+ */
+final class JournalCodec {
+
+    private static final byte ABORT = (byte) 0xFF;
+
+    private JournalCodec() {
+    }
+
+    static byte[] encodeAbort(long sequence) {
+        return ByteBuffer.allocate(1 + Long.BYTES).put(ABORT).putLong(sequence).array();
+    }
+
+    static boolean isAbort(byte[] payload) {
+        return payload[0] == ABORT;
+    }
+
+    /**
+     * Precondition: isAbort(payload)
+     */
+    static long abortedSequence(byte[] payload) {
+        return ByteBuffer.wrap(payload, 1, Long.BYTES).getLong();
+    }
+
+    static byte[] encode(AccountMutatedEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(event.kind().ordinal());
+            out.writeLong(event.occurredAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(event.occurredAt().getNano());
+            out.writeUTF(event.accountNumber());
+            out.writeBoolean(event.ownerName() != null);
+            if (event.ownerName() != null) {
+                out.writeUTF(event.ownerName());
+            }
+            out.writeBoolean(event.amount() != null);
+            if (event.amount() != null) {
+                byte[] unscaled = event.amount().unscaledValue().toByteArray();
+                out.writeInt(event.amount().scale());
+                out.writeShort(unscaled.length);
+                out.write(unscaled);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static AccountMutatedEvent decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            AccountMutatedEvent.Kind kind = AccountMutatedEvent.Kind.values()[in.readByte()];
+            LocalDateTime occurredAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            String accountNumber = in.readUTF();
+            String ownerName = in.readBoolean() ? in.readUTF() : null;
+            BigDecimal amount = null;
+            if (in.readBoolean()) {
+                int scale = in.readInt();
+                byte[] unscaled = new byte[in.readShort()];
+                in.readFully(unscaled);
+                amount = new BigDecimal(new BigInteger(unscaled), scale);
+            }
+            return new AccountMutatedEvent(kind, accountNumber, ownerName, amount,
+                    AccountMutatedEvent.UNKNOWN_BALANCE, occurredAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.account.infrastructure.journal;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.JournalCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rebuilds account state from the journal once all beans exist, before the web server
+ * starts taking requests.
+ *
+ * An entry is applied only if its sequence is above the account's {@link JournalCheckpoint}:
+ * rows the database already holds (a persistent datasource, or a restored backup) are not
+ * mutated twice, and only the entries committed after them are re-applied. The checkpoint
+ * is raised with every applied entry, in the replay transaction.
+ *
+ * Entries are applied through the Account domain methods directly on the repository, so
+ * replay publishes no events and is not journaled again. The ledger (ledger entries and
+ * balance snapshots) is therefore not rebuilt for replayed debits; the read model needs
+ * nothing, it reads missing views from the rows.
+ *
+ * Postcondition: every account's row reflects all journaled mutations up to its checkpoint
+ */
+public class JournalReplayer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalReplayer.class);
+
+    private final AccountJournal journal;
+    private final AccountRepository accountRepository;
+    private final JournalCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JournalReplayer(AccountJournal journal, AccountRepository accountRepository,
+                           JournalCheckpointRepository checkpointRepository,
+                           TransactionTemplate transactionTemplate) {
+        this.journal = journal;
+        this.accountRepository = accountRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long startNanos = System.nanoTime();
+        long[] applied = {0};
+        Long replayed = transactionTemplate.execute(status -> journal.replay((event, sequence) -> {
+            if (apply(event, sequence)) {
+                applied[0]++;
+            }
+        }));
+        log.info("Journal replayed: entries={}, applied={}, elapsed={}ms",
+                replayed, applied[0], (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * @return true if the entry changed the account, false if its checkpoint already covered it
+     */
+    boolean apply(AccountMutatedEvent event, long sequence) {
+        JournalCheckpoint checkpoint = checkpointRepository.findById(event.accountNumber()).orElse(null);
+        if (checkpoint != null && checkpoint.covers(sequence)) {
+            return false;
+        }
+        switch (event.kind()) {
+            case CREATED -> {
+                if (accountRepository.existsByAccountNumber(event.accountNumber())) {
+                    return false;
+                }
+                accountRepository.save(new Account(event.accountNumber(), event.ownerName(), event.amount(),
+                        event.occurredAt()));
+            }
+            case DEBITED -> {
+                if (!load(event).debit(event.amount())) {
+                    throw new IllegalStateException("Journal replay diverged: insufficient balance for debit on "
+                            + event.accountNumber());
+                }
+            }
+            case FROZEN -> load(event).freeze();
+            case UNFROZEN -> load(event).unfreeze();
+            case STRIPED -> load(event).stripe(event.amount().intValueExact());
+        }
+        if (checkpoint == null) {
+            checkpointRepository.save(new JournalCheckpoint(event.accountNumber(), sequence));
+        } else {
+            checkpoint.advanceTo(sequence);
+        }
+        return true;
+    }
+
+    private Account load(AccountMutatedEvent event) {
+        return accountRepository.findByAccountNumber(event.accountNumber())
+                .orElseThrow(() -> new IllegalStateException(
+                        "Journal replay diverged: " + event.kind() + " for unknown account " + event.accountNumber()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.account.infrastructure.journal;
+
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.JournalCheckpointRepository;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes each account mutation to the journal ahead of the database commit.
+ *
+ * The persistence context is flushed first, so optimistic-lock conflicts and constraint
+ * violations fail the transaction before anything is journaled. If the append fails,
+ * the transaction rolls back. The account's {@link JournalCheckpoint} is raised to the
+ * entry's sequence in the same transaction, so the database records which entries it
+ * already holds; if the transaction then does not commit, the entry is aborted in the
+ * journal and replay skips it.
+ *
+ * Known gap: a process crash between the append and the commit leaves neither the commit
+ * nor the abort marker, and replay applies that entry to a database that never saw it.
+ *
+ * With the journal enabled, striped debits of one account serialize on its checkpoint row.
+ *
+ * Precondition: events are published inside the transaction that made the change
+ */
+public class JournalWriter {
+
+    private final AccountJournal journal;
+    private final AccountRepository accountRepository;
+    private final JournalCheckpointRepository checkpointRepository;
+
+    public JournalWriter(AccountJournal journal, AccountRepository accountRepository,
+                         JournalCheckpointRepository checkpointRepository) {
+        this.journal = journal;
+        this.accountRepository = accountRepository;
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    /**
+     * fallbackExecution makes a publication outside any transaction reach this method, which
+     * refuses it rather than leaving the change silently unjournaled.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAccountMutated(AccountMutatedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Cannot journal " + event.kind() + " of " + event.accountNumber()
+                    + ": published outside a transaction");
+        }
+        accountRepository.flush();
+        long sequence = journal.append(event);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    journal.abort(sequence);
+                }
+            }
+        });
+        if (checkpointRepository.advance(event.accountNumber(), sequence) == 0) {
+            checkpointRepository.findById(event.accountNumber()).ifPresentOrElse(
+                    checkpoint -> checkpoint.advanceTo(sequence),
+                    () -> checkpointRepository.save(new JournalCheckpoint(event.accountNumber(), sequence)));
+        }
+    }
+}
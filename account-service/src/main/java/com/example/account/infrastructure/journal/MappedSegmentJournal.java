@@ -0,0 +1,285 @@
+package com.example.account.infrastructure.journal;
+
+import com.example.account.domain.AccountMutatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * AccountJournal backed by fixed-size memory-mapped segment files.
+ *
+ * Each segment is a sequence of records: length (int) | CRC32C of payload (int) | payload.
+ * A zero length marks the end of written data (mapped files are zero-filled). When a
+ * record does not fit, the segment is forced and the next one is mapped.
+ *
+ * A record's sequence is its segment index in the high 32 bits and its offset within the
+ * segment in the low 32, so it grows with every append and survives restarts and rolls.
+ * Abort markers are records too; replay collects them first and skips the entries they name.
+ *
+ * Invariant: only the tail of the last segment may hold a torn record; replay stops there
+ */
+public class MappedSegmentJournal implements AccountJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedSegmentJournal.class);
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final int fsyncBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService flusher;
+
+    private long segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int forcedPosition;
+    private int pending;
+    private boolean closed;
+
+    /**
+     * Open (or create) the journal in the given directory and position after the last intact record.
+     * Precondition: segmentSize > record header, fsyncBatchSize >= 1
+     */
+    public MappedSegmentJournal(Path directory, int segmentSize, FsyncPolicy fsyncPolicy,
+                                int fsyncBatchSize, Duration fsyncInterval) {
+        if (segmentSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncBatchSize = fsyncBatchSize;
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = segments();
+            segmentIndex = segments.isEmpty() ? 0 : indexOf(segments.get(segments.size() - 1));
+            openSegment(segmentIndex);
+            buffer.position(scan(buffer, (payload, position) -> { }));
+            forcedPosition = buffer.position();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal in " + directory, e);
+        }
+        if (fsyncPolicy == FsyncPolicy.BATCH) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "journal-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalNanos = Math.max(fsyncInterval.toNanos(), TimeUnit.MICROSECONDS.toNanos(100));
+            flusher.scheduleAtFixedRate(this::sync, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        } else {
+            flusher = null;
+        }
+        log.info("Journal opened: directory={}, segment={}, position={}, fsync={}",
+                directory, segmentIndex, buffer.position(), fsyncPolicy);
+    }
+
+    @Override
+    public long append(AccountMutatedEvent event) {
+        return write(JournalCodec.encode(event));
+    }
+
+    @Override
+    public void abort(long sequence) {
+        write(JournalCodec.encodeAbort(sequence));
+    }
+
+    private long write(byte[] payload) {
+        int recordSize = HEADER_BYTES + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Journal entry larger than a segment: " + recordSize);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            if (buffer.remaining() < recordSize) {
+                roll();
+            }
+            long sequence = sequence(segmentIndex, buffer.position());
+            buffer.putInt(payload.length);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(payload);
+            pending++;
+            if (fsyncPolicy == FsyncPolicy.ALWAYS
+                    || (fsyncPolicy == FsyncPolicy.BATCH && pending >= fsyncBatchSize)) {
+                force();
+            }
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long replay(ObjLongConsumer<AccountMutatedEvent> consumer) {
+        lock.lock();
+        try {
+            List<Path> segments = segments();
+            Set<Long> aborted = new HashSet<>();
+            for (Path segment : segments) {
+                scan(segment, (payload, sequence) -> {
+                    if (JournalCodec.isAbort(payload)) {
+                        aborted.add(JournalCodec.abortedSequence(payload));
+                    }
+                });
+            }
+            long[] count = {0};
+            for (Path segment : segments) {
+                scan(segment, (payload, sequence) -> {
+                    if (!JournalCodec.isAbort(payload) && !aborted.contains(sequence)) {
+                        consumer.accept(JournalCodec.decode(payload), sequence);
+                        count[0]++;
+                    }
+                });
+            }
+            return count[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay journal in " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scan(Path segment, ObjLongConsumer<byte[]> recordConsumer) throws IOException {
+        long index = indexOf(segment);
+        try (FileChannel readChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer readBuffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+            scan(readBuffer, (payload, position) -> recordConsumer.accept(payload, sequence(index, position)));
+        }
+    }
+
+    @Override
+    public void sync() {
+        lock.lock();
+        try {
+            if (!closed && pending > 0) {
+                force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            force();
+            closed = true;
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void force() {
+        int position = buffer.position();
+        if (position > forcedPosition) {
+            buffer.force(forcedPosition, position - forcedPosition);
+        }
+        forcedPosition = position;
+        pending = 0;
+    }
+
+    private void roll() {
+        force();
+        try {
+            channel.close();
+            openSegment(++segmentIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot roll journal segment", e);
+        }
+        forcedPosition = 0;
+        log.debug("Journal rolled to segment {}", segmentIndex);
+    }
+
+    private void openSegment(long index) throws IOException {
+        channel = FileChannel.open(directory.resolve(segmentName(index)),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    /**
+     * Walk intact records from the start of the buffer, passing each payload with the
+     * position of its record.
+     *
+     * @return position just after the last intact record
+     */
+    private static int scan(MappedByteBuffer segment, ObjIntConsumer<byte[]> payloadConsumer) {
+        int position = 0;
+        CRC32C crc = new CRC32C();
+        while (segment.limit() - position >= HEADER_BYTES) {
+            int length = segment.getInt(position);
+            if (length <= 0 || length > segment.limit() - position - HEADER_BYTES) {
+                break;
+            }
+            int expectedCrc = segment.getInt(position + Integer.BYTES);
+            byte[] payload = new byte[length];
+            segment.get(position + HEADER_BYTES, payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != expectedCrc) {
+                break;
+            }
+            payloadConsumer.accept(payload, position);
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long sequence(long segmentIndex, int position) {
+        return (segmentIndex << 32) | position;
+    }
+
+    private static String segmentName(long index) {
+        return String.format("segment-%012d%s", index, SEGMENT_SUFFIX);
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring("segment-".length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
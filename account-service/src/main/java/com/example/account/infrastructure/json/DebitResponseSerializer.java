@@ -0,0 +1,90 @@
+package com.example.account.infrastructure.json;
+
+import com.example.account.domain.DebitResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Writes DebitResponse field by field from its minor units: names, the fixed messages and
+ * the insufficient-balance reason are pre-encoded, amounts are formatted without a BigDecimal or String per field.
+ *
+ * Postcondition: same bytes, in the same @JsonPropertyOrder, as the reflective bean
+ *   serializer (the debit contracts pin them); reading still goes through @JsonCreator
+ */
+@JsonComponent
+public class DebitResponseSerializer extends StdSerializer<DebitResponse> {
+
+    private static final SerializableString ACCOUNT_NUMBER = new SerializedString("accountNumber");
+    private static final SerializableString PREVIOUS_BALANCE = new SerializedString("previousBalance");
+    private static final SerializableString CURRENT_BALANCE = new SerializedString("currentBalance");
+    private static final SerializableString DEBITED_AMOUNT = new SerializedString("debitedAmount");
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString REASON = new SerializedString("reason");
+
+    private static final SerializableString SUCCESS_MESSAGE = new SerializedString(DebitResponse.SUCCESS_MESSAGE);
+    private static final SerializableString INSUFFICIENT_BALANCE_MESSAGE =
+            new SerializedString(DebitResponse.INSUFFICIENT_BALANCE_MESSAGE);
+    private static final SerializableString INSUFFICIENT_BALANCE =
+            new SerializedString(DebitResponse.INSUFFICIENT_BALANCE);
+
+    public DebitResponseSerializer() {
+        super(DebitResponse.class);
+    }
+
+    @Override
+    public void serialize(DebitResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] scratch = JsonText.scratch();
+        gen.writeStartObject(response);
+        gen.writeFieldName(ACCOUNT_NUMBER);
+        gen.writeString(response.accountNumber());
+        gen.writeFieldName(PREVIOUS_BALANCE);
+        writeAmount(gen, response.previousBalanceMinorUnits(), scratch);
+        gen.writeFieldName(CURRENT_BALANCE);
+        writeAmount(gen, response.currentBalanceMinorUnits(), scratch);
+        gen.writeFieldName(DEBITED_AMOUNT);
+        writeAmount(gen, response.debitedAmountMinorUnits(), scratch);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(response.success());
+        gen.writeFieldName(MESSAGE);
+        writeMessage(gen, response.message());
+        writeReason(gen, response.reason());
+        gen.writeEndObject();
+    }
+
+    private static void writeAmount(JsonGenerator gen, long minorUnits, char[] scratch) throws IOException {
+        if (minorUnits == DebitResponse.UNKNOWN) {
+            gen.writeNull();
+        } else {
+            JsonText.writeMinorUnits(gen, minorUnits, scratch);
+        }
+    }
+
+    private static void writeMessage(JsonGenerator gen, String message) throws IOException {
+        if (DebitResponse.SUCCESS_MESSAGE.equals(message)) {
+            gen.writeString(SUCCESS_MESSAGE);
+        } else if (DebitResponse.INSUFFICIENT_BALANCE_MESSAGE.equals(message)) {
+            gen.writeString(INSUFFICIENT_BALANCE_MESSAGE);
+        } else {
+            gen.writeString(message);
+        }
+    }
+
+    private static void writeReason(JsonGenerator gen, String reason) throws IOException {
+        if (reason == null) {
+            return;
+        }
+        gen.writeFieldName(REASON);
+        if (DebitResponse.INSUFFICIENT_BALANCE.equals(reason)) {
+            gen.writeString(INSUFFICIENT_BALANCE);
+        } else {
+            gen.writeString(reason);
+        }
+    }
+}
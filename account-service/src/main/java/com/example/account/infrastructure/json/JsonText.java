@@ -0,0 +1,141 @@
+package com.example.account.infrastructure.json;
+
+import com.example.account.domain.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes money and timestamps into a caller-owned char buffer instead of going through
+ * BigDecimal.toString / LocalDateTime.toString, so a response body costs no String per
+ * value.
+ *
+ * The text is exactly what the reflective path wrote: amounts as BigDecimal(scale 2)
+ * prints them, timestamps as LocalDateTime.toString (ISO-8601, seconds and fraction only
+ * when non-zero). Money is only formatted by hand for JSON text generators; any other
+ * generator (CBOR, TokenBuffer) gets the BigDecimal, so binary bodies keep their decimal
+ * encoding byte for byte.
+ *
+ * Precondition: scratch.length >= SCRATCH_LENGTH
+ */
+public final class JsonText {
+
+    /** Longest value written: "-92233720368547758.08" is 21 chars, a timestamp at most 29. */
+    public static final int SCRATCH_LENGTH = 32;
+
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[SCRATCH_LENGTH]);
+
+    private JsonText() {
+    }
+
+    /**
+     * The calling thread's scratch buffer, reused by every response it writes. A virtual
+     * thread, usually one per request, gets a new buffer instead of a thread-local copy
+     * that would be used once.
+     *
+     * Postcondition: length == SCRATCH_LENGTH; the buffer is only valid until the caller
+     *   finishes writing its value, and must not be held across a nested serializer
+     */
+    public static char[] scratch() {
+        return Thread.currentThread().isVirtual() ? new char[SCRATCH_LENGTH] : SCRATCH.get();
+    }
+
+    /**
+     * Write an amount held in minor units as a JSON number with two decimals.
+     * Postcondition: same text as gen.writeNumber(Money.toBigDecimal(minorUnits))
+     */
+    public static void writeMinorUnits(JsonGenerator gen, long minorUnits, char[] scratch) throws IOException {
+        if (!(gen instanceof JsonGeneratorImpl) || minorUnits == Long.MIN_VALUE) {
+            gen.writeNumber(Money.toBigDecimal(minorUnits));
+            return;
+        }
+        int start = formatMinorUnits(minorUnits, scratch);
+        gen.writeNumber(scratch, start, scratch.length - start);
+    }
+
+    /**
+     * Write a timestamp as a JSON string.
+     * Postcondition: same text as gen.writeString(dateTime.toString())
+     */
+    public static void writeDateTime(JsonGenerator gen, LocalDateTime dateTime, char[] scratch) throws IOException {
+        int year = dateTime.getYear();
+        if (year < 1000 || year > 9999) {
+            // signed and padded years are rare enough to take the allocating path
+            gen.writeString(dateTime.toString());
+            return;
+        }
+        gen.writeString(scratch, 0, formatDateTime(dateTime, scratch));
+    }
+
+    /**
+     * Format right-aligned into scratch.
+     * Precondition: minorUnits != Long.MIN_VALUE
+     * Postcondition: returns the start index; the text runs to the end of scratch
+     */
+    static int formatMinorUnits(long minorUnits, char[] scratch) {
+        long value = Math.abs(minorUnits);
+        int pos = scratch.length;
+        scratch[--pos] = digit(value % 10);
+        value /= 10;
+        scratch[--pos] = digit(value % 10);
+        value /= 10;
+        scratch[--pos] = '.';
+        do {
+            scratch[--pos] = digit(value % 10);
+            value /= 10;
+        } while (value > 0);
+        if (minorUnits < 0) {
+            scratch[--pos] = '-';
+        }
+        return pos;
+    }
+
+    /**
+     * Format left-aligned into scratch.
+     * Precondition: 1000 <= year <= 9999
+     * Postcondition: returns the length written
+     */
+    static int formatDateTime(LocalDateTime dateTime, char[] scratch) {
+        int pos = writeDigits(scratch, 0, dateTime.getYear(), 4);
+        scratch[pos++] = '-';
+        pos = writeDigits(scratch, pos, dateTime.getMonthValue(), 2);
+        scratch[pos++] = '-';
+        pos = writeDigits(scratch, pos, dateTime.getDayOfMonth(), 2);
+        scratch[pos++] = 'T';
+        pos = writeDigits(scratch, pos, dateTime.getHour(), 2);
+        scratch[pos++] = ':';
+        pos = writeDigits(scratch, pos, dateTime.getMinute(), 2);
+        int second = dateTime.getSecond();
+        int nano = dateTime.getNano();
+        if (second > 0 || nano > 0) {
+            scratch[pos++] = ':';
+            pos = writeDigits(scratch, pos, second, 2);
+            if (nano > 0) {
+                // LocalTime.toString: millis, micros or nanos, whichever is exact
+                scratch[pos++] = '.';
+                if (nano % 1_000_000 == 0) {
+                    pos = writeDigits(scratch, pos, nano / 1_000_000, 3);
+                } else if (nano % 1000 == 0) {
+                    pos = writeDigits(scratch, pos, nano / 1000, 6);
+                } else {
+                    pos = writeDigits(scratch, pos, nano, 9);
+                }
+            }
+        }
+        return pos;
+    }
+
+    private static int writeDigits(char[] scratch, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            scratch[i] = digit(value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+
+    private static char digit(long value) {
+        return (char) ('0' + value);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.account.infrastructure.ledger;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.BalanceSnapshot;
+import com.example.account.domain.Money;
+import com.example.account.infrastructure.config.LedgerProperties;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.BalanceSnapshotRepository;
+import com.example.account.infrastructure.repository.BalanceStripeRepository;
+import com.example.account.infrastructure.repository.LedgerEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically folds each busy account's recent ledger entries into a new balance
+ * snapshot, so a ledger balance read sums at most about snapshotMinEntries entries.
+ *
+ * Each account is snapshotted in its own transaction holding the account row lock (and
+ * the stripe row locks of a striped account). Every debit writes one of those rows
+ * before it draws its ledger entry id, so while the locks are held no entry at or below
+ * the highest visible id can still be uncommitted: that id is a safe boundary.
+ *
+ * The new snapshot is the previous snapshot minus the entries since. Under the same
+ * locks it is compared with the account's own balance; a difference (for instance a
+ * change applied by journal replay, which bypasses the ledger) is counted and logged,
+ * and the ledger is re-anchored on the account balance.
+ */
+@Component
+public class LedgerSnapshotter {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerSnapshotter.class);
+
+    private final LedgerEntryRepository entryRepository;
+    private final BalanceSnapshotRepository snapshotRepository;
+    private final AccountRepository accountRepository;
+    private final BalanceStripeRepository stripeRepository;
+    private final LedgerWriter ledgerWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final LedgerProperties properties;
+    private final Counter snapshots;
+    private final Counter drift;
+    private ScheduledExecutorService scheduler;
+
+    public LedgerSnapshotter(LedgerEntryRepository entryRepository, BalanceSnapshotRepository snapshotRepository,
+                             AccountRepository accountRepository, BalanceStripeRepository stripeRepository,
+                             LedgerWriter ledgerWriter, PlatformTransactionManager transactionManager,
+                             LedgerProperties properties, MeterRegistry meterRegistry) {
+        this.entryRepository = entryRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.accountRepository = accountRepository;
+        this.stripeRepository = stripeRepository;
+        this.ledgerWriter = ledgerWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.snapshots = meterRegistry.counter("account.ledger.snapshots");
+        this.drift = meterRegistry.counter("account.ledger.drift");
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.snapshotInterval().toMillis();
+        if (interval == 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::snapshotDueAccountsSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Snapshots every account with at least snapshotMinEntries entries since its last snapshot.
+     *
+     * @return number of snapshots written
+     */
+    public int snapshotDueAccounts() {
+        int written = 0;
+        for (String accountNumber : entryRepository.findAccountsDueForSnapshot(properties.snapshotMinEntries())) {
+            if (snapshot(accountNumber)) {
+                written++;
+            }
+        }
+        if (written > 0) {
+            log.debug("Ledger snapshots written: {}", written);
+        }
+        return written;
+    }
+
+    /**
+     * Precondition: none (an unknown account or one with no new entries is skipped)
+     * Postcondition: if the account has entries past its latest snapshot, a snapshot
+     *   covering them is committed
+     *
+     * @return true if a snapshot was written
+     */
+    public boolean snapshot(String accountNumber) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Optional<Account> locked = accountRepository.findByAccountNumberForUpdate(accountNumber);
+            if (locked.isEmpty()) {
+                return false;
+            }
+            Account account = locked.get();
+            if (account.isStriped()) {
+                stripeRepository.lockByAccountId(account.getId());
+            }
+
+            long lastEntryId = entryRepository.findLastEntryId(accountNumber);
+            Optional<BalanceSnapshot> previous = snapshotRepository.findFirstByAccountNumberOrderByLastEntryIdDesc(
+                    accountNumber);
+            long previousEntryId = previous.map(BalanceSnapshot::getLastEntryId).orElse(0L);
+            if (previous.isPresent() && lastEntryId <= previousEntryId) {
+                return false;
+            }
+
+            long accountBalance = account.getBalanceMinorUnits();
+            long balance = accountBalance;
+            if (previous.isPresent()) {
+                balance = previous.get().getBalanceMinorUnits() - Money.minorUnitsOf(
+                        entryRepository.sumAmounts(accountNumber, previousEntryId, lastEntryId));
+                if (balance != accountBalance) {
+                    drift.increment();
+                    log.warn("Ledger balance differs, re-anchoring: account={}, ledgerBalance={}, accountBalance={}",
+                            accountNumber, Money.toBigDecimal(balance), Money.toBigDecimal(accountBalance));
+                    balance = accountBalance;
+                }
+            }
+            ledgerWriter.writeSnapshot(accountNumber, balance, lastEntryId);
+            snapshots.increment();
+            return true;
+        }));
+    }
+
+    private void snapshotDueAccountsSafely() {
+        try {
+            snapshotDueAccounts();
+        } catch (RuntimeException e) {
+            // keep the schedule alive; the next run retries
+            log.warn("Ledger snapshot run failed: {}", e.getMessage());
+        }
+    }
+}
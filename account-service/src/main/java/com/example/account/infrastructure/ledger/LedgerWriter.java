@@ -0,0 +1,184 @@
+package com.example.account.infrastructure.ledger;
+
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.domain.Money;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.LedgerStatements;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Appends ledger entries covering every debit and an opening balance snapshot for every new
+ * account, in the transaction that made the change.
+ *
+ * Rows are buffered per transaction and inserted with one JDBC batch per table just
+ * before commit, so the debit paths themselves only append to a list. Consecutive debits
+ * of one account in the same transaction are folded into one entry covering all of them:
+ * a batch debit or a sharded group commit of N debits on an account inserts one row
+ * rather than N.
+ * The persistence context is flushed first: the account (or stripe) row is locked by
+ * its UPDATE before the entry's identity id is drawn, which is what lets a snapshot
+ * taken under that lock use the highest id it sees as its boundary.
+ *
+ * A debit whose event carries no resulting balance (a debit of one balance stripe) is
+ * recorded with its amount only, and folds only into an entry recorded the same way.
+ * A rolled-back transaction writes nothing.
+ */
+@Component
+public class LedgerWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountRepository accountRepository;
+
+    public LedgerWriter(JdbcTemplate jdbcTemplate, AccountRepository accountRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.accountRepository = accountRepository;
+    }
+
+    @EventListener
+    public void onAccountMutated(AccountMutatedEvent event) {
+        switch (event.kind()) {
+            case DEBITED -> {
+                long amount = Money.minorUnitsOf(event.amount());
+                Long currentBalance = event.hasBalanceAfter() ? event.balanceAfter() : null;
+                append(pending -> pending.debited(event.accountNumber(), amount, currentBalance, event.occurredAt()));
+            }
+            case CREATED -> append(pending -> pending.snapshots.add(
+                    snapshotRow(event.accountNumber(), Money.minorUnitsOf(event.amount()), 0, event.occurredAt())));
+            default -> {
+                // freeze, unfreeze and striping leave the balance unchanged
+            }
+        }
+    }
+
+    /**
+     * Inserts a snapshot immediately, in the caller's transaction.
+     */
+    void writeSnapshot(String accountNumber, long balance, long lastEntryId) {
+        jdbcTemplate.update(LedgerStatements.INSERT_SNAPSHOT, snapshotRow(accountNumber, balance, lastEntryId, LocalDateTime.now()));
+    }
+
+    private static Object[] snapshotRow(String accountNumber, long balance, long lastEntryId,
+                                        LocalDateTime takenAt) {
+        return new Object[]{accountNumber, Money.toBigDecimal(balance), lastEntryId, takenAt};
+    }
+
+    private void append(Consumer<PendingRows> add) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // No transaction to join: the change is already committed, write through
+            PendingRows rows = new PendingRows();
+            add.accept(rows);
+            rows.insert();
+            return;
+        }
+        PendingRows pending = (PendingRows) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRows();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        add.accept(pending);
+    }
+
+    private final class PendingRows implements TransactionSynchronization {
+
+        private final List<PendingEntry> entries = new ArrayList<>();
+        private final Map<String, PendingEntry> lastEntries = new HashMap<>();
+        private final List<Object[]> snapshots = new ArrayList<>();
+
+        /**
+         * Precondition: amount > 0; currentBalance is the balance right after this debit, or null
+         * Postcondition: the debit is covered by the account's last entry when it continues
+         *   that entry's balances, or by a new entry otherwise
+         */
+        void debited(String accountNumber, long amount, Long currentBalance, LocalDateTime occurredAt) {
+            PendingEntry last = lastEntries.get(accountNumber);
+            if (last != null && last.continuesWith(amount, currentBalance)) {
+                last.add(amount, currentBalance, occurredAt);
+                return;
+            }
+            PendingEntry entry = new PendingEntry(accountNumber, amount, currentBalance, occurredAt);
+            entries.add(entry);
+            lastEntries.put(accountNumber, entry);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            accountRepository.flush();
+            insert();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(LedgerWriter.this);
+        }
+
+        void insert() {
+            if (!snapshots.isEmpty()) {
+                jdbcTemplate.batchUpdate(LedgerStatements.INSERT_SNAPSHOT, snapshots);
+            }
+            if (!entries.isEmpty()) {
+                jdbcTemplate.batchUpdate(LedgerStatements.INSERT_ENTRY,
+                        entries.stream().map(PendingEntry::row).toList());
+            }
+        }
+    }
+
+    /**
+     * One or more consecutive debits of an account, in minor units.
+     *
+     * Invariant: amount > 0; previousBalance and currentBalance are both null or
+     *   currentBalance = previousBalance - amount
+     */
+    private static final class PendingEntry {
+
+        private final String accountNumber;
+        private final Long previousBalance;
+        private long amount;
+        private Long currentBalance;
+        private LocalDateTime createdAt;
+
+        PendingEntry(String accountNumber, long amount, Long currentBalance, LocalDateTime createdAt) {
+            this.accountNumber = accountNumber;
+            this.previousBalance = currentBalance == null ? null : currentBalance + amount;
+            this.amount = amount;
+            this.currentBalance = currentBalance;
+            this.createdAt = createdAt;
+        }
+
+        /**
+         * @return whether a debit with these values starts at the balance this entry ends at
+         */
+        boolean continuesWith(long amount, Long currentBalance) {
+            if (this.currentBalance == null || currentBalance == null) {
+                return this.currentBalance == null && currentBalance == null;
+            }
+            return currentBalance + amount == this.currentBalance;
+        }
+
+        void add(long amount, Long currentBalance, LocalDateTime occurredAt) {
+            this.amount += amount;
+            this.currentBalance = currentBalance;
+            this.createdAt = occurredAt;
+        }
+
+        Object[] row() {
+            return new Object[]{
+                    accountNumber,
+                    Money.toBigDecimal(amount),
+                    previousBalance == null ? null : Money.toBigDecimal(previousBalance),
+                    currentBalance == null ? null : Money.toBigDecimal(currentBalance),
+                    createdAt};
+        }
+    }
+}
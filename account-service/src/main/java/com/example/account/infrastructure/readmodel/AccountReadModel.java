@@ -0,0 +1,217 @@
+package com.example.account.infrastructure.readmodel;
+
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.domain.AccountSnapshot;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.AccountView;
+import com.example.account.infrastructure.config.AccountReadModelProperties;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory query side for accounts: immutable {@link AccountView}s keyed by account number,
+ * kept apart from the JPA entities and the write transactions.
+ *
+ * A transaction that mutates accounts re-reads their rows just before it commits, in the
+ * same transaction and after the persistence context is flushed, so the views hold exactly
+ * what commits. They are applied once the commit returns; a rolled-back transaction applies
+ * nothing. Each key is replaced copy-on-write: a view is never changed, only swapped for a
+ * view with a higher revision, so a reader holding one sees a consistent account and
+ * commits that finish out of order cannot roll a view back. Reads never lock and open no
+ * transaction; a miss reads the row once and merges it by the same rule.
+ *
+ * Every applied view takes the next value of one counter as its version, which together
+ * with asOf tells a client how fresh the answer is.
+ *
+ * Metrics: cache.gets (result=hit|miss), cache.puts, cache.evictions and cache.size,
+ * tagged cache=account-views.
+ */
+@Component
+public class AccountReadModel {
+
+    static final String CACHE_NAME = "account-views";
+
+    /**
+     * Striped accounts keep their funds in stripe rows and 0 in the balance column, so the
+     * balance is the sum over both; every stripe write bumps that stripe's version.
+     */
+    static final String SELECT_VIEWS = """
+            SELECT a.account_number, a.owner_name, a.status, a.created_at, a.version,
+                   a.balance + COALESCE(SUM(s.balance), 0) AS total_balance,
+                   a.version + COALESCE(SUM(s.version), 0) AS revision
+            FROM accounts a
+            LEFT JOIN account_balance_stripes s ON s.account_id = a.id
+            WHERE a.account_number IN (:accountNumbers)
+            GROUP BY a.id, a.account_number, a.owner_name, a.status, a.created_at, a.version, a.balance
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AccountRepository accountRepository;
+    private final Cache<String, AccountView> views;
+    private final AtomicLong lastVersion = new AtomicLong();
+
+    public AccountReadModel(NamedParameterJdbcTemplate jdbcTemplate, AccountRepository accountRepository,
+                            AccountReadModelProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.accountRepository = accountRepository;
+        this.views = properties.enabled() ? buildViews(properties, meterRegistry) : null;
+    }
+
+    private static Cache<String, AccountView> buildViews(AccountReadModelProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        Cache<String, AccountView> views = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, views, CACHE_NAME);
+        return views;
+    }
+
+    /**
+     * Precondition: accountNumber != null
+     * Postcondition: the newest committed view this model has of the account, or empty if
+     *   the account does not exist. When disabled, every call reads the database and the
+     *   view is unversioned (version 0).
+     */
+    public Optional<AccountView> get(String accountNumber) {
+        if (views != null) {
+            AccountView view = views.getIfPresent(accountNumber);
+            if (view != null) {
+                return Optional.of(view);
+            }
+        }
+        List<AccountView> loaded = read(List.of(accountNumber));
+        if (loaded.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(views == null ? loaded.get(0) : apply(loaded.get(0)));
+    }
+
+    /**
+     * Postcondition: the view held for the account, or empty; never reads the database
+     */
+    public Optional<AccountView> peek(String accountNumber) {
+        return views == null ? Optional.empty() : Optional.ofNullable(views.getIfPresent(accountNumber));
+    }
+
+    /**
+     * Merges a view read elsewhere, by the same rule as a miss: the reactive API reads and
+     * commits over R2DBC, outside the transactions this model listens to, and offers each
+     * committed state once its transaction has finished.
+     *
+     * Precondition: view was read from committed data, or inside its committing transaction
+     * Postcondition: the view now held for the account; the unversioned view itself when disabled
+     */
+    public AccountView offer(AccountView view) {
+        return views == null ? view : apply(view);
+    }
+
+    /**
+     * Records the account for capture before the mutating transaction commits. Events
+     * published outside a transaction drop the view instead; the next read reloads it.
+     */
+    @EventListener
+    public void onAccountMutated(AccountMutatedEvent event) {
+        if (views == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            views.invalidate(event.accountNumber());
+            return;
+        }
+        PendingViews pending = (PendingViews) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingViews();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.accountNumbers.add(event.accountNumber());
+    }
+
+    /**
+     * Highest version applied so far; 0 before the first view.
+     */
+    public long lastVersion() {
+        return lastVersion.get();
+    }
+
+    long estimatedSize() {
+        return views == null ? 0 : views.estimatedSize();
+    }
+
+    void cleanUp() {
+        if (views != null) {
+            views.cleanUp();
+        }
+    }
+
+    /**
+     * Replaces the current view unless it is at least as new, stamping the next version.
+     *
+     * @return the view now held for the account
+     */
+    AccountView apply(AccountView incoming) {
+        return views.asMap().compute(incoming.account().accountNumber(), (accountNumber, current) ->
+                current != null && current.revision() >= incoming.revision()
+                        ? current
+                        : incoming.withVersion(lastVersion.incrementAndGet()));
+    }
+
+    private List<AccountView> read(Collection<String> accountNumbers) {
+        LocalDateTime asOf = LocalDateTime.now();
+        RowMapper<AccountView> mapper = (rs, rowNum) -> AccountView.unapplied(
+                new AccountSnapshot(
+                        rs.getString("account_number"),
+                        rs.getString("owner_name"),
+                        rs.getBigDecimal("total_balance"),
+                        AccountStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getLong("version")),
+                rs.getLong("revision"),
+                asOf);
+        return jdbcTemplate.query(SELECT_VIEWS, Map.of("accountNumbers", accountNumbers), mapper);
+    }
+
+    private final class PendingViews implements TransactionSynchronization {
+
+        private final Set<String> accountNumbers = new LinkedHashSet<>();
+        private List<AccountView> captured = List.of();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            accountRepository.flush();
+            captured = read(accountNumbers);
+        }
+
+        @Override
+        public void afterCommit() {
+            for (AccountView view : captured) {
+                apply(view);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AccountReadModel.this);
+        }
+    }
+}
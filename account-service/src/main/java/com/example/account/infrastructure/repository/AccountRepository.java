@@ -1,15 +1,90 @@
 package com.example.account.infrastructure.repository;
 
 import com.example.account.domain.Account;
+import com.example.account.domain.DebitResponse;
+import com.example.account.domain.Money;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByAccountNumber(String accountNumber);
 
+    /**
+     * Loads the account holding its row lock (SELECT ... FOR UPDATE) until commit.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Account> findByAccountNumberForUpdate(@Param("accountNumber") String accountNumber);
+
     boolean existsByAccountNumber(String accountNumber);
+
+    List<Account> findByAccountNumberIn(Collection<String> accountNumbers);
+
+    /**
+     * Set-based uniqueness check: which of the given account numbers are already taken.
+     */
+    @Query("SELECT a.accountNumber FROM Account a WHERE a.accountNumber IN :accountNumbers")
+    Set<String> findExistingAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * Balance in minor units; the column converter applies to the projection as well.
+     */
+    @Query("SELECT a.balance FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findBalanceMinorUnitsByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Debit an account in a single conditional statement.
+     *
+     * The WHERE clause carries the Account.debit preconditions (status == ACTIVE,
+     * balance >= amount), so the database enforces the balance >= 0 invariant
+     * without a prior read. The version is bumped so concurrent optimistic writers
+     * holding the old version fail instead of overwriting the debit.
+     *
+     * @return 1 if the account was debited, 0 if it is missing, not ACTIVE or short of funds
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE accounts
+               SET balance = balance - :amount,
+                   updated_at = :updatedAt,
+                   version = version + 1
+             WHERE account_number = :accountNumber
+               AND status = 'ACTIVE'
+               AND balance >= :amount
+            """, nativeQuery = true)
+    int debitIfActiveAndSufficient(@Param("accountNumber") String accountNumber,
+                                   @Param("amount") BigDecimal amount,
+                                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Atomic debit: conditional UPDATE, then build the response from the affected row.
+     *
+     * The UPDATE holds the row lock until commit, so the balance read back in the
+     * same transaction is exactly the post-debit balance.
+     *
+     * Postcondition: returns a successful DebitResponse if the row was updated, empty otherwise
+     */
+    default Optional<DebitResponse> debitAtomically(String accountNumber, BigDecimal amount) {
+        if (debitIfActiveAndSufficient(accountNumber, amount, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        long currentBalance = findBalanceMinorUnitsByAccountNumber(accountNumber).orElseThrow();
+        long debited = Money.minorUnitsOf(amount);
+        return Optional.of(DebitResponse.success(
+                accountNumber, currentBalance + debited, currentBalance, debited));
+    }
 }
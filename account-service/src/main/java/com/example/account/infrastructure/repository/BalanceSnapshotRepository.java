@@ -0,0 +1,32 @@
+package com.example.account.infrastructure.repository;
+
+import com.example.account.domain.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    Optional<BalanceSnapshot> findFirstByAccountNumberOrderByLastEntryIdDesc(String accountNumber);
+
+    /**
+     * Ledger balance in one round trip: the latest snapshot minus the entries after it.
+     *
+     * @return empty if the account has no snapshot
+     */
+    @Query(value = """
+            SELECT s.balance - COALESCE((SELECT SUM(e.amount) FROM ledger_entries e
+                                          WHERE e.account_number = s.account_number
+                                            AND e.id > s.last_entry_id), 0)
+              FROM balance_snapshots s
+             WHERE s.account_number = :accountNumber
+             ORDER BY s.last_entry_id DESC
+             LIMIT 1
+            """, nativeQuery = true)
+    Optional<BigDecimal> findLedgerBalance(@Param("accountNumber") String accountNumber);
+}
@@ -0,0 +1,49 @@
+package com.example.account.infrastructure.repository;
+
+import com.example.account.domain.BalanceStripe;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface BalanceStripeRepository extends JpaRepository<BalanceStripe, Long> {
+
+    /**
+     * Debit one stripe in a single conditional statement, the striped counterpart of
+     * AccountRepository.debitIfActiveAndSufficient. Only the stripe row is written, so
+     * debits on different stripes of the same account do not serialize.
+     *
+     * @return 1 if the stripe was debited, 0 if it is short of funds or the account is not ACTIVE
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE account_balance_stripes
+               SET balance = balance - :amount,
+                   version = version + 1
+             WHERE account_id = :accountId
+               AND stripe_index = :stripeIndex
+               AND balance >= :amount
+               AND EXISTS (SELECT 1 FROM accounts a WHERE a.id = :accountId AND a.status = 'ACTIVE')
+            """, nativeQuery = true)
+    int debitIfSufficient(@Param("accountId") Long accountId,
+                          @Param("stripeIndex") int stripeIndex,
+                          @Param("amount") BigDecimal amount);
+
+    @Query(value = "SELECT COALESCE(SUM(balance), 0) FROM account_balance_stripes WHERE account_id = :accountId",
+            nativeQuery = true)
+    BigDecimal sumBalance(@Param("accountId") Long accountId);
+
+    /**
+     * Holds the row locks of all the account's stripes until commit.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BalanceStripe s WHERE s.account.id = :accountId")
+    List<BalanceStripe> lockByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,26 @@
+package com.example.account.infrastructure.repository;
+
+import com.example.account.infrastructure.journal.JournalCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JournalCheckpointRepository extends JpaRepository<JournalCheckpoint, String> {
+
+    /**
+     * Raise the account's checkpoint without reading it first; transactions that finish
+     * out of order cannot lower it.
+     *
+     * @return rows updated: 0 if the account has no checkpoint yet
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE journal_checkpoints
+            SET last_sequence = GREATEST(last_sequence, :sequence)
+            WHERE account_number = :accountNumber
+            """, nativeQuery = true)
+    int advance(@Param("accountNumber") String accountNumber, @Param("sequence") long sequence);
+}
@@ -0,0 +1,64 @@
+package com.example.account.infrastructure.repository;
+
+import com.example.account.domain.LedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read side of the debit ledger; entries are inserted by the ledger writer.
+ */
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    /**
+     * Entries created in [from, to), oldest first; served by the (account_number, created_at) index.
+     */
+    @Query("""
+            SELECT e FROM LedgerEntry e
+             WHERE e.accountNumber = :accountNumber
+               AND e.createdAt >= :from
+               AND e.createdAt < :to
+             ORDER BY e.createdAt, e.id
+            """)
+    List<LedgerEntry> findInRange(@Param("accountNumber") String accountNumber,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  Pageable page);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM ledger_entries WHERE account_number = :accountNumber",
+            nativeQuery = true)
+    long findLastEntryId(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Sum of the amounts of entries in (afterEntryId, upToEntryId].
+     */
+    @Query(value = """
+            SELECT COALESCE(SUM(amount), 0) FROM ledger_entries
+             WHERE account_number = :accountNumber
+               AND id > :afterEntryId
+               AND id <= :upToEntryId
+            """, nativeQuery = true)
+    BigDecimal sumAmounts(@Param("accountNumber") String accountNumber,
+                          @Param("afterEntryId") long afterEntryId,
+                          @Param("upToEntryId") long upToEntryId);
+
+    /**
+     * Accounts with at least minEntries entries past their latest snapshot; accounts that
+     * have no snapshot at all count every entry.
+     */
+    @Query(value = """
+            SELECT e.account_number FROM ledger_entries e
+             WHERE e.id > (SELECT COALESCE(MAX(s.last_entry_id), 0) FROM balance_snapshots s
+                            WHERE s.account_number = e.account_number)
+             GROUP BY e.account_number
+            HAVING COUNT(*) >= :minEntries
+            """, nativeQuery = true)
+    List<String> findAccountsDueForSnapshot(@Param("minEntries") int minEntries);
+}
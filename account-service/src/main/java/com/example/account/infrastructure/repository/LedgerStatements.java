@@ -0,0 +1,29 @@
+package com.example.account.infrastructure.repository;
+
+/**
+ * The ledger INSERTs, shared by the JDBC ledger writer and the R2DBC port so both write
+ * the same rows.
+ *
+ * Parameters are positional, in column order.
+ */
+public final class LedgerStatements {
+
+    /**
+     * Parameters: account_number, amount, previous_balance, current_balance, created_at
+     */
+    public static final String INSERT_ENTRY = """
+            INSERT INTO ledger_entries (account_number, amount, previous_balance, current_balance, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * Parameters: account_number, balance, last_entry_id, taken_at
+     */
+    public static final String INSERT_SNAPSHOT = """
+            INSERT INTO balance_snapshots (account_number, balance, last_entry_id, taken_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private LedgerStatements() {
+    }
+}
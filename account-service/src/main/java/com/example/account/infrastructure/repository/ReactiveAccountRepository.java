@@ -0,0 +1,242 @@
+package com.example.account.infrastructure.repository;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountSnapshot;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.AccountView;
+import com.example.account.domain.Money;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking persistence port for the reactive account API: the same accounts table
+ * as {@link AccountRepository}, reached over R2DBC instead of JPA.
+ *
+ * Every write is one short R2DBC transaction holding a conditional statement that carries
+ * its preconditions in the WHERE clause, like {@link AccountRepository#debitIfActiveAndSufficient},
+ * so no entity is loaded and no optimistic retry is needed. The transaction also writes
+ * what the JPA paths leave to the ledger writer (the debit's ledger entry, the opening
+ * balance snapshot, with the writer's own {@link LedgerStatements}) and reads the row back,
+ * so callers get the committed state without a second round trip.
+ *
+ * No write here publishes an AccountMutatedEvent; ReactiveAccountService only calls them
+ * when every listener of that event is one whose effect it reproduces.
+ *
+ * Ids come from a sequence of their own, reactive_accounts_seq, starting at REACTIVE_ID_BASE:
+ * accounts_seq belongs to Hibernate's pooled optimizer, whose block arithmetic this port
+ * must not depend on. JPA ids count up from 1 and stay far below the base.
+ */
+public class ReactiveAccountRepository {
+
+    /**
+     * Same shape as the read model's query, plus the stripe count.
+     */
+    static final String SELECT_ACCOUNT = """
+            SELECT a.account_number, a.owner_name, a.status, a.created_at, a.version, a.stripe_count,
+                   a.balance + COALESCE(SUM(s.balance), 0) AS total_balance,
+                   a.version + COALESCE(SUM(s.version), 0) AS revision
+            FROM accounts a
+            LEFT JOIN account_balance_stripes s ON s.account_id = a.id
+            WHERE a.account_number = :accountNumber
+            GROUP BY a.id, a.account_number, a.owner_name, a.status, a.created_at, a.version, a.stripe_count,
+                     a.balance
+            """;
+
+    /**
+     * First id of an account inserted over R2DBC (2^62).
+     */
+    static final long REACTIVE_ID_BASE = 1L << 62;
+
+    static final String CREATE_ID_SEQUENCE =
+            "CREATE SEQUENCE IF NOT EXISTS reactive_accounts_seq START WITH " + REACTIVE_ID_BASE;
+
+    static final String COUNT_ACCOUNT = "SELECT COUNT(*) FROM accounts WHERE account_number = :accountNumber";
+
+    static final String INSERT_ACCOUNT = """
+            INSERT INTO accounts (id, account_number, owner_name, balance, status, created_at, updated_at,
+                                  version, stripe_count)
+            VALUES (NEXT VALUE FOR reactive_accounts_seq, :accountNumber, :ownerName, :balance, :status, :createdAt,
+                    :updatedAt, 0, 0)
+            """;
+
+    static final String DEBIT = """
+            UPDATE accounts
+               SET balance = balance - :amount,
+                   updated_at = :updatedAt,
+                   version = version + 1
+             WHERE account_number = :accountNumber
+               AND status = 'ACTIVE'
+               AND balance >= :amount
+            """;
+
+    static final String UPDATE_STATUS = """
+            UPDATE accounts
+               SET status = :to,
+                   updated_at = :updatedAt,
+                   version = version + 1
+             WHERE account_number = :accountNumber
+               AND status = :from
+            """;
+
+    /**
+     * An account as this port reads it.
+     *
+     * @param view        the committed state, not yet applied to the read model (version 0)
+     * @param stripeCount stripe rows holding the balance; 0 for an unstriped account
+     */
+    public record StoredAccount(AccountView view, int stripeCount) {
+
+        public boolean striped() {
+            return stripeCount > 0;
+        }
+
+        public AccountStatus status() {
+            return view.account().status();
+        }
+
+        public long balanceMinorUnits() {
+            return Money.minorUnitsOf(view.account().balance());
+        }
+    }
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient client;
+    private final TransactionalOperator transactions;
+
+    public ReactiveAccountRepository(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+        this.client = DatabaseClient.create(connectionFactory);
+        this.transactions = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    /**
+     * Creates the id sequence unless it exists. Hibernate's schema management does not know
+     * it, so this runs once before the first insert.
+     *
+     * Postcondition: reactive_accounts_seq exists
+     */
+    public Mono<Void> createIdSequence() {
+        return client.sql(CREATE_ID_SEQUENCE).then();
+    }
+
+    /**
+     * Postcondition: the account's committed state, or empty if it does not exist
+     */
+    public Mono<StoredAccount> findByAccountNumber(String accountNumber) {
+        LocalDateTime asOf = LocalDateTime.now();
+        return client.sql(SELECT_ACCOUNT)
+                .bind("accountNumber", accountNumber)
+                .map(row -> toStoredAccount(row, asOf))
+                .one();
+    }
+
+    public Mono<Boolean> existsByAccountNumber(String accountNumber) {
+        return client.sql(COUNT_ACCOUNT)
+                .bind("accountNumber", accountNumber)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    /**
+     * Inserts a new, unsaved account with its opening balance snapshot.
+     *
+     * Precondition: createIdSequence completed
+     * Precondition: account was built by the Account constructor (ACTIVE, unstriped)
+     * Postcondition: both rows committed together; the stored account as committed
+     */
+    public Mono<StoredAccount> insert(Account account) {
+        BigDecimal balance = account.getBalance();
+        return client.sql(INSERT_ACCOUNT)
+                .bind("accountNumber", account.getAccountNumber())
+                .bind("ownerName", account.getOwnerName())
+                .bind("balance", balance)
+                .bind("status", account.getStatus().name())
+                .bind("createdAt", account.getCreatedAt())
+                .bind("updatedAt", account.getUpdatedAt())
+                .fetch().rowsUpdated()
+                .then(client.sql(LedgerStatements.INSERT_SNAPSHOT)
+                        .bind(0, account.getAccountNumber())
+                        .bind(1, balance)
+                        .bind(2, 0L)
+                        .bind(3, account.getCreatedAt())
+                        .fetch().rowsUpdated())
+                .then(findByAccountNumber(account.getAccountNumber()))
+                .as(transactions::transactional);
+    }
+
+    /**
+     * Debits an unstriped ACTIVE account holding at least amount, and appends the ledger entry.
+     *
+     * Precondition: amount > 0 (minor units)
+     * Postcondition: the account as committed after the debit, or empty if it is missing,
+     *   not ACTIVE, striped or short of funds (nothing written)
+     */
+    public Mono<StoredAccount> debitIfActiveAndSufficient(String accountNumber, long amount) {
+        LocalDateTime now = LocalDateTime.now();
+        return client.sql(DEBIT)
+                .bind("amount", Money.toBigDecimal(amount))
+                .bind("updatedAt", now)
+                .bind("accountNumber", accountNumber)
+                .fetch().rowsUpdated()
+                .filter(updated -> updated > 0)
+                // The UPDATE holds the row lock: the balance read back is the post-debit balance
+                .flatMap(updated -> findByAccountNumber(accountNumber))
+                .flatMap(account -> client.sql(LedgerStatements.INSERT_ENTRY)
+                        .bind(0, accountNumber)
+                        .bind(1, Money.toBigDecimal(amount))
+                        .bind(2, Money.toBigDecimal(account.balanceMinorUnits() + amount))
+                        .bind(3, Money.toBigDecimal(account.balanceMinorUnits()))
+                        .bind(4, now)
+                        .fetch().rowsUpdated()
+                        .thenReturn(account))
+                .as(transactions::transactional);
+    }
+
+    /**
+     * Postcondition: the account as committed with status to, or empty if it is missing or
+     *   its status is not from (nothing written)
+     */
+    public Mono<StoredAccount> updateStatus(String accountNumber, AccountStatus from, AccountStatus to) {
+        return client.sql(UPDATE_STATUS)
+                .bind("to", to.name())
+                .bind("updatedAt", LocalDateTime.now())
+                .bind("accountNumber", accountNumber)
+                .bind("from", from.name())
+                .fetch().rowsUpdated()
+                .filter(updated -> updated > 0)
+                .flatMap(updated -> findByAccountNumber(accountNumber))
+                .as(transactions::transactional);
+    }
+
+    /**
+     * Releases the pooled connections, if the connection factory is a pool.
+     */
+    public void close() {
+        if (connectionFactory instanceof Disposable pool) {
+            pool.dispose();
+        }
+    }
+
+    private static StoredAccount toStoredAccount(Readable row, LocalDateTime asOf) {
+        AccountSnapshot account = new AccountSnapshot(
+                row.get("account_number", String.class),
+                row.get("owner_name", String.class),
+                row.get("total_balance", BigDecimal.class),
+                AccountStatus.valueOf(row.get("status", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("version", Long.class));
+        return new StoredAccount(
+                // SUM over BIGINT is a DECIMAL in H2
+                AccountView.unapplied(account, ((Number) row.get("revision")).longValue(), asOf),
+                row.get("stripe_count", Integer.class));
+    }
+}
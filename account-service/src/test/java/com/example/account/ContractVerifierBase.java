@@ -1,11 +1,19 @@
 package com.example.account;
 
+import com.example.account.application.AccountQueryService;
 import com.example.account.application.AccountService;
+import com.example.account.application.DebitResult;
+import com.example.account.application.LedgerService;
 import com.example.account.domain.Account;
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.AccountSnapshot;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.AccountView;
 import com.example.account.domain.DebitResponse;
+import com.example.account.domain.LedgerEntry;
 import com.example.account.infrastructure.controller.AccountController;
+import com.example.account.infrastructure.controller.LedgerController;
 import com.example.account.infrastructure.dto.CreateAccountRequest;
-import com.example.account.infrastructure.exception.AccountNotFoundException;
 import com.example.account.infrastructure.exception.GlobalExceptionHandler;
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,13 +24,17 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
-@WebMvcTest(controllers = {AccountController.class, GlobalExceptionHandler.class})
+@WebMvcTest(controllers = {AccountController.class, LedgerController.class, GlobalExceptionHandler.class})
 public abstract class ContractVerifierBase {
 
     @Autowired
@@ -31,9 +43,17 @@ public abstract class ContractVerifierBase {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private AccountQueryService accountQueryService;
+
+    @MockBean
+    private LedgerService ledgerService;
+
     @BeforeEach
     public void setup() {
         RestAssuredMockMvc.mockMvc(mockMvc);
+        // The controller debits through tryDebit; unless stubbed it adapts the debit stubs
+        when(accountService.tryDebit(any(), any())).thenCallRealMethod();
 
         // Setup test accounts for contracts
         setupGetAccountContract();
@@ -41,19 +61,31 @@ public abstract class ContractVerifierBase {
         setupCreateAccountContract();
         setupDebitAccountContract();
         setupDebitInsufficientBalanceContract();
+        setupDebitFrozenAccountContract();
+        setupDebitAccountNotFoundContract();
         setupFreezeAccountContract();
         setupUnfreezeAccountContract();
         setupGetAccountWithCreatedAtContract();
+        setupDebitBatchContract();
+        setupDebitWithIdempotencyKeyContract();
+        setupStripeAccountContract();
+        setupGetAccountLedgerContract();
+        setupGetAccountWithVersionContract();
+    }
+
+    private static AccountView view(Account account, long version, LocalDateTime asOf) {
+        return new AccountView(AccountSnapshot.from(account), 0, version, asOf);
     }
 
     private void setupGetAccountContract() {
         Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
         account.setId(1L);
-        when(accountService.getAccount("ACC-001")).thenReturn(Optional.of(account));
+        when(accountQueryService.getAccount("ACC-001"))
+                .thenReturn(Optional.of(view(account, 1, LocalDateTime.of(2025, 12, 16, 10, 0))));
     }
 
     private void setupGetAccountNotFoundContract() {
-        when(accountService.getAccount("ACC-999")).thenReturn(Optional.empty());
+        when(accountQueryService.getAccount("ACC-999")).thenReturn(Optional.empty());
     }
 
     private void setupCreateAccountContract() {
@@ -72,6 +104,24 @@ public abstract class ContractVerifierBase {
         when(accountService.debit(eq("ACC-001"), eq(new BigDecimal("1000.00")))).thenReturn(successResponse);
     }
 
+    private void setupDebitWithIdempotencyKeyContract() {
+        DebitResponse successResponse = DebitResponse.success(
+                "ACC-001",
+                new BigDecimal("10000.00"),
+                new BigDecimal("9500.00"),
+                new BigDecimal("500.00")
+        );
+        when(accountService.debit(eq("ACC-001"), eq(new BigDecimal("500.00")), eq("pay-0001")))
+                .thenReturn(successResponse);
+    }
+
+    private void setupStripeAccountContract() {
+        Account stripedAccount = new Account("ACC-007", "熱門帳戶", new BigDecimal("50000.00"));
+        stripedAccount.setId(7L);
+        stripedAccount.stripe(8);
+        when(accountService.stripe("ACC-007", 8)).thenReturn(stripedAccount);
+    }
+
     private void setupDebitInsufficientBalanceContract() {
         DebitResponse insufficientResponse = DebitResponse.insufficientBalance(
                 "ACC-003",
@@ -81,6 +131,16 @@ public abstract class ContractVerifierBase {
         when(accountService.debit(eq("ACC-003"), eq(new BigDecimal("99999.00")))).thenReturn(insufficientResponse);
     }
 
+    private void setupDebitFrozenAccountContract() {
+        doReturn(DebitResult.rejected(AccountRejection.FROZEN, "ACC-004"))
+                .when(accountService).tryDebit(eq("ACC-004"), eq(new BigDecimal("100.00")));
+    }
+
+    private void setupDebitAccountNotFoundContract() {
+        doReturn(DebitResult.rejected(AccountRejection.NOT_FOUND, "ACC-999"))
+                .when(accountService).tryDebit(eq("ACC-999"), eq(new BigDecimal("100.00")));
+    }
+
     private void setupFreezeAccountContract() {
         Account frozenAccount = new Account("ACC-004", "凍結測試帳戶", new BigDecimal("3000.00"));
         frozenAccount.setId(4L);
@@ -100,6 +160,35 @@ public abstract class ContractVerifierBase {
         // Test backward compatibility - new optional field
         Account account = new Account("ACC-006", "向後相容測試", new BigDecimal("8000.00"));
         account.setId(6L);
-        when(accountService.getAccount("ACC-006")).thenReturn(Optional.of(account));
+        when(accountQueryService.getAccount("ACC-006"))
+                .thenReturn(Optional.of(view(account, 6, LocalDateTime.of(2025, 12, 16, 10, 0))));
+    }
+
+    private void setupDebitBatchContract() {
+        when(accountService.debitBatch(anyList())).thenReturn(List.of(
+                DebitResponse.success("ACC-001", new BigDecimal("10000.00"),
+                        new BigDecimal("9000.00"), new BigDecimal("1000.00")),
+                DebitResponse.insufficientBalanceItem("ACC-003", 50_000L, 9_999_900L),
+                DebitResponse.rejected("ACC-999", new BigDecimal("100.00"), AccountRejection.NOT_FOUND)
+        ));
+    }
+
+    private void setupGetAccountLedgerContract() {
+        LedgerEntry entry = Mockito.mock(LedgerEntry.class);
+        when(entry.getId()).thenReturn(1L);
+        when(entry.getAmount()).thenReturn(new BigDecimal("1000.00"));
+        when(entry.getPreviousBalance()).thenReturn(new BigDecimal("10000.00"));
+        when(entry.getCurrentBalance()).thenReturn(new BigDecimal("9000.00"));
+        when(entry.getCreatedAt()).thenReturn(LocalDateTime.of(2026, 10, 17, 9, 30));
+        when(ledgerService.findEntries("ACC-001", LocalDateTime.of(2026, 10, 1, 0, 0),
+                LocalDateTime.of(2026, 11, 1, 0, 0), 100)).thenReturn(List.of(entry));
+        when(ledgerService.getLedgerBalance("ACC-001")).thenReturn(Optional.of(new BigDecimal("9000.00")));
+    }
+
+    private void setupGetAccountWithVersionContract() {
+        AccountSnapshot account = new AccountSnapshot("ACC-008", "讀取模型測試", new BigDecimal("3000.00"),
+                AccountStatus.ACTIVE, LocalDateTime.of(2026, 10, 17, 9, 0), 3L);
+        when(accountQueryService.getAccount("ACC-008")).thenReturn(Optional.of(
+                new AccountView(account, 3, 42, LocalDateTime.of(2026, 10, 17, 9, 30))));
     }
 }
@@ -0,0 +1,289 @@
+package com.example.account;
+
+import com.example.account.application.LedgerService;
+import com.example.account.application.ReactiveAccountService;
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.AccountSnapshot;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.AccountView;
+import com.example.account.domain.DebitResponse;
+import com.example.account.domain.LedgerEntry;
+import com.example.account.infrastructure.controller.ReactiveAccountController;
+import com.example.account.infrastructure.controller.ReactiveLedgerController;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+import com.example.account.infrastructure.exception.ReactiveExceptionHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cloud.contract.spec.Contract;
+import org.springframework.cloud.contract.spec.internal.BodyMatcher;
+import org.springframework.cloud.contract.spec.internal.FromFileProperty;
+import org.springframework.cloud.contract.spec.internal.Header;
+import org.springframework.cloud.contract.spec.internal.QueryParameter;
+import org.springframework.cloud.contract.spec.internal.Request;
+import org.springframework.cloud.contract.spec.internal.Response;
+import org.springframework.cloud.contract.verifier.util.ContractVerifierDslConverter;
+import org.springframework.cloud.contract.verifier.util.MapConverter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies the reactive API against the same Groovy contracts the generated tests verify
+ * against {@link ContractVerifierBase}.
+ *
+ * Each contract's request is replayed through WebTestClient; the status, every body field
+ * without a matcher (numbers compared by value) and every bodyMatchers entry are checked
+ * as the generated tests check them; binary (fileAsBytes) bodies are sent as they are and
+ * compared byte for byte. The stubs mirror ContractVerifierBase.
+ */
+@WebFluxTest(controllers = {ReactiveAccountController.class, ReactiveLedgerController.class,
+        ReactiveExceptionHandler.class},
+        // application.yml selects the servlet stack
+        properties = "spring.main.web-application-type=reactive")
+@DisplayName("Reactive API contract verification")
+class ReactiveContractVerifierTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ReactiveAccountService accountService;
+
+    @MockBean
+    private LedgerService ledgerService;
+
+    @TestFactory
+    @DisplayName("every account contract")
+    Stream<DynamicTest> shouldSatisfyEveryContract() throws IOException {
+        // Binary bodies (*.cbor) sit next to the contracts that reference them
+        File[] files = new ClassPathResource("contracts/account").getFile()
+                .listFiles((dir, name) -> name.endsWith(".groovy"));
+        assertThat(files).isNotEmpty();
+        return Arrays.stream(files)
+                .sorted(Comparator.comparing(File::getName))
+                .flatMap(file -> ContractVerifierDslConverter.convertAsCollection(file).stream())
+                .map(contract -> DynamicTest.dynamicTest(contract.getName(), () -> verify(contract)));
+    }
+
+    @BeforeEach
+    void setup() {
+        setupGetAccountContracts();
+        setupCreateAccountContract();
+        setupDebitContracts();
+        setupDebitBatchContract();
+        setupAccountStatusContracts();
+        setupStripeAccountContract();
+        setupGetAccountLedgerContract();
+    }
+
+    private void verify(Contract contract) {
+        Request request = contract.getRequest();
+        Response response = contract.getResponse();
+
+        EntityExchangeResult<byte[]> result = exchange(request);
+
+        assertThat(result.getStatus().value()).as("status").isEqualTo(response.getStatus().getServerValue());
+        if (response.getBody() == null) {
+            return;
+        }
+        if (response.getBody().getServerValue() instanceof FromFileProperty file) {
+            assertThat(result.getResponseBodyContent()).as("binary body").isEqualTo(file.asBytes());
+            return;
+        }
+        String json = new String(result.getResponseBodyContent(), StandardCharsets.UTF_8);
+        Object actual = JsonPath.parse(json).json();
+        List<BodyMatcher> matchers = response.getBodyMatchers() == null
+                ? List.of()
+                : response.getBodyMatchers().matchers();
+        Set<String> matched = matchers.stream().map(BodyMatcher::path).collect(Collectors.toSet());
+
+        Map<String, Object> expectedFields = new LinkedHashMap<>();
+        flatten("$", MapConverter.getTestSideValues(response.getBody()), expectedFields);
+        expectedFields.forEach((path, expected) -> {
+            if (!matched.contains(path)) {
+                assertSameValue(path, expected, JsonPath.read(actual, path));
+            }
+        });
+        for (BodyMatcher matcher : matchers) {
+            Object value = JsonPath.read(actual, matcher.path());
+            switch (matcher.matchingType()) {
+                case EQUALITY -> assertSameValue(matcher.path(), expectedFields.get(matcher.path()), value);
+                case REGEX -> assertThat(String.valueOf(value)).as(matcher.path())
+                        .matches(String.valueOf(matcher.value()));
+                case TYPE -> assertThat(value).as(matcher.path()).isNotNull();
+                default -> throw new AssertionError("Unsupported matcher " + matcher.matchingType()
+                        + " in contract " + contract.getName());
+            }
+        }
+    }
+
+    private EntityExchangeResult<byte[]> exchange(Request request) {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(String.valueOf(
+                (request.getUrl() != null ? request.getUrl() : request.getUrlPath()).getServerValue()));
+        if (request.getUrl() != null && request.getUrl().getQueryParameters() != null) {
+            for (QueryParameter parameter : request.getUrl().getQueryParameters().getParameters()) {
+                uri.queryParam(parameter.getName(), MapConverter.getTestSideValuesForNonBody(parameter));
+            }
+        }
+        WebTestClient.RequestBodySpec spec = webTestClient
+                .method(HttpMethod.valueOf(String.valueOf(request.getMethod().getServerValue())))
+                .uri(uri.build().toUriString());
+        if (request.getHeaders() != null) {
+            for (Header header : request.getHeaders().getEntries()) {
+                spec.header(header.getName(), String.valueOf(MapConverter.getTestSideValuesForNonBody(header)));
+            }
+        }
+        WebTestClient.RequestHeadersSpec<?> ready;
+        if (request.getBody() == null) {
+            ready = spec;
+        } else if (request.getBody().getServerValue() instanceof FromFileProperty file) {
+            ready = spec.bodyValue(file.asBytes());
+        } else {
+            ready = spec.bodyValue(json(MapConverter.getTestSideValues(request.getBody())));
+        }
+        return ready.exchange().expectBody().returnResult();
+    }
+
+    /**
+     * Written as the generated tests send it: BigDecimal amounts keep their scale.
+     */
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void flatten(String path, Object value, Map<String, Object> fields) {
+        if (value instanceof Map<?, ?> map) {
+            map.forEach((key, child) -> flatten(path + "." + key, child, fields));
+        } else if (value instanceof List<?> list) {
+            for (int i = 0; i < list.size(); i++) {
+                flatten(path + "[" + i + "]", list.get(i), fields);
+            }
+        } else {
+            fields.put(path, value);
+        }
+    }
+
+    private static void assertSameValue(String path, Object expected, Object actual) {
+        if (expected instanceof Number && actual instanceof Number) {
+            assertThat(new BigDecimal(actual.toString())).as(path).isEqualByComparingTo(expected.toString());
+        } else {
+            assertThat(String.valueOf(actual)).as(path).isEqualTo(String.valueOf(expected));
+        }
+    }
+
+    private static AccountView view(Account account, long version, LocalDateTime asOf) {
+        return new AccountView(AccountSnapshot.from(account), 0, version, asOf);
+    }
+
+    private void setupGetAccountContracts() {
+        Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+        when(accountService.getAccount("ACC-001"))
+                .thenReturn(Mono.just(view(account, 1, LocalDateTime.of(2025, 12, 16, 10, 0))));
+        when(accountService.getAccount("ACC-999")).thenReturn(Mono.empty());
+        Account compatible = new Account("ACC-006", "向後相容測試", new BigDecimal("8000.00"));
+        when(accountService.getAccount("ACC-006"))
+                .thenReturn(Mono.just(view(compatible, 6, LocalDateTime.of(2025, 12, 16, 10, 0))));
+        AccountSnapshot versioned = new AccountSnapshot("ACC-008", "讀取模型測試", new BigDecimal("3000.00"),
+                AccountStatus.ACTIVE, LocalDateTime.of(2026, 10, 17, 9, 0), 3L);
+        when(accountService.getAccount("ACC-008")).thenReturn(Mono.just(
+                new AccountView(versioned, 3, 42, LocalDateTime.of(2026, 10, 17, 9, 30))));
+    }
+
+    private void setupCreateAccountContract() {
+        Account account = new Account("ACC-002", "李小華", new BigDecimal("5000.00"));
+        when(accountService.createAccount(any(CreateAccountRequest.class)))
+                .thenReturn(Mono.just(AccountSnapshot.from(account)));
+    }
+
+    private void setupDebitContracts() {
+        when(accountService.debit(eq("ACC-001"), eq(new BigDecimal("1000.00")))).thenReturn(Mono.just(
+                DebitResponse.success("ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"),
+                        new BigDecimal("1000.00"))));
+        when(accountService.debit(eq("ACC-001"), eq(new BigDecimal("500.00")), eq("pay-0001"))).thenReturn(Mono.just(
+                DebitResponse.success("ACC-001", new BigDecimal("10000.00"), new BigDecimal("9500.00"),
+                        new BigDecimal("500.00"))));
+        when(accountService.debit(eq("ACC-003"), eq(new BigDecimal("99999.00")))).thenReturn(Mono.just(
+                DebitResponse.insufficientBalance("ACC-003", new BigDecimal("500.00"), new BigDecimal("99999.00"))));
+        when(accountService.debit(eq("ACC-004"), eq(new BigDecimal("100.00"))))
+                .thenReturn(Mono.error(new AccountFrozenException("ACC-004")));
+        when(accountService.debit(eq("ACC-999"), eq(new BigDecimal("100.00"))))
+                .thenReturn(Mono.error(new AccountNotFoundException("ACC-999")));
+    }
+
+    private void setupDebitBatchContract() {
+        when(accountService.debitBatch(anyList())).thenReturn(Mono.just(List.of(
+                DebitResponse.success("ACC-001", new BigDecimal("10000.00"),
+                        new BigDecimal("9000.00"), new BigDecimal("1000.00")),
+                DebitResponse.insufficientBalanceItem("ACC-003", 50_000L, 9_999_900L),
+                DebitResponse.rejected("ACC-999", new BigDecimal("100.00"), AccountRejection.NOT_FOUND))));
+    }
+
+    private void setupAccountStatusContracts() {
+        Account frozen = new Account("ACC-004", "凍結測試帳戶", new BigDecimal("3000.00"));
+        frozen.freeze();
+        when(accountService.freeze("ACC-004")).thenReturn(Mono.just(AccountSnapshot.from(frozen)));
+        Account unfrozen = new Account("ACC-005", "解凍測試帳戶", new BigDecimal("2000.00"));
+        when(accountService.unfreeze("ACC-005")).thenReturn(Mono.just(AccountSnapshot.from(unfrozen)));
+    }
+
+    private void setupStripeAccountContract() {
+        Account striped = new Account("ACC-007", "熱門帳戶", new BigDecimal("50000.00"));
+        striped.stripe(8);
+        when(accountService.stripe("ACC-007", 8)).thenReturn(Mono.just(AccountSnapshot.from(striped)));
+    }
+
+    private void setupGetAccountLedgerContract() {
+        LedgerEntry entry = Mockito.mock(LedgerEntry.class);
+        when(entry.getId()).thenReturn(1L);
+        when(entry.getAmount()).thenReturn(new BigDecimal("1000.00"));
+        when(entry.getPreviousBalance()).thenReturn(new BigDecimal("10000.00"));
+        when(entry.getCurrentBalance()).thenReturn(new BigDecimal("9000.00"));
+        when(entry.getCreatedAt()).thenReturn(LocalDateTime.of(2026, 10, 17, 9, 30));
+        when(ledgerService.findEntries("ACC-001", LocalDateTime.of(2026, 10, 1, 0, 0),
+                LocalDateTime.of(2026, 11, 1, 0, 0), 100)).thenReturn(List.of(entry));
+        when(ledgerService.getLedgerBalance("ACC-001")).thenReturn(Optional.of(new BigDecimal("9000.00")));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.account;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("Virtual thread execution Tests")
+class VirtualThreadExecutionTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private List<Boolean> requestThreadsVirtual;
+
+    @TestConfiguration
+    static class RequestThreadRecorder {
+
+        @Bean
+        List<Boolean> requestThreadsVirtual() {
+            return new CopyOnWriteArrayList<>();
+        }
+
+        @Bean
+        OncePerRequestFilter requestThreadRecordingFilter(List<Boolean> requestThreadsVirtual) {
+            return new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                FilterChain chain) throws ServletException, IOException {
+                    requestThreadsVirtual.add(Thread.currentThread().isVirtual());
+                    chain.doFilter(request, response);
+                }
+            };
+        }
+    }
+
+    @Test
+    @DisplayName("should serve create, debit and query requests on virtual threads")
+    void shouldServeJpaPathsOnVirtualThreads() {
+        ResponseEntity<Map> created = restTemplate.postForEntity("/api/v1/accounts",
+                Map.of("accountNumber", "VTH-001", "ownerName", "虛擬執行緒", "initialBalance", 1000.00), Map.class);
+        ResponseEntity<Map> debited = restTemplate.postForEntity("/api/v1/accounts/VTH-001/debit",
+                Map.of("amount", 100.00), Map.class);
+        ResponseEntity<Map> account = restTemplate.getForEntity("/api/v1/accounts/VTH-001", Map.class);
+
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(debited.getBody()).containsEntry("success", true);
+        assertThat(account.getBody()).containsEntry("balance", 900.0);
+        assertThat(requestThreadsVirtual).hasSize(3).containsOnly(true);
+    }
+}
@@ -0,0 +1,428 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.AccountCreationResult;
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.DebitProperties;
+import com.example.account.infrastructure.dto.BatchDebitItem;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.BalanceStripeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountServiceImpl Tests")
+class AccountServiceImplTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BalanceStripeRepository stripeRepository;
+
+    private static AccountMutatedEvent eventOfKind(AccountMutatedEvent.Kind kind) {
+        return argThat((AccountMutatedEvent event) -> event.kind() == kind);
+    }
+
+    @Nested
+    @DisplayName("debit() in READ_MODIFY_WRITE mode")
+    class ReadModifyWriteDebit {
+
+        private AccountServiceImpl accountService;
+
+        @BeforeEach
+        void setUp() {
+            accountService = new AccountServiceImpl(accountRepository, new DebitProperties(DebitMode.READ_MODIFY_WRITE),
+                    eventPublisher);
+        }
+
+        @Test
+        @DisplayName("should load, debit and save the account")
+        void shouldLoadDebitAndSaveAccount() {
+            Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+            when(accountRepository.findByAccountNumber("ACC-001")).thenReturn(Optional.of(account));
+
+            DebitResponse response = accountService.debit("ACC-001", new BigDecimal("1000.00"));
+
+            assertThat(response.success()).isTrue();
+            assertThat(response.previousBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+            assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+            verify(accountRepository).save(account);
+            verify(eventPublisher).publishEvent(argThat((AccountMutatedEvent event) ->
+                    event.kind() == AccountMutatedEvent.Kind.DEBITED
+                            && event.amount().compareTo(new BigDecimal("1000.00")) == 0
+                            && event.balanceAfter() == 900_000L));
+        }
+
+        @Test
+        @DisplayName("should not save when balance is insufficient")
+        void shouldNotSaveWhenBalanceIsInsufficient() {
+            Account account = new Account("ACC-003", "測試用戶", new BigDecimal("500.00"));
+            when(accountRepository.findByAccountNumber("ACC-003")).thenReturn(Optional.of(account));
+
+            DebitResponse response = accountService.debit("ACC-003", new BigDecimal("99999.00"));
+
+            assertThat(response.success()).isFalse();
+            assertThat(response.message()).isEqualTo("Insufficient balance");
+            verify(accountRepository, never()).save(any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("debit() in ATOMIC mode")
+    class AtomicDebit {
+
+        private AccountServiceImpl accountService;
+
+        @BeforeEach
+        void setUp() {
+            accountService = new AccountServiceImpl(accountRepository, new DebitProperties(DebitMode.ATOMIC), eventPublisher);
+        }
+
+        @Test
+        @DisplayName("should return the response built from the updated row")
+        void shouldReturnResponseBuiltFromUpdatedRow() {
+            DebitResponse expected = DebitResponse.success(
+                    "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00"));
+            when(accountRepository.debitAtomically("ACC-001", new BigDecimal("1000.00"))).thenReturn(Optional.of(expected));
+
+            DebitResponse response = accountService.debit("ACC-001", new BigDecimal("1000.00"));
+
+            assertThat(response).isEqualTo(expected);
+            verify(accountRepository, never()).findByAccountNumber(any());
+            verify(accountRepository, never()).save(any());
+            verify(eventPublisher).publishEvent(eventOfKind(AccountMutatedEvent.Kind.DEBITED));
+        }
+
+        @Test
+        @DisplayName("should report insufficient balance when no row was updated")
+        void shouldReportInsufficientBalanceWhenNoRowWasUpdated() {
+            Account account = new Account("ACC-003", "測試用戶", new BigDecimal("500.00"));
+            when(accountRepository.debitAtomically("ACC-003", new BigDecimal("99999.00"))).thenReturn(Optional.empty());
+            when(accountRepository.findByAccountNumber("ACC-003")).thenReturn(Optional.of(account));
+
+            DebitResponse response = accountService.debit("ACC-003", new BigDecimal("99999.00"));
+
+            assertThat(response.success()).isFalse();
+            assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("500.00"));
+            assertThat(response.message()).isEqualTo("Insufficient balance");
+        }
+
+        @Test
+        @DisplayName("should throw AccountFrozenException for a frozen account")
+        void shouldThrowAccountFrozenExceptionForFrozenAccount() {
+            Account account = new Account("ACC-006", "凍結帳戶", new BigDecimal("5000.00"));
+            account.freeze();
+            when(accountRepository.debitAtomically("ACC-006", new BigDecimal("100.00"))).thenReturn(Optional.empty());
+            when(accountRepository.findByAccountNumber("ACC-006")).thenReturn(Optional.of(account));
+
+            assertThatThrownBy(() -> accountService.debit("ACC-006", new BigDecimal("100.00")))
+                    .isInstanceOf(AccountFrozenException.class)
+                    .hasMessageContaining("Account is frozen");
+        }
+
+        @Test
+        @DisplayName("should throw AccountNotFoundException for a missing account")
+        void shouldThrowAccountNotFoundExceptionForMissingAccount() {
+            when(accountRepository.debitAtomically("ACC-999", new BigDecimal("100.00"))).thenReturn(Optional.empty());
+            when(accountRepository.findByAccountNumber("ACC-999")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> accountService.debit("ACC-999", new BigDecimal("100.00")))
+                    .isInstanceOf(AccountNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should report a missing or frozen account as a rejected result")
+        void shouldReportRejectionsAsResult() {
+            Account frozen = new Account("ACC-006", "凍結帳戶", new BigDecimal("5000.00"));
+            frozen.freeze();
+            when(accountRepository.debitAtomically(any(), any())).thenReturn(Optional.empty());
+            when(accountRepository.findByAccountNumber("ACC-006")).thenReturn(Optional.of(frozen));
+            when(accountRepository.findByAccountNumber("ACC-999")).thenReturn(Optional.empty());
+
+            DebitResult frozenResult = accountService.tryDebit("ACC-006", new BigDecimal("100.00"));
+            DebitResult missingResult = accountService.tryDebit("ACC-999", new BigDecimal("100.00"));
+
+            assertThat(frozenResult.rejection()).isEqualTo(AccountRejection.FROZEN);
+            assertThat(frozenResult.response()).isNull();
+            assertThat(missingResult.rejection()).isEqualTo(AccountRejection.NOT_FOUND);
+            assertThat(frozen.getBalance()).isEqualByComparingTo("5000.00");
+        }
+
+        @Test
+        @DisplayName("should reject a non-positive amount before touching the database")
+        void shouldRejectNonPositiveAmount() {
+            assertThatThrownBy(() -> accountService.debit("ACC-001", BigDecimal.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Debit amount must be positive");
+            verify(accountRepository, never()).debitAtomically(any(), any());
+        }
+    }
+
+    @Test
+    @DisplayName("should refuse SHARDED debits inside a service transaction")
+    void shouldRefuseShardedDebits() {
+        AccountServiceImpl accountService = new AccountServiceImpl(
+                accountRepository, new DebitProperties(DebitMode.SHARDED), eventPublisher);
+
+        assertThatThrownBy(() -> accountService.debit("ACC-001", new BigDecimal("100.00")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ShardedDebitEngine");
+    }
+
+    @Nested
+    @DisplayName("debitBatch()")
+    class DebitBatch {
+
+        private AccountServiceImpl accountService;
+
+        @BeforeEach
+        void setUp() {
+            accountService = new AccountServiceImpl(
+                    accountRepository, new DebitProperties(DebitMode.ATOMIC), eventPublisher);
+        }
+
+        @Test
+        @DisplayName("should apply items in order with partial failures")
+        void shouldApplyItemsInOrderWithPartialFailures() {
+            Account active = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+            Account poor = new Account("ACC-003", "測試用戶", new BigDecimal("500.00"));
+            Account frozen = new Account("ACC-006", "凍結帳戶", new BigDecimal("5000.00"));
+            frozen.freeze();
+            when(accountRepository.findByAccountNumberIn(anyCollection())).thenReturn(List.of(active, poor, frozen));
+
+            List<DebitResponse> results = accountService.debitBatch(List.of(
+                    new BatchDebitItem("ACC-001", new BigDecimal("1000.00")),
+                    new BatchDebitItem("ACC-003", new BigDecimal("99999.00")),
+                    new BatchDebitItem("ACC-999", new BigDecimal("100.00")),
+                    new BatchDebitItem("ACC-006", new BigDecimal("100.00")),
+                    new BatchDebitItem("ACC-001", new BigDecimal("500.00"))));
+
+            assertThat(results).extracting(DebitResponse::success).containsExactly(true, false, false, false, true);
+            assertThat(results.get(1).message()).isEqualTo("Insufficient balance");
+            assertThat(results.get(2).message()).isEqualTo("Account not found: ACC-999");
+            assertThat(results.get(3).message()).contains("frozen");
+            assertThat(results.get(4).previousBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+            assertThat(results.get(4).currentBalance()).isEqualByComparingTo(new BigDecimal("8500.00"));
+            assertThat(active.getBalance()).isEqualByComparingTo(new BigDecimal("8500.00"));
+            verify(accountRepository).saveAll(anyCollection());
+            verify(eventPublisher, times(2)).publishEvent(eventOfKind(AccountMutatedEvent.Kind.DEBITED));
+        }
+
+        @Test
+        @DisplayName("should reject an invalid amount for that item only")
+        void shouldRejectInvalidAmountForThatItemOnly() {
+            Account active = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+            when(accountRepository.findByAccountNumberIn(anyCollection())).thenReturn(List.of(active));
+
+            List<DebitResponse> results = accountService.debitBatch(List.of(
+                    new BatchDebitItem("ACC-001", BigDecimal.ZERO),
+                    new BatchDebitItem("ACC-001", new BigDecimal("1.00"))));
+
+            assertThat(results.get(0).success()).isFalse();
+            assertThat(results.get(0).message()).isEqualTo("Debit amount must be positive");
+            assertThat(results.get(1).success()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("createAccounts()")
+    class CreateAccounts {
+
+        private AccountServiceImpl accountService;
+
+        @BeforeEach
+        void setUp() {
+            accountService = new AccountServiceImpl(
+                    accountRepository, new DebitProperties(DebitMode.READ_MODIFY_WRITE), eventPublisher);
+        }
+
+        @Test
+        @DisplayName("should check uniqueness with one query and save only new accounts")
+        void shouldCheckUniquenessOnceAndSaveNewAccounts() {
+            when(accountRepository.findExistingAccountNumbers(anyCollection())).thenReturn(Set.of("ACC-001"));
+
+            List<AccountCreationResult> results = accountService.createAccounts(List.of(
+                    new CreateAccountRequest("ACC-101", "新用戶一", new BigDecimal("100.00")),
+                    new CreateAccountRequest("ACC-001", "王大明", new BigDecimal("100.00")),
+                    new CreateAccountRequest("ACC-102", "新用戶二", new BigDecimal("200.00")),
+                    new CreateAccountRequest("ACC-101", "重複用戶", new BigDecimal("300.00"))));
+
+            assertThat(results).extracting(AccountCreationResult::created).containsExactly(true, false, true, false);
+            assertThat(results.get(1).message()).isEqualTo("Account number already exists: ACC-001");
+            assertThat(results.get(3).message()).isEqualTo("Account number already exists: ACC-101");
+            verify(accountRepository).findExistingAccountNumbers(anyCollection());
+            verify(accountRepository).saveAll(argThat((List<Account> accounts) ->
+                    accounts.stream().map(Account::getAccountNumber).toList().equals(List.of("ACC-101", "ACC-102"))));
+            verify(accountRepository, never()).existsByAccountNumber(any());
+            verify(eventPublisher, times(2)).publishEvent(eventOfKind(AccountMutatedEvent.Kind.CREATED));
+        }
+    }
+
+    @Nested
+    @DisplayName("Mutation events")
+    class MutationEvents {
+
+        private AccountServiceImpl accountService;
+
+        @BeforeEach
+        void setUp() {
+            accountService = new AccountServiceImpl(
+                    accountRepository, new DebitProperties(DebitMode.READ_MODIFY_WRITE), eventPublisher);
+        }
+
+        @Test
+        @DisplayName("should publish CREATED with owner and initial balance")
+        void shouldPublishCreated() {
+            when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            accountService.createAccount(new CreateAccountRequest("ACC-002", "李小華", new BigDecimal("5000.00")));
+
+            verify(eventPublisher).publishEvent(argThat((AccountMutatedEvent event) ->
+                    event.kind() == AccountMutatedEvent.Kind.CREATED
+                            && event.ownerName().equals("李小華")
+                            && event.amount().compareTo(new BigDecimal("5000.00")) == 0));
+        }
+
+        @Test
+        @DisplayName("should publish FROZEN and UNFROZEN")
+        void shouldPublishFrozenAndUnfrozen() {
+            Account account = new Account("ACC-004", "凍結測試帳戶", new BigDecimal("3000.00"));
+            when(accountRepository.findByAccountNumber("ACC-004")).thenReturn(Optional.of(account));
+            when(accountRepository.save(account)).thenReturn(account);
+
+            accountService.freeze("ACC-004");
+            accountService.unfreeze("ACC-004");
+
+            verify(eventPublisher).publishEvent(eventOfKind(AccountMutatedEvent.Kind.FROZEN));
+            verify(eventPublisher).publishEvent(eventOfKind(AccountMutatedEvent.Kind.UNFROZEN));
+        }
+    }
+
+    @Nested
+    @DisplayName("Striped accounts")
+    class StripedAccounts {
+
+        private AccountServiceImpl accountService;
+
+        @BeforeEach
+        void setUp() {
+            accountService = new AccountServiceImpl(accountRepository, new DebitProperties(DebitMode.ATOMIC),
+                    eventPublisher, stripeRepository);
+        }
+
+        private Account stripedAccount(String accountNumber, String balance, int stripes) {
+            Account account = new Account(accountNumber, "熱門帳戶", new BigDecimal(balance));
+            account.setId(7L);
+            account.stripe(stripes);
+            return account;
+        }
+
+        @Test
+        @DisplayName("should stripe the account and publish STRIPED")
+        void shouldStripeAccount() {
+            Account account = new Account("ACC-007", "熱門帳戶", new BigDecimal("10000.00"));
+            when(accountRepository.findByAccountNumber("ACC-007")).thenReturn(Optional.of(account));
+
+            Account striped = accountService.stripe("ACC-007", 4);
+
+            assertThat(striped.getStripeCount()).isEqualTo(4);
+            assertThat(striped.getBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+            verify(eventPublisher).publishEvent(argThat((AccountMutatedEvent event) ->
+                    event.kind() == AccountMutatedEvent.Kind.STRIPED && event.amount().intValue() == 4));
+        }
+
+        @Test
+        @DisplayName("should throw AccountNotFoundException when striping a missing account")
+        void shouldThrowWhenStripingMissingAccount() {
+            when(accountRepository.findByAccountNumber("ACC-999")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> accountService.stripe("ACC-999", 4))
+                    .isInstanceOf(AccountNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should debit one stripe row and report the aggregated balance")
+        void shouldDebitOneStripeRow() {
+            Account account = stripedAccount("ACC-007", "10000.00", 4);
+            when(accountRepository.debitAtomically("ACC-007", new BigDecimal("100.00"))).thenReturn(Optional.empty());
+            when(accountRepository.findByAccountNumber("ACC-007")).thenReturn(Optional.of(account));
+            when(stripeRepository.debitIfSufficient(eq(7L), anyInt(), eq(new BigDecimal("100.00")))).thenReturn(1);
+            when(stripeRepository.sumBalance(7L)).thenReturn(new BigDecimal("9900.00"));
+
+            DebitResponse response = accountService.debit("ACC-007", new BigDecimal("100.00"));
+
+            assertThat(response.success()).isTrue();
+            assertThat(response.previousBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+            assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("9900.00"));
+            verify(stripeRepository, times(1)).debitIfSufficient(eq(7L), anyInt(), any());
+            verify(accountRepository, never()).save(any());
+            // The total read after the stripe UPDATE is not locked, so the ledger gets the amount only
+            verify(eventPublisher).publishEvent(argThat((AccountMutatedEvent event) ->
+                    event.kind() == AccountMutatedEvent.Kind.DEBITED && !event.hasBalanceAfter()));
+        }
+
+        @Test
+        @DisplayName("should rebalance through the entity when no single stripe covers the amount")
+        void shouldRebalanceWhenNoStripeCoversAmount() {
+            Account account = stripedAccount("ACC-007", "10000.00", 4);
+            when(accountRepository.debitAtomically("ACC-007", new BigDecimal("6000.00"))).thenReturn(Optional.empty());
+            when(accountRepository.findByAccountNumber("ACC-007")).thenReturn(Optional.of(account));
+            when(stripeRepository.debitIfSufficient(eq(7L), anyInt(), any())).thenReturn(0);
+
+            DebitResponse response = accountService.debit("ACC-007", new BigDecimal("6000.00"));
+
+            assertThat(response.success()).isTrue();
+            assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("4000.00"));
+            assertThat(account.getStripes()).allSatisfy(stripe ->
+                    assertThat(stripe.getBalanceMinorUnits()).isEqualTo(100_000L));
+            verify(stripeRepository, times(4)).debitIfSufficient(eq(7L), anyInt(), any());
+            verify(accountRepository).save(account);
+        }
+
+        @Test
+        @DisplayName("should report insufficient balance when the stripes together fall short")
+        void shouldReportInsufficientBalance() {
+            Account account = stripedAccount("ACC-007", "100.00", 2);
+            when(accountRepository.debitAtomically("ACC-007", new BigDecimal("500.00"))).thenReturn(Optional.empty());
+            when(accountRepository.findByAccountNumber("ACC-007")).thenReturn(Optional.of(account));
+
+            DebitResponse response = accountService.debit("ACC-007", new BigDecimal("500.00"));
+
+            assertThat(response.success()).isFalse();
+            assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("100.00"));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.account.application;
+
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.dto.BatchDebitItem;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.repository.AccountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Batch debit integration Tests")
+class BatchDebitIntegrationTest {
+
+    private static final int ACCOUNTS = 120;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("should send the batch updates as JDBC batches")
+    void shouldSendUpdatesAsJdbcBatches() {
+        IntStream.range(0, ACCOUNTS).forEach(i -> accountService.createAccount(
+                new CreateAccountRequest("BAT-%04d".formatted(i), "批次測試", new BigDecimal("100.00"))));
+        List<BatchDebitItem> items = IntStream.range(0, ACCOUNTS)
+                .mapToObj(i -> new BatchDebitItem("BAT-%04d".formatted(i), new BigDecimal("10.00")))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<DebitResponse> results = accountService.debitBatch(items);
+
+        assertThat(results).hasSize(ACCOUNTS).allMatch(DebitResponse::success);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(ACCOUNTS);
+        // one SELECT for the accounts plus ceil(120 / batch_size 50) UPDATE batches
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(accountRepository.findByAccountNumber("BAT-0000").orElseThrow().getBalance())
+                .isEqualByComparingTo(new BigDecimal("90.00"));
+    }
+}
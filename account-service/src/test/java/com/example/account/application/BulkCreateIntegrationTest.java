@@ -0,0 +1,60 @@
+package com.example.account.application;
+
+import com.example.account.domain.AccountCreationResult;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.repository.AccountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Bulk create integration Tests")
+class BulkCreateIntegrationTest {
+
+    private static final int ACCOUNTS = 120;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("should check uniqueness once and send the inserts as JDBC batches")
+    void shouldSendInsertsAsJdbcBatches() {
+        accountService.createAccount(new CreateAccountRequest("BLK-0000", "既有帳戶", new BigDecimal("1.00")));
+        List<CreateAccountRequest> requests = new ArrayList<>(IntStream.range(0, ACCOUNTS)
+                .mapToObj(i -> new CreateAccountRequest("BLK-%04d".formatted(i), "批次開戶", new BigDecimal("100.00")))
+                .toList());
+        requests.add(new CreateAccountRequest("BLK-0001", "重複開戶", new BigDecimal("100.00")));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<AccountCreationResult> results = accountService.createAccounts(requests);
+
+        assertThat(results).hasSize(ACCOUNTS + 1);
+        assertThat(results.get(0).created()).isFalse();
+        assertThat(results.get(ACCOUNTS).created()).isFalse();
+        assertThat(results.subList(1, ACCOUNTS)).allMatch(AccountCreationResult::created);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ACCOUNTS - 1);
+        // one uniqueness SELECT, ceil(119 / allocationSize 50) sequence calls, ceil(119 / batch_size 50) INSERT batches
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+        assertThat(accountRepository.findByAccountNumber("BLK-0119")).isPresent();
+    }
+}
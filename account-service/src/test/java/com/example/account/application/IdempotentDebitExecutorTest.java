@@ -0,0 +1,129 @@
+package com.example.account.application;
+
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.IdempotencyProperties;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.exception.IdempotencyKeyConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IdempotentDebitExecutor Tests")
+class IdempotentDebitExecutorTest {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1000.00");
+    private static final DebitResponse RESPONSE = DebitResponse.success(
+            "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"), AMOUNT);
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotentDebitExecutor executor;
+    private AtomicInteger debits;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new IdempotentDebitExecutor(IdempotencyProperties.defaults(), meterRegistry);
+        debits = new AtomicInteger();
+    }
+
+    private DebitResponse countingDebit() {
+        debits.incrementAndGet();
+        return RESPONSE;
+    }
+
+    @Test
+    @DisplayName("should replay the stored response for a repeated key")
+    void shouldReplayRepeatedKey() {
+        DebitResponse first = executor.execute("pay-1", "ACC-001", AMOUNT, this::countingDebit);
+        DebitResponse second = executor.execute("pay-1", "ACC-001", new BigDecimal("1000"), this::countingDebit);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(debits).hasValue(1);
+        assertThat(meterRegistry.get("account.idempotency.replays").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should debit again for a different key")
+    void shouldDebitForDifferentKey() {
+        executor.execute("pay-1", "ACC-001", AMOUNT, this::countingDebit);
+        executor.execute("pay-2", "ACC-001", AMOUNT, this::countingDebit);
+
+        assertThat(debits).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should reject a key reused for a different debit")
+    void shouldRejectKeyReusedForDifferentDebit() {
+        executor.execute("pay-1", "ACC-001", AMOUNT, this::countingDebit);
+
+        assertThatThrownBy(() -> executor.execute("pay-1", "ACC-001", new BigDecimal("1.00"), this::countingDebit))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThatThrownBy(() -> executor.execute("pay-1", "ACC-002", AMOUNT, this::countingDebit))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThat(meterRegistry.get("account.idempotency.conflicts").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should release the key when the debit throws")
+    void shouldReleaseKeyWhenDebitThrows() {
+        assertThatThrownBy(() -> executor.execute("pay-1", "ACC-001", AMOUNT, () -> {
+            throw new AccountFrozenException("ACC-001");
+        })).isInstanceOf(AccountFrozenException.class);
+
+        assertThat(executor.execute("pay-1", "ACC-001", AMOUNT, this::countingDebit)).isEqualTo(RESPONSE);
+        assertThat(debits).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should debit once when the same key arrives concurrently")
+    void shouldDebitOnceForConcurrentRequests() throws Exception {
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<DebitResponse>> results = IntStream.range(0, callers)
+                    .mapToObj(i -> pool.submit(() -> {
+                        start.await();
+                        return executor.execute("pay-1", "ACC-001", AMOUNT, () -> {
+                            debits.incrementAndGet();
+                            awaitQuietly(release);
+                            return RESPONSE;
+                        });
+                    }))
+                    .toList();
+            start.countDown();
+            TimeUnit.MILLISECONDS.sleep(50);
+            release.countDown();
+
+            for (Future<DebitResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(RESPONSE);
+            }
+            assertThat(debits).hasValue(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
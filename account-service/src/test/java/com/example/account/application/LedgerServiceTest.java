@@ -0,0 +1,94 @@
+package com.example.account.application;
+
+import com.example.account.infrastructure.config.LedgerProperties;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+import com.example.account.infrastructure.exception.InvalidLedgerRangeException;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.BalanceSnapshotRepository;
+import com.example.account.infrastructure.repository.LedgerEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerService Tests")
+class LedgerServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Mock
+    private LedgerEntryRepository entryRepository;
+
+    @Mock
+    private BalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private LedgerService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerService = new LedgerService(entryRepository, snapshotRepository, accountRepository,
+                new LedgerProperties(Duration.ZERO, 1000, 50));
+    }
+
+    @Test
+    @DisplayName("should cap the limit at maxQueryEntries")
+    void shouldCapLimit() {
+        when(accountRepository.existsByAccountNumber("ACC-001")).thenReturn(true);
+        when(entryRepository.findInRange("ACC-001", FROM, TO, PageRequest.of(0, 50))).thenReturn(List.of());
+
+        assertThat(ledgerService.findEntries("ACC-001", FROM, TO, 10_000)).isEmpty();
+
+        verify(entryRepository).findInRange("ACC-001", FROM, TO, PageRequest.of(0, 50));
+    }
+
+    @Test
+    @DisplayName("should reject an empty or inverted range and a non-positive limit")
+    void shouldRejectInvalidRange() {
+        assertThatThrownBy(() -> ledgerService.findEntries("ACC-001", TO, FROM, 10))
+                .isInstanceOf(InvalidLedgerRangeException.class);
+        assertThatThrownBy(() -> ledgerService.findEntries("ACC-001", FROM, FROM, 10))
+                .isInstanceOf(InvalidLedgerRangeException.class);
+        assertThatThrownBy(() -> ledgerService.findEntries("ACC-001", FROM, TO, 0))
+                .isInstanceOf(InvalidLedgerRangeException.class)
+                .hasMessageContaining("limit=0");
+        verify(entryRepository, never()).findInRange(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should throw AccountNotFoundException for an unknown account")
+    void shouldThrowForUnknownAccount() {
+        when(accountRepository.existsByAccountNumber("ACC-999")).thenReturn(false);
+
+        assertThatThrownBy(() -> ledgerService.findEntries("ACC-999", FROM, TO, 10))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should derive the balance from the latest snapshot")
+    void shouldReturnLedgerBalance() {
+        when(snapshotRepository.findLedgerBalance("ACC-001")).thenReturn(Optional.of(new BigDecimal("9000.00")));
+
+        assertThat(ledgerService.getLedgerBalance("ACC-001")).contains(new BigDecimal("9000.00"));
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.account.application;
+
+import com.example.account.infrastructure.config.OptimisticRetryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OptimisticRetryExecutor Tests")
+class OptimisticRetryExecutorTest {
+
+    private MeterRegistry meterRegistry;
+    private List<Duration> sleeps;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sleeps = new ArrayList<>();
+    }
+
+    private OptimisticRetryExecutor executor(int maxAttempts, double budgetRatio, int budgetCapacity) {
+        OptimisticRetryProperties properties = new OptimisticRetryProperties(
+                maxAttempts, Duration.ofMillis(10), 2.0, Duration.ofMillis(50), false, budgetRatio, budgetCapacity);
+        return new OptimisticRetryExecutor(properties, meterRegistry, sleeps::add);
+    }
+
+    private static <T> Supplier<T> failing(int conflicts, T result, AtomicInteger calls) {
+        return () -> {
+            if (calls.incrementAndGet() <= conflicts) {
+                throw new OptimisticLockingFailureException("version conflict");
+            }
+            return result;
+        };
+    }
+
+    private double count(String name, String operation) {
+        var counter = meterRegistry.find(name).tag("operation", operation).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Nested
+    @DisplayName("Retry behaviour")
+    class RetryBehaviour {
+
+        @Test
+        @DisplayName("should return immediately without conflicts")
+        void shouldReturnImmediatelyWithoutConflicts() {
+            AtomicInteger calls = new AtomicInteger();
+
+            String result = executor(5, 0.1, 100).execute("debit", failing(0, "ok", calls));
+
+            assertThat(result).isEqualTo("ok");
+            assertThat(calls).hasValue(1);
+            assertThat(sleeps).isEmpty();
+            assertThat(count("account.optimistic.conflicts", "debit")).isZero();
+        }
+
+        @Test
+        @DisplayName("should retry conflicts with exponential backoff capped at maxBackoff")
+        void shouldRetryWithExponentialBackoff() {
+            AtomicInteger calls = new AtomicInteger();
+
+            String result = executor(5, 0.1, 100).execute("debit", failing(4, "ok", calls));
+
+            assertThat(result).isEqualTo("ok");
+            assertThat(calls).hasValue(5);
+            assertThat(sleeps).containsExactly(
+                    Duration.ofMillis(10), Duration.ofMillis(20), Duration.ofMillis(40), Duration.ofMillis(50));
+            assertThat(count("account.optimistic.conflicts", "debit")).isEqualTo(4);
+            assertThat(count("account.optimistic.retries", "debit")).isEqualTo(4);
+            assertThat(count("account.optimistic.exhausted", "debit")).isZero();
+        }
+
+        @Test
+        @DisplayName("should rethrow after maxAttempts")
+        void shouldRethrowAfterMaxAttempts() {
+            AtomicInteger calls = new AtomicInteger();
+            OptimisticRetryExecutor executor = executor(3, 0.1, 100);
+
+            assertThatThrownBy(() -> executor.execute("freeze", failing(10, "ok", calls)))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+
+            assertThat(calls).hasValue(3);
+            assertThat(count("account.optimistic.conflicts", "freeze")).isEqualTo(3);
+            assertThat(count("account.optimistic.retries", "freeze")).isEqualTo(2);
+            assertThat(count("account.optimistic.exhausted", "freeze")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not retry other exceptions")
+        void shouldNotRetryOtherExceptions() {
+            AtomicInteger calls = new AtomicInteger();
+            OptimisticRetryExecutor executor = executor(5, 0.1, 100);
+
+            assertThatThrownBy(() -> executor.execute("unfreeze", () -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("Cannot unfreeze account with status: ACTIVE");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(calls).hasValue(1);
+            assertThat(count("account.optimistic.conflicts", "unfreeze")).isZero();
+        }
+
+        @Test
+        @DisplayName("should keep jittered backoff between half and the full delay")
+        void shouldKeepJitteredBackoffWithinBounds() {
+            OptimisticRetryProperties properties = new OptimisticRetryProperties(
+                    5, Duration.ofMillis(10), 2.0, Duration.ofMillis(50), true, 0.1, 100);
+            OptimisticRetryExecutor executor = new OptimisticRetryExecutor(properties, meterRegistry, sleeps::add);
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(executor.backoffFor(2)).isBetween(Duration.ofMillis(10), Duration.ofMillis(20));
+            }
+        }
+
+        @Test
+        @DisplayName("should stop retrying and keep the interrupt flag when interrupted")
+        void shouldStopRetryingWhenInterrupted() {
+            OptimisticRetryProperties properties = new OptimisticRetryProperties(
+                    5, Duration.ofMillis(10), 2.0, Duration.ofMillis(50), false, 0.1, 100);
+            OptimisticRetryExecutor executor = new OptimisticRetryExecutor(properties, meterRegistry, duration -> {
+                throw new InterruptedException();
+            });
+            AtomicInteger calls = new AtomicInteger();
+
+            try {
+                assertThatThrownBy(() -> executor.execute("debit", failing(10, "ok", calls)))
+                        .isInstanceOf(OptimisticLockingFailureException.class);
+                assertThat(Thread.currentThread().isInterrupted()).isTrue();
+                assertThat(calls).hasValue(1);
+            } finally {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry budget")
+    class Budget {
+
+        @Test
+        @DisplayName("should fail fast once the retry budget is spent")
+        void shouldFailFastOnceBudgetIsSpent() {
+            OptimisticRetryExecutor executor = executor(5, 0.0, 2);
+            AtomicInteger calls = new AtomicInteger();
+
+            assertThatThrownBy(() -> executor.execute("debit", failing(10, "ok", calls)))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+
+            // two saved tokens allow two retries, i.e. three attempts
+            assertThat(calls).hasValue(3);
+            assertThat(meterRegistry.get("account.optimistic.retry.budget").gauge().value()).isZero();
+
+            AtomicInteger secondCalls = new AtomicInteger();
+            assertThatThrownBy(() -> executor.execute("debit", failing(1, "ok", secondCalls)))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+            assertThat(secondCalls).hasValue(1);
+            assertThat(count("account.optimistic.exhausted", "debit")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should earn retry tokens back from successful calls")
+        void shouldEarnTokensBackFromCalls() {
+            OptimisticRetryExecutor executor = executor(5, 0.5, 1);
+            AtomicInteger calls = new AtomicInteger();
+            assertThatThrownBy(() -> executor.execute("debit", failing(10, "ok", calls)))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+
+            executor.execute("debit", () -> "ok");
+            executor.execute("debit", () -> "ok");
+
+            AtomicInteger retried = new AtomicInteger();
+            assertThat(executor.execute("debit", failing(1, "ok", retried))).isEqualTo("ok");
+            assertThat(retried).hasValue(2);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.DebitResponse;
+import com.example.account.domain.LedgerEntry;
+import com.example.account.infrastructure.config.AccountMutationListeners;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.repository.BalanceSnapshotRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+@DisplayName("Reactive account API integration Tests")
+class ReactiveAccountIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveAccountService reactiveAccountService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private BalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private AccountMutationListeners listeners;
+
+    private void createAccount(String accountNumber, String balance) {
+        webTestClient.post().uri("/api/v1/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("accountNumber", accountNumber, "ownerName", "王大明",
+                        "initialBalance", new BigDecimal(balance)))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.accountNumber").isEqualTo(accountNumber)
+                .jsonPath("$.status").isEqualTo("ACTIVE");
+    }
+
+    private WebTestClient.ResponseSpec debit(String accountNumber, String amount) {
+        return webTestClient.post().uri("/api/v1/accounts/{accountNumber}/debit", accountNumber)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("amount", new BigDecimal(amount)))
+                .exchange();
+    }
+
+    private List<LedgerEntry> entries(String accountNumber) {
+        return ledgerService.findEntries(accountNumber, LocalDateTime.of(2000, 1, 1, 0, 0),
+                LocalDateTime.of(2100, 1, 1, 0, 0), 1000);
+    }
+
+    @Test
+    @DisplayName("should find only the listeners native writes reproduce")
+    void shouldFindOnlyReplicatedListeners() {
+        assertThat(listeners.types()).containsExactlyInAnyOrderElementsOf(
+                ReactiveAccountService.REPLICATED_LISTENERS);
+    }
+
+    @Nested
+    @DisplayName("Creating and reading")
+    class CreatingAndReading {
+
+        @Test
+        @DisplayName("should create over R2DBC and serve the account with a version marker")
+        void shouldCreateAndRead() {
+            createAccount("RX-001", "1000.00");
+
+            webTestClient.get().uri("/api/v1/accounts/RX-001")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.balance").isEqualTo(1000.0)
+                    .jsonPath("$.version").isNumber()
+                    .jsonPath("$.asOf").isNotEmpty();
+            assertThat(snapshotRepository.findFirstByAccountNumberOrderByLastEntryIdDesc("RX-001"))
+                    .hasValueSatisfying(opening -> assertThat(opening.getBalanceMinorUnits()).isEqualTo(100_000L));
+        }
+
+        @Test
+        @DisplayName("should return 404 for an unknown account")
+        void shouldReturnNotFound() {
+            webTestClient.get().uri("/api/v1/accounts/RX-999")
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Account not found: RX-999")
+                    .jsonPath("$.path").isEqualTo("/api/v1/accounts/RX-999");
+        }
+
+        @Test
+        @DisplayName("should draw ids from its own sequence, clear of JPA inserts")
+        void shouldDrawIdsClearOfJpa() {
+            for (int i = 0; i < 3; i++) {
+                createAccount("RX-01" + i, "10.00");
+                accountService.createAccount(new CreateAccountRequest("RX-02" + i, "李小華", new BigDecimal("10.00")));
+            }
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(accountService.getAccount("RX-01" + i).map(Account::getId)).hasValueSatisfying(
+                        id -> assertThat(id).isGreaterThanOrEqualTo(1L << 62));
+                assertThat(accountService.getAccount("RX-02" + i).map(Account::getId)).hasValueSatisfying(
+                        id -> assertThat(id).isLessThan(1L << 62));
+            }
+        }
+
+        @Test
+        @DisplayName("should reject a duplicate account number")
+        void shouldRejectDuplicate() {
+            createAccount("RX-003", "10.00");
+
+            StepVerifier.create(reactiveAccountService.createAccount(
+                            new CreateAccountRequest("RX-003", "王大明", BigDecimal.ONE)))
+                    .expectErrorMessage("Account number already exists: RX-003")
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Debiting")
+    class Debiting {
+
+        @Test
+        @DisplayName("should debit, append the ledger entry and refresh the read model")
+        void shouldDebitAndAppendLedgerEntry() {
+            createAccount("RX-101", "1000.00");
+
+            debit("RX-101", "250.50").expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.success").isEqualTo(true)
+                    .jsonPath("$.previousBalance").isEqualTo(1000.0)
+                    .jsonPath("$.currentBalance").isEqualTo(749.5);
+
+            assertThat(entries("RX-101")).singleElement().satisfies(entry -> {
+                assertThat(entry.getPreviousBalance()).isEqualByComparingTo("1000.00");
+                assertThat(entry.getCurrentBalance()).isEqualByComparingTo("749.50");
+            });
+            assertThat(ledgerService.getLedgerBalance("RX-101")).hasValueSatisfying(balance ->
+                    assertThat(balance).isEqualByComparingTo("749.50"));
+            StepVerifier.create(reactiveAccountService.getAccount("RX-101"))
+                    .assertNext(view -> assertThat(view.account().balance()).isEqualByComparingTo("749.50"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("should report insufficient balance without writing")
+        void shouldReportInsufficientBalance() {
+            createAccount("RX-102", "100.00");
+
+            debit("RX-102", "500.00").expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.success").isEqualTo(false)
+                    .jsonPath("$.message").isEqualTo("Insufficient balance");
+
+            assertThat(entries("RX-102")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should refuse frozen and unknown accounts like the servlet API")
+        void shouldRefuseFrozenAndUnknown() {
+            createAccount("RX-103", "100.00");
+            webTestClient.post().uri("/api/v1/accounts/RX-103/freeze").exchange().expectStatus().isOk();
+
+            debit("RX-103", "1.00").expectStatus().isForbidden();
+            debit("RX-199", "1.00").expectStatus().isNotFound();
+        }
+
+        @Test
+        @DisplayName("should hand a striped account to the servlet debit path")
+        void shouldDebitStripedAccount() {
+            createAccount("RX-104", "100.00");
+            webTestClient.post().uri("/api/v1/accounts/RX-104/stripe")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("stripes", 2))
+                    .exchange()
+                    .expectStatus().isOk();
+
+            StepVerifier.create(reactiveAccountService.debit("RX-104", new BigDecimal("10.00")))
+                    .assertNext(response -> assertThat(response.currentBalanceMinorUnits()).isEqualTo(9_000L))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("should replay a debit with the same Idempotency-Key")
+        void shouldReplayIdempotentDebit() {
+            createAccount("RX-105", "100.00");
+
+            for (int i = 0; i < 2; i++) {
+                webTestClient.post().uri("/api/v1/accounts/RX-105/debit")
+                        .header("Idempotency-Key", "rx-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Map.of("amount", new BigDecimal("30.00")))
+                        .exchange()
+                        .expectStatus().isOk()
+                        .expectBody(DebitResponse.class)
+                        .value(response -> assertThat(response.currentBalanceMinorUnits()).isEqualTo(7_000L));
+            }
+        }
+
+        @Test
+        @DisplayName("should apply a batch debit")
+        void shouldApplyBatch() {
+            createAccount("RX-106", "100.00");
+
+            webTestClient.post().uri("/api/v1/accounts/debits:batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("debits", List.of(
+                            Map.of("accountNumber", "RX-106", "amount", new BigDecimal("10.00")),
+                            Map.of("accountNumber", "RX-198", "amount", new BigDecimal("10.00")))))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.results[0].success").isEqualTo(true)
+                    .jsonPath("$.results[1].success").isEqualTo(false);
+        }
+    }
+
+    @Nested
+    @DisplayName("Status changes")
+    class StatusChanges {
+
+        @Test
+        @DisplayName("should freeze and unfreeze, and refuse a repeated freeze with 409")
+        void shouldFreezeAndUnfreeze() {
+            createAccount("RX-201", "100.00");
+
+            webTestClient.post().uri("/api/v1/accounts/RX-201/freeze").exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.status").isEqualTo("FROZEN");
+            webTestClient.post().uri("/api/v1/accounts/RX-201/freeze").exchange()
+                    .expectStatus().isEqualTo(409)
+                    .expectBody().jsonPath("$.message").isEqualTo("Cannot freeze account with status: FROZEN");
+            webTestClient.post().uri("/api/v1/accounts/RX-201/unfreeze").exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.status").isEqualTo("ACTIVE");
+
+            assertThat(accountService.getAccount("RX-201")).hasValueSatisfying(account ->
+                    assertThat(account.getVersion()).isEqualTo(2L));
+        }
+
+        @Test
+        @DisplayName("should return 404 when unfreezing an unknown account")
+        void shouldReturnNotFoundForUnknownAccount() {
+            webTestClient.post().uri("/api/v1/accounts/RX-299/unfreeze").exchange()
+                    .expectStatus().isNotFound();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.AccountMutationListeners;
+import com.example.account.infrastructure.config.DebitProperties;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.journal.JournalWriter;
+import com.example.account.infrastructure.ledger.LedgerWriter;
+import com.example.account.infrastructure.readmodel.AccountReadModel;
+import com.example.account.infrastructure.repository.ReactiveAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveAccountService Tests")
+class ReactiveAccountServiceTest {
+
+    @Mock
+    private ReactiveAccountRepository repository;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private AccountReadModel readModel;
+
+    /** Listens to AccountMutatedEvent; nothing reproduces its effect on the reactive path. */
+    static class AuditListener {
+    }
+
+    private ReactiveAccountService service(DebitMode mode, Class<?>... extraListeners) {
+        Set<Class<?>> listeners = new HashSet<>(
+                Set.of(AccountReadModel.class, LedgerWriter.class));
+        listeners.addAll(List.of(extraListeners));
+        return new ReactiveAccountService(repository, accountService, readModel,
+                new DebitProperties(mode), new AccountMutationListeners(listeners));
+    }
+
+    @Test
+    @DisplayName("should route every write through AccountService when the journal is enabled")
+    void shouldRouteWritesThroughAccountServiceWithJournal() {
+        ReactiveAccountService service = service(DebitMode.ATOMIC, JournalWriter.class);
+        Account account = new Account("ACC-001", "王大明", new BigDecimal("100.00"));
+        when(accountService.createAccount(new CreateAccountRequest("ACC-001", "王大明", new BigDecimal("100.00"))))
+                .thenReturn(account);
+        when(accountService.debit("ACC-001", BigDecimal.TEN)).thenReturn(
+                DebitResponse.success("ACC-001", new BigDecimal("100.00"), new BigDecimal("90.00"), BigDecimal.TEN));
+        when(accountService.freeze("ACC-001")).thenReturn(account);
+        when(accountService.unfreeze("ACC-001")).thenReturn(account);
+
+        StepVerifier.create(service.createAccount(
+                        new CreateAccountRequest("ACC-001", "王大明", new BigDecimal("100.00"))))
+                .assertNext(snapshot -> assertThat(snapshot.accountNumber()).isEqualTo("ACC-001"))
+                .verifyComplete();
+        StepVerifier.create(service.debit("ACC-001", BigDecimal.TEN))
+                .assertNext(response -> assertThat(response.success()).isTrue())
+                .verifyComplete();
+        StepVerifier.create(service.freeze("ACC-001")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(service.unfreeze("ACC-001")).expectNextCount(1).verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("should route debits through AccountService in sharded mode")
+    void shouldRouteDebitsThroughAccountServiceWhenSharded() {
+        ReactiveAccountService service = service(DebitMode.SHARDED);
+        when(accountService.debit("ACC-001", BigDecimal.ONE)).thenReturn(
+                DebitResponse.insufficientBalance("ACC-001", BigDecimal.ZERO, BigDecimal.ONE));
+
+        StepVerifier.create(service.debit("ACC-001", BigDecimal.ONE))
+                .assertNext(response -> assertThat(response.success()).isFalse())
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("should route debits through AccountService for a listener it does not reproduce")
+    void shouldRouteDebitsThroughAccountServiceForUnknownListener() {
+        ReactiveAccountService service = service(DebitMode.ATOMIC, AuditListener.class);
+        when(accountService.debit("ACC-001", BigDecimal.ONE)).thenReturn(
+                DebitResponse.success("ACC-001", new BigDecimal("100.00"), new BigDecimal("99.00"), BigDecimal.ONE));
+
+        StepVerifier.create(service.debit("ACC-001", BigDecimal.ONE))
+                .assertNext(response -> assertThat(response.success()).isTrue())
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive amount before touching the database")
+    void shouldRejectInvalidAmount() {
+        ReactiveAccountService service = service(DebitMode.READ_MODIFY_WRITE);
+
+        StepVerifier.create(service.debit("ACC-001", BigDecimal.ZERO))
+                .expectErrorMessage("Debit amount must be positive")
+                .verify();
+
+        verifyNoInteractions(repository, accountService);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.IdempotencyProperties;
+import com.example.account.infrastructure.config.OptimisticRetryProperties;
+import com.example.account.infrastructure.dto.BatchDebitItem;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.idempotency.IdempotencyRecordStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetryingAccountService Tests")
+class RetryingAccountServiceTest {
+
+    @Mock
+    private AccountServiceImpl delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryingAccountService accountService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        OptimisticRetryProperties properties = new OptimisticRetryProperties(
+                3, Duration.ZERO, 1.0, Duration.ZERO, false, 0.1, 100);
+        accountService = new RetryingAccountService(
+                delegate, new OptimisticRetryExecutor(properties, meterRegistry, duration -> { }), Optional.empty(),
+                new IdempotentDebitExecutor(IdempotencyProperties.defaults(), meterRegistry), Optional.empty());
+    }
+
+    @Test
+    @DisplayName("should retry debit after a version conflict")
+    void shouldRetryDebitAfterVersionConflict() {
+        DebitResponse response = DebitResponse.success(
+                "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00"));
+        when(delegate.debit("ACC-001", new BigDecimal("1000.00")))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(response);
+
+        assertThat(accountService.debit("ACC-001", new BigDecimal("1000.00"))).isEqualTo(response);
+        verify(delegate, times(2)).debit("ACC-001", new BigDecimal("1000.00"));
+        assertThat(meterRegistry.get("account.optimistic.retries").tag("operation", "debit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should retry freeze and unfreeze under their own operation tags")
+    void shouldRetryFreezeAndUnfreeze() {
+        Account account = new Account("ACC-004", "凍結測試帳戶", new BigDecimal("3000.00"));
+        when(delegate.freeze("ACC-004"))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(account);
+        when(delegate.unfreeze("ACC-004"))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(account);
+
+        assertThat(accountService.freeze("ACC-004")).isSameAs(account);
+        assertThat(accountService.unfreeze("ACC-004")).isSameAs(account);
+        assertThat(meterRegistry.get("account.optimistic.conflicts").tag("operation", "freeze").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("account.optimistic.conflicts").tag("operation", "unfreeze").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should retry stripe under its own operation tag")
+    void shouldRetryStripe() {
+        Account account = new Account("ACC-007", "熱門帳戶", new BigDecimal("10000.00"));
+        when(delegate.stripe("ACC-007", 4))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(account);
+
+        assertThat(accountService.stripe("ACC-007", 4)).isSameAs(account);
+        assertThat(meterRegistry.get("account.optimistic.conflicts").tag("operation", "stripe").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should retry a whole batch after a version conflict")
+    void shouldRetryWholeBatchAfterVersionConflict() {
+        List<BatchDebitItem> items = List.of(new BatchDebitItem("ACC-001", new BigDecimal("1.00")));
+        List<DebitResponse> results = List.of(DebitResponse.success(
+                "ACC-001", new BigDecimal("10.00"), new BigDecimal("9.00"), new BigDecimal("1.00")));
+        when(delegate.debitBatch(items))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(results);
+
+        assertThat(accountService.debitBatch(items)).isEqualTo(results);
+        assertThat(meterRegistry.get("account.optimistic.retries").tag("operation", "debitBatch").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should pass reads and creation straight through")
+    void shouldPassReadsAndCreationThrough() {
+        Account account = new Account("ACC-002", "李小華", new BigDecimal("5000.00"));
+        CreateAccountRequest request = new CreateAccountRequest("ACC-002", "李小華", new BigDecimal("5000.00"));
+        when(delegate.getAccount("ACC-002")).thenReturn(Optional.of(account));
+        when(delegate.createAccount(request)).thenReturn(account);
+
+        assertThat(accountService.getAccount("ACC-002")).contains(account);
+        assertThat(accountService.createAccount(request)).isSameAs(account);
+    }
+
+    @Test
+    @DisplayName("should hand debits to the sharded engine when it is enabled")
+    void shouldHandDebitsToShardedEngine() {
+        ShardedDebitEngine engine = mock(ShardedDebitEngine.class);
+        DebitResponse response = DebitResponse.success(
+                "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00"));
+        when(engine.debit("ACC-001", new BigDecimal("1000.00"))).thenReturn(response);
+        RetryingAccountService sharded = new RetryingAccountService(
+                delegate, new OptimisticRetryExecutor(new OptimisticRetryProperties(
+                        3, Duration.ZERO, 1.0, Duration.ZERO, false, 0.1, 100), meterRegistry),
+                Optional.of(engine),
+                new IdempotentDebitExecutor(IdempotencyProperties.defaults(), meterRegistry),
+                Optional.empty());
+
+        assertThat(sharded.debit("ACC-001", new BigDecimal("1000.00"))).isEqualTo(response);
+        verify(delegate, never()).debit(any(), any());
+    }
+
+    @Test
+    @DisplayName("should debit once per idempotency key")
+    void shouldDebitOncePerIdempotencyKey() {
+        DebitResponse response = DebitResponse.success(
+                "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00"));
+        when(delegate.debit("ACC-001", new BigDecimal("1000.00"))).thenReturn(response);
+
+        assertThat(accountService.debit("ACC-001", new BigDecimal("1000.00"), "pay-1")).isEqualTo(response);
+        assertThat(accountService.debit("ACC-001", new BigDecimal("1000.00"), "pay-1")).isEqualTo(response);
+
+        verify(delegate).debit("ACC-001", new BigDecimal("1000.00"));
+    }
+
+    @Test
+    @DisplayName("should record keyed debits in the persistent store and replay a lost insert race")
+    void shouldUsePersistentStore() {
+        IdempotencyRecordStore store = mock(IdempotencyRecordStore.class);
+        DebitResponse response = DebitResponse.success(
+                "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00"));
+        when(store.debitOnce(eq("pay-1"), eq("ACC-001"), eq(new BigDecimal("1000.00")), any())).thenReturn(response);
+        when(store.debitOnce(eq("pay-2"), eq("ACC-001"), eq(new BigDecimal("1000.00")), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(store.find("pay-2", "ACC-001", new BigDecimal("1000.00"))).thenReturn(Optional.of(response));
+        RetryingAccountService persistent = new RetryingAccountService(
+                delegate, new OptimisticRetryExecutor(new OptimisticRetryProperties(
+                        3, Duration.ZERO, 1.0, Duration.ZERO, false, 0.1, 100), meterRegistry),
+                Optional.empty(),
+                new IdempotentDebitExecutor(IdempotencyProperties.defaults(), meterRegistry),
+                Optional.of(store));
+
+        assertThat(persistent.debit("ACC-001", new BigDecimal("1000.00"), "pay-1")).isEqualTo(response);
+        assertThat(persistent.debit("ACC-001", new BigDecimal("1000.00"), "pay-2")).isEqualTo(response);
+        verify(delegate, never()).debit(any(), any());
+    }
+}
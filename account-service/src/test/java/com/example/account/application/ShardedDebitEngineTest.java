@@ -0,0 +1,306 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.DebitProperties;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+import com.example.account.infrastructure.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ShardedDebitEngine Tests")
+class ShardedDebitEngineTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ShardedDebitEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        engine = new ShardedDebitEngine(accountRepository, transactionManager, eventPublisher,
+                new DebitProperties(DebitMode.SHARDED, new DebitProperties.Sharded(2, 64, 1000)));
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.stop();
+    }
+
+    @Nested
+    @DisplayName("Debit outcomes")
+    class DebitOutcomes {
+
+        @Test
+        @DisplayName("should debit and save the account")
+        void shouldDebitAndSaveAccount() {
+            Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+            when(accountRepository.findByAccountNumber("ACC-001")).thenReturn(Optional.of(account));
+
+            DebitResponse response = engine.debit("ACC-001", new BigDecimal("1000.00"));
+
+            assertThat(response.success()).isTrue();
+            assertThat(response.previousBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+            assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+            verify(accountRepository).save(account);
+        }
+
+        @Test
+        @DisplayName("should keep the account in memory across batches")
+        void shouldKeepAccountInMemoryAcrossBatches() {
+            Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+            when(accountRepository.findByAccountNumber("ACC-001")).thenReturn(Optional.of(account));
+
+            engine.debit("ACC-001", new BigDecimal("1000.00"));
+            DebitResponse second = engine.debit("ACC-001", new BigDecimal("1000.00"));
+
+            assertThat(second.currentBalance()).isEqualByComparingTo(new BigDecimal("8000.00"));
+            verify(accountRepository, times(1)).findByAccountNumber("ACC-001");
+        }
+
+        @Test
+        @DisplayName("should report insufficient balance without saving")
+        void shouldReportInsufficientBalance() {
+            Account account = new Account("ACC-003", "測試用戶", new BigDecimal("500.00"));
+            when(accountRepository.findByAccountNumber("ACC-003")).thenReturn(Optional.of(account));
+
+            DebitResponse response = engine.debit("ACC-003", new BigDecimal("99999.00"));
+
+            assertThat(response.success()).isFalse();
+            assertThat(response.message()).isEqualTo("Insufficient balance");
+            verify(accountRepository, times(0)).save(any());
+        }
+
+        @Test
+        @DisplayName("should re-read the account before reporting insufficient balance")
+        void shouldReReadBeforeReportingInsufficientBalance() {
+            Account cached = new Account("ACC-001", "王大明", new BigDecimal("100.00"));
+            Account fresh = new Account("ACC-001", "王大明", new BigDecimal("1000.00"));
+            when(accountRepository.findByAccountNumber("ACC-001")).thenReturn(Optional.of(cached), Optional.of(fresh));
+            engine.debit("ACC-001", new BigDecimal("10.00"));
+
+            DebitResponse response = engine.debit("ACC-001", new BigDecimal("500.00"));
+
+            assertThat(response.success()).isTrue();
+            assertThat(response.previousBalance()).isEqualByComparingTo(new BigDecimal("1000.00"));
+            assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("500.00"));
+        }
+
+        @Test
+        @DisplayName("should not re-read an account it has just read")
+        void shouldNotReReadFreshlyLoadedAccount() {
+            Account account = new Account("ACC-004", "測試用戶", new BigDecimal("500.00"));
+            when(accountRepository.findByAccountNumber("ACC-004")).thenReturn(Optional.of(account));
+
+            DebitResponse response = engine.debit("ACC-004", new BigDecimal("99999.00"));
+
+            assertThat(response.success()).isFalse();
+            verify(accountRepository, times(1)).findByAccountNumber("ACC-004");
+        }
+
+        @Test
+        @DisplayName("should throw AccountNotFoundException for a missing account")
+        void shouldThrowAccountNotFound() {
+            when(accountRepository.findByAccountNumber("ACC-999")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> engine.debit("ACC-999", new BigDecimal("100.00")))
+                    .isInstanceOf(AccountNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should throw AccountFrozenException for a frozen account")
+        void shouldThrowAccountFrozen() {
+            Account account = new Account("ACC-006", "凍結帳戶", new BigDecimal("5000.00"));
+            account.freeze();
+            when(accountRepository.findByAccountNumber("ACC-006")).thenReturn(Optional.of(account));
+
+            assertThatThrownBy(() -> engine.debit("ACC-006", new BigDecimal("100.00")))
+                    .isInstanceOf(AccountFrozenException.class);
+        }
+
+        @Test
+        @DisplayName("should complete a rejected debit as a result without saving")
+        void shouldCompleteRejectionAsResult() {
+            when(accountRepository.findByAccountNumber("ACC-999")).thenReturn(Optional.empty());
+
+            DebitResult result = engine.tryDebit("ACC-999", new BigDecimal("100.00"));
+
+            assertThat(result.isRejected()).isTrue();
+            assertThat(result.rejection()).isEqualTo(AccountRejection.NOT_FOUND);
+            verify(accountRepository, times(0)).save(any());
+        }
+
+        @Test
+        @DisplayName("should reject a non-positive amount before queueing")
+        void shouldRejectNonPositiveAmount() {
+            assertThatThrownBy(() -> engine.submit("ACC-001", BigDecimal.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Debit amount must be positive");
+        }
+    }
+
+    @Nested
+    @DisplayName("Group commit")
+    class GroupCommit {
+
+        @Test
+        @DisplayName("should complete every queued debit for one account")
+        void shouldCompleteEveryQueuedDebit() {
+            Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+            when(accountRepository.findByAccountNumber("ACC-001")).thenReturn(Optional.of(account));
+
+            List<CompletableFuture<DebitResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(engine.submit("ACC-001", new BigDecimal("10.00")));
+            }
+            futures.forEach(CompletableFuture::join);
+
+            assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+            assertThat(futures).allSatisfy(future -> assertThat(future.join().success()).isTrue());
+        }
+
+        @Test
+        @DisplayName("should reload and replay the batch when the cached version is stale")
+        void shouldReplayBatchWhenVersionIsStale() {
+            Account stale = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+            Account fresh = new Account("ACC-001", "王大明", new BigDecimal("5000.00"));
+            when(accountRepository.findByAccountNumber("ACC-001")).thenReturn(Optional.of(stale), Optional.of(fresh));
+            when(accountRepository.save(stale)).thenThrow(new OptimisticLockingFailureException("stale"));
+
+            DebitResponse response = engine.debit("ACC-001", new BigDecimal("1000.00"));
+
+            assertThat(response.previousBalance()).isEqualByComparingTo(new BigDecimal("5000.00"));
+            assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("4000.00"));
+        }
+
+        @Test
+        @DisplayName("should fail the batch after repeated version conflicts")
+        void shouldFailBatchAfterRepeatedConflicts() {
+            when(accountRepository.findByAccountNumber("ACC-001"))
+                    .thenAnswer(invocation -> Optional.of(new Account("ACC-001", "王大明", new BigDecimal("10000.00"))));
+            when(accountRepository.save(any(Account.class))).thenThrow(new OptimisticLockingFailureException("stale"));
+
+            assertThatThrownBy(() -> engine.debit("ACC-001", new BigDecimal("1000.00")))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+            verify(accountRepository, atLeast(ShardedDebitEngine.MAX_COMMIT_ATTEMPTS)).findByAccountNumber("ACC-001");
+        }
+
+        @Test
+        @DisplayName("should fail only the conflicting account's debits after repeated version conflicts")
+        void shouldFailOnlyConflictingAccountDebits() throws InterruptedException {
+            String neighbour = sameShardAs("ACC-001");
+            CountDownLatch queued = new CountDownLatch(1);
+            when(accountRepository.findByAccountNumber("ACC-001")).thenAnswer(invocation -> {
+                queued.await();
+                return Optional.of(new Account("ACC-001", "王大明", new BigDecimal("10000.00")));
+            });
+            when(accountRepository.findByAccountNumber(neighbour))
+                    .thenAnswer(invocation -> Optional.of(new Account(neighbour, "陳小華", new BigDecimal("10000.00"))));
+            when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> {
+                Account account = invocation.getArgument(0);
+                if (account.getAccountNumber().equals("ACC-001")) {
+                    throw new OptimisticLockingFailureException("stale");
+                }
+                return account;
+            });
+
+            // The first debit holds the shard, so the next two are drained into one batch
+            CompletableFuture<DebitResponse> first = engine.submit("ACC-001", new BigDecimal("1000.00"));
+            CompletableFuture<DebitResponse> conflicting = engine.submit("ACC-001", new BigDecimal("1000.00"));
+            CompletableFuture<DebitResponse> unaffected = engine.submit(neighbour, new BigDecimal("1000.00"));
+            queued.countDown();
+
+            assertThatThrownBy(first::join).hasCauseInstanceOf(OptimisticLockingFailureException.class);
+            assertThatThrownBy(conflicting::join).hasCauseInstanceOf(OptimisticLockingFailureException.class);
+            assertThat(unaffected.join().success()).isTrue();
+            assertThat(unaffected.join().currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+        }
+
+        private String sameShardAs(String accountNumber) {
+            for (int i = 2; ; i++) {
+                String candidate = String.format("ACC-%03d", i);
+                if (engine.shardIndex(candidate) == engine.shardIndex(accountNumber)) {
+                    return candidate;
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should fail the batch when the commit fails")
+        void shouldFailBatchWhenCommitFails() {
+            when(accountRepository.findByAccountNumber("ACC-001"))
+                    .thenReturn(Optional.of(new Account("ACC-001", "王大明", new BigDecimal("10000.00"))));
+            when(accountRepository.save(any(Account.class))).thenThrow(new DataAccessResourceFailureException("down"));
+
+            assertThatThrownBy(() -> engine.debit("ACC-001", new BigDecimal("1000.00")))
+                    .isInstanceOf(DataAccessResourceFailureException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle")
+    class Lifecycle {
+
+        @Test
+        @DisplayName("should hash an account number onto a stable shard")
+        void shouldHashOntoStableShard() {
+            assertThat(engine.shardIndex("ACC-001")).isEqualTo(engine.shardIndex("ACC-001"));
+            assertThat(engine.shardIndex("ACC-001")).isBetween(0, 1);
+        }
+
+        @Test
+        @DisplayName("should reject debits after stop")
+        void shouldRejectDebitsAfterStop() throws InterruptedException {
+            engine.stop();
+
+            assertThatThrownBy(() -> engine.submit("ACC-001", new BigDecimal("1.00")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("not running");
+
+            engine = new ShardedDebitEngine(accountRepository, transactionManager, eventPublisher,
+                    new DebitProperties(DebitMode.SHARDED));
+            engine.start();
+        }
+    }
+}
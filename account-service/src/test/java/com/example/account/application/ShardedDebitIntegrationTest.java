@@ -0,0 +1,62 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.repository.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "account.debit.mode=sharded")
+@ActiveProfiles("test")
+@DisplayName("Sharded debit integration Tests")
+class ShardedDebitIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("should apply concurrent debits without losing any")
+    void shouldApplyConcurrentDebitsWithoutLosingAny() {
+        accountService.createAccount(new CreateAccountRequest("SHD-001", "王大明", new BigDecimal("10000.00")));
+
+        List<CompletableFuture<DebitResponse>> debits = IntStream.range(0, 200)
+                .mapToObj(i -> CompletableFuture.supplyAsync(
+                        () -> accountService.debit("SHD-001", new BigDecimal("10.00"))))
+                .toList();
+        debits.forEach(CompletableFuture::join);
+
+        Account account = accountRepository.findByAccountNumber("SHD-001").orElseThrow();
+        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("8000.00"));
+        assertThat(debits).allSatisfy(debit -> assertThat(debit.join().success()).isTrue());
+    }
+
+    @Test
+    @DisplayName("should see a freeze applied outside the engine")
+    void shouldSeeFreezeAppliedOutsideEngine() {
+        accountService.createAccount(new CreateAccountRequest("SHD-002", "李小華", new BigDecimal("5000.00")));
+        accountService.debit("SHD-002", new BigDecimal("100.00"));
+
+        accountService.freeze("SHD-002");
+
+        assertThatThrownBy(() -> accountService.debit("SHD-002", new BigDecimal("100.00")))
+                .isInstanceOf(AccountFrozenException.class);
+        assertThat(accountRepository.findByAccountNumber("SHD-002").orElseThrow().getBalance())
+                .isEqualByComparingTo(new BigDecimal("4900.00"));
+    }
+}
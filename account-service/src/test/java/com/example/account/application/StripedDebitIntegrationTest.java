@@ -0,0 +1,142 @@
+package com.example.account.application;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.BalanceStripe;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.DebitProperties;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.BalanceStripeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Striped debit integration Tests")
+class StripedDebitIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountQueryService accountQueryService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BalanceStripeRepository stripeRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private long[] stripeBalances(String accountNumber) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                accountRepository.findByAccountNumber(accountNumber).orElseThrow().getStripes().stream()
+                        .mapToLong(BalanceStripe::getBalanceMinorUnits)
+                        .toArray());
+    }
+
+    private BigDecimal columnBalance(String accountNumber) {
+        return (BigDecimal) entityManager
+                .createNativeQuery("SELECT balance FROM accounts WHERE account_number = :accountNumber")
+                .setParameter("accountNumber", accountNumber)
+                .getSingleResult();
+    }
+
+    @Test
+    @DisplayName("should move the balance into stripe rows and keep reporting the total")
+    void shouldMoveBalanceIntoStripeRows() {
+        accountService.createAccount(new CreateAccountRequest("STR-001", "熱門帳戶", new BigDecimal("1000.00")));
+
+        accountService.stripe("STR-001", 4);
+
+        assertThat(stripeBalances("STR-001")).containsExactly(25_000L, 25_000L, 25_000L, 25_000L);
+        assertThat(columnBalance("STR-001")).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(accountQueryService.getAccount("STR-001").orElseThrow().account().balance())
+                .isEqualByComparingTo(new BigDecimal("1000.00"));
+    }
+
+    @Test
+    @DisplayName("should lose no debit under concurrent read-modify-write debits")
+    void shouldLoseNoDebitUnderConcurrency() throws Exception {
+        accountService.createAccount(new CreateAccountRequest("STR-002", "熱門帳戶", new BigDecimal("10000.00")));
+        accountService.stripe("STR-002", 8);
+        AtomicInteger succeeded = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 25; i++) {
+                    try {
+                        if (accountService.debit("STR-002", new BigDecimal("1.00")).success()) {
+                            succeeded.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        // retries exhausted: the debit did not apply
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        pool.shutdown();
+
+        long total = 1_000_000L - succeeded.get() * 100L;
+        assertThat(succeeded.get()).isPositive();
+        assertThat(Arrays.stream(stripeBalances("STR-002")).min().orElseThrow()).isNotNegative();
+        assertThat(stripeRepository.sumBalance(accountRepository.findByAccountNumber("STR-002").orElseThrow().getId()))
+                .isEqualByComparingTo(BigDecimal.valueOf(total, 2));
+    }
+
+    @Test
+    @DisplayName("should drain a striped account through atomic stripe updates and rebalances")
+    void shouldDrainThroughAtomicStripeUpdates() {
+        accountService.createAccount(new CreateAccountRequest("STR-003", "熱門帳戶", new BigDecimal("10.00")));
+        accountService.stripe("STR-003", 4);
+        AccountServiceImpl atomic = new AccountServiceImpl(accountRepository, new DebitProperties(DebitMode.ATOMIC),
+                eventPublisher, stripeRepository);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        DebitResponse first = transaction.execute(status -> atomic.debit("STR-003", new BigDecimal("2.00")));
+        DebitResponse rebalanced = transaction.execute(status -> atomic.debit("STR-003", new BigDecimal("7.00")));
+        DebitResponse refused = transaction.execute(status -> atomic.debit("STR-003", new BigDecimal("1.01")));
+
+        assertThat(first.success()).isTrue();
+        assertThat(first.currentBalance()).isEqualByComparingTo(new BigDecimal("8.00"));
+        assertThat(rebalanced.success()).isTrue();
+        assertThat(rebalanced.currentBalance()).isEqualByComparingTo(new BigDecimal("1.00"));
+        assertThat(refused.success()).isFalse();
+        assertThat(stripeBalances("STR-003")).containsExactly(25L, 25L, 25L, 25L);
+    }
+}
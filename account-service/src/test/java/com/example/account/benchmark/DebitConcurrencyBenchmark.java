@@ -0,0 +1,169 @@
+package com.example.account.benchmark;
+
+import com.example.account.application.AccountService;
+import com.example.account.application.AccountServiceImpl;
+import com.example.account.application.DebitMode;
+import com.example.account.application.IdempotentDebitExecutor;
+import com.example.account.application.OptimisticRetryExecutor;
+import com.example.account.application.RetryingAccountService;
+import com.example.account.application.ShardedDebitEngine;
+import com.example.account.domain.Account;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.DebitProperties;
+import com.example.account.infrastructure.config.IdempotencyProperties;
+import com.example.account.infrastructure.config.OptimisticRetryProperties;
+import com.example.account.infrastructure.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency benchmark: many threads debiting the same account.
+ *
+ * Compares the read-modify-write path (optimistic version check, with and without
+ * retries), the single-statement atomic path and the single-writer sharded engine. Reports throughput, failed
+ * calls and lost updates (debits reported as successful but missing from the
+ * final balance).
+ *
+ * Run with: ./gradlew :account-service:benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class DebitConcurrencyBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int DEBITS_PER_THREAD = 500;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @ParameterizedTest
+    @EnumSource(value = DebitMode.class, names = {"READ_MODIFY_WRITE", "ATOMIC"})
+    void concurrentDebitsOnSingleAccount(DebitMode mode) throws Exception {
+        AccountServiceImpl accountService = new AccountServiceImpl(
+                accountRepository, new DebitProperties(mode), eventPublisher);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        Result result = run(mode.name(), "BENCH-" + mode.ordinal(),
+                (accountNumber, amount) -> transaction.execute(status -> accountService.debit(accountNumber, amount)));
+
+        assertThat(result.lostUpdates()).isZero();
+    }
+
+    @Test
+    void concurrentDebitsWithOptimisticRetry() throws Exception {
+        AccountServiceImpl delegate = new AccountServiceImpl(
+                accountRepository, new DebitProperties(DebitMode.READ_MODIFY_WRITE), eventPublisher);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // generous limits: measure the cost of retrying, not the budget
+        OptimisticRetryProperties properties = new OptimisticRetryProperties(
+                50, Duration.ofMillis(1), 2.0, Duration.ofMillis(20), true, 1.0, 10_000);
+        OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor(properties, new SimpleMeterRegistry());
+        AccountService accountService = new RetryingAccountService(delegate, retryExecutor, Optional.empty(),
+                new IdempotentDebitExecutor(IdempotencyProperties.defaults(), new SimpleMeterRegistry()),
+                Optional.empty()) {
+            @Override
+            public DebitResponse debit(String accountNumber, BigDecimal amount) {
+                return retryExecutor.execute("debit",
+                        () -> transaction.execute(status -> delegate.debit(accountNumber, amount)));
+            }
+        };
+
+        Result result = run("RMW+RETRY", "BENCH-RETRY", accountService::debit);
+
+        assertThat(result.lostUpdates()).isZero();
+    }
+
+    @Test
+    void concurrentDebitsThroughShardedEngine() throws Exception {
+        ShardedDebitEngine engine = new ShardedDebitEngine(accountRepository, transactionManager, eventPublisher,
+                new DebitProperties(DebitMode.SHARDED));
+        engine.start();
+        try {
+            Result result = run(DebitMode.SHARDED.name(), "BENCH-SHARDED", engine::debit);
+
+            assertThat(result.lostUpdates()).isZero();
+        } finally {
+            engine.stop();
+        }
+    }
+
+    private Result run(String label, String accountNumber,
+                       BiFunction<String, BigDecimal, DebitResponse> debit) throws Exception {
+        accountRepository.save(new Account(accountNumber, "Benchmark", INITIAL_BALANCE));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < DEBITS_PER_THREAD; i++) {
+                    try {
+                        DebitResponse response = debit.apply(accountNumber, AMOUNT);
+                        if (response != null && response.success()) {
+                            succeeded.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        pool.shutdown();
+
+        BigDecimal finalBalance = accountRepository.findByAccountNumber(accountNumber).orElseThrow().getBalance();
+        BigDecimal expectedBalance = INITIAL_BALANCE.subtract(AMOUNT.multiply(BigDecimal.valueOf(succeeded.get())));
+        long lostUpdates = finalBalance.subtract(expectedBalance).divide(AMOUNT).longValue();
+        double throughput = succeeded.get() / (elapsedNanos / 1_000_000_000.0);
+
+        System.out.printf("%-18s threads=%d attempts=%d succeeded=%d failed=%d lostUpdates=%d elapsed=%dms throughput=%.0f ops/s%n",
+                label, THREADS, THREADS * DEBITS_PER_THREAD, succeeded.get(), failed.get(), lostUpdates,
+                elapsedNanos / 1_000_000, throughput);
+        return new Result(succeeded.get(), failed.get(), lostUpdates);
+    }
+
+    private record Result(int succeeded, int failed, long lostUpdates) {
+    }
+}
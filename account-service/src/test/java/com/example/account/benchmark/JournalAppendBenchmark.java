@@ -0,0 +1,57 @@
+package com.example.account.benchmark;
+
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.infrastructure.journal.FsyncPolicy;
+import com.example.account.infrastructure.journal.MappedSegmentJournal;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Journal append throughput for each fsync policy.
+ *
+ * A single writer appends DEBITED entries; ALWAYS appends fewer entries because
+ * every append waits for the disk.
+ *
+ * Run with: ./gradlew :account-service:benchmark
+ */
+@Tag("benchmark")
+class JournalAppendBenchmark {
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int WARMUP = 10_000;
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(FsyncPolicy.class)
+    void appendThroughput(FsyncPolicy policy) {
+        int appends = policy == FsyncPolicy.ALWAYS ? 5_000 : 500_000;
+        AccountMutatedEvent event = AccountMutatedEvent.debited("ACC-001", new BigDecimal("1.00"));
+
+        try (MappedSegmentJournal journal = new MappedSegmentJournal(
+                directory, SEGMENT_SIZE, policy, 64, Duration.ofMillis(10))) {
+            for (int i = 0; i < WARMUP; i++) {
+                journal.append(event);
+            }
+            journal.sync();
+
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < appends; i++) {
+                journal.append(event);
+            }
+            journal.sync();
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            System.out.printf("%-8s appends=%d elapsed=%dms throughput=%.0f ops/s avg=%.2fus%n",
+                    policy, appends, elapsedNanos / 1_000_000,
+                    appends / (elapsedNanos / 1_000_000_000.0), elapsedNanos / 1_000.0 / appends);
+        }
+    }
+}
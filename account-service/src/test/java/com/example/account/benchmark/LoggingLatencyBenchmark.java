@@ -0,0 +1,188 @@
+package com.example.account.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.FileAppender;
+import com.example.logging.Markers;
+import com.example.logging.RingBufferAppender;
+import com.example.logging.SuccessLogSampler;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency the logging pipeline adds to a debit under load.
+ *
+ * THREADS threads each log what one debit logs on the success path (the "Debiting account"
+ * and "Debit successful" lines) back to back, timing every pair. The events are encoded
+ * with the production LogstashEncoder into a file:
+ * - OFF: the logger is at WARN, the cost of the disabled calls
+ * - SYNC: the file appender on the calling thread, as every profile wrote before
+ * - RING: the events go through a RingBufferAppender (DROP) to the same file appender
+ * - RING_SAMPLED: RING plus the SuccessLogSampler of the prod profile (20 per second)
+ *
+ * Expected: SYNC serializes the threads on the appender lock, so p99 grows with THREADS;
+ * RING keeps p50 near the cost of formatting the message, but the writer cannot keep up
+ * and most events are dropped (counted); RING_SAMPLED denies all but 20 pairs per
+ * second before an event is built and is close to OFF. Latencies of 10ms or more share the
+ * last bucket and print as 10000.0us.
+ *
+ * Run with: ./gradlew :account-service:benchmark
+ *   -Dbenchmark.seconds=5               measured period per mode
+ */
+@Tag("benchmark")
+class LoggingLatencyBenchmark {
+
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 5);
+    private static final int THREADS = 16;
+    private static final int BUCKET_NANOS = 100;
+    private static final int BUCKETS = 100_000;
+
+    private enum Mode { OFF, SYNC, RING, RING_SAMPLED }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareLoggingPipelines() throws Exception {
+        List<String> results = new ArrayList<>();
+        for (Mode mode : Mode.values()) {
+            results.add(run(mode));
+        }
+        results.forEach(System.out::println);
+    }
+
+    private String run(Mode mode) throws Exception {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        Path file = directory.resolve(mode.name().toLowerCase() + ".json");
+        Logger logger = context.getLogger("com.example.account.application.AccountServiceImpl");
+        logger.setAdditive(false);
+        logger.setLevel(mode == Mode.OFF ? Level.WARN : Level.INFO);
+
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setCustomFields("{\"service\":\"account-service\",\"version\":\"1.0.0\"}");
+        encoder.start();
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setName("JSON_FILE");
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        RingBufferAppender ring = null;
+        SuccessLogSampler sampler = null;
+        if (mode == Mode.RING || mode == Mode.RING_SAMPLED) {
+            ring = new RingBufferAppender();
+            ring.setContext(context);
+            ring.setName("ASYNC_JSON_FILE");
+            ring.addAppender(fileAppender);
+            ring.start();
+            logger.addAppender(ring);
+        } else {
+            logger.addAppender(fileAppender);
+        }
+        if (mode == Mode.RING_SAMPLED) {
+            sampler = new SuccessLogSampler();
+            sampler.setContext(context);
+            sampler.setPermitsPerSecond(20);
+            sampler.start();
+            context.addTurboFilter(sampler);
+        }
+
+        try {
+            load(logger, 1);
+            long[] histogram = new long[BUCKETS];
+            long pairs = load(logger, SECONDS, histogram);
+            if (ring != null) {
+                ring.stop();
+            }
+            fileAppender.stop();
+
+            assertThat(pairs).isPositive();
+            long dropped = ring != null ? ring.droppedCount(Level.INFO) : 0;
+            long suppressed = sampler != null ? sampler.suppressedCount() : 0;
+            return String.format(
+                    "%-12s threads=%d pairs=%d p50=%.1fus p99=%.1fus p99.9=%.1fus throughput=%.0f ops/s "
+                            + "written=%dKB dropped=%d suppressed=%d",
+                    mode, THREADS, pairs, percentile(histogram, pairs, 0.50), percentile(histogram, pairs, 0.99),
+                    percentile(histogram, pairs, 0.999), pairs / (double) SECONDS,
+                    Files.size(file) / 1024, dropped, suppressed);
+        } finally {
+            context.stop();
+        }
+    }
+
+    private static long load(Logger logger, int seconds) throws InterruptedException {
+        return load(logger, seconds, new long[BUCKETS]);
+    }
+
+    /**
+     * Postcondition: histogram counts every timed pair in BUCKET_NANOS buckets (the last one open-ended)
+     */
+    private static long load(Logger logger, int seconds, long[] histogram) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long[][] perThread = new long[THREADS][];
+        long[] counts = new long[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            Thread.ofPlatform().name("debit-" + t).start(() -> {
+                long[] local = new long[BUCKETS];
+                String accountNumber = "ACC-%03d".formatted(thread);
+                long balance = 1_000_000_000L;
+                long count = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    logger.info(Markers.SAMPLED, "Debiting account: {}, amount: {}",
+                            accountNumber, "1.00");
+                    logger.info(Markers.SAMPLED,
+                            "Debit successful: account={}, previousBalance={}, newBalance={}",
+                            accountNumber, balance, balance - 100);
+                    long elapsed = System.nanoTime() - start;
+                    local[(int) Math.min(elapsed / BUCKET_NANOS, BUCKETS - 1)]++;
+                    balance -= 100;
+                    count++;
+                }
+                perThread[thread] = local;
+                counts[thread] = count;
+                done.countDown();
+            });
+        }
+        done.await();
+        long total = 0;
+        for (int t = 0; t < THREADS; t++) {
+            for (int b = 0; b < BUCKETS; b++) {
+                histogram[b] += perThread[t][b];
+            }
+            total += counts[t];
+        }
+        return total;
+    }
+
+    private static double percentile(long[] histogram, long total, double quantile) {
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank) {
+                return (bucket + 1) * BUCKET_NANOS / 1000.0;
+            }
+        }
+        return BUCKETS * BUCKET_NANOS / 1000.0;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.account.benchmark;
+
+import com.example.account.AccountServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load benchmark: the account API on the servlet stack (Tomcat, JPA) versus the reactive
+ * stack (Netty, R2DBC), at a fixed number of concurrent client connections.
+ *
+ * Each run starts the application on a fresh in-memory database, opens ACCOUNTS accounts
+ * over HTTP and then drives one of two workloads: GET /api/v1/accounts/{n} (served from the
+ * read model) or POST /api/v1/accounts/{n}/debit (one conditional UPDATE plus a ledger entry).
+ * Connection i uses account i % ACCOUNTS. Each client connection is a virtual thread sending
+ * requests back to back for the measured period. Reports throughput, errors, latency and
+ * the peak number of server threads: Tomcat's request threads, or Netty's event loops plus
+ * the boundedElastic threads the reactive API offloads blocking work to.
+ *
+ * Both stacks share this JVM with the client: 10000 connections need an open-file limit of
+ * about 20000.
+ *
+ * Run with: ./gradlew :account-service:benchmark
+ *   -Dbenchmark.connections=1000,10000  concurrent connections per run
+ *   -Dbenchmark.seconds=10              measured period per run
+ *   -Dbenchmark.workloads=read,debit    workloads to run
+ */
+@Tag("benchmark")
+class ServerStackLoadBenchmark {
+
+    private static final int[] CONNECTIONS = Arrays.stream(
+            System.getProperty("benchmark.connections", "1000,10000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim())).toArray();
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+    private static final List<String> WORKLOADS = Arrays.stream(
+            System.getProperty("benchmark.workloads", "read,debit").split(","))
+            .map(String::trim).toList();
+    private static final int ACCOUNTS = 100;
+    private static final String DEBIT = """
+            {"amount": 0.01}
+            """;
+
+    private enum Stack { SERVLET, REACTIVE }
+
+    @Test
+    void compareServerStacks() throws Exception {
+        List<String> results = new ArrayList<>();
+        for (String workload : WORKLOADS) {
+            for (int connections : CONNECTIONS) {
+                for (Stack stack : Stack.values()) {
+                    results.add(run(stack, workload, connections));
+                }
+            }
+        }
+        results.forEach(System.out::println);
+    }
+
+    private String run(Stack stack, String workload, int connections) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.main.web-application-type=" + stack.name().toLowerCase(),
+                "--spring.datasource.url=jdbc:h2:mem:stack-" + stack + "-" + workload + "-" + connections
+                        + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--server.tomcat.max-connections=" + (connections + 100),
+                "--server.tomcat.accept-count=" + connections,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.example.account=WARN")) {
+            String base = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                    + "/api/v1/accounts";
+            openAccounts(base);
+
+            IntFunction<HttpRequest> request = "debit".equals(workload)
+                    ? i -> HttpRequest.newBuilder(URI.create(base + "/" + accountNumber(i) + "/debit"))
+                            .header("Content-Type", "application/json")
+                            .timeout(Duration.ofSeconds(60))
+                            .POST(HttpRequest.BodyPublishers.ofString(DEBIT))
+                            .build()
+                    : i -> HttpRequest.newBuilder(URI.create(base + "/" + accountNumber(i)))
+                            .timeout(Duration.ofSeconds(60))
+                            .GET()
+                            .build();
+            load(request, Math.min(connections, 200), 2, stack);
+            Load measured = load(request, connections, SECONDS, stack);
+
+            assertThat(measured.completed()).isPositive();
+            return String.format(
+                    "%-8s %-5s connections=%-5d completed=%d errors=%d elapsed=%dms p50=%dms p99=%dms "
+                            + "throughput=%.0f ops/s server-threads=%d",
+                    stack, workload, connections, measured.completed(), measured.errors(),
+                    measured.elapsedMillis(), measured.percentile(0.50), measured.percentile(0.99),
+                    measured.completed() * 1000.0 / measured.elapsedMillis(), measured.serverThreads());
+        }
+    }
+
+    private static String accountNumber(int connection) {
+        return "LOAD-%03d".formatted(connection % ACCOUNTS);
+    }
+
+    private static void openAccounts(String base) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("""
+                            {"accountNumber": "%s", "ownerName": "壓測", "initialBalance": 1000000.00}
+                            """.formatted(accountNumber(i))))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(201);
+        }
+    }
+
+    private static Load load(IntFunction<HttpRequest> requests, int connections, int seconds, Stack stack)
+            throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        // latency histogram in milliseconds, last bucket catches everything slower
+        AtomicLongArray latencies = new AtomicLongArray(60_001);
+        AtomicInteger serverThreads = new AtomicInteger();
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    serverThreads.accumulateAndGet(countServerThreads(stack), Math::max);
+                    Thread.sleep(100);
+                }
+                return null;
+            });
+            List<Future<?>> clients = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                HttpRequest request = requests.apply(i);
+                clients.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            completed.incrementAndGet();
+                            long millis = (System.nanoTime() - sent) / 1_000_000;
+                            latencies.incrementAndGet((int) Math.min(millis, latencies.length() - 1));
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : clients) {
+                future.get();
+            }
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        return new Load(completed.get(), errors.get(), elapsedMillis, latencies, serverThreads.get());
+    }
+
+    /**
+     * Threads serving requests, by the names Tomcat, the account-http loop resources and
+     * Reactor's boundedElastic scheduler give them.
+     */
+    private static int countServerThreads(Stack stack) {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .map(Thread::getName)
+                .filter(name -> stack == Stack.SERVLET
+                        ? name.startsWith("http-nio-") && name.contains("-exec-")
+                        : name.startsWith("account-http") || name.startsWith("boundedElastic-") && !name.contains("evictor"))
+                .count();
+    }
+
+    private record Load(int completed, int errors, long elapsedMillis, AtomicLongArray latencies,
+                        int serverThreads) {
+
+        long percentile(double quantile) {
+            long rank = (long) Math.ceil(completed * quantile);
+            long seen = 0;
+            for (int millis = 0; millis < latencies.length(); millis++) {
+                seen += latencies.get(millis);
+                if (seen >= rank && rank > 0) {
+                    return millis;
+                }
+            }
+            return latencies.length() - 1;
+        }
+    }
+}
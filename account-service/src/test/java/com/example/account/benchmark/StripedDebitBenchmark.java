@@ -0,0 +1,128 @@
+package com.example.account.benchmark;
+
+import com.example.account.application.AccountServiceImpl;
+import com.example.account.application.DebitMode;
+import com.example.account.application.OptimisticRetryExecutor;
+import com.example.account.domain.Account;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.config.DebitProperties;
+import com.example.account.infrastructure.config.OptimisticRetryProperties;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.BalanceStripeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contention benchmark for striped hot accounts: many threads debiting one account
+ * whose balance is split over 1..16 stripe rows.
+ *
+ * With one stripe every debit serialises on the same row, as an unstriped account does;
+ * each added stripe is another row the debits can land on. The read-modify-write path
+ * runs behind the optimistic retry executor so conflicts cost retries rather than
+ * failed calls. Reports throughput, failed calls and lost updates.
+ *
+ * Run with: ./gradlew :account-service:benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class StripedDebitBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int DEBITS_PER_THREAD = 200;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BalanceStripeRepository stripeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @ParameterizedTest(name = "{0} stripes={1}")
+    @CsvSource({
+            "ATOMIC, 1", "ATOMIC, 2", "ATOMIC, 4", "ATOMIC, 8", "ATOMIC, 16",
+            "READ_MODIFY_WRITE, 1", "READ_MODIFY_WRITE, 2", "READ_MODIFY_WRITE, 4",
+            "READ_MODIFY_WRITE, 8", "READ_MODIFY_WRITE, 16"
+    })
+    void concurrentDebitsOnStripedAccount(DebitMode mode, int stripes) throws Exception {
+        AccountServiceImpl accountService = new AccountServiceImpl(accountRepository, new DebitProperties(mode),
+                eventPublisher, stripeRepository);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor(new OptimisticRetryProperties(
+                50, Duration.ofMillis(1), 2.0, Duration.ofMillis(20), true, 1.0, 10_000), new SimpleMeterRegistry());
+
+        String accountNumber = "STRIPED-" + mode.ordinal() + "-" + stripes;
+        accountRepository.save(new Account(accountNumber, "Benchmark", INITIAL_BALANCE));
+        transaction.executeWithoutResult(status -> accountService.stripe(accountNumber, stripes));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < DEBITS_PER_THREAD; i++) {
+                    try {
+                        DebitResponse response = retryExecutor.execute("debit",
+                                () -> transaction.execute(status -> accountService.debit(accountNumber, AMOUNT)));
+                        if (response != null && response.success()) {
+                            succeeded.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        pool.shutdown();
+
+        BigDecimal finalBalance = transaction.execute(status ->
+                accountRepository.findByAccountNumber(accountNumber).orElseThrow().getBalance());
+        BigDecimal expectedBalance = INITIAL_BALANCE.subtract(AMOUNT.multiply(BigDecimal.valueOf(succeeded.get())));
+        long lostUpdates = finalBalance.subtract(expectedBalance).divide(AMOUNT).longValue();
+        double throughput = succeeded.get() / (elapsedNanos / 1_000_000_000.0);
+
+        System.out.printf("%-18s stripes=%-2d threads=%d attempts=%d succeeded=%d failed=%d lostUpdates=%d elapsed=%dms throughput=%.0f ops/s%n",
+                mode, stripes, THREADS, THREADS * DEBITS_PER_THREAD, succeeded.get(), failed.get(), lostUpdates,
+                elapsedNanos / 1_000_000, throughput);
+
+        assertThat(lostUpdates).isZero();
+    }
+}
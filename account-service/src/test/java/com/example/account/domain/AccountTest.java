@@ -128,7 +128,7 @@ class AccountTest {
         void shouldThrowExceptionForNullDebitAmount() {
             Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
 
-            assertThatThrownBy(() -> account.debit(null))
+            assertThatThrownBy(() -> account.debit((BigDecimal) null))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("Debit amount must be positive");
         }
@@ -217,6 +217,140 @@ class AccountTest {
         }
     }
 
+    @Nested
+    @DisplayName("Minor Units Debit")
+    class MinorUnitsDebit {
+
+        @Test
+        @DisplayName("should debit a Money amount in minor units")
+        void shouldDebitMoneyAmount() {
+            Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+
+            boolean result = account.debit(Money.ofMinor(50_050));
+
+            assertThat(result).isTrue();
+            assertThat(account.getBalanceMinorUnits()).isEqualTo(949_950L);
+            assertThat(account.getBalance()).isEqualTo(new BigDecimal("9499.50"));
+        }
+
+        @Test
+        @DisplayName("should reject a non-positive Money amount")
+        void shouldRejectNonPositiveMoneyAmount() {
+            Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+
+            assertThatThrownBy(() -> account.debit(Money.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Debit amount must be positive");
+        }
+
+        @Test
+        @DisplayName("should reject sub-cent amounts instead of rounding them")
+        void shouldRejectSubCentAmounts() {
+            Account account = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+
+            assertThatThrownBy(() -> account.debit(new BigDecimal("0.001")))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new Account("ACC-002", "李小華", new BigDecimal("1.005")))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(account.getBalanceMinorUnits()).isEqualTo(1_000_000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Striped Balance")
+    class StripedBalance {
+
+        private long[] stripeBalances(Account account) {
+            return account.getStripes().stream().mapToLong(BalanceStripe::getBalanceMinorUnits).toArray();
+        }
+
+        @Test
+        @DisplayName("should spread the balance evenly and keep the total")
+        void shouldSpreadBalanceEvenly() {
+            Account account = new Account("ACC-007", "熱門帳戶", new BigDecimal("100.03"));
+
+            account.stripe(4);
+
+            assertThat(account.isStriped()).isTrue();
+            assertThat(account.getStripeCount()).isEqualTo(4);
+            assertThat(stripeBalances(account)).containsExactly(2501L, 2501L, 2501L, 2500L);
+            assertThat(account.getStripes()).extracting(BalanceStripe::getStripeIndex).containsExactly(0, 1, 2, 3);
+            assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("100.03"));
+        }
+
+        @Test
+        @DisplayName("should debit a single stripe starting at the preferred one")
+        void shouldDebitSingleStripe() {
+            Account account = new Account("ACC-007", "熱門帳戶", new BigDecimal("400.00"));
+            account.stripe(4);
+
+            assertThat(account.debitStripes(1_000L, 2)).isTrue();
+
+            assertThat(stripeBalances(account)).containsExactly(10_000L, 10_000L, 9_000L, 10_000L);
+            assertThat(account.getBalanceMinorUnits()).isEqualTo(39_000L);
+        }
+
+        @Test
+        @DisplayName("should skip stripes that cannot cover the amount")
+        void shouldSkipShortStripes() {
+            Account account = new Account("ACC-007", "熱門帳戶", new BigDecimal("400.00"));
+            account.stripe(4);
+            account.debitStripes(10_000L, 3);
+
+            assertThat(account.debitStripes(5_000L, 3)).isTrue();
+
+            assertThat(stripeBalances(account)).containsExactly(5_000L, 10_000L, 10_000L, 0L);
+        }
+
+        @Test
+        @DisplayName("should rebalance when only the total covers the amount")
+        void shouldRebalanceWhenOnlyTotalCovers() {
+            Account account = new Account("ACC-007", "熱門帳戶", new BigDecimal("400.00"));
+            account.stripe(4);
+
+            assertThat(account.debit(new BigDecimal("250.00"))).isTrue();
+
+            assertThat(stripeBalances(account)).containsExactly(3_750L, 3_750L, 3_750L, 3_750L);
+            assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("150.00"));
+        }
+
+        @Test
+        @DisplayName("should refuse a debit above the total and leave every stripe unchanged")
+        void shouldRefuseDebitAboveTotal() {
+            Account account = new Account("ACC-007", "熱門帳戶", new BigDecimal("400.00"));
+            account.stripe(4);
+
+            assertThat(account.debit(new BigDecimal("400.01"))).isFalse();
+
+            assertThat(stripeBalances(account)).containsOnly(10_000L);
+        }
+
+        @Test
+        @DisplayName("should keep the status checks for striped debits")
+        void shouldKeepStatusChecks() {
+            Account account = new Account("ACC-007", "熱門帳戶", new BigDecimal("400.00"));
+            account.stripe(2);
+            account.freeze();
+
+            assertThatThrownBy(() -> account.debit(new BigDecimal("1.00")))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("should reject striping twice or with an invalid count")
+        void shouldRejectInvalidStriping() {
+            Account account = new Account("ACC-007", "熱門帳戶", new BigDecimal("400.00"));
+
+            assertThatThrownBy(() -> account.stripe(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> account.stripe(Account.MAX_STRIPES + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            account.stripe(2);
+            assertThatThrownBy(() -> account.stripe(2))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already striped");
+        }
+    }
+
     @Nested
     @DisplayName("Getters and Setters")
     class GettersAndSetters {
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import java.math.BigDecimal;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,6 +58,38 @@ class DebitResponseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Rejected Response")
+    class RejectedResponse {
+
+        @Test
+        @DisplayName("should create rejected response without balances")
+        void shouldCreateRejectedResponseWithoutBalances() {
+            DebitResponse response = DebitResponse.rejected(
+                    "ACC-999", new BigDecimal("100.00"), AccountRejection.NOT_FOUND);
+
+            assertThat(response.accountNumber()).isEqualTo("ACC-999");
+            assertThat(response.previousBalance()).isNull();
+            assertThat(response.currentBalance()).isNull();
+            assertThat(response.debitedAmount()).isEqualByComparingTo(new BigDecimal("100.00"));
+            assertThat(response.success()).isFalse();
+            assertThat(response.message()).isEqualTo("Account not found: ACC-999");
+            assertThat(response.reason()).isEqualTo("NOT_FOUND");
+        }
+
+        @Test
+        @DisplayName("should carry a reason code for every refused batch item and none on success")
+        void shouldCarryReasonCodes() {
+            assertThat(DebitResponse.rejected("ACC-003", new BigDecimal("100.00"), AccountRejection.FROZEN).reason())
+                    .isEqualTo("FROZEN");
+            assertThat(DebitResponse.insufficientBalanceItem("ACC-001", 5L, 100L).reason())
+                    .isEqualTo(DebitResponse.INSUFFICIENT_BALANCE);
+            assertThat(DebitResponse.invalidAmount("ACC-001", new BigDecimal("-1"), "Debit amount must be positive")
+                    .reason()).isEqualTo(DebitResponse.INVALID_AMOUNT);
+            assertThat(DebitResponse.success("ACC-001", 100L, 50L, 50L).reason()).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("Record Properties")
     class RecordProperties {
@@ -69,7 +103,8 @@ class DebitResponseTest {
                     new BigDecimal("9000.00"),
                     new BigDecimal("1000.00"),
                     true,
-                    "Debit successful"
+                    "Debit successful",
+                    null
             );
             DebitResponse response2 = new DebitResponse(
                     "ACC-001",
@@ -77,11 +112,92 @@ class DebitResponseTest {
                     new BigDecimal("9000.00"),
                     new BigDecimal("1000.00"),
                     true,
-                    "Debit successful"
+                    "Debit successful",
+                    null
             );
 
             assertThat(response1).isEqualTo(response2);
             assertThat(response1.hashCode()).isEqualTo(response2.hashCode());
         }
     }
+
+    @Nested
+    @DisplayName("Minor Units")
+    class MinorUnits {
+
+        @Test
+        @DisplayName("should build success response from minor units")
+        void shouldBuildSuccessFromMinorUnits() {
+            DebitResponse response = DebitResponse.success("ACC-001", 1_000_000L, 900_000L, 100_000L);
+
+            assertThat(response).isEqualTo(DebitResponse.success("ACC-001",
+                    new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00")));
+            assertThat(response.previousBalanceMinorUnits()).isEqualTo(1_000_000L);
+            assertThat(response.currentBalanceMinorUnits()).isEqualTo(900_000L);
+            assertThat(response.debitedAmountMinorUnits()).isEqualTo(100_000L);
+            assertThat(response.currentBalance()).isEqualTo(new BigDecimal("9000.00"));
+        }
+
+        @Test
+        @DisplayName("should build insufficient balance response from minor units")
+        void shouldBuildInsufficientBalanceFromMinorUnits() {
+            DebitResponse response = DebitResponse.insufficientBalance("ACC-001", 50_000L, 100_000L);
+
+            assertThat(response.previousBalanceMinorUnits()).isEqualTo(50_000L);
+            assertThat(response.currentBalanceMinorUnits()).isEqualTo(50_000L);
+            assertThat(response.success()).isFalse();
+            assertThat(response.message()).isEqualTo("Insufficient balance");
+        }
+
+        @Test
+        @DisplayName("should mark unknown balances of a rejected response")
+        void shouldMarkUnknownBalances() {
+            DebitResponse response = DebitResponse.rejected("ACC-999", new BigDecimal("100.00"), AccountRejection.NOT_FOUND);
+
+            assertThat(response.previousBalanceMinorUnits()).isEqualTo(DebitResponse.UNKNOWN);
+            assertThat(response.currentBalanceMinorUnits()).isEqualTo(DebitResponse.UNKNOWN);
+            assertThat(response.toString()).contains("previousBalance=null", "debitedAmount=100.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON Contract")
+    class JsonContract {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        @Test
+        @DisplayName("should serialize amounts as scale-2 numbers in record order")
+        void shouldSerializeInRecordOrder() throws Exception {
+            String json = objectMapper.writeValueAsString(
+                    DebitResponse.success("ACC-001", 1_000_000L, 950_050L, 49_950L));
+
+            assertThat(json).isEqualTo("{\"accountNumber\":\"ACC-001\",\"previousBalance\":10000.00,"
+                    + "\"currentBalance\":9500.50,\"debitedAmount\":499.50,\"success\":true,"
+                    + "\"message\":\"Debit successful\"}");
+        }
+
+        @Test
+        @DisplayName("should serialize unknown balances as null and read them back")
+        void shouldRoundTripUnknownBalances() throws Exception {
+            DebitResponse rejected = DebitResponse.rejected("ACC-999", new BigDecimal("100.00"), AccountRejection.NOT_FOUND);
+
+            String json = objectMapper.writeValueAsString(rejected);
+
+            assertThat(json).contains("\"previousBalance\":null", "\"currentBalance\":null",
+                    "\"reason\":\"NOT_FOUND\"");
+            assertThat(objectMapper.readValue(json, DebitResponse.class)).isEqualTo(rejected);
+        }
+
+        @Test
+        @DisplayName("should keep the single-debit insufficient-balance body free of a reason")
+        void shouldSerializeInsufficientBalanceWithoutReason() throws Exception {
+            String json = objectMapper.writeValueAsString(
+                    DebitResponse.insufficientBalance("ACC-001", 50_000L, 100_000L));
+
+            assertThat(json).isEqualTo("{\"accountNumber\":\"ACC-001\",\"previousBalance\":500.00,"
+                    + "\"currentBalance\":500.00,\"debitedAmount\":1000.00,\"success\":false,"
+                    + "\"message\":\"Insufficient balance\"}");
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.account.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MoneyColumnConverter Tests")
+class MoneyColumnConverterTest {
+
+    private final MoneyColumnConverter converter = new MoneyColumnConverter();
+
+    @Test
+    @DisplayName("should write minor units as a scale-2 decimal")
+    void shouldWriteScaleTwoDecimal() {
+        assertThat(converter.convertToDatabaseColumn(1_000_000L)).isEqualTo(new BigDecimal("10000.00"));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("should read a column value back into minor units")
+    void shouldReadMinorUnits() {
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("9500.50"))).isEqualTo(950_050L);
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("should refuse to round a column value with sub-cent precision")
+    void shouldRefuseToRound() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(new BigDecimal("1.005")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.account.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    @Nested
+    @DisplayName("Exact Conversion")
+    class ExactConversion {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0", "0.01", "10000", "10000.00", "9500.5", "-12.05", "92233720368547758.07"})
+        @DisplayName("should round-trip through the scale-2 column format")
+        void shouldRoundTrip(String value) {
+            BigDecimal amount = new BigDecimal(value);
+
+            BigDecimal converted = Money.of(amount).toBigDecimal();
+
+            assertThat(converted).isEqualByComparingTo(amount);
+            assertThat(converted.scale()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should count minor units")
+        void shouldCountMinorUnits() {
+            assertThat(Money.of(new BigDecimal("10000.00")).minorUnits()).isEqualTo(1_000_000L);
+            assertThat(Money.minorUnitsOf(new BigDecimal("0.5"))).isEqualTo(50L);
+        }
+
+        @Test
+        @DisplayName("should accept trailing zeros beyond the scale")
+        void shouldAcceptTrailingZeros() {
+            assertThat(Money.minorUnitsOf(new BigDecimal("1.2300"))).isEqualTo(123L);
+        }
+
+        @Test
+        @DisplayName("should reject sub-cent precision instead of rounding")
+        void shouldRejectSubCentPrecision() {
+            assertThatThrownBy(() -> Money.of(new BigDecimal("0.001")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("at most 2 decimal places");
+        }
+
+        @Test
+        @DisplayName("should reject amounts outside the long range")
+        void shouldRejectOverflow() {
+            assertThatThrownBy(() -> Money.of(new BigDecimal("92233720368547758.08")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("should reject null")
+        void shouldRejectNull() {
+            assertThatThrownBy(() -> Money.of(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("Arithmetic")
+    class Arithmetic {
+
+        @Test
+        @DisplayName("should add and subtract minor units")
+        void shouldAddAndSubtract() {
+            Money balance = Money.ofMinor(1_000_000);
+            Money amount = Money.ofMinor(50_000);
+
+            assertThat(balance.minus(amount)).isEqualTo(Money.ofMinor(950_000));
+            assertThat(balance.plus(amount)).isEqualTo(Money.ofMinor(1_050_000));
+            assertThat(amount.minus(amount)).isSameAs(Money.ZERO);
+        }
+
+        @Test
+        @DisplayName("should fail on overflow")
+        void shouldFailOnOverflow() {
+            assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).minus(Money.ofMinor(1)))
+                    .isInstanceOf(ArithmeticException.class);
+            assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        @DisplayName("should compare by minor units")
+        void shouldCompare() {
+            Money small = Money.ofMinor(1);
+            Money large = Money.ofMinor(2);
+
+            assertThat(small.isLessThan(large)).isTrue();
+            assertThat(large.isLessThan(small)).isFalse();
+            assertThat(small).isLessThan(large);
+            assertThat(small.isPositive()).isTrue();
+            assertThat(Money.ofMinor(-1).isNegative()).isTrue();
+            assertThat(Money.ZERO.isPositive()).isFalse();
+            assertThat(Money.ZERO.isNegative()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Formatting")
+    class Formatting {
+
+        @Test
+        @DisplayName("should format like BigDecimal.toPlainString at scale 2")
+        void shouldFormatLikeBigDecimal() {
+            for (long minor : new long[]{0, 5, 10, 99, 100, 1_000_000, -5, -1205, Long.MAX_VALUE, Long.MIN_VALUE}) {
+                assertThat(Money.ofMinor(minor).toString())
+                        .isEqualTo(Money.toBigDecimal(minor).toPlainString());
+            }
+        }
+    }
+}
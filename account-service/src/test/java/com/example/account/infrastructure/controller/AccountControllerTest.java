@@ -1,12 +1,21 @@
 package com.example.account.infrastructure.controller;
 
+import com.example.account.application.AccountQueryService;
 import com.example.account.application.AccountService;
+import com.example.account.application.DebitResult;
 import com.example.account.domain.Account;
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.AccountCreationResult;
+import com.example.account.domain.AccountSnapshot;
+import com.example.account.domain.AccountView;
 import com.example.account.domain.DebitResponse;
 import com.example.account.infrastructure.dto.CreateAccountRequest;
 import com.example.account.infrastructure.exception.AccountNotFoundException;
 import com.example.account.infrastructure.exception.GlobalExceptionHandler;
+import com.example.account.infrastructure.exception.IdempotencyKeyConflictException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,18 +24,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = {AccountController.class, GlobalExceptionHandler.class})
+@TestPropertySource(properties = "account.bulk-create.chunk-size=2")
 @DisplayName("AccountController Tests")
 class AccountControllerTest {
 
@@ -39,12 +61,21 @@ class AccountControllerTest {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private AccountQueryService accountQueryService;
+
     private Account testAccount;
 
     @BeforeEach
     void setUp() {
         testAccount = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
         testAccount.setId(1L);
+        // The controller debits through tryDebit; unless stubbed it adapts the debit stubs
+        when(accountService.tryDebit(any(), any())).thenCallRealMethod();
+    }
+
+    private static AccountView view(Account account, long version) {
+        return new AccountView(AccountSnapshot.from(account), 0, version, LocalDateTime.of(2026, 10, 17, 9, 30));
     }
 
     @Nested
@@ -54,7 +85,7 @@ class AccountControllerTest {
         @Test
         @DisplayName("should return account when found")
         void shouldReturnAccountWhenFound() throws Exception {
-            when(accountService.getAccount("ACC-001")).thenReturn(Optional.of(testAccount));
+            when(accountQueryService.getAccount("ACC-001")).thenReturn(Optional.of(view(testAccount, 42)));
 
             mockMvc.perform(get("/api/v1/accounts/ACC-001"))
                     .andExpect(status().isOk())
@@ -68,7 +99,7 @@ class AccountControllerTest {
         @Test
         @DisplayName("should return 404 when account not found")
         void shouldReturn404WhenAccountNotFound() throws Exception {
-            when(accountService.getAccount("ACC-999")).thenReturn(Optional.empty());
+            when(accountQueryService.getAccount("ACC-999")).thenReturn(Optional.empty());
 
             mockMvc.perform(get("/api/v1/accounts/ACC-999"))
                     .andExpect(status().isNotFound())
@@ -153,6 +184,75 @@ class AccountControllerTest {
                     .andExpect(jsonPath("$.currentBalance").value(9000.00));
         }
 
+        @Test
+        @DisplayName("should answer a frozen account from the debit result")
+        void shouldAnswerRejectedDebitFromResult() throws Exception {
+            doReturn(DebitResult.rejected(AccountRejection.FROZEN, "ACC-001"))
+                    .when(accountService).tryDebit(eq("ACC-001"), eq(new BigDecimal("1000.00")));
+
+            mockMvc.perform(post("/api/v1/accounts/ACC-001/debit")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"amount\": 1000.00}"))
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.error").value("Forbidden"))
+                    .andExpect(jsonPath("$.message").value("Account is frozen: ACC-001"))
+                    .andExpect(jsonPath("$.path").value("/api/v1/accounts/ACC-001/debit"));
+        }
+
+        @Test
+        @DisplayName("should answer an exception from the service like a rejected result")
+        void shouldMapThrownRejectionLikeResult() throws Exception {
+            when(accountService.debit(eq("ACC-999"), eq(new BigDecimal("1000.00"))))
+                    .thenThrow(new AccountNotFoundException("ACC-999"));
+
+            mockMvc.perform(post("/api/v1/accounts/ACC-999/debit")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"amount\": 1000.00}"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error").value("Not Found"))
+                    .andExpect(jsonPath("$.message").value("Account not found: ACC-999"));
+        }
+
+        @Test
+        @DisplayName("should pass the Idempotency-Key header to the service")
+        void shouldPassIdempotencyKey() throws Exception {
+            DebitResponse response = DebitResponse.success(
+                    "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00"));
+            when(accountService.debit(eq("ACC-001"), eq(new BigDecimal("1000.00")), eq("pay-0001")))
+                    .thenReturn(response);
+
+            mockMvc.perform(post("/api/v1/accounts/ACC-001/debit")
+                            .header("Idempotency-Key", "pay-0001")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"amount\": 1000.00}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.currentBalance").value(9000.00));
+        }
+
+        @Test
+        @DisplayName("should return 400 for a blank Idempotency-Key")
+        void shouldReturn400ForBlankIdempotencyKey() throws Exception {
+            mockMvc.perform(post("/api/v1/accounts/ACC-001/debit")
+                            .header("Idempotency-Key", " ")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"amount\": 1000.00}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 422 when the Idempotency-Key was used for another debit")
+        void shouldReturn422ForReusedIdempotencyKey() throws Exception {
+            when(accountService.debit(eq("ACC-001"), eq(new BigDecimal("5.00")), eq("pay-0001")))
+                    .thenThrow(new IdempotencyKeyConflictException("pay-0001"));
+
+            mockMvc.perform(post("/api/v1/accounts/ACC-001/debit")
+                            .header("Idempotency-Key", "pay-0001")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"amount\": 5.00}"))
+                    .andExpect(status().isUnprocessableEntity());
+        }
+
         @Test
         @DisplayName("should return response for insufficient balance")
         void shouldReturnResponseForInsufficientBalance() throws Exception {
@@ -174,7 +274,132 @@ class AccountControllerTest {
                             .content(requestBody))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(false))
-                    .andExpect(jsonPath("$.message").value("Insufficient balance"));
+                    .andExpect(jsonPath("$.message").value("Insufficient balance"))
+                    .andExpect(jsonPath("$.reason").doesNotExist());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/accounts/bulk")
+    class BulkCreate {
+
+        private static final String REQUEST_BODY = """
+                {
+                    "accounts": [
+                        {"accountNumber": "ACC-101", "ownerName": "新用戶一", "initialBalance": 100.00},
+                        {"accountNumber": "ACC-001", "ownerName": "王大明", "initialBalance": 100.00},
+                        {"accountNumber": "ACC-102", "ownerName": "新用戶二", "initialBalance": 200.00}
+                    ]
+                }
+                """;
+
+        @Test
+        @DisplayName("should stream one NDJSON line per row, chunk by chunk")
+        void shouldStreamOneLinePerRow() throws Exception {
+            when(accountService.createAccounts(anyList()))
+                    .thenReturn(List.of(
+                            AccountCreationResult.created("ACC-101"),
+                            AccountCreationResult.rejected("ACC-001", "Account number already exists: ACC-001")))
+                    .thenReturn(List.of(AccountCreationResult.created("ACC-102")));
+
+            String[] lines = streamBulkCreate().split("\n");
+
+            assertThat(lines).hasSize(3);
+            assertThat(objectMapper.readValue(lines[0], AccountCreationResult.class))
+                    .isEqualTo(AccountCreationResult.created("ACC-101"));
+            assertThat(objectMapper.readValue(lines[1], AccountCreationResult.class).created()).isFalse();
+            assertThat(objectMapper.readValue(lines[2], AccountCreationResult.class).accountNumber()).isEqualTo("ACC-102");
+            verify(accountService, times(2)).createAccounts(anyList());
+        }
+
+        @Test
+        @DisplayName("should reject every row of a failed chunk and continue with the next")
+        void shouldRejectRowsOfFailedChunk() throws Exception {
+            when(accountService.createAccounts(anyList()))
+                    .thenThrow(new IllegalStateException("constraint violation"))
+                    .thenReturn(List.of(AccountCreationResult.created("ACC-102")));
+
+            String[] lines = streamBulkCreate().split("\n");
+
+            assertThat(lines).hasSize(3);
+            AccountCreationResult first = objectMapper.readValue(lines[0], AccountCreationResult.class);
+            assertThat(first.created()).isFalse();
+            assertThat(first.message()).isEqualTo("Chunk failed: constraint violation");
+            assertThat(objectMapper.readValue(lines[2], AccountCreationResult.class).created()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should return 400 for an empty request")
+        void shouldReturn400ForEmptyRequest() throws Exception {
+            mockMvc.perform(post("/api/v1/accounts/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"accounts\": []}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        private String streamBulkCreate() throws Exception {
+            MvcResult started = mockMvc.perform(post("/api/v1/accounts/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(REQUEST_BODY))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            return mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andReturn().getResponse().getContentAsString();
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/accounts/debits:batch")
+    class DebitBatch {
+
+        @Test
+        @DisplayName("should return one result per item in request order")
+        void shouldReturnOneResultPerItem() throws Exception {
+            when(accountService.debitBatch(anyList())).thenReturn(List.of(
+                    DebitResponse.success("ACC-001", new BigDecimal("10000.00"),
+                            new BigDecimal("9000.00"), new BigDecimal("1000.00")),
+                    DebitResponse.rejected("ACC-999", new BigDecimal("100.00"), AccountRejection.NOT_FOUND)
+            ));
+
+            String requestBody = """
+                    {
+                        "debits": [
+                            {"accountNumber": "ACC-001", "amount": 1000.00},
+                            {"accountNumber": "ACC-999", "amount": 100.00}
+                        ]
+                    }
+                    """;
+
+            mockMvc.perform(post("/api/v1/accounts/debits:batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestBody))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results.length()").value(2))
+                    .andExpect(jsonPath("$.results[0].success").value(true))
+                    .andExpect(jsonPath("$.results[0].currentBalance").value(9000.00))
+                    .andExpect(jsonPath("$.results[1].success").value(false))
+                    .andExpect(jsonPath("$.results[1].message").value("Account not found: ACC-999"));
+        }
+
+        @Test
+        @DisplayName("should return 400 for an empty batch")
+        void shouldReturn400ForEmptyBatch() throws Exception {
+            mockMvc.perform(post("/api/v1/accounts/debits:batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"debits\": []}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 400 for an item with a non-positive amount")
+        void shouldReturn400ForInvalidItem() throws Exception {
+            mockMvc.perform(post("/api/v1/accounts/debits:batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"debits\": [{\"accountNumber\": \"ACC-001\", \"amount\": 0}]}"))
+                    .andExpect(status().isBadRequest());
         }
     }
 
@@ -238,6 +463,50 @@ class AccountControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/accounts/{accountNumber}/stripe")
+    class StripeAccount {
+
+        @Test
+        @DisplayName("should stripe account and report the aggregated balance")
+        void shouldStripeAccount() throws Exception {
+            Account striped = new Account("ACC-007", "熱門帳戶", new BigDecimal("10000.00"));
+            striped.setId(7L);
+            striped.stripe(8);
+            when(accountService.stripe("ACC-007", 8)).thenReturn(striped);
+
+            mockMvc.perform(post("/api/v1/accounts/ACC-007/stripe")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"stripes\": 8}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.accountNumber").value("ACC-007"))
+                    .andExpect(jsonPath("$.balance").value(10000.00));
+        }
+
+        @Test
+        @DisplayName("should return 400 for a stripe count out of range")
+        void shouldReturn400ForStripeCountOutOfRange() throws Exception {
+            mockMvc.perform(post("/api/v1/accounts/ACC-007/stripe")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"stripes\": 65}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(accountService, never()).stripe(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("should return 409 when the account is already striped")
+        void shouldReturn409WhenAlreadyStriped() throws Exception {
+            when(accountService.stripe("ACC-007", 4))
+                    .thenThrow(new IllegalStateException("Account is already striped: ACC-007"));
+
+            mockMvc.perform(post("/api/v1/accounts/ACC-007/stripe")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"stripes\": 4}"))
+                    .andExpect(status().isConflict());
+        }
+    }
+
     @Nested
     @DisplayName("AccountResponse DTO Tests")
     class AccountResponseTests {
@@ -245,11 +514,93 @@ class AccountControllerTest {
         @Test
         @DisplayName("should include createdAt field when present")
         void shouldIncludeCreatedAtFieldWhenPresent() throws Exception {
-            when(accountService.getAccount("ACC-001")).thenReturn(Optional.of(testAccount));
+            when(accountQueryService.getAccount("ACC-001")).thenReturn(Optional.of(view(testAccount, 42)));
 
             mockMvc.perform(get("/api/v1/accounts/ACC-001"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.createdAt").exists());
         }
+
+        @Test
+        @DisplayName("should include the read model version marker when served from it")
+        void shouldIncludeVersionMarker() throws Exception {
+            when(accountQueryService.getAccount("ACC-001")).thenReturn(Optional.of(view(testAccount, 42)));
+
+            mockMvc.perform(get("/api/v1/accounts/ACC-001"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.version").value(42))
+                    .andExpect(jsonPath("$.asOf").value("2026-10-17T09:30"));
+        }
+
+        @Test
+        @DisplayName("should omit the version marker from write responses")
+        void shouldOmitVersionMarkerFromWriteResponses() throws Exception {
+            when(accountService.freeze("ACC-001")).thenReturn(testAccount);
+
+            mockMvc.perform(post("/api/v1/accounts/ACC-001/freeze"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.version").doesNotExist())
+                    .andExpect(jsonPath("$.asOf").doesNotExist());
+        }
+    }
+
+    @Nested
+    @DisplayName("Wire format negotiation")
+    class WireFormat {
+
+        private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+        @Test
+        @DisplayName("should answer JSON when the caller accepts anything")
+        void shouldDefaultToJson() throws Exception {
+            when(accountQueryService.getAccount("ACC-001")).thenReturn(Optional.of(view(testAccount, 42)));
+
+            mockMvc.perform(get("/api/v1/accounts/ACC-001").accept(MediaType.ALL))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        }
+
+        @Test
+        @DisplayName("should answer CBOR with the JSON fields when the caller asks for it")
+        void shouldAnswerCborWhenAsked() throws Exception {
+            when(accountQueryService.getAccount("ACC-001")).thenReturn(Optional.of(view(testAccount, 42)));
+
+            MvcResult result = mockMvc.perform(get("/api/v1/accounts/ACC-001")
+                            .accept(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn();
+
+            JsonNode account = cbor.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(account.get("accountNumber").asText()).isEqualTo("ACC-001");
+            assertThat(account.get("balance").decimalValue()).isEqualByComparingTo("10000.00");
+            // Dates are written as in JSON (ISO strings), not as timestamp arrays
+            assertThat(account.get("asOf").asText()).isEqualTo("2026-10-17T09:30");
+        }
+
+        @Test
+        @DisplayName("should read a CBOR debit request")
+        void shouldReadCborRequest() throws Exception {
+            when(accountService.debit(eq("ACC-001"), eq(new BigDecimal("1000.00")))).thenReturn(DebitResponse.success(
+                    "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00")));
+
+            mockMvc.perform(post("/api/v1/accounts/ACC-001/debit")
+                            .contentType(MediaType.APPLICATION_CBOR)
+                            .content(cbor.writeValueAsBytes(Map.of("amount", new BigDecimal("1000.00")))))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.currentBalance").value(9000.00));
+        }
+
+        @Test
+        @DisplayName("should keep error bodies JSON for a CBOR caller")
+        void shouldKeepErrorsJson() throws Exception {
+            when(accountQueryService.getAccount("ACC-999")).thenReturn(Optional.empty());
+
+            mockMvc.perform(get("/api/v1/accounts/ACC-999").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.error").value("Not Found"));
+        }
     }
 }
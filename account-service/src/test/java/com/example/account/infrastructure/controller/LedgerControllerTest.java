@@ -0,0 +1,127 @@
+package com.example.account.infrastructure.controller;
+
+import com.example.account.application.LedgerService;
+import com.example.account.domain.LedgerEntry;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+import com.example.account.infrastructure.exception.GlobalExceptionHandler;
+import com.example.account.infrastructure.exception.InvalidLedgerRangeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = {LedgerController.class, GlobalExceptionHandler.class})
+@DisplayName("LedgerController Tests")
+class LedgerControllerTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 10, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 11, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LedgerService ledgerService;
+
+    private static LedgerEntry entry(long id, String amount, String previous, String current) {
+        LedgerEntry entry = mock(LedgerEntry.class);
+        when(entry.getId()).thenReturn(id);
+        when(entry.getAmount()).thenReturn(new BigDecimal(amount));
+        when(entry.getPreviousBalance()).thenReturn(new BigDecimal(previous));
+        when(entry.getCurrentBalance()).thenReturn(new BigDecimal(current));
+        when(entry.getCreatedAt()).thenReturn(LocalDateTime.of(2026, 10, 17, 9, 30));
+        return entry;
+    }
+
+    @Test
+    @DisplayName("should return the entries of the range and the ledger balance")
+    void shouldReturnLedger() throws Exception {
+        List<LedgerEntry> entries = List.of(entry(1L, "1000.00", "10000.00", "9000.00"));
+        when(ledgerService.findEntries("ACC-001", FROM, TO, 100)).thenReturn(entries);
+        when(ledgerService.getLedgerBalance("ACC-001")).thenReturn(Optional.of(new BigDecimal("9000.00")));
+
+        mockMvc.perform(get("/api/v1/accounts/ACC-001/ledger")
+                        .param("from", "2026-10-01T00:00:00")
+                        .param("to", "2026-11-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value("ACC-001"))
+                .andExpect(jsonPath("$.balance").value(9000.00))
+                .andExpect(jsonPath("$.entries.length()").value(1))
+                .andExpect(jsonPath("$.entries[0].id").value(1))
+                .andExpect(jsonPath("$.entries[0].amount").value(1000.00))
+                .andExpect(jsonPath("$.entries[0].previousBalance").value(10000.00))
+                .andExpect(jsonPath("$.entries[0].currentBalance").value(9000.00))
+                .andExpect(jsonPath("$.entries[0].createdAt").value("2026-10-17T09:30"));
+    }
+
+    @Test
+    @DisplayName("should pass the requested limit")
+    void shouldPassLimit() throws Exception {
+        when(ledgerService.findEntries("ACC-001", FROM, TO, 5)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/accounts/ACC-001/ledger")
+                        .param("from", "2026-10-01T00:00:00")
+                        .param("to", "2026-11-01T00:00:00")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries.length()").value(0));
+
+        verify(ledgerService).findEntries("ACC-001", FROM, TO, 5);
+    }
+
+    @Test
+    @DisplayName("should return 400 for an invalid range")
+    void shouldReturn400ForInvalidRange() throws Exception {
+        when(ledgerService.findEntries(eq("ACC-001"), any(), any(), anyInt()))
+                .thenThrow(new InvalidLedgerRangeException(TO, FROM, 100));
+
+        mockMvc.perform(get("/api/v1/accounts/ACC-001/ledger")
+                        .param("from", "2026-11-01T00:00:00")
+                        .param("to", "2026-10-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @DisplayName("should return 400 for a missing or malformed parameter")
+    void shouldReturn400ForBadParameter() throws Exception {
+        mockMvc.perform(get("/api/v1/accounts/ACC-001/ledger").param("from", "2026-10-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/accounts/ACC-001/ledger")
+                        .param("from", "yesterday")
+                        .param("to", "2026-10-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verify(ledgerService, never()).findEntries(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should return 404 for an unknown account")
+    void shouldReturn404ForUnknownAccount() throws Exception {
+        when(ledgerService.findEntries(eq("ACC-999"), any(), any(), anyInt()))
+                .thenThrow(new AccountNotFoundException("ACC-999"));
+
+        mockMvc.perform(get("/api/v1/accounts/ACC-999/ledger")
+                        .param("from", "2026-10-01T00:00:00")
+                        .param("to", "2026-11-01T00:00:00"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.account.infrastructure.idempotency;
+
+import com.example.account.application.AccountService;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.exception.IdempotencyKeyConflictException;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "account.idempotency.persistent=true")
+@ActiveProfiles("test")
+@DisplayName("Idempotent debit integration Tests")
+class IdempotentDebitIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private IdempotencyRecordStore idempotencyRecordStore;
+
+    @Test
+    @DisplayName("should debit once and record the key with the debit")
+    void shouldDebitOnceAndRecordKey() {
+        accountService.createAccount(new CreateAccountRequest("IDM-001", "冪等測試", new BigDecimal("1000.00")));
+
+        DebitResponse first = accountService.debit("IDM-001", new BigDecimal("100.00"), "idm-key-1");
+        DebitResponse retry = accountService.debit("IDM-001", new BigDecimal("100.00"), "idm-key-1");
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(accountRepository.findByAccountNumber("IDM-001").orElseThrow().getBalance())
+                .isEqualByComparingTo(new BigDecimal("900.00"));
+        assertThat(idempotencyRecordRepository.findById("idm-key-1")).isPresent();
+        assertThatThrownBy(() -> accountService.debit("IDM-001", new BigDecimal("1.00"), "idm-key-1"))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+    }
+
+    @Test
+    @DisplayName("should replay from the table without running the debit")
+    void shouldReplayFromTable() {
+        accountService.createAccount(new CreateAccountRequest("IDM-002", "冪等測試", new BigDecimal("1000.00")));
+        DebitResponse first = accountService.debit("IDM-002", new BigDecimal("100.00"), "idm-key-2");
+
+        DebitResponse replayed = idempotencyRecordStore.debitOnce("idm-key-2", "IDM-002", new BigDecimal("100.00"),
+                () -> {
+                    throw new AssertionError("debit must not run for a recorded key");
+                });
+
+        assertThat(replayed).isEqualTo(first);
+    }
+}
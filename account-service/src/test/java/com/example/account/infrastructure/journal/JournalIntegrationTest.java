@@ -0,0 +1,67 @@
+package com.example.account.infrastructure.journal;
+
+import com.example.account.application.AccountService;
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Journal integration Tests")
+class JournalIntegrationTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) {
+        registry.add("account.journal.enabled", () -> "true");
+        registry.add("account.journal.directory", directory::toString);
+        registry.add("account.journal.fsync", () -> "always");
+    }
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountJournal journal;
+
+    @Test
+    @DisplayName("should journal committed mutations only")
+    void shouldJournalCommittedMutationsOnly() {
+        accountService.createAccount(new CreateAccountRequest("WAL-001", "王大明", new BigDecimal("10000.00")));
+        accountService.debit("WAL-001", new BigDecimal("1000.00"));
+        accountService.debit("WAL-001", new BigDecimal("99999.00"));
+        accountService.freeze("WAL-001");
+        assertThatThrownBy(() -> accountService.freeze("WAL-001")).isInstanceOf(IllegalStateException.class);
+        accountService.unfreeze("WAL-001");
+
+        List<AccountMutatedEvent> entries = new ArrayList<>();
+        journal.replay((event, sequence) -> {
+            if (event.accountNumber().equals("WAL-001")) {
+                entries.add(event);
+            }
+        });
+
+        assertThat(entries).extracting(AccountMutatedEvent::kind).containsExactly(
+                AccountMutatedEvent.Kind.CREATED,
+                AccountMutatedEvent.Kind.DEBITED,
+                AccountMutatedEvent.Kind.FROZEN,
+                AccountMutatedEvent.Kind.UNFROZEN);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.account.infrastructure.journal;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.domain.AccountStatus;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.JournalCheckpointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("JournalReplayer Tests")
+class JournalReplayerTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JournalCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private MappedSegmentJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = new MappedSegmentJournal(directory, 4096, FsyncPolicy.NEVER, 1, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+        accountRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    private JournalReplayer replayer() {
+        return new JournalReplayer(journal, accountRepository, checkpointRepository,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("should rebuild balances and status from the journal")
+    void shouldRebuildBalancesAndStatus() {
+        journal.append(AccountMutatedEvent.created(new Account("ACC-001", "王大明", new BigDecimal("10000.00"))));
+        journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("1000.00")));
+        journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("500.00")));
+        journal.append(AccountMutatedEvent.created(new Account("ACC-004", "凍結測試帳戶", new BigDecimal("3000.00"))));
+        journal.append(AccountMutatedEvent.frozen("ACC-004"));
+        journal.append(AccountMutatedEvent.unfrozen("ACC-004"));
+        journal.append(AccountMutatedEvent.frozen("ACC-004"));
+
+        replayer().afterSingletonsInstantiated();
+
+        Account first = accountRepository.findByAccountNumber("ACC-001").orElseThrow();
+        assertThat(first.getBalance()).isEqualByComparingTo(new BigDecimal("8500.00"));
+        assertThat(first.getOwnerName()).isEqualTo("王大明");
+        assertThat(accountRepository.findByAccountNumber("ACC-004").orElseThrow().getStatus())
+                .isEqualTo(AccountStatus.FROZEN);
+    }
+
+    @Test
+    @DisplayName("should not apply entries the database already holds when replayed again")
+    void shouldNotApplyEntriesTwice() {
+        LocalDateTime openedAt = LocalDateTime.of(2024, 1, 2, 9, 30);
+        journal.append(new AccountMutatedEvent(AccountMutatedEvent.Kind.CREATED, "ACC-001", "王大明",
+                new BigDecimal("10000.00"), AccountMutatedEvent.UNKNOWN_BALANCE, openedAt));
+        journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("1000.00")));
+        journal.append(AccountMutatedEvent.frozen("ACC-001"));
+
+        replayer().afterSingletonsInstantiated();
+        replayer().afterSingletonsInstantiated();
+
+        Account account = accountRepository.findByAccountNumber("ACC-001").orElseThrow();
+        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+        assertThat(account.getStatus()).isEqualTo(AccountStatus.FROZEN);
+        assertThat(account.getCreatedAt()).isEqualTo(openedAt);
+    }
+
+    @Test
+    @DisplayName("should apply only the entries above the account's checkpoint")
+    void shouldApplyEntriesAboveCheckpoint() {
+        journal.append(AccountMutatedEvent.created(new Account("ACC-001", "王大明", new BigDecimal("10000.00"))));
+        long restored = journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("1000.00")));
+        journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("500.00")));
+        // the database as a backup taken after the first debit left it
+        Account backup = new Account("ACC-001", "王大明", new BigDecimal("10000.00"));
+        backup.debit(new BigDecimal("1000.00"));
+        accountRepository.save(backup);
+        checkpointRepository.save(new JournalCheckpoint("ACC-001", restored));
+
+        replayer().afterSingletonsInstantiated();
+
+        assertThat(accountRepository.findByAccountNumber("ACC-001").orElseThrow().getBalance())
+                .isEqualByComparingTo(new BigDecimal("8500.00"));
+        assertThat(checkpointRepository.findById("ACC-001").orElseThrow().getSequence()).isGreaterThan(restored);
+    }
+
+    @Test
+    @DisplayName("should replay striping and keep debiting the stripes")
+    void shouldReplayStriping() {
+        journal.append(AccountMutatedEvent.created(new Account("ACC-007", "熱門帳戶", new BigDecimal("400.00"))));
+        journal.append(AccountMutatedEvent.striped("ACC-007", 4));
+        journal.append(AccountMutatedEvent.debited("ACC-007", new BigDecimal("250.00")));
+
+        replayer().afterSingletonsInstantiated();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Account striped = accountRepository.findByAccountNumber("ACC-007").orElseThrow();
+            assertThat(striped.getStripeCount()).isEqualTo(4);
+            assertThat(striped.getBalance()).isEqualByComparingTo(new BigDecimal("150.00"));
+        });
+    }
+
+    @Test
+    @DisplayName("should fail startup when the journal diverges from the domain rules")
+    void shouldFailWhenJournalDiverges() {
+        journal.append(AccountMutatedEvent.debited("ACC-999", new BigDecimal("1.00")));
+
+        assertThatThrownBy(() -> replayer().afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Journal replay diverged");
+    }
+}
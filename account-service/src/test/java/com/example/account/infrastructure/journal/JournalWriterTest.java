@@ -0,0 +1,99 @@
+package com.example.account.infrastructure.journal;
+
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.infrastructure.repository.AccountRepository;
+import com.example.account.infrastructure.repository.JournalCheckpointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("JournalWriter Tests")
+class JournalWriterTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JournalCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private MappedSegmentJournal journal;
+    private JournalWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        journal = new MappedSegmentJournal(directory, 4096, FsyncPolicy.NEVER, 1, Duration.ZERO);
+        writer = new JournalWriter(journal, accountRepository, checkpointRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+        checkpointRepository.deleteAll();
+    }
+
+    private List<Long> replayedSequences() {
+        List<Long> sequences = new ArrayList<>();
+        journal.replay((event, sequence) -> sequences.add(sequence));
+        return sequences;
+    }
+
+    @Test
+    @DisplayName("should journal the entry and raise the checkpoint when the transaction commits")
+    void shouldJournalAndCheckpointOnCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            writer.onAccountMutated(AccountMutatedEvent.debited("ACC-001", new BigDecimal("1.00")));
+            writer.onAccountMutated(AccountMutatedEvent.debited("ACC-001", new BigDecimal("2.00")));
+        });
+
+        List<Long> sequences = replayedSequences();
+        assertThat(sequences).hasSize(2);
+        assertThat(checkpointRepository.findById("ACC-001").orElseThrow().getSequence())
+                .isEqualTo(sequences.get(1));
+    }
+
+    @Test
+    @DisplayName("should abort the entry when the transaction does not commit")
+    void shouldAbortEntryOnRollback() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            writer.onAccountMutated(AccountMutatedEvent.frozen("ACC-001"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(replayedSequences()).isEmpty();
+        assertThat(checkpointRepository.findById("ACC-001")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should refuse a mutation published outside a transaction")
+    void shouldRefuseMutationOutsideTransaction() {
+        assertThatThrownBy(() -> writer.onAccountMutated(AccountMutatedEvent.frozen("ACC-001")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("outside a transaction");
+        assertThat(replayedSequences()).isEmpty();
+    }
+}
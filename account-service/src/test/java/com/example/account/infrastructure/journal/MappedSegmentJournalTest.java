@@ -0,0 +1,178 @@
+package com.example.account.infrastructure.journal;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountMutatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MappedSegmentJournal Tests")
+class MappedSegmentJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    private MappedSegmentJournal open(FsyncPolicy policy) {
+        return new MappedSegmentJournal(directory, SEGMENT_SIZE, policy, 8, Duration.ofMillis(5));
+    }
+
+    private static List<AccountMutatedEvent> replayAll(AccountJournal journal) {
+        List<AccountMutatedEvent> events = new ArrayList<>();
+        journal.replay((event, sequence) -> events.add(event));
+        return events;
+    }
+
+    @Nested
+    @DisplayName("Append and replay")
+    class AppendAndReplay {
+
+        @Test
+        @DisplayName("should replay every kind of entry in append order")
+        void shouldReplayEntriesInOrder() {
+            AccountMutatedEvent created = AccountMutatedEvent.created(
+                    new Account("ACC-001", "王大明", new BigDecimal("10000.00")));
+            AccountMutatedEvent debited = AccountMutatedEvent.debited("ACC-001", new BigDecimal("1000.00"));
+            AccountMutatedEvent frozen = AccountMutatedEvent.frozen("ACC-001");
+            AccountMutatedEvent unfrozen = AccountMutatedEvent.unfrozen("ACC-001");
+
+            try (MappedSegmentJournal journal = open(FsyncPolicy.ALWAYS)) {
+                journal.append(created);
+                journal.append(debited);
+                journal.append(frozen);
+                journal.append(unfrozen);
+
+                assertThat(replayAll(journal)).containsExactly(created, debited, frozen, unfrozen);
+            }
+        }
+
+        @Test
+        @DisplayName("should continue after the last entry when reopened")
+        void shouldContinueAfterLastEntryWhenReopened() {
+            try (MappedSegmentJournal journal = open(FsyncPolicy.BATCH)) {
+                journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("1.00")));
+            }
+            try (MappedSegmentJournal journal = open(FsyncPolicy.NEVER)) {
+                journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("2.00")));
+
+                assertThat(replayAll(journal))
+                        .extracting(AccountMutatedEvent::amount)
+                        .containsExactly(new BigDecimal("1.00"), new BigDecimal("2.00"));
+            }
+        }
+
+        @Test
+        @DisplayName("should roll to a new segment when the current one is full")
+        void shouldRollToNewSegment() throws IOException {
+            try (MappedSegmentJournal journal = open(FsyncPolicy.BATCH)) {
+                for (int i = 0; i < 500; i++) {
+                    journal.append(AccountMutatedEvent.debited("ACC-" + i, new BigDecimal("1.00")));
+                }
+
+                assertThat(replayAll(journal)).hasSize(500);
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.count()).isGreaterThan(1);
+            }
+        }
+
+        @Test
+        @DisplayName("should hand out increasing sequences across segments and restarts")
+        void shouldHandOutIncreasingSequences() {
+            List<Long> appended = new ArrayList<>();
+            try (MappedSegmentJournal journal = open(FsyncPolicy.NEVER)) {
+                for (int i = 0; i < 300; i++) {
+                    appended.add(journal.append(AccountMutatedEvent.debited("ACC-" + i, new BigDecimal("1.00"))));
+                }
+            }
+            try (MappedSegmentJournal journal = open(FsyncPolicy.NEVER)) {
+                appended.add(journal.append(AccountMutatedEvent.frozen("ACC-001")));
+
+                List<Long> replayed = new ArrayList<>();
+                journal.replay((event, sequence) -> replayed.add(sequence));
+
+                assertThat(appended).isSorted().doesNotHaveDuplicates();
+                assertThat(replayed).isEqualTo(appended);
+            }
+        }
+
+        @Test
+        @DisplayName("should skip aborted entries on replay")
+        void shouldSkipAbortedEntries() {
+            try (MappedSegmentJournal journal = open(FsyncPolicy.ALWAYS)) {
+                journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("1.00")));
+                long aborted = journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("2.00")));
+                journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("3.00")));
+                journal.abort(aborted);
+
+                assertThat(replayAll(journal)).extracting(AccountMutatedEvent::amount)
+                        .containsExactly(new BigDecimal("1.00"), new BigDecimal("3.00"));
+            }
+        }
+
+        @Test
+        @DisplayName("should reject appends after close")
+        void shouldRejectAppendsAfterClose() {
+            MappedSegmentJournal journal = open(FsyncPolicy.ALWAYS);
+            journal.close();
+
+            assertThatThrownBy(() -> journal.append(AccountMutatedEvent.frozen("ACC-001")))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Crash recovery")
+    class CrashRecovery {
+
+        @Test
+        @DisplayName("should ignore a torn trailing entry and overwrite it")
+        void shouldIgnoreTornTrailingEntry() throws IOException {
+            try (MappedSegmentJournal journal = open(FsyncPolicy.ALWAYS)) {
+                journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("1.00")));
+                journal.append(AccountMutatedEvent.debited("ACC-001", new BigDecimal("2.00")));
+            }
+            Path segment;
+            try (Stream<Path> files = Files.list(directory)) {
+                segment = files.findFirst().orElseThrow();
+            }
+            // corrupt the last byte of the second entry's payload
+            int firstEntryEnd;
+            try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+                int firstLength = file.readInt();
+                firstEntryEnd = 8 + firstLength;
+                file.seek(firstEntryEnd);
+                int secondLength = file.readInt();
+                long lastPayloadByte = firstEntryEnd + 8 + secondLength - 1;
+                file.seek(lastPayloadByte);
+                byte original = file.readByte();
+                file.seek(lastPayloadByte);
+                file.write(original ^ 0x7F);
+            }
+
+            try (MappedSegmentJournal journal = open(FsyncPolicy.ALWAYS)) {
+                assertThat(replayAll(journal)).extracting(AccountMutatedEvent::amount)
+                        .containsExactly(new BigDecimal("1.00"));
+
+                journal.append(AccountMutatedEvent.frozen("ACC-001"));
+                assertThat(replayAll(journal)).extracting(AccountMutatedEvent::kind)
+                        .containsExactly(AccountMutatedEvent.Kind.DEBITED, AccountMutatedEvent.Kind.FROZEN);
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.account.infrastructure.json;
+
+import com.example.account.domain.AccountRejection;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.DebitResponse;
+import com.example.account.domain.Money;
+import com.example.account.infrastructure.controller.AccountController.AccountResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hand-written serializers must produce the bytes the reflective serializers did.
+ */
+@DisplayName("Response serializer Tests")
+class ResponseSerializersTest {
+
+    /** AccountResponse before its components were typed. */
+    record LegacyAccountResponse(String accountNumber, String ownerName, BigDecimal balance, String status,
+                                 String createdAt,
+                                 @JsonInclude(JsonInclude.Include.NON_NULL) Long version,
+                                 @JsonInclude(JsonInclude.Include.NON_NULL) String asOf) {
+    }
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 17, 9, 30);
+
+    private static ObjectMapper reflective(Jackson2ObjectMapperBuilder builder) {
+        return builder.build();
+    }
+
+    private static ObjectMapper handWritten(Jackson2ObjectMapperBuilder builder) {
+        return builder.modulesToInstall(new SimpleModule().addSerializer(new DebitResponseSerializer())).build();
+    }
+
+    private static List<ObjectMapper[]> mapperPairs() {
+        return List.of(
+                new ObjectMapper[]{reflective(Jackson2ObjectMapperBuilder.json()),
+                        handWritten(Jackson2ObjectMapperBuilder.json())},
+                new ObjectMapper[]{reflective(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory())),
+                        handWritten(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()))});
+    }
+
+    @Nested
+    @DisplayName("Text formatting")
+    class Formatting {
+
+        @Test
+        @DisplayName("should format minor units as BigDecimal with scale 2 does")
+        void shouldFormatMinorUnitsLikeBigDecimal() {
+            Random random = new Random(17);
+            char[] scratch = new char[JsonText.SCRATCH_LENGTH];
+            List<Long> values = new ArrayList<>(List.of(0L, 1L, 9L, 10L, 99L, 100L, 101L, -1L, -5L, -100L,
+                    1_000_000L, Long.MAX_VALUE, Long.MIN_VALUE + 1));
+            for (int i = 0; i < 10_000; i++) {
+                values.add(random.nextLong() >> random.nextInt(63));
+            }
+
+            for (long value : values) {
+                int start = JsonText.formatMinorUnits(value, scratch);
+                assertThat(new String(scratch, start, scratch.length - start))
+                        .as("minor units %d", value)
+                        .isEqualTo(Money.toBigDecimal(value).toString());
+            }
+        }
+
+        @Test
+        @DisplayName("should format timestamps as LocalDateTime.toString does")
+        void shouldFormatTimestampsLikeToString() {
+            Random random = new Random(17);
+            char[] scratch = new char[JsonText.SCRATCH_LENGTH];
+            List<LocalDateTime> values = new ArrayList<>(List.of(
+                    CREATED_AT,
+                    CREATED_AT.withSecond(5),
+                    CREATED_AT.withNano(1),
+                    CREATED_AT.withNano(120_000_000),
+                    CREATED_AT.withNano(123_456_000),
+                    CREATED_AT.withNano(123_456_789),
+                    LocalDateTime.of(1000, 1, 1, 0, 0),
+                    LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999)));
+            for (int i = 0; i < 10_000; i++) {
+                values.add(LocalDateTime.of(1000 + random.nextInt(9000), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                        random.nextInt(24), random.nextInt(60), random.nextInt(4) == 0 ? 0 : random.nextInt(60),
+                        switch (random.nextInt(4)) {
+                            case 0 -> 0;
+                            case 1 -> random.nextInt(1000) * 1_000_000;
+                            case 2 -> random.nextInt(1_000_000) * 1000;
+                            default -> random.nextInt(1_000_000_000);
+                        }));
+            }
+
+            for (LocalDateTime value : values) {
+                assertThat(new String(scratch, 0, JsonText.formatDateTime(value, scratch))).isEqualTo(value.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("should reuse one scratch buffer per platform thread but not per virtual thread")
+        void shouldReuseScratchPerPlatformThread() throws Exception {
+            char[] own = JsonText.scratch();
+            AtomicReference<char[]> other = new AtomicReference<>();
+            List<char[]> virtual = new ArrayList<>();
+
+            Thread.ofPlatform().start(() -> other.set(JsonText.scratch())).join();
+            Thread.ofVirtual().start(() -> {
+                virtual.add(JsonText.scratch());
+                virtual.add(JsonText.scratch());
+            }).join();
+
+            assertThat(own).hasSize(JsonText.SCRATCH_LENGTH).isSameAs(JsonText.scratch());
+            assertThat(other.get()).isNotSameAs(own);
+            assertThat(virtual.get(0)).hasSize(JsonText.SCRATCH_LENGTH).isNotSameAs(virtual.get(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("DebitResponse")
+    class DebitResponses {
+
+        @Test
+        @DisplayName("should write the reflective bytes in JSON and CBOR")
+        void shouldWriteReflectiveBytes() throws Exception {
+            List<DebitResponse> responses = List.of(
+                    DebitResponse.success("ACC-001", 1_000_000L, 900_000L, 100_000L),
+                    DebitResponse.insufficientBalance("ACC-002", 5L, 2_000_000L),
+                    DebitResponse.insufficientBalanceItem("ACC-002", 5L, 2_000_000L),
+                    DebitResponse.rejected("ACC-003", new BigDecimal("1000.00"), AccountRejection.FROZEN),
+                    DebitResponse.invalidAmount("ACC-005", new BigDecimal("-5.00"), "Invalid amount"),
+                    DebitResponse.success("ACC-004", -50L, -150L, 100L),
+                    new DebitResponse(null, null, null, null, false, null, null));
+
+            for (ObjectMapper[] pair : mapperPairs()) {
+                for (DebitResponse response : responses) {
+                    assertThat(pair[1].writeValueAsBytes(response))
+                            .as("%s with %s", response, pair[0].getFactory().getFormatName())
+                            .isEqualTo(pair[0].writeValueAsBytes(response));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should read back what it writes")
+        void shouldRoundTrip() throws Exception {
+            DebitResponse response = DebitResponse.success("ACC-001", 1_000_000L, 900_000L, 100_000L);
+            ObjectMapper mapper = handWritten(Jackson2ObjectMapperBuilder.json());
+
+            assertThat(mapper.readValue(mapper.writeValueAsBytes(response), DebitResponse.class)).isEqualTo(response);
+        }
+    }
+
+    @Nested
+    @DisplayName("AccountResponse")
+    class AccountResponses {
+
+        @Test
+        @DisplayName("should write the bytes the String-typed record did in JSON and CBOR")
+        void shouldWriteLegacyBytes() throws Exception {
+            List<AccountResponse> responses = List.of(
+                    new AccountResponse("ACC-001", "王大明", new BigDecimal("10000.00"), AccountStatus.ACTIVE,
+                            CREATED_AT, null, null),
+                    new AccountResponse("ACC-002", "Frozen", new BigDecimal("0.05"), AccountStatus.FROZEN,
+                            CREATED_AT.withNano(123_456_789), 42L, CREATED_AT.withSecond(1)),
+                    new AccountResponse("ACC-003", null, null, null, null, null, null));
+
+            for (ObjectMapper[] pair : mapperPairs()) {
+                for (AccountResponse response : responses) {
+                    assertThat(pair[1].writeValueAsBytes(response))
+                            .as("%s with %s", response, pair[0].getFactory().getFormatName())
+                            .isEqualTo(pair[0].writeValueAsBytes(legacy(response)));
+                }
+            }
+        }
+
+        private LegacyAccountResponse legacy(AccountResponse response) {
+            return new LegacyAccountResponse(response.accountNumber(), response.ownerName(), response.balance(),
+                    response.status() != null ? response.status().name() : null,
+                    response.createdAt() != null ? response.createdAt().toString() : null,
+                    response.version(),
+                    response.asOf() != null ? response.asOf().toString() : null);
+        }
+    }
+}
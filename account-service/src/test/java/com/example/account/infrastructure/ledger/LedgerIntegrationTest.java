@@ -0,0 +1,290 @@
+package com.example.account.infrastructure.ledger;
+
+import com.example.account.application.AccountService;
+import com.example.account.application.LedgerService;
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.domain.BalanceSnapshot;
+import com.example.account.domain.LedgerEntry;
+import com.example.account.infrastructure.dto.BatchDebitItem;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.exception.AccountFrozenException;
+import com.example.account.infrastructure.repository.BalanceSnapshotRepository;
+import com.example.account.infrastructure.repository.LedgerEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "account.ledger.snapshot-interval=0s",
+        "account.ledger.snapshot-min-entries=3"
+})
+@DisplayName("Ledger integration Tests")
+class LedgerIntegrationTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime FAR_FUTURE = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerSnapshotter snapshotter;
+
+    @Autowired
+    private LedgerWriter ledgerWriter;
+
+    @Autowired
+    private LedgerEntryRepository entryRepository;
+
+    @Autowired
+    private BalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private void createAccount(String accountNumber, String balance) {
+        accountService.createAccount(new CreateAccountRequest(accountNumber, "王大明", new BigDecimal(balance)));
+    }
+
+    private List<LedgerEntry> entries(String accountNumber) {
+        return ledgerService.findEntries(accountNumber, EPOCH, FAR_FUTURE, 1000);
+    }
+
+    @Nested
+    @DisplayName("Writing")
+    class Writing {
+
+        @Test
+        @DisplayName("should write an opening snapshot with the account")
+        void shouldWriteOpeningSnapshot() {
+            createAccount("LED-001", "1000.00");
+
+            BalanceSnapshot opening = snapshotRepository.findFirstByAccountNumberOrderByLastEntryIdDesc("LED-001")
+                    .orElseThrow();
+
+            assertThat(opening.getAccountNumber()).isEqualTo("LED-001");
+            assertThat(opening.getBalanceMinorUnits()).isEqualTo(100_000L);
+            assertThat(opening.getLastEntryId()).isZero();
+            assertThat(opening.getTakenAt()).isNotNull();
+            assertThat(ledgerService.getLedgerBalance("LED-001")).hasValueSatisfying(balance ->
+                    assertThat(balance).isEqualByComparingTo(new BigDecimal("1000.00")));
+        }
+
+        @Test
+        @DisplayName("should append one entry per debit with the balances around it")
+        void shouldAppendEntryPerDebit() {
+            createAccount("LED-002", "1000.00");
+
+            accountService.debit("LED-002", new BigDecimal("100.00"));
+            accountService.debit("LED-002", new BigDecimal("250.50"));
+
+            List<LedgerEntry> entries = entries("LED-002");
+            assertThat(entries).hasSize(2);
+            assertThat(entries.get(0).getAccountNumber()).isEqualTo("LED-002");
+            assertThat(entries.get(0).getAmount()).isEqualByComparingTo(new BigDecimal("100.00"));
+            assertThat(entries.get(0).getPreviousBalance()).isEqualByComparingTo(new BigDecimal("1000.00"));
+            assertThat(entries.get(0).getCurrentBalance()).isEqualByComparingTo(new BigDecimal("900.00"));
+            assertThat(entries.get(1).getAmountMinorUnits()).isEqualTo(25_050L);
+            assertThat(entries.get(1).getCurrentBalance()).isEqualByComparingTo(new BigDecimal("649.50"));
+            assertThat(entries.get(1).getId()).isGreaterThan(entries.get(0).getId());
+            assertThat(ledgerService.getLedgerBalance("LED-002")).hasValueSatisfying(balance ->
+                    assertThat(balance).isEqualByComparingTo(new BigDecimal("649.50")));
+        }
+
+        @Test
+        @DisplayName("should append nothing for refused or rolled back debits")
+        void shouldAppendNothingForRefusedDebits() {
+            createAccount("LED-003", "100.00");
+
+            accountService.debit("LED-003", new BigDecimal("500.00"));
+            accountService.freeze("LED-003");
+            assertThatThrownBy(() -> accountService.debit("LED-003", new BigDecimal("1.00")))
+                    .isInstanceOf(AccountFrozenException.class);
+
+            assertThat(entries("LED-003")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should fold the debits a batch makes to one account into one entry")
+        void shouldFoldBatchDebitEntries() {
+            createAccount("LED-004", "100.00");
+            createAccount("LED-005", "100.00");
+
+            accountService.debitBatch(List.of(
+                    new BatchDebitItem("LED-004", new BigDecimal("10.00")),
+                    new BatchDebitItem("LED-005", new BigDecimal("20.00")),
+                    new BatchDebitItem("LED-004", new BigDecimal("30.00")),
+                    new BatchDebitItem("LED-005", new BigDecimal("500.00"))));
+
+            assertThat(entries("LED-004")).singleElement().satisfies(entry -> {
+                assertThat(entry.getAmount()).isEqualByComparingTo(new BigDecimal("40.00"));
+                assertThat(entry.getPreviousBalance()).isEqualByComparingTo(new BigDecimal("100.00"));
+                assertThat(entry.getCurrentBalance()).isEqualByComparingTo(new BigDecimal("60.00"));
+            });
+            assertThat(entries("LED-005")).singleElement().satisfies(entry ->
+                    assertThat(entry.getAmount()).isEqualByComparingTo(new BigDecimal("20.00")));
+        }
+
+        @Test
+        @DisplayName("should fold only debits that continue the previous entry's balance")
+        void shouldFoldOnlyContinuingDebits() {
+            createAccount("LED-008", "100.00");
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                ledgerWriter.onAccountMutated(AccountMutatedEvent.debited("LED-008", new BigDecimal("10.00"), 9_000L));
+                ledgerWriter.onAccountMutated(AccountMutatedEvent.debited("LED-008", new BigDecimal("5.00"), 8_500L));
+                ledgerWriter.onAccountMutated(AccountMutatedEvent.debited("LED-008", new BigDecimal("1.00")));
+                ledgerWriter.onAccountMutated(AccountMutatedEvent.debited("LED-008", new BigDecimal("2.00")));
+                ledgerWriter.onAccountMutated(AccountMutatedEvent.debited("LED-008", new BigDecimal("4.00"), 8_000L));
+            });
+
+            List<LedgerEntry> entries = entries("LED-008");
+            assertThat(entries).extracting(LedgerEntry::getAmountMinorUnits).containsExactly(1_500L, 300L, 400L);
+            assertThat(entries.get(0).getPreviousBalance()).isEqualByComparingTo(new BigDecimal("100.00"));
+            assertThat(entries.get(0).getCurrentBalance()).isEqualByComparingTo(new BigDecimal("85.00"));
+            assertThat(entries.get(1).getCurrentBalance()).isNull();
+            assertThat(entries.get(2).getPreviousBalance()).isEqualByComparingTo(new BigDecimal("84.00"));
+            assertThat(ledgerService.getLedgerBalance("LED-008")).hasValueSatisfying(balance ->
+                    assertThat(balance).isEqualByComparingTo(new BigDecimal("78.00")));
+        }
+
+        @Test
+        @DisplayName("should append striped debits with the account total")
+        void shouldAppendStripedDebits() {
+            createAccount("LED-006", "100.00");
+            accountService.stripe("LED-006", 4);
+
+            accountService.debit("LED-006", new BigDecimal("10.00"));
+
+            assertThat(entries("LED-006")).singleElement().satisfies(entry -> {
+                assertThat(entry.getPreviousBalance()).isEqualByComparingTo(new BigDecimal("100.00"));
+                assertThat(entry.getCurrentBalance()).isEqualByComparingTo(new BigDecimal("90.00"));
+            });
+        }
+
+        @Test
+        @DisplayName("should record only the amount of a debit without a resulting balance")
+        void shouldRecordAmountOnlyWithoutBalance() {
+            createAccount("LED-007", "100.00");
+
+            ledgerWriter.onAccountMutated(AccountMutatedEvent.debited("LED-007", new BigDecimal("10.00")));
+
+            assertThat(entries("LED-007")).singleElement().satisfies(entry -> {
+                assertThat(entry.getAmount()).isEqualByComparingTo(new BigDecimal("10.00"));
+                assertThat(entry.getPreviousBalance()).isNull();
+                assertThat(entry.getCurrentBalance()).isNull();
+            });
+            assertThat(ledgerService.getLedgerBalance("LED-007")).hasValueSatisfying(
+                    balance -> assertThat(balance).isEqualByComparingTo(new BigDecimal("90.00")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Querying")
+    class Querying {
+
+        @Test
+        @DisplayName("should return the entries of a half-open time range, capped by the limit")
+        void shouldReturnEntriesInRange() {
+            createAccount("LED-101", "1000.00");
+            for (int i = 0; i < 5; i++) {
+                accountService.debit("LED-101", new BigDecimal("1.00"));
+            }
+            List<LedgerEntry> all = entries("LED-101");
+            LocalDateTime second = all.get(1).getCreatedAt();
+
+            assertThat(ledgerService.findEntries("LED-101", EPOCH, FAR_FUTURE, 2)).hasSize(2);
+            assertThat(ledgerService.findEntries("LED-101", second, FAR_FUTURE, 100))
+                    .first().extracting(LedgerEntry::getId).isEqualTo(all.get(1).getId());
+            assertThat(ledgerService.findEntries("LED-101", EPOCH, all.get(0).getCreatedAt(), 100)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class Snapshots {
+
+        @Test
+        @DisplayName("should fold entries into a snapshot without changing the ledger balance")
+        void shouldFoldEntriesIntoSnapshot() {
+            createAccount("LED-201", "1000.00");
+            for (int i = 0; i < 3; i++) {
+                accountService.debit("LED-201", new BigDecimal("100.00"));
+            }
+
+            assertThat(snapshotter.snapshotDueAccounts()).isGreaterThanOrEqualTo(1);
+
+            BalanceSnapshot latest = snapshotRepository.findFirstByAccountNumberOrderByLastEntryIdDesc("LED-201")
+                    .orElseThrow();
+            assertThat(latest.getBalanceMinorUnits()).isEqualTo(70_000L);
+            assertThat(latest.getLastEntryId()).isEqualTo(entryRepository.findLastEntryId("LED-201"));
+            assertThat(snapshotter.snapshot("LED-201")).isFalse();
+
+            accountService.debit("LED-201", new BigDecimal("50.00"));
+            assertThat(ledgerService.getLedgerBalance("LED-201")).hasValueSatisfying(balance ->
+                    assertThat(balance).isEqualByComparingTo(new BigDecimal("650.00")));
+        }
+
+        @Test
+        @DisplayName("should re-anchor on the account balance and count the drift")
+        void shouldReanchorOnDrift() {
+            createAccount("LED-202", "1000.00");
+            accountService.debit("LED-202", new BigDecimal("100.00"));
+            // A change that bypasses the ledger, as journal replay does
+            jdbcTemplate.update("UPDATE accounts SET balance = 800.00 WHERE account_number = 'LED-202'");
+            double driftBefore = meterRegistry.counter("account.ledger.drift").count();
+
+            assertThat(snapshotter.snapshot("LED-202")).isTrue();
+
+            assertThat(meterRegistry.counter("account.ledger.drift").count()).isEqualTo(driftBefore + 1);
+            assertThat(ledgerService.getLedgerBalance("LED-202")).hasValueSatisfying(balance ->
+                    assertThat(balance).isEqualByComparingTo(new BigDecimal("800.00")));
+        }
+
+        @Test
+        @DisplayName("should snapshot a striped account under its stripe locks")
+        void shouldSnapshotStripedAccount() {
+            createAccount("LED-203", "100.00");
+            accountService.stripe("LED-203", 2);
+            accountService.debit("LED-203", new BigDecimal("10.00"));
+
+            assertThat(snapshotter.snapshot("LED-203")).isTrue();
+
+            assertThat(snapshotRepository.findFirstByAccountNumberOrderByLastEntryIdDesc("LED-203"))
+                    .hasValueSatisfying(snapshot -> assertThat(snapshot.getBalanceMinorUnits()).isEqualTo(9_000L));
+        }
+
+        @Test
+        @DisplayName("should skip an unknown account")
+        void shouldSkipUnknownAccount() {
+            assertThat(snapshotter.snapshot("LED-999")).isFalse();
+            assertThat(ledgerService.getLedgerBalance("LED-999")).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.account.infrastructure.readmodel;
+
+import com.example.account.application.AccountQueryService;
+import com.example.account.application.AccountService;
+import com.example.account.domain.AccountMutatedEvent;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.AccountView;
+import com.example.account.infrastructure.config.AccountReadModelProperties;
+import com.example.account.infrastructure.dto.CreateAccountRequest;
+import com.example.account.infrastructure.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Account read model integration Tests")
+class AccountReadModelIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountQueryService accountQueryService;
+
+    @Autowired
+    private AccountReadModel readModel;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private void createAccount(String accountNumber, String balance) {
+        accountService.createAccount(new CreateAccountRequest(accountNumber, "讀取模型", new BigDecimal(balance)));
+    }
+
+    private AccountView view(String accountNumber) {
+        return accountQueryService.getAccount(accountNumber).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Publishing")
+    class Publishing {
+
+        @Test
+        @DisplayName("should publish a newer view for every committed mutation")
+        void shouldPublishNewerViewPerCommit() {
+            createAccount("RDM-001", "1000.00");
+            AccountView created = view("RDM-001");
+
+            accountService.debit("RDM-001", new BigDecimal("100.00"));
+            AccountView debited = view("RDM-001");
+            accountService.freeze("RDM-001");
+            AccountView frozen = view("RDM-001");
+
+            assertThat(created.account().balance()).isEqualByComparingTo(new BigDecimal("1000.00"));
+            assertThat(debited.account().balance()).isEqualByComparingTo(new BigDecimal("900.00"));
+            assertThat(frozen.account().status()).isEqualTo(AccountStatus.FROZEN);
+            assertThat(debited.version()).isGreaterThan(created.version());
+            assertThat(frozen.version()).isGreaterThan(debited.version());
+            assertThat(frozen.revision()).isGreaterThan(debited.revision());
+            assertThat(frozen.asOf()).isAfterOrEqualTo(created.asOf());
+            assertThat(readModel.lastVersion()).isGreaterThanOrEqualTo(frozen.version());
+        }
+
+        @Test
+        @DisplayName("should publish nothing for a rolled back transaction")
+        void shouldPublishNothingOnRollback() {
+            createAccount("RDM-002", "1000.00");
+            AccountView before = view("RDM-002");
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                accountService.debit("RDM-002", new BigDecimal("100.00"));
+                status.setRollbackOnly();
+            });
+
+            assertThat(view("RDM-002")).isEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("should total the stripes of a striped account")
+        void shouldTotalStripes() {
+            createAccount("RDM-003", "100.00");
+            accountService.stripe("RDM-003", 4);
+            AccountView striped = view("RDM-003");
+
+            accountService.debit("RDM-003", new BigDecimal("10.00"));
+            AccountView debited = view("RDM-003");
+
+            assertThat(striped.account().balance()).isEqualByComparingTo(new BigDecimal("100.00"));
+            assertThat(debited.account().balance()).isEqualByComparingTo(new BigDecimal("90.00"));
+            assertThat(debited.revision()).isGreaterThan(striped.revision());
+        }
+
+        @Test
+        @DisplayName("should drop the view for a mutation published outside a transaction")
+        void shouldDropViewOutsideTransaction() {
+            createAccount("RDM-004", "1000.00");
+            view("RDM-004");
+            jdbcTemplate.update("UPDATE accounts SET balance = 500.00, version = version + 1 "
+                    + "WHERE account_number = 'RDM-004'");
+
+            readModel.onAccountMutated(AccountMutatedEvent.frozen("RDM-004"));
+
+            assertThat(view("RDM-004").account().balance()).isEqualByComparingTo(new BigDecimal("500.00"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reading")
+    class Reading {
+
+        @Test
+        @DisplayName("should serve a hit from memory without reading the database")
+        void shouldServeHitFromMemory() {
+            createAccount("RDM-101", "1000.00");
+            AccountView first = view("RDM-101");
+            // A change that bypasses the service: only a database read could see it
+            jdbcTemplate.update("UPDATE accounts SET balance = 1.00 WHERE account_number = 'RDM-101'");
+
+            assertThat(view("RDM-101")).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("should return empty for an unknown account without keeping a view")
+        void shouldNotKeepUnknownAccounts() {
+            long sizeBefore = readModel.estimatedSize();
+
+            assertThat(accountQueryService.getAccount("RDM-999")).isEmpty();
+
+            readModel.cleanUp();
+            assertThat(readModel.estimatedSize()).isEqualTo(sizeBefore);
+        }
+
+        @Test
+        @DisplayName("should read through on every call when disabled")
+        void shouldReadThroughWhenDisabled() {
+            createAccount("RDM-102", "1000.00");
+            AccountReadModel disabled = new AccountReadModel(namedParameterJdbcTemplate, accountRepository,
+                    AccountReadModelProperties.disabled(), new SimpleMeterRegistry());
+            jdbcTemplate.update("UPDATE accounts SET balance = 1.00 WHERE account_number = 'RDM-102'");
+
+            AccountView view = disabled.get("RDM-102").orElseThrow();
+
+            assertThat(view.account().balance()).isEqualByComparingTo(new BigDecimal("1.00"));
+            assertThat(view.version()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordering")
+    class Ordering {
+
+        @Test
+        @DisplayName("should keep the newer view when an older one is applied late")
+        void shouldRejectOlderRevision() {
+            createAccount("RDM-201", "1000.00");
+            AccountView created = view("RDM-201");
+            accountService.debit("RDM-201", new BigDecimal("100.00"));
+            AccountView debited = view("RDM-201");
+
+            AccountView kept = readModel.apply(AccountView.unapplied(created.account(), created.revision(),
+                    created.asOf()));
+
+            assertThat(kept).isSameAs(debited);
+            assertThat(view("RDM-201").account().balance()).isEqualByComparingTo(new BigDecimal("900.00"));
+        }
+
+        @Test
+        @DisplayName("should never show a reader an older state while debits commit")
+        void shouldBeMonotonicForConcurrentReaders() throws Exception {
+            createAccount("RDM-202", "1000.00");
+            int debits = 50;
+            CountDownLatch done = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Integer>> readers = new ArrayList<>();
+                for (int r = 0; r < 3; r++) {
+                    readers.add(executor.submit(() -> {
+                        AccountView last = view("RDM-202");
+                        int regressions = 0;
+                        while (done.getCount() > 0) {
+                            AccountView current = view("RDM-202");
+                            if (current.version() < last.version() || current.revision() < last.revision()
+                                    || current.account().balance().compareTo(last.account().balance()) > 0) {
+                                regressions++;
+                            }
+                            last = current;
+                        }
+                        return regressions;
+                    }));
+                }
+                executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < debits; i++) {
+                            accountService.debit("RDM-202", new BigDecimal("1.00"));
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }).get(30, TimeUnit.SECONDS);
+
+                for (Future<Integer> reader : readers) {
+                    assertThat(reader.get(5, TimeUnit.SECONDS)).isZero();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(view("RDM-202").account().balance()).isEqualByComparingTo(new BigDecimal("950.00"));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.account.infrastructure.repository;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.DebitResponse;
+import com.example.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@DisplayName("AccountRepository Tests")
+class AccountRepositoryTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Nested
+    @DisplayName("findExistingAccountNumbers()")
+    class FindExistingAccountNumbers {
+
+        @Test
+        @DisplayName("should return only the account numbers that are taken")
+        void shouldReturnOnlyTakenAccountNumbers() {
+            accountRepository.save(new Account("ACC-001", "王大明", new BigDecimal("10000.00")));
+            accountRepository.save(new Account("ACC-002", "李小華", new BigDecimal("5000.00")));
+
+            assertThat(accountRepository.findExistingAccountNumbers(List.of("ACC-001", "ACC-002", "ACC-404")))
+                    .containsExactlyInAnyOrder("ACC-001", "ACC-002");
+        }
+
+        @Test
+        @DisplayName("should assign sequence ids before insert")
+        void shouldAssignSequenceIdsBeforeInsert() {
+            Account account = new Account("ACC-003", "測試用戶", new BigDecimal("500.00"));
+
+            entityManager.persist(account);
+
+            // IDENTITY would need the INSERT to run first; a sequence hands out the id up front
+            assertThat(account.getId()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("debitAtomically()")
+    class DebitAtomically {
+
+        @Test
+        @DisplayName("should debit and report balances from the updated row")
+        void shouldDebitAndReportBalancesFromUpdatedRow() {
+            accountRepository.save(new Account("ACC-001", "王大明", new BigDecimal("10000.00")));
+
+            Optional<DebitResponse> response = accountRepository.debitAtomically("ACC-001", new BigDecimal("1000.00"));
+
+            assertThat(response).isPresent();
+            assertThat(response.get().success()).isTrue();
+            assertThat(response.get().previousBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+            assertThat(response.get().currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+            assertThat(accountRepository.findByAccountNumber("ACC-001").orElseThrow().getBalance())
+                    .isEqualByComparingTo(new BigDecimal("9000.00"));
+        }
+
+        @Test
+        @DisplayName("should debit exact balance down to zero")
+        void shouldDebitExactBalanceDownToZero() {
+            accountRepository.save(new Account("ACC-002", "李小華", new BigDecimal("500.00")));
+
+            Optional<DebitResponse> response = accountRepository.debitAtomically("ACC-002", new BigDecimal("500.00"));
+
+            assertThat(response).isPresent();
+            assertThat(response.get().currentBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
+        @Test
+        @DisplayName("should not update when balance is insufficient")
+        void shouldNotUpdateWhenBalanceIsInsufficient() {
+            accountRepository.save(new Account("ACC-003", "測試用戶", new BigDecimal("500.00")));
+
+            Optional<DebitResponse> response = accountRepository.debitAtomically("ACC-003", new BigDecimal("99999.00"));
+
+            assertThat(response).isEmpty();
+            assertThat(accountRepository.findByAccountNumber("ACC-003").orElseThrow().getBalance())
+                    .isEqualByComparingTo(new BigDecimal("500.00"));
+        }
+
+        @Test
+        @DisplayName("should not update a frozen account")
+        void shouldNotUpdateFrozenAccount() {
+            Account account = new Account("ACC-004", "凍結測試", new BigDecimal("3000.00"));
+            account.freeze();
+            accountRepository.save(account);
+
+            Optional<DebitResponse> response = accountRepository.debitAtomically("ACC-004", new BigDecimal("100.00"));
+
+            assertThat(response).isEmpty();
+            assertThat(accountRepository.findByAccountNumber("ACC-004").orElseThrow().getBalance())
+                    .isEqualByComparingTo(new BigDecimal("3000.00"));
+        }
+
+        @Test
+        @DisplayName("should not update a missing account")
+        void shouldNotUpdateMissingAccount() {
+            assertThat(accountRepository.debitAtomically("ACC-999", new BigDecimal("100.00"))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Minor units balance column")
+    class MinorUnitsBalanceColumn {
+
+        @Test
+        @DisplayName("should store minor units as DECIMAL(19, 2) and read them back exactly")
+        void shouldRoundTripMinorUnits() {
+            accountRepository.saveAndFlush(new Account("ACC-001", "王大明", new BigDecimal("9500.55")));
+            entityManager.clear();
+
+            Object column = entityManager.getEntityManager()
+                    .createNativeQuery("SELECT balance FROM accounts WHERE account_number = 'ACC-001'")
+                    .getSingleResult();
+
+            assertThat(column).isEqualTo(new BigDecimal("9500.55"));
+            assertThat(accountRepository.findByAccountNumber("ACC-001").orElseThrow().getBalanceMinorUnits())
+                    .isEqualTo(950_055L);
+            assertThat(accountRepository.findBalanceMinorUnitsByAccountNumber("ACC-001")).contains(950_055L);
+        }
+
+        @Test
+        @DisplayName("should stamp updatedAt when a debit is flushed")
+        void shouldStampUpdatedAtOnFlush() {
+            Account account = accountRepository.saveAndFlush(new Account("ACC-002", "李小華", new BigDecimal("500.00")));
+            LocalDateTime created = account.getUpdatedAt();
+
+            account.debit(Money.ofMinor(100));
+            accountRepository.saveAndFlush(account);
+
+            assertThat(account.getUpdatedAt()).isAfterOrEqualTo(created);
+            entityManager.clear();
+            assertThat(accountRepository.findByAccountNumber("ACC-002").orElseThrow().getBalance())
+                    .isEqualTo(new BigDecimal("499.00"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Optimistic locking")
+    class OptimisticLocking {
+
+        @Test
+        @DisplayName("should start at version 0 and increment on update")
+        void shouldIncrementVersionOnUpdate() {
+            Account account = accountRepository.saveAndFlush(new Account("ACC-001", "王大明", new BigDecimal("10000.00")));
+            assertThat(account.getVersion()).isZero();
+
+            account.debit(new BigDecimal("100.00"));
+            accountRepository.saveAndFlush(account);
+
+            assertThat(account.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should bump the version on an atomic debit")
+        void shouldBumpVersionOnAtomicDebit() {
+            accountRepository.saveAndFlush(new Account("ACC-002", "李小華", new BigDecimal("500.00")));
+
+            accountRepository.debitAtomically("ACC-002", new BigDecimal("100.00"));
+
+            assertThat(accountRepository.findByAccountNumber("ACC-002").orElseThrow().getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should reject a write based on a stale version")
+        void shouldRejectWriteBasedOnStaleVersion() {
+            Account stale = accountRepository.saveAndFlush(new Account("ACC-003", "測試用戶", new BigDecimal("500.00")));
+            entityManager.detach(stale);
+
+            accountRepository.debitAtomically("ACC-003", new BigDecimal("100.00"));
+            stale.freeze();
+
+            assertThatThrownBy(() -> accountRepository.saveAndFlush(stale))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+        }
+    }
+}
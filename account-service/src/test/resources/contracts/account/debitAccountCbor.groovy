@@ -0,0 +1,53 @@
+package contracts.account
+
+import org.springframework.cloud.contract.spec.Contract
+
+/**
+ * The debit of debitAccount.groovy in the compact binary wire format: a CBOR request body
+ * and, for a caller that asks for it, a CBOR response. Error responses stay JSON.
+ */
+Contract.make {
+    name "debit_account_cbor"
+    priority 1
+    description """
+        Contract: 帳戶扣款成功（CBOR 二進位格式）
+        Version: 1.3.0
+        Added: 2026-10-17
+        Author: Account Service Team
+
+        Precondition:
+        - accountId 存在
+        - amount > 0
+        - amount <= balance
+        - 帳戶狀態為 ACTIVE
+        - 請求本文為 application/cbor，Accept 為 application/cbor
+
+        Postcondition: newBalance = oldBalance - amount，以 application/cbor 返回扣款結果
+        Invariant: balance >= 0
+
+        BACKWARD COMPATIBLE: 新增可協商的媒體類型 application/cbor
+        - 現有 Consumer 不需要更新（預設仍為 JSON）
+        - 錯誤回應 (403/404/422) 一律為 JSON
+
+        Change History:
+        - 1.3.0 (2026-10-17): Added application/cbor representation (backward compatible)
+    """
+
+    request {
+        method POST()
+        url "/api/v1/accounts/ACC-001/debit"
+        headers {
+            contentType('application/cbor')
+            header(accept(), value(consumer(regex('application/cbor.*')), producer('application/cbor')))
+        }
+        body(fileAsBytes('debitAccountCbor_request.cbor'))
+    }
+
+    response {
+        status OK()
+        headers {
+            contentType('application/cbor')
+        }
+        body(fileAsBytes('debitAccountCbor_response.cbor'))
+    }
+}
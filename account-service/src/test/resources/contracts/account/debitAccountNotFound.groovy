@@ -0,0 +1,47 @@
+package contracts.account
+
+import org.springframework.cloud.contract.spec.Contract
+
+Contract.make {
+    name "debit_account_not_found"
+    description """
+        Contract: 不存在的帳戶扣款失敗
+        Version: 1.0.0
+        Added: 2026-10-17
+        Author: Account Service Team
+
+        Precondition: accountId 不存在於系統中
+        Postcondition: 返回 404 錯誤，包含錯誤訊息
+
+        Change History:
+        - 1.0.0 (2026-10-17): Initial version
+    """
+
+    request {
+        method POST()
+        url "/api/v1/accounts/ACC-999/debit"
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            amount: 100.00
+        ])
+    }
+
+    response {
+        status NOT_FOUND()
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            status: 404,
+            error: "Not Found",
+            message: "Account not found: ACC-999"
+        ])
+        bodyMatchers {
+            jsonPath('$.status', byEquality())
+            jsonPath('$.error', byEquality())
+            jsonPath('$.message', byRegex('Account not found: .*'))
+        }
+    }
+}
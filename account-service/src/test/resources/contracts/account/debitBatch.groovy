@@ -0,0 +1,90 @@
+package contracts.account
+
+import org.springframework.cloud.contract.spec.Contract
+
+Contract.make {
+    name "debit_batch_partial_failure"
+    description """
+        Contract: 批次扣款 - 部分成功
+        Version: 1.1.0
+        Added: 2026-10-17
+        Author: Account Service Team
+
+        Precondition:
+        - debits 為 1-1000 筆 (accountNumber, amount)
+        - 每筆 amount > 0
+
+        Postcondition:
+        - results 與 debits 順序一一對應
+        - 成功項目: newBalance = oldBalance - amount
+        - 失敗項目 (帳戶不存在、凍結、餘額不足) 不影響其他項目
+        - 失敗項目的 reason 為 NOT_FOUND / FROZEN / INSUFFICIENT_BALANCE / INVALID_AMOUNT, 成功項目不帶 reason
+        Invariant: balance >= 0
+
+        Change History:
+        - 1.0.0 (2026-10-17): Initial version
+        - 1.1.0 (2026-10-17): 新增 reason 欄位, 供呼叫端判斷失敗原因 (message 僅供閱讀)
+    """
+
+    request {
+        method POST()
+        url "/api/v1/accounts/debits:batch"
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            debits: [
+                [accountNumber: "ACC-001", amount: 1000.00],
+                [accountNumber: "ACC-003", amount: 99999.00],
+                [accountNumber: "ACC-999", amount: 100.00]
+            ]
+        ])
+    }
+
+    response {
+        status OK()
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            results: [
+                [
+                    accountNumber: "ACC-001",
+                    previousBalance: 10000.00,
+                    currentBalance: 9000.00,
+                    debitedAmount: 1000.00,
+                    success: true,
+                    message: "Debit successful"
+                ],
+                [
+                    accountNumber: "ACC-003",
+                    previousBalance: 500.00,
+                    currentBalance: 500.00,
+                    debitedAmount: 99999.00,
+                    success: false,
+                    message: "Insufficient balance",
+                    reason: "INSUFFICIENT_BALANCE"
+                ],
+                [
+                    accountNumber: "ACC-999",
+                    previousBalance: null,
+                    currentBalance: null,
+                    debitedAmount: 100.00,
+                    success: false,
+                    message: "Account not found: ACC-999",
+                    reason: "NOT_FOUND"
+                ]
+            ]
+        ])
+        bodyMatchers {
+            jsonPath('$.results[0].accountNumber', byEquality())
+            jsonPath('$.results[0].success', byEquality())
+            jsonPath('$.results[1].success', byEquality())
+            jsonPath('$.results[1].message', byEquality())
+            jsonPath('$.results[1].reason', byEquality())
+            jsonPath('$.results[2].success', byEquality())
+            jsonPath('$.results[2].message', byEquality())
+            jsonPath('$.results[2].reason', byEquality())
+        }
+    }
+}
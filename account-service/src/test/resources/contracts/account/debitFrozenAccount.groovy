@@ -0,0 +1,50 @@
+package contracts.account
+
+import org.springframework.cloud.contract.spec.Contract
+
+Contract.make {
+    name "debit_account_frozen"
+    description """
+        Contract: 凍結帳戶扣款失敗
+        Version: 1.0.0
+        Added: 2026-10-17
+        Author: Account Service Team
+
+        Precondition:
+        - accountId 存在
+        - 帳戶狀態為 FROZEN
+
+        Postcondition: 返回 403 錯誤，餘額不變
+
+        Change History:
+        - 1.0.0 (2026-10-17): Initial version
+    """
+
+    request {
+        method POST()
+        url "/api/v1/accounts/ACC-004/debit"
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            amount: 100.00
+        ])
+    }
+
+    response {
+        status FORBIDDEN()
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            status: 403,
+            error: "Forbidden",
+            message: "Account is frozen: ACC-004"
+        ])
+        bodyMatchers {
+            jsonPath('$.status', byEquality())
+            jsonPath('$.error', byEquality())
+            jsonPath('$.message', byRegex('Account is frozen: .*'))
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package contracts.account
+
+import org.springframework.cloud.contract.spec.Contract
+
+Contract.make {
+    name "debit_account_with_idempotency_key"
+    description """
+        Contract: 帶 Idempotency-Key 的帳戶扣款
+        Version: 1.0.0
+        Added: 2026-10-17
+        Author: Account Service Team
+
+        Precondition:
+        - accountId 存在
+        - amount > 0
+        - Idempotency-Key 為 1-255 字元
+
+        Postcondition:
+        - 首次請求: newBalance = oldBalance - amount
+        - 相同 Idempotency-Key 的重送: 回傳首次結果, 不再扣款
+
+        Change History:
+        - 1.0.0 (2026-10-17): Initial version
+    """
+
+    request {
+        method POST()
+        url "/api/v1/accounts/ACC-001/debit"
+        headers {
+            contentType applicationJson()
+            header("Idempotency-Key", value(consumer(regex('[A-Za-z0-9-]{1,255}')), producer("pay-0001")))
+        }
+        body([
+            amount: 500.00
+        ])
+    }
+
+    response {
+        status OK()
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            accountNumber: "ACC-001",
+            previousBalance: 10000.00,
+            currentBalance: 9500.00,
+            debitedAmount: 500.00,
+            success: true,
+            message: "Debit successful"
+        ])
+        bodyMatchers {
+            jsonPath('$.accountNumber', byEquality())
+            jsonPath('$.previousBalance', byRegex('[0-9]+\\.?[0-9]*'))
+            jsonPath('$.currentBalance', byRegex('[0-9]+\\.?[0-9]*'))
+            jsonPath('$.debitedAmount', byRegex('[0-9]+\\.?[0-9]*'))
+            jsonPath('$.success', byEquality())
+            jsonPath('$.message', byEquality())
+        }
+    }
+}
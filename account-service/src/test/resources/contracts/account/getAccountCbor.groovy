@@ -0,0 +1,47 @@
+package contracts.account
+
+import org.springframework.cloud.contract.spec.Contract
+
+/**
+ * The account read of getAccountWithVersion.groovy in the compact binary wire format. JSON
+ * stays the default; only a caller that asks for application/cbor gets this body, which is
+ * the CBOR encoding of the same fields.
+ */
+Contract.make {
+    name "get_account_cbor"
+    priority 1
+    description """
+        Contract: 查詢帳戶（CBOR 二進位格式）
+        Version: 1.3.0
+        Added: 2026-10-17
+        Author: Account Service Team
+
+        Precondition: accountId 存在於系統中，且請求 Accept 為 application/cbor
+        Postcondition: 以 application/cbor 返回與 JSON 相同欄位的帳戶資訊
+        Invariant: 未要求 application/cbor 的請求仍返回 JSON
+
+        BACKWARD COMPATIBLE: 新增可協商的媒體類型 application/cbor
+        - 現有 Consumer 不需要更新（預設仍為 JSON）
+        - 新 Consumer 可以用 Accept 選擇 CBOR，減少序列化成本與傳輸量
+
+        Change History:
+        - 1.3.0 (2026-10-17): Added application/cbor representation (backward compatible)
+    """
+
+    request {
+        method GET()
+        url "/api/v1/accounts/ACC-008"
+        headers {
+            // Consumers may list JSON as a fallback after CBOR
+            header(accept(), value(consumer(regex('application/cbor.*')), producer('application/cbor')))
+        }
+    }
+
+    response {
+        status OK()
+        headers {
+            contentType('application/cbor')
+        }
+        body(fileAsBytes('getAccountCbor_response.cbor'))
+    }
+}
@@ -0,0 +1,59 @@
+package contracts.account
+
+import org.springframework.cloud.contract.spec.Contract
+
+Contract.make {
+    name "get_account_ledger_success"
+    description """
+        Contract: 查詢帳戶扣款明細 (append-only ledger)
+        Version: 1.0.0
+        Added: 2026-10-17
+        Author: Account Service Team
+
+        Precondition: 帳戶存在, from < to
+        Postcondition: 返回 [from, to) 期間的扣款明細 (由舊到新) 與由快照推導的 ledger 餘額
+        Invariant: currentBalance = previousBalance - amount
+
+        Change History:
+        - 1.0.0 (2026-10-17): Initial version
+    """
+
+    request {
+        method GET()
+        url("/api/v1/accounts/ACC-001/ledger") {
+            queryParameters {
+                parameter("from", "2026-10-01T00:00:00")
+                parameter("to", "2026-11-01T00:00:00")
+            }
+        }
+    }
+
+    response {
+        status OK()
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            accountNumber: "ACC-001",
+            balance: 9000.00,
+            entries: [
+                [
+                    id: 1,
+                    amount: 1000.00,
+                    previousBalance: 10000.00,
+                    currentBalance: 9000.00,
+                    createdAt: "2026-10-17T09:30"
+                ]
+            ]
+        ])
+        bodyMatchers {
+            jsonPath('$.accountNumber', byEquality())
+            jsonPath('$.balance', byRegex('[0-9]+\\.?[0-9]*'))
+            jsonPath('$.entries[0].id', byType())
+            jsonPath('$.entries[0].amount', byRegex('[0-9]+\\.?[0-9]*'))
+            jsonPath('$.entries[0].previousBalance', byRegex('[0-9]+\\.?[0-9]*'))
+            jsonPath('$.entries[0].currentBalance', byRegex('[0-9]+\\.?[0-9]*'))
+            jsonPath('$.entries[0].createdAt', byType())
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package contracts.account
+
+import org.springframework.cloud.contract.spec.Contract
+
+/**
+ * Reads are served from an in-memory read model fed by committed changes. Version 1.2.0
+ * adds its freshness marker as two optional fields; consumers that ignore them keep working.
+ */
+Contract.make {
+    name "get_account_with_version"
+    description """
+        Contract: 查詢帳戶（含讀取模型版本）
+        Version: 1.2.0
+        Added: 2026-10-17
+        Author: Account Service Team
+
+        Precondition: accountId 存在於系統中
+        Postcondition: 返回帳戶資訊，並附上讀取模型版本 version 與資料時間 asOf (新增)
+        Invariant: 同一帳戶較新的回應 version 較大
+
+        BACKWARD COMPATIBLE: 新增可選欄位 version, asOf
+        - 現有 Consumer 不需要更新
+        - 新 Consumer 可以用 version 判斷資料新舊
+
+        Change History:
+        - 1.2.0 (2026-10-17): Added optional 'version' and 'asOf' fields (backward compatible)
+    """
+
+    request {
+        method GET()
+        url "/api/v1/accounts/ACC-008"
+    }
+
+    response {
+        status OK()
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            accountNumber: "ACC-008",
+            ownerName: "讀取模型測試",
+            balance: 3000.00,
+            status: "ACTIVE",
+            createdAt: "2026-10-17T09:00:00",
+            // New optional fields - existing consumers will ignore these
+            version: 42,
+            asOf: "2026-10-17T09:30:00"
+        ])
+        bodyMatchers {
+            jsonPath('$.accountNumber', byRegex('[A-Z]{3}-\\d{3}'))
+            jsonPath('$.ownerName', byType())
+            jsonPath('$.balance', byRegex('[0-9]+\\.?[0-9]*'))
+            jsonPath('$.status', byRegex('ACTIVE|FROZEN|CLOSED'))
+            jsonPath('$.createdAt', byType())
+            jsonPath('$.version', byRegex('[0-9]+'))
+            jsonPath('$.asOf', byType())
+        }
+    }
+}
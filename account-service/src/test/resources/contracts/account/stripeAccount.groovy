@@ -0,0 +1,48 @@
+package contracts.account
+
+import org.springframework.cloud.contract.spec.Contract
+
+Contract.make {
+    name "stripe_account_success"
+    description """
+        Contract: 熱門帳戶餘額分片 (striped sub-balances)
+        Version: 1.0.0
+        Added: 2026-10-17
+        Author: Account Service Team
+
+        Precondition: 帳戶存在且尚未分片, 1 <= stripes <= 64
+        Postcondition: 餘額分散到 stripes 個子餘額, 回應的 balance 為總額 (不變)
+
+        Change History:
+        - 1.0.0 (2026-10-17): Initial version
+    """
+
+    request {
+        method POST()
+        url "/api/v1/accounts/ACC-007/stripe"
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            stripes: 8
+        ])
+    }
+
+    response {
+        status OK()
+        headers {
+            contentType applicationJson()
+        }
+        body([
+            accountNumber: "ACC-007",
+            ownerName: "熱門帳戶",
+            balance: 50000.00,
+            status: "ACTIVE"
+        ])
+        bodyMatchers {
+            jsonPath('$.accountNumber', byEquality())
+            jsonPath('$.balance', byRegex('[0-9]+\\.?[0-9]*'))
+            jsonPath('$.status', byEquality())
+        }
+    }
+}
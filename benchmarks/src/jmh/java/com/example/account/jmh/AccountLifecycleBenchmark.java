@@ -0,0 +1,80 @@
+package com.example.account.jmh;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Account operations around the debit hot path, run with the gc profiler
+ * (gc.alloc.rate.norm = bytes allocated per operation).
+ *
+ * freezeUnfreeze takes an account through both transitions, each stamping updatedAt.
+ * frozenDebit is a debit refused by the entity itself: it throws with a full stack trace,
+ * which is why the services check the status first and answer AccountRejection.FROZEN.
+ * stripedDebit takes one cent from an account split into 8 stripes. Expected:
+ * - freezeUnfreeze: two LocalDateTime.now() per cycle (about 256 B), nothing else
+ * - frozenDebit: orders of magnitude slower than accountDebit (DebitHotPathBenchmark)
+ * - stripedDebit: 0 B/op
+ *
+ * Run: ./gradlew :benchmarks:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountLifecycleBenchmark {
+
+    private static final BigDecimal BALANCE = new BigDecimal("10000000000000.00");
+
+    private Account active;
+    private Account frozen;
+    private Account striped;
+    private Money amount;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        active = new Account("ACC-001", "Benchmark", BALANCE);
+        frozen = new Account("ACC-002", "Benchmark", BALANCE);
+        frozen.freeze();
+        // Large enough that a one-cent debit never runs out within an iteration
+        striped = new Account("ACC-003", "Benchmark", BALANCE);
+        striped.stripe(8);
+        amount = Money.ofMinor(1);
+    }
+
+    @Benchmark
+    public Account freezeUnfreeze() {
+        active.freeze();
+        active.unfreeze();
+        return active;
+    }
+
+    @Benchmark
+    public Object frozenDebit() {
+        try {
+            return frozen.debit(amount);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean stripedDebit() {
+        return striped.debit(amount);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.account.jmh;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.DebitResponse;
+import com.example.account.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation profile of the single-account debit hot path, run with the gc profiler
+ * (gc.alloc.rate.norm = bytes allocated per operation).
+ *
+ * The legacy* benchmarks replay what Account.debit and DebitResponse building did while
+ * the balance was a BigDecimal: a subtract result plus a LocalDateTime per debit, and a
+ * response holding BigDecimals. Expected:
+ * - accountDebit: 0 B/op
+ * - buildDebitResponse: only the response object itself
+ *
+ * accountDebit is the guard for the allocation-free debit: a unit test reading thread
+ * allocation counters was too noisy, while jmhCompare flags a gc.alloc.rate.norm above the
+ * baseline.
+ *
+ * Run: ./gradlew :benchmarks:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DebitHotPathBenchmark {
+
+    private static final String ACCOUNT_NUMBER = "ACC-001";
+
+    /** Shape of the response before minor units: the JSON contract is unchanged. */
+    record LegacyDebitResponse(String accountNumber, BigDecimal previousBalance, BigDecimal currentBalance,
+                               BigDecimal debitedAmount, boolean success, String message) {
+    }
+
+    private Account account;
+    private Money amount;
+    private BigDecimal legacyBalance;
+    private BigDecimal legacyAmount;
+    private LocalDateTime legacyUpdatedAt;
+    private long previousBalance;
+    private long currentBalance;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // Large enough that a one-cent debit never runs out within an iteration
+        account = new Account(ACCOUNT_NUMBER, "Benchmark", new BigDecimal("10000000000000.00"));
+        amount = Money.ofMinor(1);
+        legacyBalance = new BigDecimal("10000000000000.00");
+        legacyAmount = new BigDecimal("0.01");
+        previousBalance = 1_000_000L;
+        currentBalance = 999_999L;
+    }
+
+    @Benchmark
+    public boolean accountDebit() {
+        return account.debit(amount);
+    }
+
+    @Benchmark
+    public boolean legacyBigDecimalDebit() {
+        if (legacyBalance.compareTo(legacyAmount) < 0) {
+            return false;
+        }
+        legacyBalance = legacyBalance.subtract(legacyAmount);
+        legacyUpdatedAt = LocalDateTime.now();
+        return true;
+    }
+
+    @Benchmark
+    public DebitResponse buildDebitResponse() {
+        return DebitResponse.success(ACCOUNT_NUMBER, previousBalance, currentBalance, amount.minorUnits());
+    }
+
+    @Benchmark
+    public LegacyDebitResponse legacyBuildDebitResponse() {
+        BigDecimal current = legacyBalance.subtract(legacyAmount);
+        return new LegacyDebitResponse(ACCOUNT_NUMBER, legacyBalance, current, legacyAmount,
+                true, "Debit successful");
+    }
+}
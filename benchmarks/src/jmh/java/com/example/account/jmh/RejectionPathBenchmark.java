@@ -0,0 +1,89 @@
+package com.example.account.jmh;
+
+import com.example.account.application.DebitResult;
+import com.example.account.domain.AccountRejection;
+import com.example.account.infrastructure.exception.AccountNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reporting an unknown account, run with the gc profiler
+ * (gc.alloc.rate.norm = bytes allocated per operation).
+ *
+ * Each benchmark raises the rejection below {@code depth} frames, as a request does under
+ * the servlet, Spring MVC and proxy stack, and reads its message the way the error body
+ * does. legacyThrow replays the exception with a filled-in stack trace. Expected:
+ * - stacklessThrow: a constant ~112 B/op whatever the depth; it still pays for unwinding
+ * - rejectedResult: no exception at all, only the result and the message, several
+ *   times the throughput of either throw
+ *
+ * Run: ./gradlew :benchmarks:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RejectionPathBenchmark {
+
+    private static final String ACCOUNT_NUMBER = "ACC-999";
+
+    /** AccountNotFoundException before it dropped its stack trace. */
+    static final class LegacyAccountNotFoundException extends RuntimeException {
+        LegacyAccountNotFoundException(String accountNumber) {
+            super("Account not found: " + accountNumber);
+        }
+    }
+
+    @Param({"20", "120"})
+    public int depth;
+
+    @Benchmark
+    public String legacyThrow() {
+        try {
+            return throwBelow(depth, true);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String stacklessThrow() {
+        try {
+            return throwBelow(depth, false);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String rejectedResult() {
+        DebitResult result = rejectBelow(depth);
+        return result.rejection().message(result.accountNumber());
+    }
+
+    private static String throwBelow(int frames, boolean legacy) {
+        if (frames > 0) {
+            return throwBelow(frames - 1, legacy);
+        }
+        throw legacy ? new LegacyAccountNotFoundException(ACCOUNT_NUMBER) : new AccountNotFoundException(ACCOUNT_NUMBER);
+    }
+
+    private static DebitResult rejectBelow(int frames) {
+        if (frames > 0) {
+            return rejectBelow(frames - 1);
+        }
+        return DebitResult.rejected(AccountRejection.NOT_FOUND, ACCOUNT_NUMBER);
+    }
+}
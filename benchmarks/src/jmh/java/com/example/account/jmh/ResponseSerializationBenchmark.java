@@ -0,0 +1,116 @@
+package com.example.account.jmh;
+
+import com.example.account.domain.AccountSnapshot;
+import com.example.account.domain.AccountStatus;
+import com.example.account.domain.AccountView;
+import com.example.account.domain.DebitResponse;
+import com.example.account.infrastructure.controller.AccountController.AccountResponse;
+import com.example.account.infrastructure.json.DebitResponseSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing a response body to the response stream, run with the gc profiler
+ * (gc.alloc.rate.norm = bytes allocated per operation).
+ *
+ * The mappers are built like the application's (Jackson2ObjectMapperBuilder). The legacy*
+ * benchmarks replay the reflective path: DebitResponse through its BigDecimal getters,
+ * AccountResponse built with String timestamps. Both write the same bytes. Expected:
+ * - writeDebitResponse: no BigDecimal or String per amount, well under the legacy bytes/op
+ * - writeAccountResponse: no String per timestamp; the balance reuses the snapshot's cached text
+ * - buildAccountResponse: only the response object, the view's components are shared
+ *
+ * Run: ./gradlew :benchmarks:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseSerializationBenchmark {
+
+    /** Shape of AccountResponse before its components were typed. */
+    record LegacyAccountResponse(String accountNumber, String ownerName, BigDecimal balance, String status,
+                                 String createdAt,
+                                 @JsonInclude(JsonInclude.Include.NON_NULL) Long version,
+                                 @JsonInclude(JsonInclude.Include.NON_NULL) String asOf) {
+    }
+
+    /** Stands in for the response stream, which the message converters never close. */
+    static final class DiscardingStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    private final OutputStream sink = new DiscardingStream();
+
+    private ObjectMapper mapper;
+    private ObjectMapper reflectiveMapper;
+    private DebitResponse debitResponse;
+    private AccountView view;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new SimpleModule().addSerializer(new DebitResponseSerializer()))
+                .build();
+        reflectiveMapper = Jackson2ObjectMapperBuilder.json().build();
+        debitResponse = DebitResponse.success("ACC-001", 1_000_000L, 900_000L, 100_000L);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 9, 30, 15, 123_000_000);
+        AccountSnapshot snapshot = new AccountSnapshot("ACC-008", "讀取模型測試", new BigDecimal("3000.00"),
+                AccountStatus.ACTIVE, createdAt, 3L);
+        view = new AccountView(snapshot, 3, 42, createdAt.plusSeconds(5));
+    }
+
+    @Benchmark
+    public void writeDebitResponse() throws IOException {
+        mapper.writeValue(sink, debitResponse);
+    }
+
+    @Benchmark
+    public void legacyWriteDebitResponse() throws IOException {
+        reflectiveMapper.writeValue(sink, debitResponse);
+    }
+
+    @Benchmark
+    public AccountResponse buildAccountResponse() {
+        return AccountResponse.from(view);
+    }
+
+    @Benchmark
+    public void writeAccountResponse() throws IOException {
+        mapper.writeValue(sink, AccountResponse.from(view));
+    }
+
+    @Benchmark
+    public void legacyWriteAccountResponse() throws IOException {
+        AccountSnapshot account = view.account();
+        reflectiveMapper.writeValue(sink, new LegacyAccountResponse(account.accountNumber(), account.ownerName(),
+                account.balance(), account.status().name(), account.createdAt().toString(),
+                view.version(), view.asOf().toString()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.payment.jmh;
+
+import com.example.payment.infrastructure.client.AccountClient;
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitItemDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import feign.FeignException;
+import feign.Request;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * account-service without the network: balances in a map, answers shaped as the Feign
+ * client returns them (a 403 for a frozen account, a 404 for an unknown one).
+ *
+ * Idempotency keys are accepted but not remembered; every call debits.
+ */
+class InMemoryAccountClient implements AccountClient {
+
+    private static final String ACCOUNTS_PATH = "/api/v1/accounts/";
+
+    private static final class Balance {
+        final String ownerName;
+        final String status;
+        long minorUnits;
+
+        Balance(String ownerName, String status, long minorUnits) {
+            this.ownerName = ownerName;
+            this.status = status;
+            this.minorUnits = minorUnits;
+        }
+    }
+
+    private final Map<String, Balance> accounts = new ConcurrentHashMap<>();
+
+    void open(String accountNumber, BigDecimal balance, String status) {
+        accounts.put(accountNumber, new Balance("Benchmark", status, balance.movePointRight(2).longValueExact()));
+    }
+
+    @Override
+    public AccountDto getAccount(String accountNumber) {
+        Balance account = find(accountNumber, Request.HttpMethod.GET, ACCOUNTS_PATH + accountNumber);
+        synchronized (account) {
+            return new AccountDto(accountNumber, account.ownerName, BigDecimal.valueOf(account.minorUnits, 2),
+                    account.status);
+        }
+    }
+
+    @Override
+    public DebitResponseDto debit(String accountNumber, DebitRequestDto request) {
+        String path = ACCOUNTS_PATH + accountNumber + "/debit";
+        Balance account = find(accountNumber, Request.HttpMethod.POST, path);
+        if (!"ACTIVE".equals(account.status)) {
+            throw new FeignException.Forbidden("Account is frozen: " + accountNumber,
+                    request(Request.HttpMethod.POST, path), null, null);
+        }
+        return debit(accountNumber, account, request.amount());
+    }
+
+    @Override
+    public DebitResponseDto debit(String accountNumber, DebitRequestDto request, String idempotencyKey) {
+        return debit(accountNumber, request);
+    }
+
+    @Override
+    public BatchDebitResponseDto debitBatch(BatchDebitRequestDto request) {
+        List<DebitResponseDto> results = new ArrayList<>(request.debits().size());
+        for (BatchDebitItemDto item : request.debits()) {
+            Balance account = accounts.get(item.accountNumber());
+            if (account == null) {
+                results.add(refused(item, "Account not found: ", DebitResponseDto.NOT_FOUND));
+            } else if (!"ACTIVE".equals(account.status)) {
+                results.add(refused(item, "Account is frozen: ", DebitResponseDto.FROZEN));
+            } else {
+                results.add(debit(item.accountNumber(), account, item.amount()));
+            }
+        }
+        return new BatchDebitResponseDto(results);
+    }
+
+    private static DebitResponseDto debit(String accountNumber, Balance account, BigDecimal amount) {
+        long debited = amount.movePointRight(2).longValueExact();
+        synchronized (account) {
+            long previous = account.minorUnits;
+            if (previous < debited) {
+                return new DebitResponseDto(accountNumber, BigDecimal.valueOf(previous, 2), null, amount, false,
+                        "Insufficient balance", DebitResponseDto.INSUFFICIENT_BALANCE);
+            }
+            account.minorUnits = previous - debited;
+            return new DebitResponseDto(accountNumber, BigDecimal.valueOf(previous, 2),
+                    BigDecimal.valueOf(previous - debited, 2), amount, true, "Debit successful", null);
+        }
+    }
+
+    private static DebitResponseDto refused(BatchDebitItemDto item, String messagePrefix, String reason) {
+        return new DebitResponseDto(item.accountNumber(), null, null, item.amount(), false,
+                messagePrefix + item.accountNumber(), reason);
+    }
+
+    private Balance find(String accountNumber, Request.HttpMethod method, String path) {
+        Balance account = accounts.get(accountNumber);
+        if (account == null) {
+            throw new FeignException.NotFound("Account not found: " + accountNumber, request(method, path),
+                    null, null);
+        }
+        return account;
+    }
+
+    private static Request request(Request.HttpMethod method, String path) {
+        return Request.create(method, path, Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.payment.jmh;
+
+import com.example.payment.application.PaymentMode;
+import com.example.payment.application.PaymentService;
+import com.example.payment.application.PaymentService.PaymentResult;
+import com.example.payment.domain.PaymentRequest;
+import com.example.payment.infrastructure.client.AccountStatusCache;
+import com.example.payment.infrastructure.client.DebitBatcher;
+import com.example.payment.infrastructure.config.AccountStatusCacheProperties;
+import com.example.payment.infrastructure.config.PaymentExecutionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PaymentService.processPayment against an {@link InMemoryAccountClient}: the service's own
+ * cost per payment with the network taken out, run with the gc profiler
+ * (gc.alloc.rate.norm = bytes allocated per operation).
+ *
+ * path selects how the payment reaches account-service:
+ * - PRE_CHECK: status lookup on every payment (status cache disabled), then the debit
+ * - PRE_CHECK_CACHED: status answered by the near-cache, then the debit
+ * - SINGLE_ROUND_TRIP: the debit only
+ * Logging is at ERROR (src/jmh/resources/logback.xml); LoggingLatencyBenchmark in
+ * account-service measures the logging pipeline. Expected:
+ * - processPayment: every path pays for one random UUID (the debit's Idempotency-Key).
+ *   The in-memory status lookup is a map read the JIT can inline and scalar-replace, so
+ *   PRE_CHECK is not slower than PRE_CHECK_CACHED here (a Caffeine read and a counter);
+ *   the cache pays off against a real round trip, not in this benchmark
+ * - processPaymentFrozen: the PRE_CHECK paths refuse before any debit in under 100 B/op,
+ *   SINGLE_ROUND_TRIP pays for the 403's FeignException and its stack trace (over 1 KB/op)
+ *
+ * Run: ./gradlew :benchmarks:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProcessPaymentBenchmark {
+
+    @Param({"PRE_CHECK", "PRE_CHECK_CACHED", "SINGLE_ROUND_TRIP"})
+    public String path;
+
+    private PaymentService paymentService;
+    private PaymentRequest payment;
+    private PaymentRequest frozenPayment;
+
+    @Setup
+    public void setUp() {
+        InMemoryAccountClient accountClient = new InMemoryAccountClient();
+        // Large enough that a one-cent payment never runs out within a run
+        accountClient.open("ACC-001", new BigDecimal("10000000000000.00"), "ACTIVE");
+        accountClient.open("ACC-002", new BigDecimal("10000.00"), "FROZEN");
+
+        AccountStatusCacheProperties cacheProperties = "PRE_CHECK_CACHED".equals(path)
+                ? new AccountStatusCacheProperties(true, Duration.ofHours(1), Duration.ofHours(1), 100)
+                : AccountStatusCacheProperties.disabled();
+        PaymentMode mode = "SINGLE_ROUND_TRIP".equals(path) ? PaymentMode.SINGLE_ROUND_TRIP : PaymentMode.PRE_CHECK;
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        paymentService = new PaymentService(accountClient,
+                new AccountStatusCache(accountClient, cacheProperties, registry),
+                new PaymentExecutionProperties(mode),
+                DebitBatcher.unbatched(accountClient, registry));
+
+        payment = new PaymentRequest("ACC-001", new BigDecimal("0.01"), "Benchmark");
+        frozenPayment = new PaymentRequest("ACC-002", new BigDecimal("0.01"), "Benchmark");
+    }
+
+    @Benchmark
+    public PaymentResult processPayment() {
+        return paymentService.processPayment(payment);
+    }
+
+    @Benchmark
+    public PaymentResult processPaymentFrozen() {
+        return paymentService.processPayment(frozenPayment);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Exposes what the production logging pipeline discards, found in the logback
+ * configuration when the registry is bound (logging is configured before any bean).
+ *
+ * Metrics:
+ * - logging.events.dropped (appender, level): events a full {@link RingBufferAppender} discarded
+ * - logging.ring.size (appender): events queued, not yet written
+ * - logging.events.suppressed (filter): success logs denied by a {@link SuccessLogSampler}
+ *
+ * Profiles without these components register nothing. Registered by
+ * {@link LoggingMetricsAutoConfiguration}.
+ */
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (factory instanceof LoggerContext context) {
+            bindTo(context, registry);
+        }
+    }
+
+    static void bindTo(LoggerContext context, MeterRegistry registry) {
+        Set<RingBufferAppender> appenders = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Logger logger : context.getLoggerList()) {
+            for (Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders(); it.hasNext(); ) {
+                if (it.next() instanceof RingBufferAppender appender && appenders.add(appender)) {
+                    bindAppender(appender, registry);
+                }
+            }
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof SuccessLogSampler sampler) {
+                FunctionCounter.builder("logging.events.suppressed", sampler, SuccessLogSampler::suppressedCount)
+                        .tag("filter", String.valueOf(sampler.getName()))
+                        .description("Success-path log events denied by rate limiting")
+                        .register(registry);
+            }
+        }
+    }
+
+    private static void bindAppender(RingBufferAppender appender, MeterRegistry registry) {
+        for (Level level : RingBufferAppender.LEVELS) {
+            FunctionCounter.builder("logging.events.dropped", appender, a -> a.droppedCount(level))
+                    .tag("appender", appender.getName())
+                    .tag("level", level.toString().toLowerCase())
+                    .description("Log events discarded because the ring buffer was full")
+                    .register(registry);
+        }
+        Gauge.builder("logging.ring.size", appender, RingBufferAppender::queueSize)
+                .tag("appender", appender.getName())
+                .description("Log events queued for the writer thread")
+                .register(registry);
+    }
+}
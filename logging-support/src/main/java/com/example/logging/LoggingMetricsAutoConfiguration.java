@@ -0,0 +1,22 @@
+package com.example.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Binds {@link LoggingMetrics} in every service that has this module and Micrometer on the classpath.
+ */
+@AutoConfiguration
+@ConditionalOnClass({MeterRegistry.class, LoggerContext.class})
+public class LoggingMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LoggingMetrics loggingMetrics() {
+        return new LoggingMetrics();
+    }
+}
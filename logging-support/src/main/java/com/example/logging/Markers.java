@@ -0,0 +1,19 @@
+package com.example.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * SLF4J markers the services put on their log lines; plain SLF4J, usable from any layer.
+ */
+public final class Markers {
+
+    /**
+     * A success-path log line that may be sampled away under load, see {@link SuccessLogSampler}.
+     * Without that filter in the logback configuration the marker has no effect.
+     */
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private Markers() {
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands events to a single worker thread through a fixed ring of slots, so the calling
+ * thread pays for formatting the message but not for encoding or writing it.
+ *
+ * When the ring is full, the overflow policy decides: DROP discards events below
+ * retainLevel and counts them per level, BLOCK makes the caller wait for a slot.
+ * Events at or above retainLevel (WARN by default) always wait, so failures are never
+ * dropped. Stopping drains what is queued for at most maxFlushTime; the attached appenders
+ * are stopped by the worker once it has delivered everything, so a stop that times out
+ * leaves them running until the worker is done.
+ *
+ * Invariant: every accepted event is delivered to the attached appenders exactly once,
+ *   in the order it was queued, or the appender was stopped before it could be
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public enum OverflowPolicy {
+        /** Discard the event being logged (below retainLevel) and count it. */
+        DROP,
+        /** Wait for a free slot. */
+        BLOCK
+    }
+
+    /** Levels counted by {@link #droppedCount(Level)}. */
+    static final List<Level> LEVELS = List.of(Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR);
+
+    private static final int DRAIN_BATCH = 256;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder[] dropped = new LongAdder[LEVELS.size()];
+
+    private int capacity = 8192;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private Level retainLevel = Level.WARN;
+    private int maxFlushTime = 1000;
+    private boolean includeCallerData;
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread worker;
+
+    public RingBufferAppender() {
+        for (int i = 0; i < dropped.length; i++) {
+            dropped[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (capacity < 1) {
+            addError("capacity must be positive, was " + capacity);
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to " + getName());
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+        worker = new Thread(this::deliverLoop, "logback-ring-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        worker.interrupt();
+        try {
+            worker.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("Stopped " + getName() + " with " + queue.size() + " events not flushed within "
+                    + maxFlushTime + "ms; still flushing in the background");
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Message, MDC and caller data must be captured on the calling thread
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP && !event.getLevel().isGreaterOrEqual(retainLevel)) {
+            drop(event);
+            return;
+        }
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop(event);
+        }
+    }
+
+    private void drop(ILoggingEvent event) {
+        int index = LEVELS.indexOf(event.getLevel());
+        if (index >= 0) {
+            dropped[index].increment();
+        }
+    }
+
+    private void deliverLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(DRAIN_BATCH);
+        while (isStarted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, DRAIN_BATCH - 1);
+            deliver(batch);
+        }
+        // Stopping: flush what was queued before the appender stopped accepting events
+        while (queue.drainTo(batch, DRAIN_BATCH) > 0) {
+            deliver(batch);
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    private void deliver(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        batch.clear();
+    }
+
+    /**
+     * Postcondition: events of the level discarded because the ring was full, since start
+     */
+    public long droppedCount(Level level) {
+        int index = LEVELS.indexOf(level);
+        return index >= 0 ? dropped[index].sum() : 0;
+    }
+
+    public int queueSize() {
+        BlockingQueue<ILoggingEvent> current = queue;
+        return current != null ? current.size() : 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public String getRetainLevel() {
+        return retainLevel.toString();
+    }
+
+    public void setRetainLevel(String retainLevel) {
+        this.retainLevel = Level.toLevel(retainLevel, Level.WARN);
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    /** Milliseconds stop() waits for the queued events to be written. */
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate-limits the per-request success logs of the hot paths: each logger writes at most
+ * permitsPerSecond events marked {@link Markers#SAMPLED} per second, the rest are denied
+ * before the event (or its message) is built and counted as suppressed.
+ *
+ * Only events carrying the marker are limited, and never at WARN or above, so failure
+ * logs are always written in full.
+ *
+ * Invariant: per logger and one-second window, at most permitsPerSecond marked events pass
+ */
+public class SuccessLogSampler extends TurboFilter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    private int permitsPerSecond = 10;
+
+    public SuccessLogSampler() {
+        this(System::nanoTime);
+    }
+
+    SuccessLogSampler(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void start() {
+        if (permitsPerSecond < 1) {
+            addError("permitsPerSecond must be positive, was " + permitsPerSecond);
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (marker == null || !isStarted() || !marker.contains(Markers.SAMPLED)
+                || level.isGreaterOrEqual(Level.WARN) || !logger.isEnabledFor(level)) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        if (window.tryAcquire(nanoClock.getAsLong() / NANOS_PER_SECOND, permitsPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Postcondition: marked events denied since start, over all loggers
+     */
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+
+    public int getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public void setPermitsPerSecond(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Fixed one-second window packed into one word: the second in the high half, the events
+     * admitted in it in the low half. Once the window is spent a denial is a single read.
+     */
+    private static final class Window {
+
+        private final AtomicLong state = new AtomicLong(-1L << 32);
+
+        boolean tryAcquire(long second, int permits) {
+            long windowSecond = second & 0xFFFF_FFFFL;
+            while (true) {
+                long current = state.get();
+                long next;
+                if (current >>> 32 != windowSecond) {
+                    next = windowSecond << 32 | 1;
+                } else if ((int) current >= permits) {
+                    return false;
+                } else {
+                    next = current + 1;
+                }
+                if (state.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Logging pipeline Tests")
+class LoggingPipelineTest {
+
+    private LoggerContext context;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        logger = context.getLogger("com.example.account.application.AccountServiceImpl");
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+    }
+
+    /** Holds the writer thread inside append until released, so the ring fills up. */
+    static final class GatedAppender extends AppenderBase<ILoggingEvent> {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch gate = new CountDownLatch(1);
+        final ListAppender<ILoggingEvent> delivered = new ListAppender<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.list.add(event);
+        }
+
+        List<String> messages() {
+            return delivered.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        }
+    }
+
+    private RingBufferAppender ring(AppenderBase<ILoggingEvent> target, int capacity,
+                                    RingBufferAppender.OverflowPolicy policy) {
+        target.setContext(context);
+        target.start();
+        RingBufferAppender ring = new RingBufferAppender();
+        ring.setContext(context);
+        ring.setName("RING");
+        ring.setCapacity(capacity);
+        ring.setOverflowPolicy(policy);
+        ring.addAppender(target);
+        ring.start();
+        logger.addAppender(ring);
+        return ring;
+    }
+
+    @Nested
+    @DisplayName("RingBufferAppender")
+    class Ring {
+
+        @Test
+        @DisplayName("should deliver every event in order and flush the queue on stop")
+        void shouldDeliverInOrder() {
+            ListAppender<ILoggingEvent> target = new ListAppender<>();
+            RingBufferAppender ring = ring(target, 1024, RingBufferAppender.OverflowPolicy.DROP);
+
+            for (int i = 0; i < 500; i++) {
+                logger.info("Debit successful: account={}, newBalance={}", "ACC-001", i);
+            }
+            ring.stop();
+
+            assertThat(target.list).hasSize(500);
+            assertThat(target.list.get(0).getFormattedMessage())
+                    .isEqualTo("Debit successful: account=ACC-001, newBalance=0");
+            assertThat(target.list.get(499).getFormattedMessage()).endsWith("newBalance=499");
+        }
+
+        @Test
+        @DisplayName("should drop and count INFO when full but wait with WARN")
+        void shouldDropInfoButKeepWarn() throws Exception {
+            GatedAppender target = new GatedAppender();
+            RingBufferAppender ring = ring(target, 1, RingBufferAppender.OverflowPolicy.DROP);
+
+            logger.info("first");
+            assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            logger.info("queued");
+            logger.info("dropped");
+            CompletableFuture<Void> warn = CompletableFuture.runAsync(() -> logger.warn("Debit failed"));
+
+            assertThat(ring.droppedCount(Level.INFO)).isEqualTo(1);
+            assertThat(warn).isNotDone();
+
+            target.gate.countDown();
+            warn.get(5, TimeUnit.SECONDS);
+            ring.stop();
+
+            assertThat(target.messages()).containsExactly("first", "queued", "Debit failed");
+            assertThat(ring.droppedCount(Level.WARN)).isZero();
+        }
+
+        @Test
+        @DisplayName("should make INFO wait instead of dropping under BLOCK")
+        void shouldBlockUnderBlockPolicy() throws Exception {
+            GatedAppender target = new GatedAppender();
+            RingBufferAppender ring = ring(target, 1, RingBufferAppender.OverflowPolicy.BLOCK);
+
+            logger.info("first");
+            assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            logger.info("queued");
+            CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> logger.info("waiting"));
+
+            assertThat(blocked).isNotDone();
+            target.gate.countDown();
+            blocked.get(5, TimeUnit.SECONDS);
+            ring.stop();
+
+            assertThat(target.messages()).containsExactly("first", "queued", "waiting");
+            assertThat(ring.droppedCount(Level.INFO)).isZero();
+        }
+
+        @Test
+        @DisplayName("should keep attached appenders running until a timed-out flush finishes")
+        void shouldStopAppendersAfterWorkerExits() throws Exception {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch gate = new CountDownLatch(1);
+            ListAppender<ILoggingEvent> delivered = new ListAppender<>();
+            AppenderBase<ILoggingEvent> target = new AppenderBase<>() {
+                @Override
+                protected void append(ILoggingEvent event) {
+                    entered.countDown();
+                    boolean interrupted = false;
+                    while (gate.getCount() > 0) {
+                        try {
+                            gate.await();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                    if (interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+                    delivered.list.add(event);
+                }
+            };
+            RingBufferAppender ring = ring(target, 8, RingBufferAppender.OverflowPolicy.DROP);
+            ring.setMaxFlushTime(50);
+
+            logger.info("first");
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            logger.info("queued");
+            ring.stop();
+
+            assertThat(target.isStarted()).isTrue();
+            gate.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (target.isStarted() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(target.isStarted()).isFalse();
+            assertThat(delivered.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .containsExactly("first", "queued");
+        }
+
+        @Test
+        @DisplayName("should not start without an attached appender")
+        void shouldNotStartWithoutAppender() {
+            RingBufferAppender ring = new RingBufferAppender();
+            ring.setContext(context);
+            ring.start();
+
+            assertThat(ring.isStarted()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("SuccessLogSampler")
+    class Sampler {
+
+        private final AtomicLong nanos = new AtomicLong();
+        private ListAppender<ILoggingEvent> target;
+        private SuccessLogSampler sampler;
+
+        @BeforeEach
+        void setUp() {
+            sampler = new SuccessLogSampler(nanos::get);
+            sampler.setContext(context);
+            sampler.setName("SUCCESS_SAMPLER");
+            sampler.setPermitsPerSecond(3);
+            sampler.start();
+            context.addTurboFilter(sampler);
+            target = new ListAppender<>();
+            target.setContext(context);
+            target.start();
+            logger.addAppender(target);
+        }
+
+        @Test
+        @DisplayName("should pass permitsPerSecond marked events per second and count the rest")
+        void shouldRateLimitPerSecond() {
+            for (int i = 0; i < 10; i++) {
+                logger.info(Markers.SAMPLED, "Debit successful: {}", i);
+            }
+            nanos.addAndGet(1_000_000_000L);
+            logger.info(Markers.SAMPLED, "Debit successful: {}", 10);
+
+            assertThat(target.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+                    "Debit successful: 0", "Debit successful: 1", "Debit successful: 2", "Debit successful: 10");
+            assertThat(sampler.suppressedCount()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("should give each logger its own budget")
+        void shouldLimitPerLogger() {
+            Logger other = context.getLogger("com.example.account.application.ReactiveAccountService");
+            other.addAppender(target);
+            for (int i = 0; i < 5; i++) {
+                logger.info(Markers.SAMPLED, "servlet");
+                other.info(Markers.SAMPLED, "reactive");
+            }
+
+            assertThat(target.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .filteredOn("servlet"::equals).hasSize(3);
+            assertThat(target.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .filteredOn("reactive"::equals).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("should never limit failures or unmarked events")
+        void shouldKeepFailuresAndUnmarked() {
+            for (int i = 0; i < 10; i++) {
+                logger.warn(Markers.SAMPLED, "Debit failed");
+                logger.info("Account frozen");
+            }
+
+            assertThat(target.list).hasSize(20);
+            assertThat(sampler.suppressedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should not spend the budget on disabled levels")
+        void shouldIgnoreDisabledLevels() {
+            for (int i = 0; i < 10; i++) {
+                logger.debug(Markers.SAMPLED, "not enabled");
+            }
+            logger.info(Markers.SAMPLED, "Debit successful");
+
+            assertThat(target.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("Debit successful");
+            assertThat(sampler.suppressedCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("LoggingMetrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("should expose dropped and suppressed events of the configured pipeline")
+        void shouldExposeCounters() throws Exception {
+            SuccessLogSampler sampler = new SuccessLogSampler(() -> 0L);
+            sampler.setName("SUCCESS_SAMPLER");
+            sampler.setPermitsPerSecond(1);
+            sampler.start();
+            context.addTurboFilter(sampler);
+            GatedAppender target = new GatedAppender();
+            RingBufferAppender ring = ring(target, 1, RingBufferAppender.OverflowPolicy.DROP);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            LoggingMetrics.bindTo(context, registry);
+
+            logger.info("first");
+            assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            logger.info("queued");
+            logger.info("dropped");
+            logger.info(Markers.SAMPLED, "sampled in");
+            logger.info(Markers.SAMPLED, "sampled out");
+
+            assertThat(registry.get("logging.events.dropped").tag("appender", "RING").tag("level", "info")
+                    .functionCounter().count()).isEqualTo(2);
+            assertThat(registry.get("logging.ring.size").tag("appender", "RING").gauge().value()).isEqualTo(1);
+            assertThat(registry.get("logging.events.suppressed").tag("filter", "SUCCESS_SAMPLER")
+                    .functionCounter().count()).isEqualTo(1);
+
+            target.gate.countDown();
+            ring.stop();
+            assertThat(registry.get("logging.ring.size").tag("appender", "RING").gauge().value()).isZero();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.payment.application;
+
+/**
+ * How processPayment reaches account-service.
+ *
+ * - PRE_CHECK: look up the account status (usually from the status cache), then debit
+ * - SINGLE_ROUND_TRIP: debit directly and read a frozen (403) or unknown (404) account
+ *   from the debit's error response; one call per payment, whatever the cache holds
+ */
+public enum PaymentMode {
+    PRE_CHECK,
+    SINGLE_ROUND_TRIP
+}
@@ -1,14 +1,27 @@
 package com.example.payment.application;
 
+import com.example.logging.Markers;
 import com.example.payment.domain.PaymentRequest;
 import com.example.payment.infrastructure.client.AccountClient;
+import com.example.payment.infrastructure.client.AccountStatusCache;
+import com.example.payment.infrastructure.client.DebitBatcher;
 import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitItemDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
 import com.example.payment.infrastructure.client.dto.DebitRequestDto;
 import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import com.example.payment.infrastructure.config.PaymentExecutionProperties;
+import feign.FeignException;
+import feign.RetryableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 /**
  * Payment service that orchestrates payment operations.
  *
@@ -20,20 +33,33 @@ public class PaymentService {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
 
+    /**
+     * Attempts per debit call; safe because every attempt carries the same Idempotency-Key.
+     */
+    static final int DEBIT_ATTEMPTS = 3;
+
     private final AccountClient accountClient;
+    private final AccountStatusCache statusCache;
+    private final PaymentMode mode;
+    private final DebitBatcher debitBatcher;
 
-    public PaymentService(AccountClient accountClient) {
+    public PaymentService(AccountClient accountClient, AccountStatusCache statusCache,
+                          PaymentExecutionProperties properties, DebitBatcher debitBatcher) {
         this.accountClient = accountClient;
+        this.statusCache = statusCache;
+        this.mode = properties.mode();
+        this.debitBatcher = debitBatcher;
     }
 
     /**
      * Get account information.
      *
-     * Delegates to account-service via contract.
+     * Delegates to account-service via contract; concurrent reads of the same account
+     * share one call. The fresh status also refreshes the status cache used by processPayment.
      */
     public AccountDto getAccount(String accountNumber) {
-        log.info("Getting account: {}", accountNumber);
-        return accountClient.getAccount(accountNumber);
+        log.info(Markers.SAMPLED, "Getting account: {}", accountNumber);
+        return statusCache.read(accountNumber);
     }
 
     /**
@@ -42,46 +68,155 @@ public class PaymentService {
      * Precondition: account exists, sufficient balance, account is active
      * Postcondition: if successful, balance decreased by amount
      *
+     * In SINGLE_ROUND_TRIP mode the status pre-check is skipped: account-service refuses
+     * a frozen account (403) or an unknown one (404) on the debit itself, and those
+     * responses map to the same FAILED results the pre-check would have produced.
+     *
+     * With debit batching the debit joins a batch call instead (see {@link DebitBatcher}); the
+     * batch refuses a frozen or unknown account per item, which maps to the same results.
+     *
      * @param request the payment request
      * @return payment result
      */
     public PaymentResult processPayment(PaymentRequest request) {
-        log.info("Processing payment: account={}, amount={}", request.accountNumber(), request.amount());
+        log.info(Markers.SAMPLED, "Processing payment: account={}, amount={}",
+                request.accountNumber(), request.amount());
 
         try {
-            // First, verify account exists and is active
-            AccountDto account = accountClient.getAccount(request.accountNumber());
-            log.debug("Account found: {}, status: {}", account.accountNumber(), account.status());
+            if (mode == PaymentMode.PRE_CHECK) {
+                // First, verify account exists and is active (usually answered by the status cache)
+                Optional<String> status = statusCache.status(request.accountNumber());
+                if (status.isEmpty()) {
+                    log.warn("Account not found: {}", request.accountNumber());
+                    return accountNotFound(request);
+                }
+                log.debug("Account found: {}, status: {}", request.accountNumber(), status.get());
 
-            if (!"ACTIVE".equals(account.status())) {
-                log.warn("Account is not active: {}", account.status());
-                return PaymentResult.failed(request.accountNumber(), "Account is not active");
+                if (!"ACTIVE".equals(status.get())) {
+                    log.warn("Account is not active: account={}, status={}", request.accountNumber(), status.get());
+                    return PaymentResult.failed(request.accountNumber(), PaymentResult.NOT_ACTIVE_MESSAGE);
+                }
             }
 
             // Perform debit
             DebitRequestDto debitRequest = new DebitRequestDto(request.amount());
-            DebitResponseDto debitResponse = accountClient.debit(request.accountNumber(), debitRequest);
+            DebitResponseDto debitResponse;
+            try {
+                // A batch call carries no Idempotency-Key, so a batched debit is not retried
+                debitResponse = debitBatcher.enabled()
+                        ? debitBatcher.debit(request.accountNumber(), debitRequest)
+                        : debitOnce(request.accountNumber(), debitRequest);
+            } catch (FeignException.Forbidden e) {
+                // Frozen since the status was cached, or never pre-checked
+                log.warn("Account frozen during payment: {}", request.accountNumber());
+                statusCache.evict(request.accountNumber());
+                return PaymentResult.failed(request.accountNumber(), PaymentResult.NOT_ACTIVE_MESSAGE);
+            } catch (FeignException.NotFound e) {
+                log.warn("Account not found during payment: {}", request.accountNumber());
+                statusCache.evict(request.accountNumber());
+                return accountNotFound(request);
+            }
 
             if (debitResponse.success()) {
-                log.info("Payment successful: account={}, amount={}", request.accountNumber(), request.amount());
+                log.info(Markers.SAMPLED, "Payment successful: account={}, amount={}",
+                        request.accountNumber(), request.amount());
                 return PaymentResult.success(
                         request.accountNumber(),
                         debitResponse.previousBalance(),
                         debitResponse.currentBalance(),
                         request.amount()
                 );
+            } else if (refused(debitResponse, DebitResponseDto.FROZEN)) {
+                // A batch refuses a frozen account per item instead of with a 403
+                log.warn("Account frozen during payment: {}", request.accountNumber());
+                statusCache.evict(request.accountNumber());
+                return PaymentResult.failed(request.accountNumber(), PaymentResult.NOT_ACTIVE_MESSAGE);
+            } else if (refused(debitResponse, DebitResponseDto.NOT_FOUND)) {
+                log.warn("Account not found during payment: {}", request.accountNumber());
+                statusCache.evict(request.accountNumber());
+                return accountNotFound(request);
             } else {
-                log.warn("Payment failed: {}", debitResponse.message());
+                log.warn("Payment failed: account={}, amount={}, reason={}",
+                        request.accountNumber(), request.amount(), debitResponse.message());
                 return PaymentResult.failed(request.accountNumber(), debitResponse.message());
             }
         } catch (Exception e) {
-            log.error("Payment error for account {}: {}", request.accountNumber(), e.getMessage());
+            log.error("Payment error: account={}, amount={}, reason={}", request.accountNumber(), request.amount(),
+                    e.getMessage());
             return PaymentResult.error(request.accountNumber(), e.getMessage());
         }
     }
 
+    private static boolean refused(DebitResponseDto response, String reason) {
+        return reason.equals(response.reason());
+    }
+
+    private static PaymentResult accountNotFound(PaymentRequest request) {
+        return PaymentResult.failed(request.accountNumber(), "Account not found: " + request.accountNumber());
+    }
+
+    /**
+     * Debit with a fresh Idempotency-Key, retrying timeouts and connection failures with the
+     * same key: account-service replays the first result instead of debiting twice.
+     */
+    private DebitResponseDto debitOnce(String accountNumber, DebitRequestDto debitRequest) {
+        String idempotencyKey = UUID.randomUUID().toString();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return accountClient.debit(accountNumber, debitRequest, idempotencyKey);
+            } catch (RetryableException e) {
+                if (attempt >= DEBIT_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Debit attempt {} failed, retrying with the same Idempotency-Key: {}", attempt, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Process several payments with a single batch debit call.
+     *
+     * Account status is not pre-checked: the batch endpoint rejects frozen or unknown
+     * accounts per item.
+     *
+     * Precondition: requests is not empty, each request is valid
+     * Postcondition: one result per request, in order; a failed item does not affect others
+     *
+     * @param requests the payment requests
+     * @return payment results
+     */
+    public List<PaymentResult> processPayments(List<PaymentRequest> requests) {
+        log.info("Processing payment batch: size={}", requests.size());
+
+        List<BatchDebitItemDto> items = requests.stream()
+                .map(request -> new BatchDebitItemDto(request.accountNumber(), request.amount()))
+                .toList();
+        try {
+            List<DebitResponseDto> responses = accountClient.debitBatch(new BatchDebitRequestDto(items)).results();
+            List<PaymentResult> results = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                PaymentRequest request = requests.get(i);
+                DebitResponseDto response = responses.get(i);
+                results.add(response.success()
+                        ? PaymentResult.success(request.accountNumber(), response.previousBalance(),
+                                response.currentBalance(), request.amount())
+                        : PaymentResult.failed(request.accountNumber(), response.message()));
+            }
+            return results;
+        } catch (Exception e) {
+            log.error("Payment batch error: {}", e.getMessage());
+            return requests.stream()
+                    .map(request -> PaymentResult.error(request.accountNumber(), e.getMessage()))
+                    .toList();
+        }
+    }
+
     /**
      * Payment result record.
+     *
+     * Amounts stay BigDecimal, unlike account-service's minor units: they arrive already
+     * parsed as BigDecimal in DebitResponseDto and are only passed through to the response
+     * body, with no arithmetic in between, so converting them would add work, not save it.
      */
     public record PaymentResult(
             String accountNumber,
@@ -91,13 +226,16 @@ public class PaymentService {
             Status status,
             String message
     ) {
+        public static final String SUCCESS_MESSAGE = "Payment successful";
+        public static final String NOT_ACTIVE_MESSAGE = "Account is not active";
+
         public enum Status {
             SUCCESS, FAILED, ERROR
         }
 
         public static PaymentResult success(String accountNumber, java.math.BigDecimal previousBalance,
                                             java.math.BigDecimal currentBalance, java.math.BigDecimal amount) {
-            return new PaymentResult(accountNumber, previousBalance, currentBalance, amount, Status.SUCCESS, "Payment successful");
+            return new PaymentResult(accountNumber, previousBalance, currentBalance, amount, Status.SUCCESS, SUCCESS_MESSAGE);
         }
 
         public static PaymentResult failed(String accountNumber, String message) {
@@ -1,6 +1,7 @@
 package com.example.payment.domain;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
@@ -10,7 +11,7 @@ import java.math.BigDecimal;
  *
  * Preconditions:
  * - accountNumber: not blank
- * - amount: > 0
+ * - amount: > 0, at most 16 integer and 2 fraction digits
  */
 public record PaymentRequest(
         @NotBlank(message = "Account number is required")
@@ -18,6 +19,7 @@ public record PaymentRequest(
 
         @NotNull(message = "Amount is required")
         @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+        @Digits(integer = 16, fraction = 2, message = "Amount must have at most 2 decimal places")
         BigDecimal amount,
 
         String description
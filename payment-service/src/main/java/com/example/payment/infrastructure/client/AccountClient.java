@@ -1,26 +1,36 @@
 package com.example.payment.infrastructure.client;
 
 import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
 import com.example.payment.infrastructure.client.dto.DebitRequestDto;
 import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import com.example.payment.infrastructure.config.AccountClientWireFormatConfiguration;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 /**
  * Feign client for Account Service.
  *
  * Contract: This client follows the contract defined by account-service contracts.
+ *
+ * The Feign proxy is the "feignAccountClient" bean; the application injects the primary
+ * AccountClient, which guards it (see AccountClientConfiguration). Bodies are JSON unless
+ * account-service.wire.format selects CBOR (see AccountClientWireFormatConfiguration).
  */
-@FeignClient(name = "account-service", url = "${account-service.url:http://localhost:8080}")
+@FeignClient(name = "account-service", url = "${account-service.url:http://localhost:8080}",
+        qualifiers = "feignAccountClient", primary = false,
+        configuration = AccountClientWireFormatConfiguration.class)
 public interface AccountClient {
 
     /**
      * Get account by account number.
      *
-     * Contract: getAccount.groovy
+     * Contract: getAccount.groovy, getAccountCbor.groovy
      * Precondition: accountNumber exists
      * Postcondition: returns account details
      */
@@ -30,11 +40,36 @@ public interface AccountClient {
     /**
      * Debit from an account.
      *
-     * Contract: debitAccount.groovy, debitInsufficientBalance.groovy
+     * Contract: debitAccount.groovy, debitAccountCbor.groovy, debitInsufficientBalance.groovy,
+     *   debitFrozenAccount.groovy, debitAccountNotFound.groovy
      * Precondition: accountNumber exists, amount > 0
      * Postcondition: returns debit result
+     * @throws feign.FeignException.Forbidden if the account is frozen
+     * @throws feign.FeignException.NotFound if the account does not exist
      */
     @PostMapping("/api/v1/accounts/{accountNumber}/debit")
     DebitResponseDto debit(@PathVariable("accountNumber") String accountNumber,
                            @RequestBody DebitRequestDto request);
+
+    /**
+     * Debit from an account at most once per idempotency key.
+     *
+     * Contract: debitWithIdempotencyKey.groovy
+     * Precondition: accountNumber exists, amount > 0, idempotencyKey is 1-255 characters
+     * Postcondition: a repeated call with the same key returns the first result without debiting again
+     */
+    @PostMapping("/api/v1/accounts/{accountNumber}/debit")
+    DebitResponseDto debit(@PathVariable("accountNumber") String accountNumber,
+                           @RequestBody DebitRequestDto request,
+                           @RequestHeader("Idempotency-Key") String idempotencyKey);
+
+    /**
+     * Debit several accounts in one round trip.
+     *
+     * Contract: debitBatch.groovy
+     * Precondition: 1-1000 items, each amount > 0
+     * Postcondition: one result per item, in request order; failed items do not affect others
+     */
+    @PostMapping("/api/v1/accounts/debits:batch")
+    BatchDebitResponseDto debitBatch(@RequestBody BatchDebitRequestDto request);
 }
@@ -0,0 +1,12 @@
+package com.example.payment.infrastructure.client;
+
+/**
+ * A call to account-service refused on this side, without being sent: the circuit is
+ * open or the concurrency limit is reached. Not retryable here; the caller fails fast.
+ */
+public class AccountServiceUnavailableException extends RuntimeException {
+
+    public AccountServiceUnavailableException(String message) {
+        super(message);
+    }
+}
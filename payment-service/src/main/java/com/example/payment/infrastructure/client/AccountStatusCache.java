@@ -0,0 +1,175 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.config.AccountStatusCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Near-cache of account status in front of {@link AccountClient#getAccount}, reached
+ * through {@link SingleFlightAccountLookup} so concurrent misses for one account share a call.
+ *
+ * Known accounts are remembered for ttl, unknown ones (404) for negativeTtl; other
+ * failures are not cached. Callers evict an entry when account-service reports the
+ * account frozen, and {@link #refresh} or {@link #record} replace it with a fresh read.
+ *
+ * Metrics:
+ * - payment.account.status.calls.saved: getAccount calls answered from the cache
+ * - payment.account.status.calls.made (reason=miss|refresh): getAccount lookups sent
+ * - cache.* tagged cache=account-status: size and evictions
+ */
+@Component
+public class AccountStatusCache {
+
+    static final String CACHE_NAME = "account-status";
+
+    private final SingleFlightAccountLookup accountLookup;
+    private final Cache<String, CachedStatus> cache;
+    private final Counter savedCalls;
+    private final Counter missCalls;
+    private final Counter refreshCalls;
+
+    public AccountStatusCache(AccountClient accountClient, AccountStatusCacheProperties properties,
+                              MeterRegistry meterRegistry) {
+        this(SingleFlightAccountLookup.direct(accountClient, meterRegistry), properties, meterRegistry);
+    }
+
+    @Autowired
+    public AccountStatusCache(SingleFlightAccountLookup accountLookup, AccountStatusCacheProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.accountLookup = accountLookup;
+        this.cache = properties.enabled() ? buildCache(properties, meterRegistry) : null;
+        this.savedCalls = meterRegistry.counter("payment.account.status.calls.saved");
+        this.missCalls = meterRegistry.counter("payment.account.status.calls.made", "reason", "miss");
+        this.refreshCalls = meterRegistry.counter("payment.account.status.calls.made", "reason", "refresh");
+    }
+
+    /**
+     * A pass-through instance that calls account-service on every lookup.
+     */
+    public static AccountStatusCache uncached(AccountClient accountClient, MeterRegistry meterRegistry) {
+        return new AccountStatusCache(accountClient, AccountStatusCacheProperties.disabled(), meterRegistry);
+    }
+
+    private static Cache<String, CachedStatus> buildCache(AccountStatusCacheProperties properties,
+                                                          MeterRegistry meterRegistry) {
+        long ttlNanos = properties.ttl().toNanos();
+        long negativeTtlNanos = properties.negativeTtl().toNanos();
+        Cache<String, CachedStatus> cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new Expiry<String, CachedStatus>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedStatus value, long currentTime) {
+                        return value.found() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedStatus value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedStatus value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        return cache;
+    }
+
+    /**
+     * Precondition: accountNumber != null
+     * Postcondition: the account's status, or empty if account-service reports it not found
+     * @throws FeignException for failures other than 404, which are not cached
+     */
+    public Optional<String> status(String accountNumber) {
+        if (cache == null) {
+            missCalls.increment();
+            return fetch(accountNumber).status();
+        }
+        CachedStatus cached = cache.getIfPresent(accountNumber);
+        if (cached != null) {
+            savedCalls.increment();
+            return cached.status();
+        }
+        missCalls.increment();
+        CachedStatus fetched = fetch(accountNumber);
+        cache.put(accountNumber, fetched);
+        return fetched.status();
+    }
+
+    /**
+     * Forced refresh: bypass the cached entry and read account-service again.
+     */
+    public Optional<String> refresh(String accountNumber) {
+        refreshCalls.increment();
+        CachedStatus fetched = fetch(accountNumber);
+        if (cache != null) {
+            cache.put(accountNumber, fetched);
+        }
+        return fetched.status();
+    }
+
+    /**
+     * Fresh read of the account, shared with concurrent reads of the same account; its
+     * status replaces the cached one.
+     */
+    public AccountDto read(String accountNumber) {
+        AccountDto account = accountLookup.getAccount(accountNumber);
+        record(account);
+        return account;
+    }
+
+    /**
+     * Store the status from an account read made elsewhere.
+     */
+    public void record(AccountDto account) {
+        if (cache != null) {
+            cache.put(account.accountNumber(), CachedStatus.of(account.status()));
+        }
+    }
+
+    public void evict(String accountNumber) {
+        if (cache != null) {
+            cache.invalidate(accountNumber);
+        }
+    }
+
+    private CachedStatus fetch(String accountNumber) {
+        try {
+            return CachedStatus.of(accountLookup.getAccount(accountNumber).status());
+        } catch (FeignException.NotFound e) {
+            return CachedStatus.NOT_FOUND;
+        }
+    }
+
+    private record CachedStatus(String value) {
+
+        static final CachedStatus NOT_FOUND = new CachedStatus(null);
+
+        static CachedStatus of(String status) {
+            return new CachedStatus(status);
+        }
+
+        boolean found() {
+            return value != null;
+        }
+
+        Optional<String> status() {
+            return Optional.ofNullable(value);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD limit on the calls in flight to account-service.
+ *
+ * A call is admitted only while fewer than limit calls are in flight; the rest are
+ * rejected at once, so no caller queues behind a slow account-service. Each finished
+ * call adjusts the limit: one answered within latencyThreshold while the limit was at
+ * least half used raises it by one (additive increase); a slower one, or a timeout or
+ * server error, multiplies it by backoffRatio (multiplicative decrease). The limit stays
+ * within [minLimit, maxLimit].
+ *
+ * Invariant: inFlight <= limit at admission; minLimit <= limit <= maxLimit
+ *
+ * Metrics:
+ * - payment.account.limiter.limit: the current limit
+ * - payment.account.limiter.in-flight: calls in flight
+ * - payment.account.limiter.rejected: calls rejected over the limit
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private double limit;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.backoffRatio = properties.backoffRatio();
+        this.latencyThresholdNanos = properties.latencyThreshold().toNanos();
+        this.limit = properties.initialLimit();
+        this.rejected = meterRegistry.counter("payment.account.limiter.rejected");
+        Gauge.builder("payment.account.limiter.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .register(meterRegistry);
+        Gauge.builder("payment.account.limiter.in-flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Postcondition: true and the call counted in flight, or false (rejected) when enabled
+     *   and limit calls are already in flight
+     */
+    public boolean tryAcquire() {
+        int allowed = enabled ? limit() : Integer.MAX_VALUE;
+        for (int current = inFlight.get(); ; current = inFlight.get()) {
+            if (current >= allowed) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * An admitted call was answered after elapsedNanos.
+     *
+     * Precondition: paired with a successful tryAcquire
+     */
+    public void onSuccess(long elapsedNanos) {
+        int used = inFlight.getAndDecrement();
+        if (elapsedNanos > latencyThresholdNanos) {
+            backOff();
+        } else {
+            increase(used);
+        }
+    }
+
+    /**
+     * An admitted call timed out or failed on the server: account-service is overloaded.
+     *
+     * Precondition: paired with a successful tryAcquire
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        backOff();
+    }
+
+    /**
+     * An admitted call ended without telling anything about load (e.g. it was never sent).
+     *
+     * Precondition: paired with a successful tryAcquire
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void increase(int used) {
+        // Only a limit that is actually being used has shown it can grow
+        if (used * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    private synchronized void backOff() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link AccountClient}: the same account-service contracts,
+ * with every call returning a future instead of holding the caller's thread.
+ *
+ * A future fails with the exception the Feign client would have thrown for the same
+ * response: a FeignException subtype per error status (FeignException.NotFound for 404,
+ * FeignException.Forbidden for 403, ...), or feign.RetryableException for timeouts and
+ * connection failures. Callers written against AccountClient map errors unchanged.
+ */
+public interface AsyncAccountClient {
+
+    /**
+     * Contract: getAccount.groovy, getAccountNotFound.groovy
+     * Precondition: accountNumber exists
+     * Postcondition: completes with the account details
+     */
+    CompletableFuture<AccountDto> getAccount(String accountNumber);
+
+    /**
+     * Contract: debitAccount.groovy, debitInsufficientBalance.groovy, debitFrozenAccount.groovy,
+     *   debitAccountNotFound.groovy
+     * Precondition: accountNumber exists, amount > 0
+     * Postcondition: completes with the debit result
+     */
+    CompletableFuture<DebitResponseDto> debit(String accountNumber, DebitRequestDto request);
+
+    /**
+     * Contract: debitWithIdempotencyKey.groovy
+     * Precondition: accountNumber exists, amount > 0, idempotencyKey is 1-255 characters
+     * Postcondition: a repeated call with the same key completes with the first result
+     *   without debiting again
+     */
+    CompletableFuture<DebitResponseDto> debit(String accountNumber, DebitRequestDto request, String idempotencyKey);
+
+    /**
+     * Contract: debitBatch.groovy
+     * Precondition: 1-1000 items, each amount > 0
+     * Postcondition: one result per item, in request order; failed items do not affect others
+     */
+    CompletableFuture<BatchDebitResponseDto> debitBatch(BatchDebitRequestDto request);
+}
@@ -0,0 +1,57 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link AccountClient} served by an {@link AsyncAccountClient}, for callers that block:
+ * each call waits for its future and throws the exception it failed with, as Feign would.
+ */
+public class BlockingAccountClient implements AccountClient {
+
+    private final AsyncAccountClient asyncAccountClient;
+
+    public BlockingAccountClient(AsyncAccountClient asyncAccountClient) {
+        this.asyncAccountClient = asyncAccountClient;
+    }
+
+    @Override
+    public AccountDto getAccount(String accountNumber) {
+        return join(asyncAccountClient.getAccount(accountNumber));
+    }
+
+    @Override
+    public DebitResponseDto debit(String accountNumber, DebitRequestDto request) {
+        return join(asyncAccountClient.debit(accountNumber, request));
+    }
+
+    @Override
+    public DebitResponseDto debit(String accountNumber, DebitRequestDto request, String idempotencyKey) {
+        return join(asyncAccountClient.debit(accountNumber, request, idempotencyKey));
+    }
+
+    @Override
+    public BatchDebitResponseDto debitBatch(BatchDebitRequestDto request) {
+        return join(asyncAccountClient.debitBatch(request));
+    }
+
+    private static <T> T join(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker for account-service calls.
+ *
+ * CLOSED: calls pass; the outcomes of the last windowSize calls are kept, and once at
+ * least minimumCalls are recorded a failure rate (failed or slower than slowCallDuration)
+ * of failureRateThreshold or more opens the circuit.
+ * OPEN: calls are rejected for openDuration, then the circuit goes HALF_OPEN.
+ * HALF_OPEN: up to halfOpenCalls trial calls pass; all of them succeeding closes the
+ * circuit with an empty window, any of them failing opens it again.
+ *
+ * Metrics:
+ * - payment.account.breaker.state: 0 closed, 1 half-open, 2 open
+ * - payment.account.breaker.transitions (from, to): state changes
+ * - payment.account.breaker.rejected: calls rejected while open
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final boolean enabled;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    // ring of the last windowSize outcomes, true = failed
+    private final boolean[] window;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int trialsStarted;
+    private int trialsSucceeded;
+
+    public CircuitBreaker(CircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(CircuitBreakerProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.enabled = properties.enabled();
+        this.failureRateThreshold = properties.failureRateThreshold();
+        this.slowCallNanos = properties.slowCallDuration().toNanos();
+        this.minimumCalls = properties.minimumCalls();
+        this.openNanos = properties.openDuration().toNanos();
+        this.halfOpenCalls = properties.halfOpenCalls();
+        this.window = new boolean[properties.windowSize()];
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.rejected = meterRegistry.counter("payment.account.breaker.rejected");
+        Gauge.builder("payment.account.breaker.state", this, breaker -> breaker.state().ordinal())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Postcondition: true if the call may be sent; false (rejected) while OPEN or when the
+     *   HALF_OPEN trial calls are taken. Every true must be followed by exactly one of
+     *   onSuccess, onFailure or onIgnored.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+        boolean permitted = switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> trialsStarted < halfOpenCalls;
+            case OPEN -> false;
+        };
+        if (!permitted) {
+            rejected.increment();
+        } else if (state == State.HALF_OPEN) {
+            trialsStarted++;
+        }
+        return permitted;
+    }
+
+    /**
+     * A permitted call was answered after elapsedNanos; a slow answer counts as a failure.
+     */
+    public synchronized void onSuccess(long elapsedNanos) {
+        record(elapsedNanos > slowCallNanos);
+    }
+
+    /**
+     * A permitted call failed: timeout, connection failure or server error.
+     */
+    public synchronized void onFailure() {
+        record(true);
+    }
+
+    /**
+     * A permitted call was not sent after all; it frees its trial slot and is not recorded.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && trialsStarted > 0) {
+            trialsStarted--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (!enabled) {
+            return;
+        }
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failed) {
+                    transitionTo(State.OPEN);
+                } else if (++trialsSucceeded >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                if (recorded == window.length) {
+                    failures -= window[next] ? 1 : 0;
+                } else {
+                    recorded++;
+                }
+                window[next] = failed;
+                failures += failed ? 1 : 0;
+                next = (next + 1) % window.length;
+                if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            // a call admitted before the circuit opened; the circuit is already open
+            case OPEN -> { }
+        }
+    }
+
+    private void transitionTo(State to) {
+        meterRegistry.counter("payment.account.breaker.transitions", "from", tag(state), "to", tag(to))
+                .increment();
+        state = to;
+        switch (to) {
+            case OPEN -> openedAt = clock.getAsLong();
+            case HALF_OPEN -> {
+                trialsStarted = 0;
+                trialsSucceeded = 0;
+            }
+            case CLOSED -> {
+                recorded = 0;
+                next = 0;
+                failures = 0;
+            }
+        }
+    }
+
+    private static String tag(State state) {
+        return state.name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.BatchDebitItemDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import com.example.payment.infrastructure.config.DebitBatchingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collects concurrent debits into {@link AccountClient#debitBatch} calls.
+ *
+ * A debit joins the open batch and waits. The batch is sent when it reaches maxBatchSize
+ * (by the caller whose debit filled it) or maxDelay after its first debit arrived (on a
+ * virtual thread), whichever comes first. Result i of the response goes back to the
+ * caller of debit i; a failed call fails every debit in the batch with its exception.
+ * A caller waits at most maxWait for its result; a batch that cannot be scheduled or sent
+ * (the batcher is shutting down) fails its debits instead of leaving them waiting.
+ *
+ * account-service validates the whole batch request before debiting anything, so an amount
+ * it would refuse (more than 16 integer or 2 fraction digits) is sent in a batch of its own
+ * rather than turning every other debit of its batch into the same 400.
+ *
+ * Batch calls carry no Idempotency-Key, so a failed batch is not retried: its callers
+ * cannot tell whether account-service applied it.
+ *
+ * Metrics:
+ * - payment.debit.batch.size: debits per batch call
+ * - payment.debit.batch.flushes (reason=size|delay): batch calls by what triggered them
+ */
+@Component
+public class DebitBatcher {
+
+    private final AccountClient accountClient;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long maxWaitNanos;
+    private final DistributionSummary batchSize;
+    private final Counter sizeFlushes;
+    private final Counter delayFlushes;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService sender;
+
+    private final Object lock = new Object();
+    private List<PendingDebit> pending;
+    private boolean closed;
+
+    @Autowired
+    public DebitBatcher(AccountClient accountClient, DebitBatchingProperties properties, MeterRegistry meterRegistry) {
+        this.accountClient = accountClient;
+        this.enabled = properties.enabled();
+        this.maxBatchSize = properties.maxBatchSize();
+        this.maxDelayNanos = properties.maxDelay().toNanos();
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.batchSize = DistributionSummary.builder("payment.debit.batch.size").register(meterRegistry);
+        this.sizeFlushes = meterRegistry.counter("payment.debit.batch.flushes", "reason", "size");
+        this.delayFlushes = meterRegistry.counter("payment.debit.batch.flushes", "reason", "delay");
+        this.timer = enabled ? Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("debit-batcher").daemon().factory()) : null;
+        this.sender = enabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.pending = new ArrayList<>(maxBatchSize);
+    }
+
+    /**
+     * An instance that batches nothing; callers send their own debits.
+     */
+    public static DebitBatcher unbatched(AccountClient accountClient, MeterRegistry meterRegistry) {
+        return new DebitBatcher(accountClient, DebitBatchingProperties.disabled(), meterRegistry);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Precondition: enabled(); accountNumber != null, request.amount() > 0
+     * Postcondition: this debit's item result from the batch it was sent in (success == false
+     *   for an unknown or frozen account or short funds), or the batch call's exception;
+     *   returns or throws within maxWait
+     *
+     * @throws IllegalStateException if the batcher is closed or no result came within maxWait
+     */
+    public DebitResponseDto debit(String accountNumber, DebitRequestDto request) {
+        if (!enabled) {
+            throw new IllegalStateException("debit batching is disabled");
+        }
+        PendingDebit debit = new PendingDebit(new BatchDebitItemDto(accountNumber, request.amount()),
+                new CompletableFuture<>());
+        if (!fitsAmountColumn(request.amount())) {
+            send(List.of(debit));
+            return join(debit.result(), maxWaitNanos);
+        }
+        List<PendingDebit> full = null;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("debit batcher is closed");
+            }
+            pending.add(debit);
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                List<PendingDebit> batch = pending;
+                try {
+                    timer.schedule(() -> flushAfterDelay(batch), maxDelayNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    takePending();
+                    fail(batch, e);
+                }
+            }
+        }
+        if (full != null) {
+            sizeFlushes.increment();
+            send(full);
+        }
+        return join(debit.result(), maxWaitNanos);
+    }
+
+    /**
+     * Sends what is pending and stops the timer; later debits fail at once.
+     */
+    @PreDestroy
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        List<PendingDebit> rest;
+        synchronized (lock) {
+            closed = true;
+            rest = takePending();
+        }
+        if (!rest.isEmpty()) {
+            send(rest);
+        }
+        timer.shutdownNow();
+        sender.close();
+    }
+
+    /**
+     * Sends batch unless it was already sent full.
+     */
+    private void flushAfterDelay(List<PendingDebit> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            takePending();
+        }
+        delayFlushes.increment();
+        try {
+            sender.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            fail(batch, e);
+        }
+    }
+
+    private List<PendingDebit> takePending() {
+        List<PendingDebit> batch = pending;
+        pending = new ArrayList<>(maxBatchSize);
+        return batch;
+    }
+
+    private void send(List<PendingDebit> batch) {
+        batchSize.record(batch.size());
+        try {
+            List<DebitResponseDto> results = accountClient.debitBatch(
+                    new BatchDebitRequestDto(batch.stream().map(PendingDebit::item).toList())).results();
+            if (results.size() != batch.size()) {
+                throw new IllegalStateException("Batch debit returned " + results.size()
+                        + " results for " + batch.size() + " debits");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException | Error e) {
+            fail(batch, e);
+        }
+    }
+
+    /**
+     * The @Digits(integer = 16, fraction = 2) check account-service applies to a batch item.
+     */
+    static boolean fitsAmountColumn(BigDecimal amount) {
+        BigDecimal stripped = amount.stripTrailingZeros();
+        return stripped.precision() - stripped.scale() <= 16 && stripped.scale() <= 2;
+    }
+
+    private static void fail(List<PendingDebit> batch, Throwable cause) {
+        batch.forEach(debit -> debit.result().completeExceptionally(cause));
+    }
+
+    /**
+     * Rethrows the batch call's own exception, as if the caller had made the call.
+     */
+    private static DebitResponseDto join(CompletableFuture<DebitResponseDto> result, long timeoutNanos) {
+        try {
+            return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("No batch debit result within "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a batch debit result", e);
+        }
+    }
+
+    private record PendingDebit(BatchDebitItemDto item, CompletableFuture<DebitResponseDto> result) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import feign.FeignException;
+import feign.RetryableException;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link AccountClient} that puts a {@link CircuitBreaker} and an
+ * {@link AdaptiveConcurrencyLimiter} in front of another one.
+ *
+ * A call is sent only if the circuit lets it through and the limiter admits it; otherwise
+ * it fails at once with {@link AccountServiceUnavailableException}, so callers never wait
+ * behind a slow account-service. Timeouts, connection failures (RetryableException) and
+ * 5xx responses count against account-service; 4xx responses are answers (an unknown or
+ * frozen account) and count as successful calls.
+ */
+public class GuardedAccountClient implements AccountClient {
+
+    private final AccountClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public GuardedAccountClient(AccountClient delegate, CircuitBreaker circuitBreaker,
+                                AdaptiveConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public AccountDto getAccount(String accountNumber) {
+        return call(() -> delegate.getAccount(accountNumber));
+    }
+
+    @Override
+    public DebitResponseDto debit(String accountNumber, DebitRequestDto request) {
+        return call(() -> delegate.debit(accountNumber, request));
+    }
+
+    @Override
+    public DebitResponseDto debit(String accountNumber, DebitRequestDto request, String idempotencyKey) {
+        return call(() -> delegate.debit(accountNumber, request, idempotencyKey));
+    }
+
+    @Override
+    public BatchDebitResponseDto debitBatch(BatchDebitRequestDto request) {
+        return call(() -> delegate.debitBatch(request));
+    }
+
+    public CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    /**
+     * Postcondition: the delegate's result or exception, or AccountServiceUnavailableException
+     *   without calling the delegate
+     */
+    private <T> T call(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new AccountServiceUnavailableException("account-service circuit is open");
+        }
+        if (!limiter.tryAcquire()) {
+            circuitBreaker.onIgnored();
+            throw new AccountServiceUnavailableException(
+                    "account-service concurrency limit reached: " + limiter.limit() + " calls in flight");
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            succeeded(System.nanoTime() - start);
+            return result;
+        } catch (FeignException e) {
+            if (e instanceof RetryableException || e.status() >= 500) {
+                circuitBreaker.onFailure();
+                limiter.onDropped();
+            } else {
+                succeeded(System.nanoTime() - start);
+            }
+            throw e;
+        } catch (RuntimeException | Error e) {
+            circuitBreaker.onFailure();
+            limiter.onIgnored();
+            throw e;
+        }
+    }
+
+    private void succeeded(long elapsedNanos) {
+        circuitBreaker.onSuccess(elapsedNanos);
+        limiter.onSuccess(elapsedNanos);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import com.example.payment.infrastructure.config.AsyncAccountClientProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.DecodeException;
+import feign.codec.EncodeException;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link AsyncAccountClient} over the JDK HttpClient.
+ *
+ * One HttpClient carries every call. With http2 it upgrades the first connection to
+ * HTTP/2 and multiplexes later calls onto it as streams; a server without HTTP/2 answers
+ * the upgrade over HTTP/1.1 and calls share a pool of keep-alive connections instead. No
+ * thread waits for a response: completions run on virtual threads.
+ *
+ * JSON goes through the application's ObjectMapper, the one Feign's decoder uses, so both
+ * clients read and write the DTOs the same way.
+ */
+public class HttpAccountClient implements AsyncAccountClient, AutoCloseable {
+
+    private static final String ACCOUNTS = "/api/v1/accounts";
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+
+    public HttpAccountClient(String baseUrl, AsyncAccountClientProperties properties, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = properties.requestTimeout();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+                .version(properties.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.connectTimeout())
+                .executor(executor)
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<AccountDto> getAccount(String accountNumber) {
+        return send("AccountClient#getAccount(String)", Request.HttpMethod.GET,
+                ACCOUNTS + "/" + segment(accountNumber), null, null, AccountDto.class);
+    }
+
+    @Override
+    public CompletableFuture<DebitResponseDto> debit(String accountNumber, DebitRequestDto request) {
+        return send("AccountClient#debit(String,DebitRequestDto)", Request.HttpMethod.POST,
+                ACCOUNTS + "/" + segment(accountNumber) + "/debit", request, null, DebitResponseDto.class);
+    }
+
+    @Override
+    public CompletableFuture<DebitResponseDto> debit(String accountNumber, DebitRequestDto request,
+                                                     String idempotencyKey) {
+        return send("AccountClient#debit(String,DebitRequestDto,String)", Request.HttpMethod.POST,
+                ACCOUNTS + "/" + segment(accountNumber) + "/debit", request, idempotencyKey, DebitResponseDto.class);
+    }
+
+    @Override
+    public CompletableFuture<BatchDebitResponseDto> debitBatch(BatchDebitRequestDto request) {
+        return send("AccountClient#debitBatch(BatchDebitRequestDto)", Request.HttpMethod.POST,
+                ACCOUNTS + "/debits:batch", request, null, BatchDebitResponseDto.class);
+    }
+
+    /**
+     * Closes the connections and stops the completion executor.
+     */
+    @Override
+    public void close() {
+        httpClient.close();
+        executor.close();
+    }
+
+    private <T> CompletableFuture<T> send(String methodKey, Request.HttpMethod method, String path, Object body,
+                                          String idempotencyKey, Class<T> type) {
+        String url = baseUrl + path;
+        byte[] payload = body == null ? null : encode(body);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .method(method.name(), payload == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(payload));
+        if (payload != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        if (idempotencyKey != null) {
+            builder.header("Idempotency-Key", idempotencyKey);
+        }
+        Request feignRequest = Request.create(method, url, Map.of(), payload, StandardCharsets.UTF_8, null);
+
+        return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        throw new CompletionException(transportFailure(failure, feignRequest));
+                    }
+                    if (response.statusCode() / 100 != 2) {
+                        throw new CompletionException(errorStatus(methodKey, response, feignRequest));
+                    }
+                    return decode(response, type, feignRequest);
+                });
+    }
+
+    private static String segment(String value) {
+        return UriUtils.encodePathSegment(value, StandardCharsets.UTF_8);
+    }
+
+    private byte[] encode(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new EncodeException("Cannot encode " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    private <T> T decode(HttpResponse<byte[]> response, Class<T> type, Request feignRequest) {
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new DecodeException(response.statusCode(), "Cannot decode " + type.getSimpleName(), feignRequest, e);
+        }
+    }
+
+    /**
+     * The exception Feign's default error decoder raises for the same response.
+     */
+    private static FeignException errorStatus(String methodKey, HttpResponse<byte[]> response, Request feignRequest) {
+        Map<String, Collection<String>> headers = new HashMap<>(response.headers().map());
+        return FeignException.errorStatus(methodKey, Response.builder()
+                .status(response.statusCode())
+                .request(feignRequest)
+                .headers(headers)
+                .body(response.body())
+                .build());
+    }
+
+    /**
+     * I/O failures (timeouts, refused connections) become RetryableException, as in Feign.
+     */
+    private static RuntimeException transportFailure(Throwable failure, Request feignRequest) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof IOException) {
+            return new RetryableException(-1, cause.getMessage(), feignRequest.httpMethod(), cause,
+                    (Long) null, feignRequest);
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+}
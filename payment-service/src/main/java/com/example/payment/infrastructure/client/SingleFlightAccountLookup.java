@@ -0,0 +1,113 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.config.AccountLookupProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single-flight layer in front of {@link AccountClient#getAccount}.
+ *
+ * The first caller for an account number makes the call on its own thread; callers for
+ * the same account number arriving while it is in flight wait for it and receive the same
+ * AccountDto, or the same exception. Nothing is kept once the call returns, so a lookup
+ * never sees a result older than the call it joined.
+ *
+ * Metrics:
+ * - payment.account.lookup.requests: getAccount lookups
+ * - payment.account.lookup.calls: getAccount calls sent to account-service
+ * - payment.account.lookup.coalesced: lookups that joined a call in flight
+ * - payment.account.lookup.coalescing.ratio: coalesced / requests since startup
+ */
+@Component
+public class SingleFlightAccountLookup {
+
+    private final AccountClient accountClient;
+    private final boolean coalesce;
+    private final ConcurrentMap<String, CompletableFuture<AccountDto>> inFlight = new ConcurrentHashMap<>();
+    private final Counter requests;
+    private final Counter calls;
+    private final Counter coalesced;
+
+    @Autowired
+    public SingleFlightAccountLookup(AccountClient accountClient, AccountLookupProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.accountClient = accountClient;
+        this.coalesce = properties.coalesce();
+        this.requests = meterRegistry.counter("payment.account.lookup.requests");
+        this.calls = meterRegistry.counter("payment.account.lookup.calls");
+        this.coalesced = meterRegistry.counter("payment.account.lookup.coalesced");
+        Gauge.builder("payment.account.lookup.coalescing.ratio", this, SingleFlightAccountLookup::coalescingRatio)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A pass-through instance that sends every lookup to account-service.
+     */
+    public static SingleFlightAccountLookup direct(AccountClient accountClient, MeterRegistry meterRegistry) {
+        return new SingleFlightAccountLookup(accountClient, AccountLookupProperties.direct(), meterRegistry);
+    }
+
+    /**
+     * Precondition: accountNumber != null
+     * Postcondition: the account as returned by a getAccount call in flight at or after
+     *   this lookup's arrival at the layer, or that call's exception
+     */
+    public AccountDto getAccount(String accountNumber) {
+        requests.increment();
+        if (!coalesce) {
+            calls.increment();
+            return accountClient.getAccount(accountNumber);
+        }
+
+        CompletableFuture<AccountDto> call = new CompletableFuture<>();
+        CompletableFuture<AccountDto> shared = inFlight.putIfAbsent(accountNumber, call);
+        if (shared != null) {
+            coalesced.increment();
+            return join(shared);
+        }
+
+        calls.increment();
+        try {
+            AccountDto account = accountClient.getAccount(accountNumber);
+            call.complete(account);
+            return account;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(accountNumber, call);
+        }
+    }
+
+    double coalescingRatio() {
+        double total = requests.count();
+        return total == 0 ? 0 : coalesced.count() / total;
+    }
+
+    /**
+     * Rethrows the shared call's own exception (a FeignException.NotFound stays one), so
+     * callers cannot tell whether they made the call or joined it.
+     */
+    private static AccountDto join(CompletableFuture<AccountDto> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
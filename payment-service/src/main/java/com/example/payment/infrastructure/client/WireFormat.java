@@ -0,0 +1,26 @@
+package com.example.payment.infrastructure.client;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Encoding of the request and response bodies exchanged with account-service.
+ *
+ * - JSON: the default every account-service consumer speaks
+ * - CBOR: the same fields in a compact binary form (application/cbor); smaller bodies, not
+ *   human-readable on the wire. For the small account bodies it is not cheaper to write or
+ *   parse than JSON (see WireFormatBenchmark), so it pays off on bandwidth, not CPU
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
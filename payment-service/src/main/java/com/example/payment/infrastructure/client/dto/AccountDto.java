@@ -1,14 +1,24 @@
 package com.example.payment.infrastructure.client.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.math.BigDecimal;
 
 /**
  * DTO representing account data from Account Service.
+ *
+ * version and asOf are the account-service read model's freshness marker (contract 1.2.0);
+ * they are null when the provider does not send them.
  */
 public record AccountDto(
         String accountNumber,
         String ownerName,
         BigDecimal balance,
-        String status
+        String status,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long version,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String asOf
 ) {
+    public AccountDto(String accountNumber, String ownerName, BigDecimal balance, String status) {
+        this(accountNumber, ownerName, balance, status, null, null);
+    }
 }
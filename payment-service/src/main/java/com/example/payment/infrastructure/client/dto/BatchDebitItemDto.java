@@ -0,0 +1,12 @@
+package com.example.payment.infrastructure.client.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one debit inside a batch request to Account Service.
+ */
+public record BatchDebitItemDto(
+        String accountNumber,
+        BigDecimal amount
+) {
+}
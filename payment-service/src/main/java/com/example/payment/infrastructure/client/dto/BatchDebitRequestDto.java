@@ -0,0 +1,11 @@
+package com.example.payment.infrastructure.client.dto;
+
+import java.util.List;
+
+/**
+ * DTO for batch debit request to Account Service.
+ */
+public record BatchDebitRequestDto(
+        List<BatchDebitItemDto> debits
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.payment.infrastructure.client.dto;
+
+import java.util.List;
+
+/**
+ * DTO for batch debit response from Account Service.
+ * results.get(i) belongs to request debits.get(i).
+ */
+public record BatchDebitResponseDto(
+        List<DebitResponseDto> results
+) {
+}
@@ -4,6 +4,9 @@ import java.math.BigDecimal;
 
 /**
  * DTO for debit response from Account Service.
+ *
+ * reason is null on success; on failure it names why (see debitBatch.groovy) and is what
+ * callers branch on, message is free text.
  */
 public record DebitResponseDto(
         String accountNumber,
@@ -11,6 +14,10 @@ public record DebitResponseDto(
         BigDecimal currentBalance,
         BigDecimal debitedAmount,
         boolean success,
-        String message
+        String message,
+        String reason
 ) {
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String FROZEN = "FROZEN";
+    public static final String INSUFFICIENT_BALANCE = "INSUFFICIENT_BALANCE";
 }
@@ -0,0 +1,46 @@
+package com.example.payment.infrastructure.config;
+
+import com.example.payment.infrastructure.client.AccountClient;
+import com.example.payment.infrastructure.client.AdaptiveConcurrencyLimiter;
+import com.example.payment.infrastructure.client.AsyncAccountClient;
+import com.example.payment.infrastructure.client.BlockingAccountClient;
+import com.example.payment.infrastructure.client.CircuitBreaker;
+import com.example.payment.infrastructure.client.GuardedAccountClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Wires the AccountClient the application uses: the Feign client, or the asynchronous
+ * one with account-service.async.enabled, behind the circuit breaker and the adaptive
+ * concurrency limit.
+ */
+@Configuration(proxyBeanMethods = false)
+public class AccountClientConfiguration {
+
+    @Bean
+    public CircuitBreaker accountServiceCircuitBreaker(CircuitBreakerProperties properties,
+                                                       MeterRegistry meterRegistry) {
+        return new CircuitBreaker(properties, meterRegistry);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter accountServiceLimiter(ConcurrencyLimitProperties properties,
+                                                            MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public AccountClient accountClient(@Qualifier("feignAccountClient") AccountClient feignAccountClient,
+                                       AsyncAccountClient asyncAccountClient,
+                                       AsyncAccountClientProperties asyncProperties,
+                                       CircuitBreaker circuitBreaker, AdaptiveConcurrencyLimiter limiter) {
+        AccountClient transport = asyncProperties.enabled()
+                ? new BlockingAccountClient(asyncAccountClient)
+                : feignAccountClient;
+        return new GuardedAccountClient(transport, circuitBreaker, limiter);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.payment.infrastructure.config;
+
+import com.example.payment.infrastructure.client.WireFormat;
+import feign.RequestInterceptor;
+import feign.codec.Encoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Feign configuration of the account-service client, applied with
+ * {@code account-service.wire.format=cbor}: request bodies are written as CBOR and CBOR
+ * responses are asked for, with JSON still accepted from a provider that does not offer it.
+ *
+ * Responses are read by Feign's default decoder, which picks the converter matching the
+ * response Content-Type. Error responses are JSON either way.
+ *
+ * Deliberately not a @Configuration class: it is registered only in the client's own
+ * Feign context (AccountClient's configuration attribute).
+ */
+public class AccountClientWireFormatConfiguration {
+
+    static final String CBOR_ACCEPT = WireFormat.CBOR.mediaType() + ", " + WireFormat.JSON.mediaType() + ";q=0.9";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "account-service.wire", name = "format", havingValue = "cbor")
+    public Encoder cborEncoder(ObjectFactory<HttpMessageConverters> messageConverters) {
+        SpringEncoder delegate = new SpringEncoder(messageConverters);
+        return (object, bodyType, template) -> {
+            // SpringEncoder picks the converter by the request Content-Type
+            template.removeHeader(HttpHeaders.CONTENT_TYPE);
+            template.header(HttpHeaders.CONTENT_TYPE, WireFormat.CBOR.mediaType().toString());
+            delegate.encode(object, bodyType, template);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "account-service.wire", name = "format", havingValue = "cbor")
+    public RequestInterceptor cborAccept() {
+        return template -> template.header(HttpHeaders.ACCEPT, CBOR_ACCEPT);
+    }
+}
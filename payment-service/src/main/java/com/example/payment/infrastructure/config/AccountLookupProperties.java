@@ -0,0 +1,18 @@
+package com.example.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Account lookup configuration, bound from {@code payment.account-lookup.*}.
+ *
+ * @param coalesce let concurrent lookups of the same account share one getAccount call
+ */
+@ConfigurationProperties(prefix = "payment.account-lookup")
+public record AccountLookupProperties(
+        @DefaultValue("true") boolean coalesce
+) {
+    public static AccountLookupProperties direct() {
+        return new AccountLookupProperties(false);
+    }
+}
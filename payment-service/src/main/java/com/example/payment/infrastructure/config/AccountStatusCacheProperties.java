@@ -0,0 +1,35 @@
+package com.example.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Account status near-cache configuration, bound from {@code payment.account-status-cache.*}.
+ *
+ * @param enabled     answer the payment pre-check from the cache
+ * @param ttl         how long a known account's status is trusted
+ * @param negativeTtl how long "account not found" is remembered
+ * @param maximumSize entries kept before the least valuable are evicted
+ */
+@ConfigurationProperties(prefix = "payment.account-status-cache")
+public record AccountStatusCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5s") Duration ttl,
+        @DefaultValue("2s") Duration negativeTtl,
+        @DefaultValue("10000") long maximumSize
+) {
+    public AccountStatusCacheProperties {
+        if (ttl == null || ttl.isNegative() || negativeTtl == null || negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("ttl and negativeTtl must not be negative");
+        }
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative");
+        }
+    }
+
+    public static AccountStatusCacheProperties disabled() {
+        return new AccountStatusCacheProperties(false, Duration.ZERO, Duration.ZERO, 0);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.payment.infrastructure.config;
+
+import com.example.payment.infrastructure.client.WireFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Wire format of the Feign account-service client, bound from {@code account-service.wire.*}.
+ *
+ * @param format body encoding of the Feign calls (default: json); the asynchronous client
+ *               always speaks JSON
+ */
+@ConfigurationProperties(prefix = "account-service.wire")
+public record AccountWireFormatProperties(
+        @DefaultValue("json") WireFormat format
+) {
+    public AccountWireFormatProperties {
+        if (format == null) {
+            throw new IllegalArgumentException("format must not be null");
+        }
+    }
+}
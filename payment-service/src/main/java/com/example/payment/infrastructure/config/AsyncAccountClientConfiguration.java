@@ -0,0 +1,25 @@
+package com.example.payment.infrastructure.config;
+
+import com.example.payment.infrastructure.client.HttpAccountClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the asynchronous account-service client.
+ *
+ * The AsyncAccountClient bean always exists. With account-service.async.enabled it also
+ * serves AccountClient in place of the Feign client (see {@link AccountClientConfiguration}),
+ * so the payment flow and its retries, status cache and lookup coalescing run over the
+ * multiplexed connection.
+ */
+@Configuration(proxyBeanMethods = false)
+public class AsyncAccountClientConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public HttpAccountClient asyncAccountClient(@Value("${account-service.url:http://localhost:8080}") String url,
+                                                AsyncAccountClientProperties properties, ObjectMapper objectMapper) {
+        return new HttpAccountClient(url, properties, objectMapper);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Asynchronous account-service client configuration, bound from {@code account-service.async.*}.
+ *
+ * @param enabled        serve AccountClient from the asynchronous client instead of Feign
+ * @param http2          ask for HTTP/2 (h2c upgrade on http:// URLs), multiplexing every call
+ *                       over one connection; servers without HTTP/2 are served over pooled
+ *                       HTTP/1.1 keep-alive connections either way
+ * @param connectTimeout how long to wait for a connection
+ * @param requestTimeout how long to wait for a response once connected
+ */
+@ConfigurationProperties(prefix = "account-service.async")
+public record AsyncAccountClientProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("true") boolean http2,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("5s") Duration requestTimeout
+) {
+    public AsyncAccountClientProperties {
+        if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()
+                || requestTimeout == null || requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("connectTimeout and requestTimeout must be positive");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker on account-service calls, bound from {@code account-service.circuit-breaker.*}.
+ *
+ * @param enabled              fail fast while account-service is failing
+ * @param failureRateThreshold share of failed or slow calls in the window that opens the circuit
+ * @param slowCallDuration     a call slower than this counts as failed
+ * @param windowSize           most recent calls the failure rate is taken over
+ * @param minimumCalls         calls needed in the window before the rate is acted on
+ * @param openDuration         how long an open circuit rejects calls before letting trial calls through
+ * @param halfOpenCalls        trial calls that must all succeed to close the circuit again
+ */
+@ConfigurationProperties(prefix = "account-service.circuit-breaker")
+public record CircuitBreakerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.5") double failureRateThreshold,
+        @DefaultValue("2s") Duration slowCallDuration,
+        @DefaultValue("20") int windowSize,
+        @DefaultValue("10") int minimumCalls,
+        @DefaultValue("5s") Duration openDuration,
+        @DefaultValue("3") int halfOpenCalls
+) {
+    public CircuitBreakerProperties {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]");
+        }
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("windowSize, minimumCalls and halfOpenCalls must be positive, "
+                    + "minimumCalls at most windowSize");
+        }
+        if (slowCallDuration == null || slowCallDuration.isNegative() || slowCallDuration.isZero()
+                || openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("slowCallDuration and openDuration must be positive");
+        }
+    }
+
+    public static CircuitBreakerProperties disabled() {
+        return new CircuitBreakerProperties(false, 0.5, Duration.ofSeconds(2), 20, 10, Duration.ofSeconds(5), 3);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limit on account-service calls, bound from
+ * {@code account-service.concurrency-limit.*}.
+ *
+ * @param enabled          reject calls beyond the limit instead of sending them
+ * @param initialLimit     calls allowed in flight at startup
+ * @param minLimit         the limit never drops below this
+ * @param maxLimit         the limit never grows above this
+ * @param backoffRatio     factor the limit is multiplied by on a slow or failed call
+ * @param latencyThreshold a call slower than this is a sign of congestion
+ */
+@ConfigurationProperties(prefix = "account-service.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("1") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("1s") Duration latencyThreshold
+) {
+    public ConcurrencyLimitProperties {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+        }
+        if (latencyThreshold == null || latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+            throw new IllegalArgumentException("latencyThreshold must be positive");
+        }
+    }
+
+    public static ConcurrencyLimitProperties disabled() {
+        return new ConcurrencyLimitProperties(false, 20, 1, 200, 0.9, Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Client-side debit batching, bound from {@code payment.debit-batching.*}.
+ *
+ * @param enabled      send concurrent payment debits to account-service in batch calls
+ * @param maxBatchSize a batch is sent as soon as it holds this many debits (at most 1000,
+ *                     the batch endpoint's limit)
+ * @param maxDelay     a batch is sent at the latest this long after its first debit arrived
+ * @param maxWait      a caller waits at most this long for its debit's result, then fails;
+ *                     keep it above maxDelay plus the Feign read timeout, so it only ends
+ *                     waits that would otherwise never end
+ */
+@ConfigurationProperties(prefix = "payment.debit-batching")
+public record DebitBatchingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") int maxBatchSize,
+        @DefaultValue("2ms") Duration maxDelay,
+        @DefaultValue("10s") Duration maxWait
+) {
+    public static final int BATCH_ENDPOINT_LIMIT = 1000;
+
+    public DebitBatchingProperties {
+        if (maxBatchSize < 1 || maxBatchSize > BATCH_ENDPOINT_LIMIT) {
+            throw new IllegalArgumentException("maxBatchSize must be between 1 and " + BATCH_ENDPOINT_LIMIT);
+        }
+        if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be positive");
+        }
+        if (maxWait == null || maxWait.isNegative() || maxWait.isZero()) {
+            throw new IllegalArgumentException("maxWait must be positive");
+        }
+    }
+
+    public static DebitBatchingProperties disabled() {
+        return new DebitBatchingProperties(false, 1, Duration.ofMillis(1), Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.payment.infrastructure.config;
+
+import com.example.payment.application.PaymentMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Payment execution configuration, bound from {@code payment.execution.*}.
+ *
+ * @param mode how processPayment reaches account-service (default: pre-check)
+ */
+@ConfigurationProperties(prefix = "payment.execution")
+public record PaymentExecutionProperties(
+        @DefaultValue("pre-check") PaymentMode mode
+) {
+    public PaymentExecutionProperties {
+        if (mode == null) {
+            throw new IllegalArgumentException("mode must not be null");
+        }
+    }
+
+    public static PaymentExecutionProperties defaults() {
+        return new PaymentExecutionProperties(PaymentMode.PRE_CHECK);
+    }
+}
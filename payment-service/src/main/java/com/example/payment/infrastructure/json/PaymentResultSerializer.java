@@ -0,0 +1,91 @@
+package com.example.payment.infrastructure.json;
+
+import com.example.payment.application.PaymentService.PaymentResult;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Writes PaymentResult field by field: names, status values and the fixed messages are
+ * pre-encoded instead of being looked up and escaped per response.
+ *
+ * Amounts are the BigDecimals parsed from account-service's response and go out through
+ * writeNumber, which prints their (cached) text; there are no minor units to format from.
+ *
+ * Postcondition: same bytes as the reflective record serializer (nulls written)
+ */
+@JsonComponent
+public class PaymentResultSerializer extends StdSerializer<PaymentResult> {
+
+    private static final SerializableString ACCOUNT_NUMBER = new SerializedString("accountNumber");
+    private static final SerializableString PREVIOUS_BALANCE = new SerializedString("previousBalance");
+    private static final SerializableString CURRENT_BALANCE = new SerializedString("currentBalance");
+    private static final SerializableString AMOUNT = new SerializedString("amount");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+
+    private static final SerializableString SUCCESS_MESSAGE = new SerializedString(PaymentResult.SUCCESS_MESSAGE);
+    private static final SerializableString NOT_ACTIVE_MESSAGE = new SerializedString(PaymentResult.NOT_ACTIVE_MESSAGE);
+
+    /** Indexed by ordinal. */
+    private static final SerializableString[] STATUS_VALUES = statusValues();
+
+    public PaymentResultSerializer() {
+        super(PaymentResult.class);
+    }
+
+    @Override
+    public void serialize(PaymentResult result, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(result);
+        gen.writeFieldName(ACCOUNT_NUMBER);
+        gen.writeString(result.accountNumber());
+        gen.writeFieldName(PREVIOUS_BALANCE);
+        writeAmount(gen, result.previousBalance());
+        gen.writeFieldName(CURRENT_BALANCE);
+        writeAmount(gen, result.currentBalance());
+        gen.writeFieldName(AMOUNT);
+        writeAmount(gen, result.amount());
+        gen.writeFieldName(STATUS);
+        if (result.status() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(STATUS_VALUES[result.status().ordinal()]);
+        }
+        gen.writeFieldName(MESSAGE);
+        writeMessage(gen, result.message());
+        gen.writeEndObject();
+    }
+
+    private static void writeAmount(JsonGenerator gen, BigDecimal amount) throws IOException {
+        if (amount == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(amount);
+        }
+    }
+
+    private static void writeMessage(JsonGenerator gen, String message) throws IOException {
+        if (PaymentResult.SUCCESS_MESSAGE.equals(message)) {
+            gen.writeString(SUCCESS_MESSAGE);
+        } else if (PaymentResult.NOT_ACTIVE_MESSAGE.equals(message)) {
+            gen.writeString(NOT_ACTIVE_MESSAGE);
+        } else {
+            gen.writeString(message);
+        }
+    }
+
+    private static SerializableString[] statusValues() {
+        PaymentResult.Status[] statuses = PaymentResult.Status.values();
+        SerializableString[] values = new SerializableString[statuses.length];
+        for (PaymentResult.Status status : statuses) {
+            values[status.ordinal()] = new SerializedString(status.name());
+        }
+        return values;
+    }
+}
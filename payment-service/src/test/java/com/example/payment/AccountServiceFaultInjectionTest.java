@@ -0,0 +1,191 @@
+package com.example.payment;
+
+import com.example.payment.application.PaymentService;
+import com.example.payment.application.PaymentService.PaymentResult;
+import com.example.payment.domain.PaymentRequest;
+import com.example.payment.infrastructure.client.AccountStatusCache;
+import com.example.payment.infrastructure.client.AdaptiveConcurrencyLimiter;
+import com.example.payment.infrastructure.client.BlockingAccountClient;
+import com.example.payment.infrastructure.client.CircuitBreaker;
+import com.example.payment.infrastructure.client.DebitBatcher;
+import com.example.payment.infrastructure.client.GuardedAccountClient;
+import com.example.payment.infrastructure.client.HttpAccountClient;
+import com.example.payment.infrastructure.config.AsyncAccountClientProperties;
+import com.example.payment.infrastructure.config.CircuitBreakerProperties;
+import com.example.payment.infrastructure.config.ConcurrencyLimitProperties;
+import com.example.payment.infrastructure.config.PaymentExecutionProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fault injection: account-service slows down under a burst of payments.
+ *
+ * account-service is a local stub whose delay the test raises from 5 ms to 400 ms. With
+ * the circuit breaker and the adaptive limit in front of the client, the stub never sees
+ * more calls at once than the limit allows, every payment returns within a bounded time
+ * (the ones refused return at once, as ERROR), and the circuit opens on the slow calls,
+ * then closes again once account-service recovers.
+ */
+@DisplayName("Account service fault injection Tests")
+class AccountServiceFaultInjectionTest {
+
+    private static final int MAX_LIMIT = 20;
+    private static final int BURST = 200;
+
+    private static final byte[] ACCOUNT = """
+            {"accountNumber": "ACC-001", "ownerName": "王大明", "balance": 1000000.00, "status": "ACTIVE"}
+            """.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DEBITED = """
+            {"success": true, "accountNumber": "ACC-001", "previousBalance": 1000000.00,
+             "currentBalance": 999999.00, "debitedAmount": 1.00, "message": "Debit successful"}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger delayMillis = new AtomicInteger(5);
+    private final AtomicInteger concurrentCalls = new AtomicInteger();
+    private final AtomicInteger peakConcurrentCalls = new AtomicInteger();
+    private final AtomicInteger receivedCalls = new AtomicInteger();
+
+    private HttpServer accountService;
+    private HttpAccountClient httpClient;
+    private CircuitBreaker circuitBreaker;
+    private AdaptiveConcurrencyLimiter limiter;
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        accountService = HttpServer.create(new InetSocketAddress("localhost", 0), 1000);
+        accountService.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        accountService.createContext("/api/v1/accounts/", this::answer);
+        accountService.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        httpClient = new HttpAccountClient("http://localhost:" + accountService.getAddress().getPort(),
+                new AsyncAccountClientProperties(true, false, Duration.ofSeconds(1), Duration.ofSeconds(1)),
+                new ObjectMapper());
+        circuitBreaker = new CircuitBreaker(
+                new CircuitBreakerProperties(true, 0.5, Duration.ofMillis(200), 20, 10, Duration.ofSeconds(1), 3),
+                meterRegistry);
+        limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties(true, 10, 1, MAX_LIMIT, 0.9, Duration.ofMillis(100)),
+                meterRegistry);
+        GuardedAccountClient accountClient =
+                new GuardedAccountClient(new BlockingAccountClient(httpClient), circuitBreaker, limiter);
+        paymentService = new PaymentService(accountClient,
+                AccountStatusCache.uncached(accountClient, meterRegistry),
+                PaymentExecutionProperties.defaults(),
+                DebitBatcher.unbatched(accountClient, meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        accountService.stop(0);
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        int concurrent = concurrentCalls.incrementAndGet();
+        peakConcurrentCalls.accumulateAndGet(concurrent, Math::max);
+        receivedCalls.incrementAndGet();
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            Thread.sleep(delayMillis.get());
+            byte[] response = "POST".equals(exchange.getRequestMethod()) ? DEBITED : ACCOUNT;
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrentCalls.decrementAndGet();
+        }
+    }
+
+    private static PaymentRequest payment() {
+        return new PaymentRequest("ACC-001", new BigDecimal("1.00"), "fault injection");
+    }
+
+    private record Timed(PaymentResult result, long millis) {
+    }
+
+    private Timed timedPayment() {
+        long start = System.nanoTime();
+        PaymentResult result = paymentService.processPayment(payment());
+        return new Timed(result, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Timed> burst(int payments) throws Exception {
+        List<Future<Timed>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < payments; i++) {
+                futures.add(executor.submit(this::timedPayment));
+            }
+        }
+        List<Timed> results = new ArrayList<>();
+        for (Future<Timed> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("should bound calls in flight and payment latency while account-service is slow, then recover")
+    void shouldBoundLatencyAndQueueDepthUnderSlowdown() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            assertThat(paymentService.processPayment(payment()).status()).isEqualTo(PaymentResult.Status.SUCCESS);
+        }
+
+        delayMillis.set(400);
+        peakConcurrentCalls.set(0);
+        List<Timed> slow = burst(BURST);
+
+        // Without the limit all 200 payments would queue at the stub at once
+        assertThat(peakConcurrentCalls.get()).isLessThanOrEqualTo(MAX_LIMIT);
+        // An admitted payment makes two 400 ms calls; a refused one returns at once
+        assertThat(slow).allSatisfy(timed -> assertThat(timed.millis()).isLessThan(3_000));
+        assertThat(slow).extracting(timed -> timed.result().status())
+                .containsOnly(PaymentResult.Status.SUCCESS, PaymentResult.Status.ERROR)
+                .contains(PaymentResult.Status.ERROR);
+        assertThat(slow).filteredOn(timed -> timed.result().status() == PaymentResult.Status.ERROR)
+                .allSatisfy(timed -> assertThat(timed.result().message()).startsWith("account-service"));
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(limiter.limit()).isLessThan(10);
+
+        int callsBefore = receivedCalls.get();
+        Timed rejected = timedPayment();
+        assertThat(rejected.result().status()).isEqualTo(PaymentResult.Status.ERROR);
+        assertThat(rejected.result().message()).isEqualTo("account-service circuit is open");
+        assertThat(rejected.millis()).isLessThan(100);
+        assertThat(receivedCalls.get()).isEqualTo(callsBefore);
+
+        delayMillis.set(5);
+        Thread.sleep(1_100);
+        for (int i = 0; i < 5; i++) {
+            assertThat(paymentService.processPayment(payment()).status()).isEqualTo(PaymentResult.Status.SUCCESS);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
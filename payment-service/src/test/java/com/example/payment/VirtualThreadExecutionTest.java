@@ -0,0 +1,82 @@
+package com.example.payment;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cloud.contract.stubrunner.spring.AutoConfigureStubRunner;
+import org.springframework.cloud.contract.stubrunner.spring.StubRunnerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a payment end to end on a virtual request thread: the status check and the debit
+ * are blocking Feign calls to the account-service stubs.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "account-service.url=http://localhost:6566",
+                "spring.threads.virtual.enabled=true"
+        }
+)
+@AutoConfigureStubRunner(
+        ids = "com.example:account-service:+:stubs:6566",
+        stubsMode = StubRunnerProperties.StubsMode.LOCAL
+)
+@DisplayName("Virtual thread execution Tests")
+class VirtualThreadExecutionTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private List<Boolean> requestThreadsVirtual;
+
+    @TestConfiguration
+    static class RequestThreadRecorder {
+
+        @Bean
+        List<Boolean> requestThreadsVirtual() {
+            return new CopyOnWriteArrayList<>();
+        }
+
+        @Bean
+        OncePerRequestFilter requestThreadRecordingFilter(List<Boolean> requestThreadsVirtual) {
+            return new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                FilterChain chain) throws ServletException, IOException {
+                    requestThreadsVirtual.add(Thread.currentThread().isVirtual());
+                    chain.doFilter(request, response);
+                }
+            };
+        }
+    }
+
+    @Test
+    @DisplayName("should process a payment through the Feign client on a virtual thread")
+    void shouldProcessPaymentOnVirtualThread() {
+        ResponseEntity<Map> account = restTemplate.getForEntity("/api/v1/payments/accounts/ACC-001", Map.class);
+        ResponseEntity<Map> payment = restTemplate.postForEntity("/api/v1/payments",
+                Map.of("accountNumber", "ACC-001", "amount", 1000.00, "description", "virtual"), Map.class);
+
+        assertThat(account.getBody()).containsEntry("accountNumber", "ACC-001");
+        assertThat(payment.getBody()).containsEntry("status", "SUCCESS");
+        assertThat(requestThreadsVirtual).hasSize(2).containsOnly(true);
+    }
+}
@@ -3,22 +3,43 @@ package com.example.payment.application;
 import com.example.payment.application.PaymentService.PaymentResult;
 import com.example.payment.domain.PaymentRequest;
 import com.example.payment.infrastructure.client.AccountClient;
+import com.example.payment.infrastructure.client.AccountStatusCache;
+import com.example.payment.infrastructure.client.DebitBatcher;
 import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
 import com.example.payment.infrastructure.client.dto.DebitRequestDto;
 import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import com.example.payment.infrastructure.config.AccountStatusCacheProperties;
+import com.example.payment.infrastructure.config.DebitBatchingProperties;
+import com.example.payment.infrastructure.config.PaymentExecutionProperties;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,11 +49,22 @@ class PaymentServiceTest {
     @Mock
     private AccountClient accountClient;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private PaymentService paymentService;
 
     @BeforeEach
     void setUp() {
-        paymentService = new PaymentService(accountClient);
+        paymentService = paymentService(AccountStatusCache.uncached(accountClient, meterRegistry),
+                PaymentMode.PRE_CHECK);
+    }
+
+    /**
+     * Debits are not batched.
+     */
+    private PaymentService paymentService(AccountStatusCache statusCache, PaymentMode mode) {
+        return new PaymentService(accountClient, statusCache, new PaymentExecutionProperties(mode),
+                DebitBatcher.unbatched(accountClient, meterRegistry));
     }
 
     @Nested
@@ -65,10 +97,11 @@ class PaymentServiceTest {
                     new BigDecimal("9000.00"),
                     new BigDecimal("1000.00"),
                     true,
-                    "Debit successful"
+                    "Debit successful",
+                    null
             );
             when(accountClient.getAccount("ACC-001")).thenReturn(account);
-            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class))).thenReturn(debitResponse);
+            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class), anyString())).thenReturn(debitResponse);
 
             PaymentRequest request = new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment");
             PaymentResult result = paymentService.processPayment(request);
@@ -103,10 +136,11 @@ class PaymentServiceTest {
                     new BigDecimal("500.00"),
                     new BigDecimal("1000.00"),
                     false,
-                    "Insufficient balance"
+                    "Insufficient balance",
+                    "INSUFFICIENT_BALANCE"
             );
             when(accountClient.getAccount("ACC-001")).thenReturn(account);
-            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class))).thenReturn(debitResponse);
+            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class), anyString())).thenReturn(debitResponse);
 
             PaymentRequest request = new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment");
             PaymentResult result = paymentService.processPayment(request);
@@ -115,6 +149,47 @@ class PaymentServiceTest {
             assertThat(result.message()).isEqualTo("Insufficient balance");
         }
 
+        @Test
+        @DisplayName("should retry a timed-out debit with the same Idempotency-Key")
+        void shouldRetryTimedOutDebitWithSameKey() {
+            Request debitCall = Request.create(Request.HttpMethod.POST, "/api/v1/accounts/ACC-001/debit",
+                    Map.of(), null, StandardCharsets.UTF_8, null);
+            when(accountClient.getAccount("ACC-001"))
+                    .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"));
+            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class), anyString()))
+                    .thenThrow(new RetryableException(-1, "Read timed out", Request.HttpMethod.POST,
+                            (Long) null, debitCall))
+                    .thenReturn(new DebitResponseDto("ACC-001", new BigDecimal("10000.00"),
+                            new BigDecimal("9000.00"), new BigDecimal("1000.00"), true, "Debit successful", null));
+
+            PaymentResult result = paymentService.processPayment(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment"));
+
+            assertThat(result.status()).isEqualTo(PaymentResult.Status.SUCCESS);
+            ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+            verify(accountClient, times(2)).debit(eq("ACC-001"), any(DebitRequestDto.class), keys.capture());
+            assertThat(keys.getAllValues().get(1)).isEqualTo(keys.getAllValues().get(0));
+        }
+
+        @Test
+        @DisplayName("should give up after the last debit attempt times out")
+        void shouldGiveUpAfterLastAttempt() {
+            Request debitCall = Request.create(Request.HttpMethod.POST, "/api/v1/accounts/ACC-001/debit",
+                    Map.of(), null, StandardCharsets.UTF_8, null);
+            when(accountClient.getAccount("ACC-001"))
+                    .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"));
+            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class), anyString()))
+                    .thenThrow(new RetryableException(-1, "Read timed out", Request.HttpMethod.POST,
+                            (Long) null, debitCall));
+
+            PaymentResult result = paymentService.processPayment(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment"));
+
+            assertThat(result.status()).isEqualTo(PaymentResult.Status.ERROR);
+            verify(accountClient, times(PaymentService.DEBIT_ATTEMPTS))
+                    .debit(eq("ACC-001"), any(DebitRequestDto.class), anyString());
+        }
+
         @Test
         @DisplayName("should return error when exception occurs")
         void shouldReturnErrorWhenExceptionOccurs() {
@@ -128,6 +203,160 @@ class PaymentServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("processPayment() with account status cache")
+    class StatusCacheTests {
+
+        private final Request request = Request.create(Request.HttpMethod.POST, "/api/v1/accounts/ACC-001/debit",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+
+        private PaymentService cachedPaymentService;
+
+        @BeforeEach
+        void setUp() {
+            AccountStatusCache statusCache = new AccountStatusCache(accountClient,
+                    new AccountStatusCacheProperties(true, Duration.ofMinutes(1), Duration.ofMinutes(1), 100),
+                    new SimpleMeterRegistry());
+            cachedPaymentService = paymentService(statusCache, PaymentMode.PRE_CHECK);
+        }
+
+        @Test
+        @DisplayName("should check status once for consecutive payments")
+        void shouldCheckStatusOnce() {
+            when(accountClient.getAccount("ACC-001"))
+                    .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"));
+            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class), anyString())).thenReturn(new DebitResponseDto(
+                    "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"),
+                    new BigDecimal("1000.00"), true, "Debit successful", null));
+
+            PaymentRequest payment = new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment");
+            cachedPaymentService.processPayment(payment);
+            cachedPaymentService.processPayment(payment);
+
+            verify(accountClient).getAccount("ACC-001");
+            verify(accountClient, times(2)).debit(eq("ACC-001"), any(DebitRequestDto.class), anyString());
+        }
+
+        @Test
+        @DisplayName("should fail without debiting when the account is not found")
+        void shouldFailWhenAccountNotFound() {
+            when(accountClient.getAccount("ACC-999")).thenThrow(new FeignException.NotFound(
+                    "Account not found: ACC-999", request, null, null));
+
+            PaymentRequest payment = new PaymentRequest("ACC-999", new BigDecimal("1000.00"), "Test payment");
+            PaymentResult first = cachedPaymentService.processPayment(payment);
+            PaymentResult second = cachedPaymentService.processPayment(payment);
+
+            assertThat(first.status()).isEqualTo(PaymentResult.Status.FAILED);
+            assertThat(first.message()).isEqualTo("Account not found: ACC-999", "NOT_FOUND");
+            assertThat(second).isEqualTo(first);
+            verify(accountClient).getAccount("ACC-999");
+        }
+
+        @Test
+        @DisplayName("should evict the cached status when a debit reports the account frozen")
+        void shouldEvictWhenDebitReportsFrozen() {
+            when(accountClient.getAccount("ACC-001"))
+                    .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"))
+                    .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "FROZEN"));
+            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class), anyString())).thenThrow(
+                    new FeignException.Forbidden("Account is frozen: ACC-001", request, null, null));
+
+            PaymentRequest payment = new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment");
+            PaymentResult first = cachedPaymentService.processPayment(payment);
+            PaymentResult second = cachedPaymentService.processPayment(payment);
+
+            assertThat(first.status()).isEqualTo(PaymentResult.Status.FAILED);
+            assertThat(first.message()).isEqualTo("Account is not active");
+            assertThat(second.message()).isEqualTo("Account is not active");
+            verify(accountClient, times(2)).getAccount("ACC-001");
+            verify(accountClient).debit(eq("ACC-001"), any(DebitRequestDto.class), anyString());
+        }
+
+        @Test
+        @DisplayName("should refresh the cached status when the account is read")
+        void shouldRefreshStatusOnAccountRead() {
+            when(accountClient.getAccount("ACC-001"))
+                    .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "FROZEN"));
+
+            cachedPaymentService.getAccount("ACC-001");
+            PaymentResult result = cachedPaymentService.processPayment(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment"));
+
+            assertThat(result.message()).isEqualTo("Account is not active");
+            verify(accountClient).getAccount("ACC-001");
+        }
+    }
+
+    @Nested
+    @DisplayName("processPayment() in single-round-trip mode")
+    class SingleRoundTripTests {
+
+        private final Request request = Request.create(Request.HttpMethod.POST, "/api/v1/accounts/ACC-001/debit",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+
+        private PaymentService singleRoundTripService;
+
+        @BeforeEach
+        void setUp() {
+            singleRoundTripService = paymentService(AccountStatusCache.uncached(accountClient, meterRegistry),
+                    PaymentMode.SINGLE_ROUND_TRIP);
+        }
+
+        @Test
+        @DisplayName("should debit without looking up the account")
+        void shouldDebitWithoutLookup() {
+            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class), anyString())).thenReturn(new DebitResponseDto(
+                    "ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"),
+                    new BigDecimal("1000.00"), true, "Debit successful", null));
+
+            PaymentResult result = singleRoundTripService.processPayment(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment"));
+
+            assertThat(result.status()).isEqualTo(PaymentResult.Status.SUCCESS);
+            assertThat(result.currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+            verify(accountClient, never()).getAccount(anyString());
+        }
+
+        @Test
+        @DisplayName("should map 403 from the debit to \"Account is not active\"")
+        void shouldMapForbiddenToNotActive() {
+            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class), anyString())).thenThrow(
+                    new FeignException.Forbidden("Account is frozen: ACC-001", request, null, null));
+
+            PaymentResult result = singleRoundTripService.processPayment(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment"));
+
+            assertThat(result).isEqualTo(PaymentResult.failed("ACC-001", "Account is not active"));
+            verify(accountClient, never()).getAccount(anyString());
+        }
+
+        @Test
+        @DisplayName("should map 404 from the debit to \"Account not found\"")
+        void shouldMapNotFoundToAccountNotFound() {
+            when(accountClient.debit(eq("ACC-999"), any(DebitRequestDto.class), anyString())).thenThrow(
+                    new FeignException.NotFound("Account not found: ACC-999", request, null, null));
+
+            PaymentResult result = singleRoundTripService.processPayment(
+                    new PaymentRequest("ACC-999", new BigDecimal("1000.00"), "Test payment"));
+
+            assertThat(result).isEqualTo(PaymentResult.failed("ACC-999", "Account not found: ACC-999"));
+            verify(accountClient, never()).getAccount(anyString());
+        }
+
+        @Test
+        @DisplayName("should report other account-service errors as ERROR")
+        void shouldReportOtherErrors() {
+            when(accountClient.debit(eq("ACC-001"), any(DebitRequestDto.class), anyString())).thenThrow(
+                    new FeignException.Conflict("Account was modified concurrently, please retry", request, null, null));
+
+            PaymentResult result = singleRoundTripService.processPayment(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment"));
+
+            assertThat(result.status()).isEqualTo(PaymentResult.Status.ERROR);
+        }
+    }
+
     @Nested
     @DisplayName("PaymentResult")
     class PaymentResultTests {
@@ -165,4 +394,126 @@ class PaymentServiceTest {
             assertThat(result.message()).isEqualTo("Service unavailable");
         }
     }
+
+    @Nested
+    @DisplayName("processPayments()")
+    class ProcessPaymentsTests {
+
+        @Test
+        @DisplayName("should map each batch result to a payment result")
+        void shouldMapEachBatchResult() {
+            when(accountClient.debitBatch(any(BatchDebitRequestDto.class))).thenReturn(new BatchDebitResponseDto(List.of(
+                    new DebitResponseDto("ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"),
+                            new BigDecimal("1000.00"), true, "Debit successful", null),
+                    new DebitResponseDto("ACC-003", new BigDecimal("500.00"), new BigDecimal("500.00"),
+                            new BigDecimal("99999.00"), false, "Insufficient balance",
+                            "INSUFFICIENT_BALANCE")
+            )));
+
+            List<PaymentResult> results = paymentService.processPayments(List.of(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Batch 1"),
+                    new PaymentRequest("ACC-003", new BigDecimal("99999.00"), "Batch 2")));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).status()).isEqualTo(PaymentResult.Status.SUCCESS);
+            assertThat(results.get(0).currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+            assertThat(results.get(1).status()).isEqualTo(PaymentResult.Status.FAILED);
+            assertThat(results.get(1).message()).isEqualTo("Insufficient balance");
+        }
+
+        @Test
+        @DisplayName("should return ERROR for every item when the batch call fails")
+        void shouldReturnErrorForEveryItemWhenCallFails() {
+            when(accountClient.debitBatch(any(BatchDebitRequestDto.class)))
+                    .thenThrow(new RuntimeException("Connection refused"));
+
+            List<PaymentResult> results = paymentService.processPayments(List.of(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Batch 1"),
+                    new PaymentRequest("ACC-002", new BigDecimal("10.00"), "Batch 2")));
+
+            assertThat(results).extracting(PaymentResult::status)
+                    .containsExactly(PaymentResult.Status.ERROR, PaymentResult.Status.ERROR);
+        }
+    }
+
+    @Nested
+    @DisplayName("processPayment() with debit batching")
+    class BatchedDebitTests {
+
+        private PaymentService batchedService;
+        private DebitBatcher debitBatcher;
+
+        @BeforeEach
+        void setUp() {
+            // A batch of one is sent at once, by the paying thread
+            debitBatcher = new DebitBatcher(accountClient,
+                    new DebitBatchingProperties(true, 1, Duration.ofSeconds(1), Duration.ofSeconds(10)), new SimpleMeterRegistry());
+            batchedService = new PaymentService(accountClient,
+                    AccountStatusCache.uncached(accountClient, meterRegistry),
+                    new PaymentExecutionProperties(PaymentMode.SINGLE_ROUND_TRIP), debitBatcher);
+        }
+
+        @AfterEach
+        void tearDown() {
+            debitBatcher.close();
+        }
+
+        private void batchAnswers(DebitResponseDto result) {
+            when(accountClient.debitBatch(any(BatchDebitRequestDto.class)))
+                    .thenReturn(new BatchDebitResponseDto(List.of(result)));
+        }
+
+        @Test
+        @DisplayName("should debit through a batch call instead of a single debit")
+        void shouldDebitThroughBatch() {
+            batchAnswers(new DebitResponseDto("ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"),
+                    new BigDecimal("1000.00"), true, "Debit successful", null));
+
+            PaymentResult result = batchedService.processPayment(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment"));
+
+            assertThat(result.status()).isEqualTo(PaymentResult.Status.SUCCESS);
+            assertThat(result.currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+            verify(accountClient, never()).debit(anyString(), any(DebitRequestDto.class), anyString());
+        }
+
+        @Test
+        @DisplayName("should map a frozen account's item to \"Account is not active\", as a 403 would be")
+        void shouldMapFrozenItemToNotActive() {
+            batchAnswers(new DebitResponseDto("ACC-004", null, null, new BigDecimal("100.00"), false,
+                    "Account is frozen: ACC-004", "FROZEN"));
+
+            PaymentResult result = batchedService.processPayment(
+                    new PaymentRequest("ACC-004", new BigDecimal("100.00"), "Test payment"));
+
+            assertThat(result).isEqualTo(PaymentResult.failed("ACC-004", "Account is not active"));
+        }
+
+        @Test
+        @DisplayName("should map an unknown account's item to \"Account not found\", as a 404 would be")
+        void shouldMapNotFoundItemToAccountNotFound() {
+            batchAnswers(new DebitResponseDto("ACC-999", null, null, new BigDecimal("100.00"), false,
+                    "Account not found: ACC-999", "NOT_FOUND"));
+
+            PaymentResult result = batchedService.processPayment(
+                    new PaymentRequest("ACC-999", new BigDecimal("100.00"), "Test payment"));
+
+            assertThat(result).isEqualTo(PaymentResult.failed("ACC-999", "Account not found: ACC-999"));
+        }
+
+        @Test
+        @DisplayName("should not retry a failed batch call")
+        void shouldNotRetryBatch() {
+            Request request = Request.create(Request.HttpMethod.POST, "/api/v1/accounts/debits:batch",
+                    Map.of(), null, StandardCharsets.UTF_8, null);
+            when(accountClient.debitBatch(any(BatchDebitRequestDto.class))).thenThrow(new RetryableException(
+                    -1, "Read timed out", Request.HttpMethod.POST, (Long) null, request));
+
+            PaymentResult result = batchedService.processPayment(
+                    new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Test payment"));
+
+            assertThat(result.status()).isEqualTo(PaymentResult.Status.ERROR);
+            verify(accountClient).debitBatch(any(BatchDebitRequestDto.class));
+        }
+    }
 }
@@ -0,0 +1,264 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.PaymentServiceApplication;
+import com.example.payment.infrastructure.client.AccountClient;
+import com.example.payment.infrastructure.client.HttpAccountClient;
+import com.example.payment.infrastructure.config.AsyncAccountClientProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load benchmark: account-service calls through the Feign client versus the asynchronous
+ * HttpAccountClient over HTTP/1.1 keep-alive and over HTTP/2 (h2c), at a fixed number of
+ * concurrent callers.
+ *
+ * account-service is a stub answering GET /api/v1/accounts/{n} after a fixed delay. It is
+ * an embedded Tomcat with HTTP/2 enabled and an async servlet, so it holds no thread per
+ * pending call. (The contract stub runner's WireMock speaks HTTP/2 only over TLS, hence
+ * this stub.) Each caller is a virtual thread calling getAccount back to back for the
+ * measured period, through the application's Feign client or by waiting on the future the
+ * async client returns. Reports throughput, errors, latency and the peak number of
+ * connections the run opened to the stub, read from /proc/net/tcp.
+ *
+ * Run with: ./gradlew :payment-service:benchmark
+ *   -Dbenchmark.connections=1000,10000  concurrent callers per run
+ *   -Dbenchmark.seconds=10              measured period per run
+ *   -Dbenchmark.latencyMs=100           stub delay per call
+ */
+@Tag("benchmark")
+class AccountClientTransportBenchmark {
+
+    private static final int[] CALLERS = Arrays.stream(
+            System.getProperty("benchmark.connections", "1000,10000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim())).toArray();
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+    private static final int LATENCY_MS = Integer.getInteger("benchmark.latencyMs", 100);
+
+    private static final byte[] ACCOUNT = """
+            {"accountNumber": "ACC-001", "ownerName": "壓測", "balance": 1000000.00, "status": "ACTIVE"}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private enum Transport { FEIGN, ASYNC_HTTP1, ASYNC_HTTP2 }
+
+    private static Tomcat accountService;
+    private static ScheduledExecutorService delays;
+    private static int port;
+
+    @BeforeAll
+    static void startAccountServiceStub() throws Exception {
+        // Feign's default client keeps only 5 idle connections per host unless told otherwise
+        System.setProperty("http.maxConnections", "20000");
+        delays = Executors.newSingleThreadScheduledExecutor();
+        accountService = new Tomcat();
+        accountService.setBaseDir(Files.createTempDirectory("account-stub").toString());
+        Connector connector = new Connector();
+        connector.setPort(0);
+        connector.setProperty("maxConnections", "30000");
+        connector.setProperty("acceptCount", "20000");
+        Http2Protocol http2 = new Http2Protocol();
+        http2.setMaxConcurrentStreams(20_000);
+        http2.setMaxConcurrentStreamExecution(20_000);
+        connector.addUpgradeProtocol(http2);
+        accountService.setConnector(connector);
+        Context context = accountService.addContext("", null);
+        Tomcat.addServlet(context, "accounts", new DelayedAccountServlet()).setAsyncSupported(true);
+        context.addServletMappingDecoded("/api/v1/accounts/*", "accounts");
+        accountService.start();
+        port = connector.getLocalPort();
+    }
+
+    @AfterAll
+    static void stopAccountServiceStub() throws Exception {
+        accountService.stop();
+        accountService.destroy();
+        delays.shutdownNow();
+    }
+
+    /**
+     * Answers after LATENCY_MS without holding a container thread meanwhile.
+     */
+    private static class DelayedAccountServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+            AsyncContext async = request.startAsync();
+            delays.schedule(() -> {
+                try {
+                    HttpServletResponse pending = (HttpServletResponse) async.getResponse();
+                    pending.setContentType("application/json");
+                    pending.setContentLength(ACCOUNT.length);
+                    pending.getOutputStream().write(ACCOUNT);
+                } catch (IOException ignored) {
+                    // the caller went away; it counts its own error
+                } finally {
+                    async.complete();
+                }
+            }, LATENCY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    void compareTransports() throws Exception {
+        List<String> results = new ArrayList<>();
+        for (int callers : CALLERS) {
+            for (Transport transport : Transport.values()) {
+                results.add(run(transport, callers));
+            }
+        }
+        results.forEach(System.out::println);
+    }
+
+    private String run(Transport transport, int callers) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PaymentServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--account-service.url=http://localhost:" + port,
+                        "--spring.cloud.openfeign.client.config.default.loggerLevel=none",
+                        "--spring.cloud.openfeign.client.config.default.readTimeout=30000",
+                        "--logging.level.com.example.payment=WARN",
+                        "--logging.level.org.springframework.cloud.openfeign=WARN");
+             HttpAccountClient asyncClient = new HttpAccountClient("http://localhost:" + port,
+                     new AsyncAccountClientProperties(true, transport == Transport.ASYNC_HTTP2,
+                             Duration.ofSeconds(30), Duration.ofSeconds(30)),
+                     context.getBean(ObjectMapper.class))) {
+            AccountClient feignClient = context.getBean("feignAccountClient", AccountClient.class);
+            Supplier<Object> call = transport == Transport.FEIGN
+                    ? () -> feignClient.getAccount("ACC-001")
+                    : () -> asyncClient.getAccount("ACC-001").join();
+
+            // connections other clients left open (Feign's keep-alive cache) are not this run's
+            int idle = countConnections();
+            // one call first, so HTTP/2 settles on its upgraded connection before the burst
+            call.get();
+            load(call, Math.min(callers, 200), 2);
+            Load measured = load(call, callers, SECONDS);
+
+            assertThat(measured.completed()).isPositive();
+            return String.format(
+                    "%-11s callers=%-5d completed=%d errors=%d elapsed=%dms p50=%dms p99=%dms "
+                            + "throughput=%.0f ops/s peak-connections=%d",
+                    transport, callers, measured.completed(), measured.errors(), measured.elapsedMillis(),
+                    measured.percentile(0.50), measured.percentile(0.99),
+                    measured.completed() * 1000.0 / measured.elapsedMillis(), measured.connections() - idle);
+        }
+    }
+
+    private static Load load(Supplier<Object> call, int callers, int seconds) throws Exception {
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        // latency histogram in milliseconds, last bucket catches everything slower
+        AtomicLongArray latencies = new AtomicLongArray(60_001);
+        AtomicInteger connections = new AtomicInteger();
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+
+        // a platform thread: Feign's blocking calls pin the carriers a virtual sampler would need
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (System.nanoTime() < deadline) {
+                connections.accumulateAndGet(countConnections(), Math::max);
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                clients.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            call.get();
+                            completed.incrementAndGet();
+                            long millis = (System.nanoTime() - sent) / 1_000_000;
+                            latencies.incrementAndGet((int) Math.min(millis, latencies.length() - 1));
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : clients) {
+                future.get();
+            }
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        sampler.join();
+        return new Load(completed.get(), errors.get(), elapsedMillis, latencies, connections.get());
+    }
+
+    /**
+     * Established connections whose local end is the stub's port, i.e. the stub's side of
+     * every open client connection; 0 where /proc/net is not available.
+     */
+    private static int countConnections() {
+        String localPort = ":%04X".formatted(port).toUpperCase(Locale.ROOT);
+        int count = 0;
+        for (String table : List.of("/proc/net/tcp", "/proc/net/tcp6")) {
+            try {
+                for (String line : Files.readAllLines(Path.of(table))) {
+                    String[] fields = line.trim().split("\\s+");
+                    // fields: sl, local_address, rem_address, st (01 = ESTABLISHED), ...
+                    if (fields.length > 3 && fields[1].endsWith(localPort) && "01".equals(fields[3])) {
+                        count++;
+                    }
+                }
+            } catch (IOException e) {
+                // no such table on this platform
+            }
+        }
+        return count;
+    }
+
+    private record Load(int completed, int errors, long elapsedMillis, AtomicLongArray latencies,
+                        int connections) {
+
+        long percentile(double quantile) {
+            long rank = (long) Math.ceil(completed * quantile);
+            long seen = 0;
+            for (int millis = 0; millis < latencies.length(); millis++) {
+                seen += latencies.get(millis);
+                if (seen >= rank && rank > 0) {
+                    return millis;
+                }
+            }
+            return latencies.length() - 1;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.application.PaymentMode;
+import com.example.payment.application.PaymentService;
+import com.example.payment.application.PaymentService.PaymentResult;
+import com.example.payment.domain.PaymentRequest;
+import com.example.payment.infrastructure.client.AccountClient;
+import com.example.payment.infrastructure.client.AccountStatusCache;
+import com.example.payment.infrastructure.client.BlockingAccountClient;
+import com.example.payment.infrastructure.client.DebitBatcher;
+import com.example.payment.infrastructure.client.HttpAccountClient;
+import com.example.payment.infrastructure.config.AsyncAccountClientProperties;
+import com.example.payment.infrastructure.config.DebitBatchingProperties;
+import com.example.payment.infrastructure.config.PaymentExecutionProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load benchmark: processPayment sending one debit call per payment versus collecting
+ * concurrent debits into batch calls, at a fixed number of concurrent callers.
+ *
+ * account-service is a stub answering POST /api/v1/accounts/{n}/debit and
+ * /api/v1/accounts/debits:batch after a fixed delay per call plus a smaller one per debit,
+ * standing in for the round trip and transaction a call costs against the work each debit
+ * does. It is the JDK's HttpServer on virtual threads. Payments run in single-round-trip
+ * mode, so each is one debit, through the asynchronous client over HTTP/1.1. Each caller
+ * is a virtual thread paying back to back for the measured period. Reports throughput,
+ * errors, latency and the calls account-service received.
+ *
+ * Run with: ./gradlew :payment-service:benchmark
+ *   -Dbenchmark.connections=1000,10000  concurrent callers per run
+ *   -Dbenchmark.seconds=10              measured period per run
+ *   -Dbenchmark.latencyMs=10            stub delay per call
+ *   -Dbenchmark.itemMicros=50           stub delay per debit
+ *   -Dbenchmark.batchSizes=100          maxBatchSize of each batched run (maxDelay 2 ms)
+ */
+@Tag("benchmark")
+class DebitBatchingBenchmark {
+
+    private static final int[] CALLERS = Arrays.stream(
+            System.getProperty("benchmark.connections", "1000,10000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim())).toArray();
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+    private static final int LATENCY_MS = Integer.getInteger("benchmark.latencyMs", 10);
+    private static final int ITEM_MICROS = Integer.getInteger("benchmark.itemMicros", 50);
+    private static final int[] BATCH_SIZES = Arrays.stream(
+            System.getProperty("benchmark.batchSizes", "100").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim())).toArray();
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static HttpServer accountService;
+
+    @BeforeAll
+    static void startAccountServiceStub() throws IOException {
+        accountService = HttpServer.create(new InetSocketAddress("localhost", 0), 20000);
+        accountService.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        accountService.createContext("/api/v1/accounts/", DebitBatchingBenchmark::answer);
+        accountService.start();
+    }
+
+    @AfterAll
+    static void stopAccountServiceStub() {
+        accountService.stop(0);
+    }
+
+    private static void answer(HttpExchange exchange) throws IOException {
+        calls.incrementAndGet();
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            JsonNode request = objectMapper.readTree(body);
+            List<String> results = new ArrayList<>();
+            if (exchange.getRequestURI().getPath().endsWith("/debits:batch")) {
+                for (JsonNode item : request.get("debits")) {
+                    results.add(debited(item.get("accountNumber").asText()));
+                }
+            } else {
+                String path = exchange.getRequestURI().getPath();
+                results.add(debited(path.substring("/api/v1/accounts/".length(), path.lastIndexOf('/'))));
+            }
+            Thread.sleep(LATENCY_MS);
+            Thread.sleep(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos((long) ITEM_MICROS * results.size())));
+            byte[] response = (exchange.getRequestURI().getPath().endsWith("/debits:batch")
+                    ? "{\"results\": [" + String.join(",", results) + "]}"
+                    : results.get(0)).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String debited(String accountNumber) {
+        return """
+                {"success": true, "accountNumber": "%s", "previousBalance": 1000000.00,
+                 "currentBalance": 999999.00, "debitedAmount": 1.00, "message": "Debit successful"}
+                """.formatted(accountNumber);
+    }
+
+    @Test
+    void compareDebitBatching() throws Exception {
+        List<String> results = new ArrayList<>();
+        for (int callers : CALLERS) {
+            results.add(run(callers, 0));
+            for (int batchSize : BATCH_SIZES) {
+                results.add(run(callers, batchSize));
+            }
+        }
+        results.forEach(System.out::println);
+    }
+
+    /**
+     * @param batchSize maxBatchSize, or 0 for one debit call per payment
+     */
+    private String run(int callers, int batchSize) throws Exception {
+        try (HttpAccountClient httpClient = new HttpAccountClient(
+                "http://localhost:" + accountService.getAddress().getPort(),
+                new AsyncAccountClientProperties(true, false, Duration.ofSeconds(30), Duration.ofSeconds(30)),
+                objectMapper)) {
+            AccountClient accountClient = new BlockingAccountClient(httpClient);
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            DebitBatcher debitBatcher = batchSize == 0
+                    ? DebitBatcher.unbatched(accountClient, meterRegistry)
+                    : new DebitBatcher(accountClient,
+                            new DebitBatchingProperties(true, batchSize, Duration.ofMillis(2), Duration.ofSeconds(10)),
+                            meterRegistry);
+            PaymentService paymentService = new PaymentService(accountClient,
+                    AccountStatusCache.uncached(accountClient, meterRegistry),
+                    new PaymentExecutionProperties(PaymentMode.SINGLE_ROUND_TRIP), debitBatcher);
+            try {
+                load(paymentService, Math.min(callers, 200), 2);
+                int callsBefore = calls.get();
+                Load measured = load(paymentService, callers, SECONDS);
+                int accountServiceCalls = calls.get() - callsBefore;
+
+                assertThat(measured.completed()).isPositive();
+                return String.format(
+                        "%-11s callers=%-5d completed=%d errors=%d elapsed=%dms p50=%dms p99=%dms "
+                                + "throughput=%.0f ops/s account-service-calls=%d",
+                        batchSize == 0 ? "PER-REQUEST" : "BATCH-" + batchSize, callers, measured.completed(),
+                        measured.errors(), measured.elapsedMillis(), measured.percentile(0.50),
+                        measured.percentile(0.99), measured.completed() * 1000.0 / measured.elapsedMillis(),
+                        accountServiceCalls);
+            } finally {
+                debitBatcher.close();
+            }
+        }
+    }
+
+    private static Load load(PaymentService paymentService, int callers, int seconds) throws Exception {
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        // latency histogram in milliseconds, last bucket catches everything slower
+        AtomicLongArray latencies = new AtomicLongArray(60_001);
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                PaymentRequest request = new PaymentRequest("LOAD-%05d".formatted(i), new BigDecimal("1.00"), "load");
+                clients.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        if (paymentService.processPayment(request).status() != PaymentResult.Status.SUCCESS) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        completed.incrementAndGet();
+                        long millis = (System.nanoTime() - sent) / 1_000_000;
+                        latencies.incrementAndGet((int) Math.min(millis, latencies.length() - 1));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : clients) {
+                future.get();
+            }
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        return new Load(completed.get(), errors.get(), elapsedMillis, latencies);
+    }
+
+    private record Load(int completed, int errors, long elapsedMillis, AtomicLongArray latencies) {
+
+        long percentile(double quantile) {
+            long rank = (long) Math.ceil(completed * quantile);
+            long seen = 0;
+            for (int millis = 0; millis < latencies.length(); millis++) {
+                seen += latencies.get(millis);
+                if (seen >= rank && rank > 0) {
+                    return millis;
+                }
+            }
+            return latencies.length() - 1;
+        }
+    }
+}
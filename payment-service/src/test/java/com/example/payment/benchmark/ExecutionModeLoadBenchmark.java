@@ -0,0 +1,211 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.PaymentServiceApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load benchmark: POST /api/v1/payments served on Tomcat's platform thread pool versus
+ * on virtual threads, at a fixed number of concurrent client connections, in each
+ * payment.execution.mode.
+ *
+ * account-service is a stub answering both Feign calls of processPayment (status check,
+ * debit) after a fixed delay, standing in for a remote service. The status cache is off, so
+ * every pre-check payment makes both calls; a single-round-trip payment makes only the
+ * debit. The stub is the JDK's HttpServer on virtual threads, so it costs little CPU and
+ * never runs out of threads itself. Each client connection is a virtual thread sending
+ * payments back to back for the measured period. Reports throughput, errors and latency.
+ *
+ * Every connection costs file descriptors on the client, the server and (through Feign)
+ * the stub, all in this JVM: 10000 connections need an open-file limit of about 40000.
+ *
+ * Run with: ./gradlew :payment-service:benchmark
+ *   -Dbenchmark.connections=1000,10000  concurrent connections per run
+ *   -Dbenchmark.seconds=10              measured period per run
+ *   -Dbenchmark.latencyMs=100           stub delay per account-service call
+ *   -Dbenchmark.paymentModes=pre-check,single-round-trip  payment.execution.mode per run
+ */
+@Tag("benchmark")
+class ExecutionModeLoadBenchmark {
+
+    private static final int[] CONNECTIONS = Arrays.stream(
+            System.getProperty("benchmark.connections", "1000,10000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim())).toArray();
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+    private static final int LATENCY_MS = Integer.getInteger("benchmark.latencyMs", 100);
+    private static final List<String> PAYMENT_MODES = Arrays.stream(
+            System.getProperty("benchmark.paymentModes", "pre-check,single-round-trip").split(","))
+            .map(String::trim).toList();
+    private static final String PAYMENT = """
+            {"accountNumber": "ACC-001", "amount": 1.00, "description": "load"}
+            """;
+
+    private static final byte[] ACCOUNT = """
+            {"accountNumber": "ACC-001", "ownerName": "壓測", "balance": 1000000.00, "status": "ACTIVE"}
+            """.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DEBITED = """
+            {"success": true, "accountNumber": "ACC-001", "previousBalance": 1000000.00,
+             "currentBalance": 999999.00, "debitedAmount": 1.00, "message": "Debit successful"}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static HttpServer accountService;
+
+    @BeforeAll
+    static void startAccountServiceStub() throws IOException {
+        // Feign's default client keeps only 5 idle connections per host unless told otherwise
+        System.setProperty("http.maxConnections", "20000");
+        accountService = HttpServer.create(new InetSocketAddress("localhost", 0), 20000);
+        accountService.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        accountService.createContext("/api/v1/accounts/", ExecutionModeLoadBenchmark::answer);
+        accountService.start();
+    }
+
+    @AfterAll
+    static void stopAccountServiceStub() {
+        accountService.stop(0);
+    }
+
+    private static void answer(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            Thread.sleep(LATENCY_MS);
+            byte[] response = "POST".equals(exchange.getRequestMethod()) ? DEBITED : ACCOUNT;
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        List<String> results = new ArrayList<>();
+        for (String paymentMode : PAYMENT_MODES) {
+            for (int connections : CONNECTIONS) {
+                for (boolean virtual : new boolean[]{false, true}) {
+                    results.add(run(virtual, connections, paymentMode));
+                }
+            }
+        }
+        results.forEach(System.out::println);
+    }
+
+    private String run(boolean virtual, int connections, String paymentMode) throws Exception {
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(PaymentServiceApplication.class).run(
+                        "--server.port=0",
+                        "--server.tomcat.max-connections=" + (connections + 100),
+                        "--server.tomcat.accept-count=" + connections,
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--account-service.url=http://localhost:" + accountService.getAddress().getPort(),
+                        "--payment.account-status-cache.enabled=false",
+                        "--payment.execution.mode=" + paymentMode,
+                        "--spring.cloud.openfeign.client.config.default.loggerLevel=none",
+                        "--spring.cloud.openfeign.client.config.default.readTimeout=30000",
+                        "--logging.level.com.example.payment=WARN",
+                        "--logging.level.org.springframework.cloud.openfeign=WARN")) {
+            URI uri = URI.create("http://localhost:" + context.getWebServer().getPort() + "/api/v1/payments");
+            load(uri, Math.min(connections, 200), 2);
+            Load measured = load(uri, connections, SECONDS);
+
+            assertThat(measured.completed()).isPositive();
+            return String.format(
+                    "%-8s %-17s connections=%-5d completed=%d errors=%d elapsed=%dms p50=%dms p99=%dms throughput=%.0f ops/s",
+                    virtual ? "VIRTUAL" : "PLATFORM", paymentMode, connections, measured.completed(), measured.errors(),
+                    measured.elapsedMillis(), measured.percentile(0.50), measured.percentile(0.99),
+                    measured.completed() * 1000.0 / measured.elapsedMillis());
+        }
+    }
+
+    private static Load load(URI uri, int connections, int seconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(PAYMENT))
+                .build();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        // latency histogram in milliseconds, last bucket catches everything slower
+        AtomicLongArray latencies = new AtomicLongArray(60_001);
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                clients.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            completed.incrementAndGet();
+                            long millis = (System.nanoTime() - sent) / 1_000_000;
+                            latencies.incrementAndGet((int) Math.min(millis, latencies.length() - 1));
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : clients) {
+                future.get();
+            }
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        return new Load(completed.get(), errors.get(), elapsedMillis, latencies);
+    }
+
+    private record Load(int completed, int errors, long elapsedMillis, AtomicLongArray latencies) {
+
+        long percentile(double quantile) {
+            long rank = (long) Math.ceil(completed * quantile);
+            long seen = 0;
+            for (int millis = 0; millis < latencies.length(); millis++) {
+                seen += latencies.get(millis);
+                if (seen >= rank && rank > 0) {
+                    return millis;
+                }
+            }
+            return latencies.length() - 1;
+        }
+    }
+}
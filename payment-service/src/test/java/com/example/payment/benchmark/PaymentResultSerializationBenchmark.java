@@ -0,0 +1,94 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.application.PaymentService.PaymentResult;
+import com.example.payment.infrastructure.json.PaymentResultSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serialization benchmark: writing a PaymentResult body to the response stream with the
+ * reflective record serializer versus PaymentResultSerializer.
+ *
+ * The mappers are built like the application's (Jackson2ObjectMapperBuilder) and write to
+ * a stream that discards the bytes, as the message converter writes to the response. Each
+ * serializer runs on one thread for the measured period after a warm-up. Reports the cost
+ * and the bytes allocated per body.
+ *
+ * Run with: ./gradlew :payment-service:benchmark
+ *   -Dbenchmark.seconds=10  measured period per serializer
+ */
+@Tag("benchmark")
+class PaymentResultSerializationBenchmark {
+
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+
+    private static final PaymentResult RESULT = PaymentResult.success("ACC-001",
+            new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00"));
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** Stands in for the response stream, which the message converter never closes. */
+    private static final OutputStream SINK = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Test
+    void compareSerializers() throws Exception {
+        ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper handWritten = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new SimpleModule().addSerializer(new PaymentResultSerializer()))
+                .build();
+        assertThat(handWritten.writeValueAsBytes(RESULT)).isEqualTo(reflective.writeValueAsBytes(RESULT));
+
+        System.out.println(run("reflective", reflective));
+        System.out.println(run("handWritten", handWritten));
+    }
+
+    private static String run(String name, ObjectMapper mapper) throws IOException {
+        measure(mapper, 2);
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long[] measured = measure(mapper, SECONDS);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        assertThat(measured[0]).isPositive();
+        return String.format("%-11s bodies=%d cost=%.0f ns/body throughput=%.0f ops/s allocated=%d B/body",
+                name, measured[0], (double) measured[1] / measured[0], measured[0] * 1e9 / measured[1],
+                allocated / measured[0]);
+    }
+
+    /**
+     * @return bodies written and elapsed nanos
+     */
+    private static long[] measure(ObjectMapper mapper, int seconds) throws IOException {
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        long bodies = 0;
+        long now;
+        do {
+            // check the clock every 1000 bodies, not every body
+            for (int i = 0; i < 1000; i++) {
+                mapper.writeValue(SINK, RESULT);
+            }
+            bodies += 1000;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return new long[]{bodies, now - start};
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.infrastructure.client.WireFormat;
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serialization benchmark: the body work of one account-service call in JSON versus CBOR.
+ *
+ * A call is measured as both ends do it: the caller writes the request, the provider reads
+ * it and writes the response, the caller reads the response. getAccount has no request
+ * body. The mappers are built like the applications' (Jackson2ObjectMapperBuilder), so the
+ * bodies are the ones on the wire. Each format runs on one thread for the measured period
+ * after a warm-up. Reports the cost per call, the bytes allocated per call and the bytes
+ * sent per call (request plus response).
+ *
+ * Run with: ./gradlew :payment-service:benchmark
+ *   -Dbenchmark.seconds=10  measured period per format and call
+ */
+@Tag("benchmark")
+class WireFormatBenchmark {
+
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+
+    private static final AccountDto ACCOUNT = new AccountDto("ACC-008", "讀取模型測試",
+            new BigDecimal("3000.00"), "ACTIVE", 42L, "2026-10-17T09:30");
+    private static final DebitRequestDto DEBIT_REQUEST = new DebitRequestDto(new BigDecimal("1000.00"));
+    private static final DebitResponseDto DEBIT_RESPONSE = new DebitResponseDto("ACC-001",
+            new BigDecimal("10000.00"), new BigDecimal("9000.00"), new BigDecimal("1000.00"),
+            true, "Debit successful", null);
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * One call's body work; returns the bytes it put on the wire.
+     */
+    @FunctionalInterface
+    private interface Call {
+        int run(ObjectMapper mapper) throws Exception;
+    }
+
+    @Test
+    void compareWireFormats() throws Exception {
+        Call getAccount = mapper -> {
+            byte[] response = mapper.writeValueAsBytes(ACCOUNT);
+            mapper.readValue(response, AccountDto.class);
+            return response.length;
+        };
+        Call debit = mapper -> {
+            byte[] request = mapper.writeValueAsBytes(DEBIT_REQUEST);
+            mapper.readValue(request, DebitRequestDto.class);
+            byte[] response = mapper.writeValueAsBytes(DEBIT_RESPONSE);
+            mapper.readValue(response, DebitResponseDto.class);
+            return request.length + response.length;
+        };
+
+        List<String> results = new ArrayList<>();
+        for (WireFormat format : WireFormat.values()) {
+            ObjectMapper mapper = mapper(format);
+            // both formats carry the same fields
+            assertThat(mapper.readValue(mapper.writeValueAsBytes(ACCOUNT), AccountDto.class)).isEqualTo(ACCOUNT);
+            assertThat(mapper.readValue(mapper.writeValueAsBytes(DEBIT_RESPONSE), DebitResponseDto.class))
+                    .isEqualTo(DEBIT_RESPONSE);
+            results.add(run("getAccount", format, mapper, getAccount));
+            results.add(run("debit", format, mapper, debit));
+        }
+        results.forEach(System.out::println);
+    }
+
+    private static ObjectMapper mapper(WireFormat format) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        return switch (format) {
+            case JSON -> builder.build();
+            case CBOR -> builder.factory(new CBORFactory()).build();
+        };
+    }
+
+    private static String run(String name, WireFormat format, ObjectMapper mapper, Call call) throws Exception {
+        measure(mapper, call, 2);
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        Measurement measured = measure(mapper, call, SECONDS);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        assertThat(measured.calls()).isPositive();
+        return String.format("%-10s %-4s calls=%d cost=%.0f ns/call throughput=%.0f ops/s "
+                        + "allocated=%d B/call wire=%d B/call",
+                name, format, measured.calls(), (double) measured.elapsedNanos() / measured.calls(),
+                measured.calls() * 1e9 / measured.elapsedNanos(), allocated / measured.calls(),
+                measured.wireBytes());
+    }
+
+    private static Measurement measure(ObjectMapper mapper, Call call, int seconds) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        long calls = 0;
+        int wireBytes = 0;
+        long now;
+        do {
+            // check the clock every 1000 calls, not every call
+            for (int i = 0; i < 1000; i++) {
+                wireBytes = call.run(mapper);
+            }
+            calls += 1000;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return new Measurement(calls, now - start, wireBytes);
+    }
+
+    private record Measurement(long calls, long elapsedNanos, int wireBytes) {
+    }
+}
@@ -1,9 +1,21 @@
 package com.example.payment.contract;
 
+import com.example.payment.application.PaymentMode;
+import com.example.payment.application.PaymentService;
+import com.example.payment.application.PaymentService.PaymentResult;
+import com.example.payment.domain.PaymentRequest;
 import com.example.payment.infrastructure.client.AccountClient;
+import com.example.payment.infrastructure.client.AccountStatusCache;
+import com.example.payment.infrastructure.client.DebitBatcher;
 import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitItemDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
 import com.example.payment.infrastructure.client.dto.DebitRequestDto;
 import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import com.example.payment.infrastructure.config.PaymentExecutionProperties;
+import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -12,8 +24,10 @@ import org.springframework.cloud.contract.stubrunner.spring.StubRunnerPort;
 import org.springframework.cloud.contract.stubrunner.spring.StubRunnerProperties;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Consumer contract tests using Stub Runner.
@@ -52,6 +66,20 @@ public class AccountClientContractTest {
         assertThat(account.status()).isEqualTo("ACTIVE");
     }
 
+    @Test
+    void shouldGetAccountWithVersionMarker() {
+        // Contract: getAccountWithVersion.groovy
+        // Precondition: accountId ACC-008 exists
+        // Postcondition: returns account details with the read model's version and asOf
+
+        AccountDto account = accountClient.getAccount("ACC-008");
+
+        assertThat(account.accountNumber()).isEqualTo("ACC-008");
+        assertThat(account.balance()).isEqualByComparingTo(new BigDecimal("3000.00"));
+        assertThat(account.version()).isEqualTo(42L);
+        assertThat(account.asOf()).isNotBlank();
+    }
+
     @Test
     void shouldDebitAccountSuccessfully() {
         // Contract: debitAccount.groovy
@@ -70,6 +98,20 @@ public class AccountClientContractTest {
         assertThat(response.message()).isEqualTo("Debit successful");
     }
 
+    @Test
+    void shouldDebitWithIdempotencyKey() {
+        // Contract: debitWithIdempotencyKey.groovy
+        // Precondition: ACC-001 exists with sufficient balance, key is 1-255 characters
+        // Postcondition: debit applied once for the key
+
+        DebitRequestDto request = new DebitRequestDto(new BigDecimal("500.00"));
+        DebitResponseDto response = accountClient.debit("ACC-001", request, "pay-0001");
+
+        assertThat(response.success()).isTrue();
+        assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("9500.00"));
+        assertThat(response.debitedAmount()).isEqualByComparingTo(new BigDecimal("500.00"));
+    }
+
     @Test
     void shouldHandleInsufficientBalance() {
         // Contract: debitInsufficientBalance.groovy
@@ -85,4 +127,80 @@ public class AccountClientContractTest {
         assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("500.00"));
         assertThat(response.message()).isEqualTo("Insufficient balance");
     }
+
+    @Test
+    void shouldDebitBatchWithPartialFailure() {
+        // Contract: debitBatch.groovy
+        // Precondition: ACC-001 sufficient, ACC-003 insufficient, ACC-999 missing
+        // Postcondition: one result per item, in request order
+
+        BatchDebitRequestDto request = new BatchDebitRequestDto(List.of(
+                new BatchDebitItemDto("ACC-001", new BigDecimal("1000.00")),
+                new BatchDebitItemDto("ACC-003", new BigDecimal("99999.00")),
+                new BatchDebitItemDto("ACC-999", new BigDecimal("100.00"))
+        ));
+        BatchDebitResponseDto response = accountClient.debitBatch(request);
+
+        assertThat(response.results()).hasSize(3);
+        assertThat(response.results().get(0).success()).isTrue();
+        assertThat(response.results().get(0).currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+        assertThat(response.results().get(0).reason()).isNull();
+        assertThat(response.results().get(1).success()).isFalse();
+        assertThat(response.results().get(1).message()).isEqualTo("Insufficient balance");
+        assertThat(response.results().get(1).reason()).isEqualTo(DebitResponseDto.INSUFFICIENT_BALANCE);
+        assertThat(response.results().get(2).success()).isFalse();
+        assertThat(response.results().get(2).accountNumber()).isEqualTo("ACC-999");
+        assertThat(response.results().get(2).message()).isEqualTo("Account not found: ACC-999");
+        assertThat(response.results().get(2).reason()).isEqualTo(DebitResponseDto.NOT_FOUND);
+    }
+
+    @Test
+    void shouldRefuseDebitOfFrozenAccount() {
+        // Contract: debitFrozenAccount.groovy
+        // Precondition: ACC-004 exists and is FROZEN
+        // Postcondition: 403, balance unchanged
+
+        assertThatThrownBy(() -> accountClient.debit("ACC-004", new DebitRequestDto(new BigDecimal("100.00"))))
+                .isInstanceOf(FeignException.Forbidden.class)
+                .satisfies(e -> assertThat(((FeignException) e).contentUTF8())
+                        .contains("Account is frozen: ACC-004"));
+    }
+
+    @Test
+    void shouldRefuseDebitOfUnknownAccount() {
+        // Contract: debitAccountNotFound.groovy
+        // Precondition: ACC-999 does not exist
+        // Postcondition: 404
+
+        assertThatThrownBy(() -> accountClient.debit("ACC-999", new DebitRequestDto(new BigDecimal("100.00"))))
+                .isInstanceOf(FeignException.NotFound.class)
+                .satisfies(e -> assertThat(((FeignException) e).contentUTF8())
+                        .contains("Account not found: ACC-999"));
+    }
+
+    @Test
+    void shouldProcessPaymentsInOneRoundTrip() {
+        // Contracts: debitAccount.groovy, debitFrozenAccount.groovy, debitAccountNotFound.groovy
+        // Postcondition: the results the status pre-check would produce, without calling getAccount
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PaymentService paymentService = new PaymentService(accountClient,
+                AccountStatusCache.uncached(accountClient, meterRegistry),
+                new PaymentExecutionProperties(PaymentMode.SINGLE_ROUND_TRIP),
+                DebitBatcher.unbatched(accountClient, meterRegistry));
+
+        PaymentResult paid = paymentService.processPayment(
+                new PaymentRequest("ACC-001", new BigDecimal("1000.00"), "Contract payment"));
+        PaymentResult frozen = paymentService.processPayment(
+                new PaymentRequest("ACC-004", new BigDecimal("100.00"), "Contract payment"));
+        PaymentResult unknown = paymentService.processPayment(
+                new PaymentRequest("ACC-999", new BigDecimal("100.00"), "Contract payment"));
+
+        assertThat(paid.status()).isEqualTo(PaymentResult.Status.SUCCESS);
+        assertThat(paid.currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+        assertThat(frozen.status()).isEqualTo(PaymentResult.Status.FAILED);
+        assertThat(frozen.message()).isEqualTo("Account is not active");
+        assertThat(unknown.status()).isEqualTo(PaymentResult.Status.FAILED);
+        assertThat(unknown.message()).isEqualTo("Account not found: ACC-999");
+    }
 }
@@ -0,0 +1,170 @@
+package com.example.payment.contract;
+
+import com.example.payment.infrastructure.client.AsyncAccountClient;
+import com.example.payment.infrastructure.client.BlockingAccountClient;
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitItemDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import feign.FeignException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.stubrunner.spring.AutoConfigureStubRunner;
+import org.springframework.cloud.contract.stubrunner.spring.StubRunnerPort;
+import org.springframework.cloud.contract.stubrunner.spring.StubRunnerProperties;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Consumer contract tests for the asynchronous client, against the same stubs as
+ * {@link AccountClientContractTest} (same configuration, so the same Spring context).
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "account-service.url=http://localhost:6565"
+)
+@AutoConfigureStubRunner(
+        ids = "com.example:account-service:+:stubs:6565",
+        stubsMode = StubRunnerProperties.StubsMode.LOCAL
+)
+public class AsyncAccountClientContractTest {
+
+    @StubRunnerPort("account-service")
+    int stubPort;
+
+    @Autowired
+    private AsyncAccountClient asyncAccountClient;
+
+    @Test
+    void shouldGetAccountSuccessfully() throws Exception {
+        // Contract: getAccount.groovy
+
+        AccountDto account = asyncAccountClient.getAccount("ACC-001").get();
+
+        assertThat(account.accountNumber()).isEqualTo("ACC-001");
+        assertThat(account.ownerName()).isEqualTo("王大明");
+        assertThat(account.balance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+        assertThat(account.status()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void shouldGetAccountWithVersionMarker() throws Exception {
+        // Contract: getAccountWithVersion.groovy
+
+        AccountDto account = asyncAccountClient.getAccount("ACC-008").get();
+
+        assertThat(account.version()).isEqualTo(42L);
+        assertThat(account.asOf()).isNotBlank();
+    }
+
+    @Test
+    void shouldFailWithNotFoundForUnknownAccount() {
+        // Contract: getAccountNotFound.groovy
+
+        assertThatThrownBy(() -> asyncAccountClient.getAccount("ACC-999").get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(FeignException.NotFound.class);
+    }
+
+    @Test
+    void shouldDebitAccountSuccessfully() throws Exception {
+        // Contract: debitAccount.groovy
+
+        DebitResponseDto response = asyncAccountClient.debit("ACC-001",
+                new DebitRequestDto(new BigDecimal("1000.00"))).get();
+
+        assertThat(response.success()).isTrue();
+        assertThat(response.previousBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+        assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+        assertThat(response.message()).isEqualTo("Debit successful");
+    }
+
+    @Test
+    void shouldDebitWithIdempotencyKey() throws Exception {
+        // Contract: debitWithIdempotencyKey.groovy
+
+        DebitResponseDto response = asyncAccountClient.debit("ACC-001",
+                new DebitRequestDto(new BigDecimal("500.00")), "pay-0001").get();
+
+        assertThat(response.success()).isTrue();
+        assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("9500.00"));
+    }
+
+    @Test
+    void shouldHandleInsufficientBalance() throws Exception {
+        // Contract: debitInsufficientBalance.groovy
+
+        DebitResponseDto response = asyncAccountClient.debit("ACC-003",
+                new DebitRequestDto(new BigDecimal("99999.00"))).get();
+
+        assertThat(response.success()).isFalse();
+        assertThat(response.message()).isEqualTo("Insufficient balance");
+    }
+
+    @Test
+    void shouldFailWithForbiddenForFrozenAccount() {
+        // Contract: debitFrozenAccount.groovy
+
+        assertThatThrownBy(() -> asyncAccountClient.debit("ACC-004",
+                new DebitRequestDto(new BigDecimal("100.00"))).get())
+                .hasCauseInstanceOf(FeignException.Forbidden.class)
+                .satisfies(e -> assertThat(((FeignException) e.getCause()).contentUTF8())
+                        .contains("Account is frozen: ACC-004"));
+    }
+
+    @Test
+    void shouldFailWithNotFoundForDebitOfUnknownAccount() {
+        // Contract: debitAccountNotFound.groovy
+
+        assertThatThrownBy(() -> asyncAccountClient.debit("ACC-999",
+                new DebitRequestDto(new BigDecimal("100.00"))).get())
+                .hasCauseInstanceOf(FeignException.NotFound.class);
+    }
+
+    @Test
+    void shouldDebitBatchWithPartialFailure() throws Exception {
+        // Contract: debitBatch.groovy
+
+        BatchDebitResponseDto response = asyncAccountClient.debitBatch(new BatchDebitRequestDto(List.of(
+                new BatchDebitItemDto("ACC-001", new BigDecimal("1000.00")),
+                new BatchDebitItemDto("ACC-003", new BigDecimal("99999.00")),
+                new BatchDebitItemDto("ACC-999", new BigDecimal("100.00"))
+        ))).get();
+
+        assertThat(response.results()).extracting(DebitResponseDto::success).containsExactly(true, false, false);
+        assertThat(response.results().get(2).message()).isEqualTo("Account not found: ACC-999");
+    }
+
+    @Test
+    void shouldRunConcurrentCallsWithoutBlocking() throws Exception {
+        // Contract: getAccount.groovy, 50 calls in flight at once
+
+        List<CompletableFuture<AccountDto>> reads = IntStream.range(0, 50)
+                .mapToObj(i -> asyncAccountClient.getAccount("ACC-001"))
+                .toList();
+        CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).get();
+
+        assertThat(reads).allSatisfy(read -> assertThat(read.get().accountNumber()).isEqualTo("ACC-001"));
+    }
+
+    @Test
+    void shouldThrowFeignExceptionsThroughBlockingAdapter() {
+        // Contract: debitFrozenAccount.groovy, through the AccountClient adapter
+
+        BlockingAccountClient accountClient = new BlockingAccountClient(asyncAccountClient);
+
+        assertThat(accountClient.getAccount("ACC-001").accountNumber()).isEqualTo("ACC-001");
+        assertThatThrownBy(() -> accountClient.debit("ACC-004", new DebitRequestDto(new BigDecimal("100.00"))))
+                .isInstanceOf(FeignException.Forbidden.class);
+    }
+}
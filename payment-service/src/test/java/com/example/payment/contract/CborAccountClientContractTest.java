@@ -0,0 +1,89 @@
+package com.example.payment.contract;
+
+import com.example.payment.infrastructure.client.AccountClient;
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import feign.FeignException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.stubrunner.spring.AutoConfigureStubRunner;
+import org.springframework.cloud.contract.stubrunner.spring.StubRunnerPort;
+import org.springframework.cloud.contract.stubrunner.spring.StubRunnerProperties;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Consumer contract tests for the Feign client with account-service.wire.format=cbor,
+ * against the binary contracts (their own stub port: the configuration differs from
+ * {@link AccountClientContractTest}'s, so the Spring context does too).
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "account-service.url=http://localhost:6567",
+                "account-service.wire.format=cbor"
+        }
+)
+@AutoConfigureStubRunner(
+        ids = "com.example:account-service:+:stubs:6567",
+        stubsMode = StubRunnerProperties.StubsMode.LOCAL
+)
+public class CborAccountClientContractTest {
+
+    @StubRunnerPort("account-service")
+    int stubPort;
+
+    @Autowired
+    private AccountClient accountClient;
+
+    @Test
+    void shouldGetAccountAsCbor() {
+        // Contract: getAccountCbor.groovy
+
+        AccountDto account = accountClient.getAccount("ACC-008");
+
+        assertThat(account.accountNumber()).isEqualTo("ACC-008");
+        assertThat(account.ownerName()).isEqualTo("讀取模型測試");
+        assertThat(account.balance()).isEqualByComparingTo(new BigDecimal("3000.00"));
+        assertThat(account.status()).isEqualTo("ACTIVE");
+        assertThat(account.version()).isEqualTo(42L);
+        assertThat(account.asOf()).isEqualTo("2026-10-17T09:30");
+    }
+
+    @Test
+    void shouldDebitAccountWithCborBodies() {
+        // Contract: debitAccountCbor.groovy
+        // The stub matches the request body byte for byte
+
+        DebitResponseDto response = accountClient.debit("ACC-001", new DebitRequestDto(new BigDecimal("1000.00")));
+
+        assertThat(response.success()).isTrue();
+        assertThat(response.previousBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+        assertThat(response.currentBalance()).isEqualByComparingTo(new BigDecimal("9000.00"));
+        assertThat(response.debitedAmount()).isEqualByComparingTo(new BigDecimal("1000.00"));
+        assertThat(response.message()).isEqualTo("Debit successful");
+    }
+
+    @Test
+    void shouldReadJsonFromProviderWithoutCbor() {
+        // Contract: getAccount.groovy (JSON only): the client accepts JSON after CBOR
+
+        AccountDto account = accountClient.getAccount("ACC-001");
+
+        assertThat(account.accountNumber()).isEqualTo("ACC-001");
+        assertThat(account.balance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+    }
+
+    @Test
+    void shouldFailWithNotFoundForUnknownAccount() {
+        // Contract: getAccountNotFound.groovy (errors stay JSON)
+
+        assertThatThrownBy(() -> accountClient.getAccount("ACC-999"))
+                .isInstanceOf(FeignException.NotFound.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.payment.contract;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.stubrunner.spring.AutoConfigureStubRunner;
+import org.springframework.cloud.contract.stubrunner.spring.StubRunnerProperties;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the HTTP status and body payment-service answers with when account-service does
+ * not know the account: a refused payment is a 400 FAILED result, not a 500 ERROR.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = "account-service.url=http://localhost:6568"
+)
+@AutoConfigureMockMvc
+@AutoConfigureStubRunner(
+        ids = "com.example:account-service:+:stubs:6568",
+        stubsMode = StubRunnerProperties.StubsMode.LOCAL
+)
+@DisplayName("Payment API contract Tests")
+class PaymentApiContractTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("should answer 400 with the not-found message for an unknown account")
+    void shouldAnswerBadRequestForUnknownAccount() throws Exception {
+        // Contracts: getAccountNotFound.groovy (status pre-check)
+        // Postcondition: 400, FAILED, "Account not found: ACC-999"
+
+        mockMvc.perform(post("/api/v1/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"accountNumber\":\"ACC-999\",\"amount\":100.00,\"description\":\"Contract payment\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.accountNumber").value("ACC-999"))
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.message").value("Account not found: ACC-999"));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.config.AccountStatusCacheProperties;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountStatusCache Tests")
+class AccountStatusCacheTest {
+
+    @Mock
+    private AccountClient accountClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AccountStatusCache(accountClient,
+                new AccountStatusCacheProperties(true, Duration.ofMinutes(1), Duration.ofMinutes(1), 100),
+                meterRegistry);
+    }
+
+    static FeignException.NotFound notFound(String accountNumber) {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/v1/accounts/" + accountNumber,
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return new FeignException.NotFound("Account not found: " + accountNumber, request, null, null);
+    }
+
+    @Test
+    @DisplayName("should answer repeated lookups from the cache and count saved calls")
+    void shouldCountSavedCalls() {
+        when(accountClient.getAccount("ACC-001"))
+                .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"));
+
+        assertThat(cache.status("ACC-001")).contains("ACTIVE");
+        assertThat(cache.status("ACC-001")).contains("ACTIVE");
+        assertThat(cache.status("ACC-001")).contains("ACTIVE");
+
+        verify(accountClient).getAccount("ACC-001");
+        assertThat(meterRegistry.get("payment.account.status.calls.saved").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("payment.account.status.calls.made").tag("reason", "miss")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should cache not-found accounts")
+    void shouldCacheNotFound() {
+        when(accountClient.getAccount("ACC-999")).thenThrow(notFound("ACC-999"));
+
+        assertThat(cache.status("ACC-999")).isEmpty();
+        assertThat(cache.status("ACC-999")).isEmpty();
+
+        verify(accountClient).getAccount("ACC-999");
+    }
+
+    @Test
+    @DisplayName("should expire not-found entries after the negative TTL")
+    void shouldExpireNotFoundAfterNegativeTtl() {
+        cache = new AccountStatusCache(accountClient,
+                new AccountStatusCacheProperties(true, Duration.ofMinutes(1), Duration.ZERO, 100),
+                new SimpleMeterRegistry());
+        when(accountClient.getAccount("ACC-999")).thenThrow(notFound("ACC-999"));
+
+        cache.status("ACC-999");
+        cache.status("ACC-999");
+
+        verify(accountClient, times(2)).getAccount("ACC-999");
+    }
+
+    @Test
+    @DisplayName("should not cache failures other than not found")
+    void shouldNotCacheOtherFailures() {
+        when(accountClient.getAccount("ACC-001"))
+                .thenThrow(new RuntimeException("Service unavailable"))
+                .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"));
+
+        assertThatThrownBy(() -> cache.status("ACC-001")).hasMessage("Service unavailable");
+        assertThat(cache.status("ACC-001")).contains("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("should read again after evict and on forced refresh")
+    void shouldReadAgainAfterEvictAndRefresh() {
+        when(accountClient.getAccount("ACC-001"))
+                .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"))
+                .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "FROZEN"))
+                .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"));
+
+        cache.status("ACC-001");
+        cache.evict("ACC-001");
+        assertThat(cache.status("ACC-001")).contains("FROZEN");
+        assertThat(cache.refresh("ACC-001")).contains("ACTIVE");
+        assertThat(cache.status("ACC-001")).contains("ACTIVE");
+
+        verify(accountClient, times(3)).getAccount("ACC-001");
+        assertThat(meterRegistry.get("payment.account.status.calls.made").tag("reason", "refresh")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should store a status read elsewhere")
+    void shouldStoreRecordedStatus() {
+        cache.record(new AccountDto("ACC-004", "凍結測試帳戶", new BigDecimal("3000.00"), "FROZEN"));
+
+        assertThat(cache.status("ACC-004")).contains("FROZEN");
+        verify(accountClient, times(0)).getAccount("ACC-004");
+    }
+
+    @Test
+    @DisplayName("should record the status of a fresh read")
+    void shouldRecordStatusOfFreshRead() {
+        when(accountClient.getAccount("ACC-004"))
+                .thenReturn(new AccountDto("ACC-004", "凍結測試帳戶", new BigDecimal("3000.00"), "FROZEN"));
+
+        assertThat(cache.read("ACC-004").status()).isEqualTo("FROZEN");
+        assertThat(cache.status("ACC-004")).contains("FROZEN");
+        verify(accountClient).getAccount("ACC-004");
+    }
+
+    @Test
+    @DisplayName("should call account-service on every lookup when disabled")
+    void shouldPassThroughWhenDisabled() {
+        AccountStatusCache uncached = AccountStatusCache.uncached(accountClient, meterRegistry);
+        when(accountClient.getAccount("ACC-001"))
+                .thenReturn(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"));
+
+        uncached.status("ACC-001");
+        uncached.status("ACC-001");
+        uncached.record(new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE"));
+        uncached.evict("ACC-001");
+
+        verify(accountClient, times(2)).getAccount("ACC-001");
+    }
+}
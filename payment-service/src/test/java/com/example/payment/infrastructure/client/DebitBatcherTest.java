@@ -0,0 +1,242 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.BatchDebitItemDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitRequestDto;
+import com.example.payment.infrastructure.client.dto.BatchDebitResponseDto;
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.client.dto.DebitResponseDto;
+import com.example.payment.infrastructure.config.DebitBatchingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DebitBatcher Tests")
+class DebitBatcherTest {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(10);
+
+    @Mock
+    private AccountClient accountClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DebitBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    private DebitBatcher batcher(int maxBatchSize, Duration maxDelay) {
+        batcher = new DebitBatcher(accountClient, new DebitBatchingProperties(true, maxBatchSize, maxDelay, MAX_WAIT),
+                meterRegistry);
+        return batcher;
+    }
+
+    private double flushes(String reason) {
+        return meterRegistry.get("payment.debit.batch.flushes").tag("reason", reason).counter().count();
+    }
+
+    /**
+     * account-service answering every item of a batch with a success for that item's account.
+     */
+    private void answerEachItem() {
+        when(accountClient.debitBatch(any(BatchDebitRequestDto.class))).thenAnswer(invocation -> {
+            BatchDebitRequestDto request = invocation.getArgument(0);
+            return new BatchDebitResponseDto(request.debits().stream()
+                    .map(item -> new DebitResponseDto(item.accountNumber(), new BigDecimal("100.00"),
+                            new BigDecimal("100.00").subtract(item.amount()), item.amount(), true, "Debit successful",
+                            null))
+                    .toList());
+        });
+    }
+
+    private static List<Future<DebitResponseDto>> debitConcurrently(DebitBatcher batcher, int debits)
+            throws Exception {
+        List<Future<DebitResponseDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < debits; i++) {
+                String accountNumber = "ACC-%03d".formatted(i);
+                results.add(executor.submit(() ->
+                        batcher.debit(accountNumber, new DebitRequestDto(new BigDecimal("1.00")))));
+            }
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("should send a full batch at once and give each caller its own item's result")
+    void shouldFlushOnSizeAndFanOut() throws Exception {
+        answerEachItem();
+        DebitBatcher batcher = batcher(10, Duration.ofMinutes(1));
+
+        List<Future<DebitResponseDto>> results = debitConcurrently(batcher, 30);
+
+        for (int i = 0; i < 30; i++) {
+            assertThat(results.get(i).get().accountNumber()).isEqualTo("ACC-%03d".formatted(i));
+        }
+        verify(accountClient, times(3)).debitBatch(any(BatchDebitRequestDto.class));
+        assertThat(flushes("size")).isEqualTo(3);
+        assertThat(meterRegistry.get("payment.debit.batch.size").summary().mean()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("should send a partial batch once maxDelay has passed")
+    void shouldFlushOnDelay() throws Exception {
+        answerEachItem();
+        DebitBatcher batcher = batcher(100, Duration.ofMillis(20));
+
+        List<Future<DebitResponseDto>> results = debitConcurrently(batcher, 3);
+
+        for (Future<DebitResponseDto> result : results) {
+            assertThat(result.get().success()).isTrue();
+        }
+        assertThat(flushes("delay")).isPositive();
+        assertThat(flushes("size")).isZero();
+    }
+
+    @Test
+    @DisplayName("should send the caller's debit as an item of the batch")
+    void shouldSendDebitAsItem() {
+        answerEachItem();
+        DebitBatcher batcher = batcher(1, Duration.ofMinutes(1));
+
+        batcher.debit("ACC-001", new DebitRequestDto(new BigDecimal("5.00")));
+
+        verify(accountClient).debitBatch(new BatchDebitRequestDto(
+                List.of(new BatchDebitItemDto("ACC-001", new BigDecimal("5.00")))));
+    }
+
+    @Test
+    @DisplayName("should fail every debit of the batch with the call's exception")
+    void shouldFailWholeBatch() throws Exception {
+        when(accountClient.debitBatch(any(BatchDebitRequestDto.class)))
+                .thenThrow(new IllegalStateException("account-service down"));
+        DebitBatcher batcher = batcher(5, Duration.ofMinutes(1));
+
+        List<Future<DebitResponseDto>> results = debitConcurrently(batcher, 5);
+
+        for (Future<DebitResponseDto> result : results) {
+            assertThatThrownBy(result::get).hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("account-service down");
+        }
+        verify(accountClient).debitBatch(any(BatchDebitRequestDto.class));
+    }
+
+    @Test
+    @DisplayName("should fail debits at once after close instead of leaving them waiting")
+    void shouldFailDebitsAfterClose() {
+        DebitBatcher batcher = batcher(10, Duration.ofMinutes(1));
+        batcher.close();
+
+        assertThatThrownBy(() -> batcher.debit("ACC-001", new DebitRequestDto(BigDecimal.ONE)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("closed");
+        verify(accountClient, never()).debitBatch(any(BatchDebitRequestDto.class));
+    }
+
+    @Test
+    @DisplayName("should give up on a batch result after maxWait")
+    void shouldBoundTheWait() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(accountClient.debitBatch(any(BatchDebitRequestDto.class))).thenAnswer(invocation -> {
+            release.await();
+            return new BatchDebitResponseDto(List.of());
+        });
+        batcher = new DebitBatcher(accountClient,
+                new DebitBatchingProperties(true, 10, Duration.ofMillis(1), Duration.ofMillis(100)), meterRegistry);
+
+        try {
+            assertThatThrownBy(() -> batcher.debit("ACC-001", new DebitRequestDto(BigDecimal.ONE)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("No batch debit result within 100ms");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("should send an amount account-service refuses alone so its batch neighbours still succeed")
+    void shouldSendRefusedAmountAlone() throws Exception {
+        // account-service answers 400 for the whole request when one item fails validation
+        when(accountClient.debitBatch(any(BatchDebitRequestDto.class))).thenAnswer(invocation -> {
+            BatchDebitRequestDto request = invocation.getArgument(0);
+            if (request.debits().stream().anyMatch(item -> item.amount().scale() > 2)) {
+                throw new IllegalArgumentException("400 Bad Request");
+            }
+            return new BatchDebitResponseDto(request.debits().stream()
+                    .map(item -> new DebitResponseDto(item.accountNumber(), new BigDecimal("100.00"),
+                            new BigDecimal("100.00").subtract(item.amount()), item.amount(), true, "Debit successful",
+                            null))
+                    .toList());
+        });
+        DebitBatcher batcher = batcher(100, Duration.ofMillis(20));
+
+        List<Future<DebitResponseDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 5; i++) {
+                String accountNumber = "ACC-%03d".formatted(i);
+                BigDecimal amount = new BigDecimal(i == 2 ? "10.005" : "1.00");
+                results.add(executor.submit(() -> batcher.debit(accountNumber, new DebitRequestDto(amount))));
+            }
+        }
+
+        for (int i = 0; i < 5; i++) {
+            if (i == 2) {
+                assertThatThrownBy(results.get(i)::get).hasCauseInstanceOf(IllegalArgumentException.class);
+            } else {
+                assertThat(results.get(i).get().success()).isTrue();
+            }
+        }
+        verify(accountClient).debitBatch(new BatchDebitRequestDto(
+                List.of(new BatchDebitItemDto("ACC-002", new BigDecimal("10.005")))));
+    }
+
+    @Test
+    @DisplayName("should check amounts against the scale account-service accepts")
+    void shouldCheckAmountScale() {
+        assertThat(DebitBatcher.fitsAmountColumn(new BigDecimal("10.00"))).isTrue();
+        assertThat(DebitBatcher.fitsAmountColumn(new BigDecimal("10.000"))).isTrue();
+        assertThat(DebitBatcher.fitsAmountColumn(new BigDecimal("10.005"))).isFalse();
+        assertThat(DebitBatcher.fitsAmountColumn(new BigDecimal("12345678901234567"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should refuse debits when batching is disabled")
+    void shouldRefuseWhenDisabled() {
+        DebitBatcher unbatched = DebitBatcher.unbatched(accountClient, meterRegistry);
+
+        assertThat(unbatched.enabled()).isFalse();
+        assertThatThrownBy(() -> unbatched.debit("ACC-001", new DebitRequestDto(BigDecimal.ONE)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
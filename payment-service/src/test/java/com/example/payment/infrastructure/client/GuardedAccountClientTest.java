@@ -0,0 +1,272 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.config.CircuitBreakerProperties;
+import com.example.payment.infrastructure.config.ConcurrencyLimitProperties;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.payment.infrastructure.client.AccountStatusCacheTest.notFound;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GuardedAccountClient Tests")
+class GuardedAccountClientTest {
+
+    private static final AccountDto ACCOUNT =
+            new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE");
+    private static final long MILLIS = 1_000_000;
+
+    @Mock
+    private AccountClient accountClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties(true, initialLimit, 1, 10, 0.5, Duration.ofMillis(100)),
+                meterRegistry);
+    }
+
+    private CircuitBreaker circuitBreaker() {
+        return new CircuitBreaker(
+                new CircuitBreakerProperties(true, 0.5, Duration.ofMillis(200), 4, 4, Duration.ofSeconds(5), 2),
+                meterRegistry, clock::get);
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).counter().count();
+    }
+
+    static RetryableException timeout() {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/v1/accounts/ACC-001",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return new RetryableException(-1, "Read timed out", Request.HttpMethod.GET,
+                new SocketTimeoutException("Read timed out"), (Long) null, request);
+    }
+
+    @Nested
+    @DisplayName("Adaptive concurrency limit")
+    class Limit {
+
+        @Test
+        @DisplayName("should reject calls beyond the limit without blocking")
+        void shouldRejectBeyondLimit() {
+            AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isFalse();
+
+            assertThat(limiter.inFlight()).isEqualTo(2);
+            assertThat(count("payment.account.limiter.rejected")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should grow by one on a fast call while the limit is in use")
+        void shouldIncreaseAdditively() {
+            AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+            limiter.tryAcquire();
+            limiter.onSuccess(10 * MILLIS);
+
+            assertThat(limiter.limit()).isEqualTo(3);
+            assertThat(meterRegistry.get("payment.account.limiter.limit").gauge().value()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should not grow while most of the limit is unused")
+        void shouldNotGrowWhenIdle() {
+            AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+            limiter.tryAcquire();
+            limiter.onSuccess(10 * MILLIS);
+
+            assertThat(limiter.limit()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("should shrink by the backoff ratio on a slow or dropped call, down to the minimum")
+        void shouldDecreaseMultiplicatively() {
+            AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+            limiter.tryAcquire();
+            limiter.onSuccess(500 * MILLIS);
+            assertThat(limiter.limit()).isEqualTo(4);
+
+            limiter.tryAcquire();
+            limiter.onDropped();
+            assertThat(limiter.limit()).isEqualTo(2);
+
+            for (int i = 0; i < 5; i++) {
+                limiter.tryAcquire();
+                limiter.onDropped();
+            }
+            assertThat(limiter.limit()).isEqualTo(1);
+            assertThat(limiter.inFlight()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Circuit breaker")
+    class Breaker {
+
+        private void fail(CircuitBreaker breaker, int calls) {
+            for (int i = 0; i < calls; i++) {
+                assertThat(breaker.tryAcquire()).isTrue();
+                breaker.onFailure();
+            }
+        }
+
+        @Test
+        @DisplayName("should open once the failure rate reaches the threshold over the minimum calls")
+        void shouldOpenOnFailureRate() {
+            CircuitBreaker breaker = circuitBreaker();
+            breaker.tryAcquire();
+            breaker.onSuccess(10 * MILLIS);
+            breaker.tryAcquire();
+            breaker.onSuccess(10 * MILLIS);
+            fail(breaker, 1);
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+            fail(breaker, 1);
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(breaker.tryAcquire()).isFalse();
+            assertThat(count("payment.account.breaker.rejected")).isEqualTo(1);
+            assertThat(count("payment.account.breaker.transitions", "from", "closed", "to", "open")).isEqualTo(1);
+            assertThat(meterRegistry.get("payment.account.breaker.state").gauge().value()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should count calls slower than slowCallDuration as failures")
+        void shouldCountSlowCalls() {
+            CircuitBreaker breaker = circuitBreaker();
+            for (int i = 0; i < 4; i++) {
+                breaker.tryAcquire();
+                breaker.onSuccess(300 * MILLIS);
+            }
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("should let trial calls through after openDuration and close when they all succeed")
+        void shouldCloseAfterSuccessfulTrials() {
+            CircuitBreaker breaker = circuitBreaker();
+            fail(breaker, 4);
+            clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+            assertThat(breaker.tryAcquire()).isTrue();
+            assertThat(breaker.tryAcquire()).isTrue();
+            assertThat(breaker.tryAcquire()).isFalse();
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            breaker.onSuccess(10 * MILLIS);
+            breaker.onSuccess(10 * MILLIS);
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(count("payment.account.breaker.transitions", "from", "half-open", "to", "closed"))
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should open again when a trial call fails")
+        void shouldReopenOnFailedTrial() {
+            CircuitBreaker breaker = circuitBreaker();
+            fail(breaker, 4);
+            clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+            fail(breaker, 1);
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(breaker.tryAcquire()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Guarded calls")
+    class GuardedCalls {
+
+        @Test
+        @DisplayName("should pass calls through and release the limit afterwards")
+        void shouldPassThrough() {
+            when(accountClient.getAccount("ACC-001")).thenReturn(ACCOUNT);
+            AdaptiveConcurrencyLimiter limiter = limiter(2);
+            GuardedAccountClient client = new GuardedAccountClient(accountClient, circuitBreaker(), limiter);
+
+            assertThat(client.getAccount("ACC-001")).isSameAs(ACCOUNT);
+            assertThat(limiter.inFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("should count timeouts against account-service and fail fast once the circuit opens")
+        void shouldFailFastWhenOpen() {
+            when(accountClient.getAccount("ACC-001")).thenThrow(timeout());
+            CircuitBreaker breaker = circuitBreaker();
+            GuardedAccountClient client = new GuardedAccountClient(accountClient, breaker, limiter(2));
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> client.getAccount("ACC-001")).isInstanceOf(RetryableException.class);
+            }
+
+            assertThatThrownBy(() -> client.getAccount("ACC-001"))
+                    .isInstanceOf(AccountServiceUnavailableException.class)
+                    .hasMessageContaining("circuit is open");
+            verify(accountClient, times(4)).getAccount("ACC-001");
+        }
+
+        @Test
+        @DisplayName("should treat 4xx answers as successful calls")
+        void shouldNotCountClientErrors() {
+            when(accountClient.getAccount("ACC-999")).thenThrow(notFound("ACC-999"));
+            CircuitBreaker breaker = circuitBreaker();
+            GuardedAccountClient client = new GuardedAccountClient(accountClient, breaker, limiter(2));
+
+            for (int i = 0; i < 10; i++) {
+                assertThatThrownBy(() -> client.getAccount("ACC-999")).isInstanceOf(FeignException.NotFound.class);
+            }
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("should reject over the limit without calling account-service")
+        void shouldRejectOverLimit() {
+            AdaptiveConcurrencyLimiter limiter = limiter(1);
+            limiter.tryAcquire();
+            GuardedAccountClient client = new GuardedAccountClient(accountClient, circuitBreaker(), limiter);
+
+            assertThatThrownBy(() -> client.getAccount("ACC-001"))
+                    .isInstanceOf(AccountServiceUnavailableException.class)
+                    .hasMessageContaining("concurrency limit");
+            verify(accountClient, never()).getAccount("ACC-001");
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.DebitRequestDto;
+import com.example.payment.infrastructure.config.AsyncAccountClientProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import feign.FeignException;
+import feign.RetryableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HttpAccountClient Tests")
+class HttpAccountClientTest {
+
+    private static final AsyncAccountClientProperties PROPERTIES =
+            new AsyncAccountClientProperties(true, true, Duration.ofSeconds(1), Duration.ofMillis(200));
+
+    private HttpServer accountService;
+    private HttpAccountClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        accountService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        accountService.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        accountService.createContext("/api/v1/accounts/SLOW-001", exchange -> {
+            try (exchange) {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        accountService.createContext("/api/v1/accounts/DOWN-001", exchange -> {
+            try (exchange; OutputStream out = exchange.getResponseBody()) {
+                byte[] body = "{\"status\":500}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(500, body.length);
+                out.write(body);
+            }
+        });
+        accountService.createContext("/api/v1/accounts/ACC/001", exchange -> {
+            try (exchange; OutputStream out = exchange.getResponseBody()) {
+                if (!exchange.getRequestURI().getRawPath().endsWith("/ACC%2F001")) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                byte[] body = """
+                        {"accountNumber": "ACC/001", "ownerName": "王大明", "balance": 1.00, "status": "ACTIVE"}
+                        """.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                out.write(body);
+            }
+        });
+        accountService.start();
+        client = new HttpAccountClient("http://localhost:" + accountService.getAddress().getPort() + "/",
+                PROPERTIES, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        accountService.stop(0);
+    }
+
+    @Test
+    @DisplayName("should fail a timed-out call with RetryableException, as Feign does")
+    void shouldFailTimeoutAsRetryable() {
+        assertThatThrownBy(() -> client.debit("SLOW-001", new DebitRequestDto(BigDecimal.ONE), "key-1").get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RetryableException.class);
+    }
+
+    @Test
+    @DisplayName("should fail a refused connection with RetryableException")
+    void shouldFailRefusedConnectionAsRetryable() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        try (HttpAccountClient unreachable = new HttpAccountClient("http://localhost:" + closedPort,
+                PROPERTIES, new ObjectMapper())) {
+            assertThatThrownBy(() -> unreachable.getAccount("ACC-001").get())
+                    .hasCauseInstanceOf(RetryableException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("should map an error status to the matching FeignException")
+    void shouldMapErrorStatus() {
+        assertThatThrownBy(() -> client.getAccount("DOWN-001").get())
+                .hasCauseInstanceOf(FeignException.InternalServerError.class)
+                .satisfies(e -> assertThat(((FeignException) e.getCause()).status()).isEqualTo(500));
+    }
+
+    @Test
+    @DisplayName("should encode the account number as a path segment")
+    void shouldEncodeAccountNumber() throws Exception {
+        assertThat(client.getAccount("ACC/001").get().accountNumber()).isEqualTo("ACC/001");
+    }
+}
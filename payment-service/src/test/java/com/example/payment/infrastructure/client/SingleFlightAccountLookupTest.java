@@ -0,0 +1,219 @@
+package com.example.payment.infrastructure.client;
+
+import com.example.payment.infrastructure.client.dto.AccountDto;
+import com.example.payment.infrastructure.config.AccountLookupProperties;
+import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.payment.infrastructure.client.AccountStatusCacheTest.notFound;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SingleFlightAccountLookup Tests")
+class SingleFlightAccountLookupTest {
+
+    private static final AccountDto ACCOUNT =
+            new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE");
+
+    @Mock
+    private AccountClient accountClient;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private SingleFlightAccountLookup lookup(boolean coalesce) {
+        return new SingleFlightAccountLookup(accountClient, new AccountLookupProperties(coalesce), meterRegistry);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    /**
+     * Runs one lookup per account number, on virtual threads released together, and waits for all of them.
+     */
+    private static List<Future<AccountDto>> burst(SingleFlightAccountLookup lookup, List<String> accountNumbers)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AccountDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String accountNumber : accountNumbers) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return lookup.getAccount(accountNumber);
+                }));
+            }
+            start.countDown();
+        }
+        return results;
+    }
+
+    @Nested
+    @DisplayName("Coalescing")
+    class Coalescing {
+
+        @Test
+        @DisplayName("should share one in-flight call among concurrent lookups of the same account")
+        void shouldShareInFlightCall() throws Exception {
+            CountDownLatch callStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(accountClient.getAccount("ACC-001")).thenAnswer(invocation -> {
+                callStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return ACCOUNT;
+            });
+            SingleFlightAccountLookup lookup = lookup(true);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<AccountDto> leader = executor.submit(() -> lookup.getAccount("ACC-001"));
+                assertThat(callStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                List<Future<AccountDto>> followers = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    followers.add(executor.submit(() -> lookup.getAccount("ACC-001")));
+                }
+                while (count("payment.account.lookup.coalesced") < 10) {
+                    Thread.sleep(1);
+                }
+                release.countDown();
+
+                assertThat(leader.get()).isSameAs(ACCOUNT);
+                for (Future<AccountDto> follower : followers) {
+                    assertThat(follower.get()).isSameAs(ACCOUNT);
+                }
+            }
+            verify(accountClient).getAccount("ACC-001");
+            assertThat(count("payment.account.lookup.requests")).isEqualTo(11);
+            assertThat(count("payment.account.lookup.calls")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should hand the call's exception to every caller that joined it")
+        void shouldShareFailure() throws Exception {
+            CountDownLatch callStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(accountClient.getAccount("ACC-999")).thenAnswer(invocation -> {
+                callStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                throw notFound("ACC-999");
+            });
+            SingleFlightAccountLookup lookup = lookup(true);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<AccountDto> leader = executor.submit(() -> lookup.getAccount("ACC-999"));
+                assertThat(callStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                Future<AccountDto> follower = executor.submit(() -> lookup.getAccount("ACC-999"));
+                while (count("payment.account.lookup.coalesced") < 1) {
+                    Thread.sleep(1);
+                }
+                release.countDown();
+
+                assertThatThrownBy(leader::get).hasCauseInstanceOf(FeignException.NotFound.class);
+                assertThatThrownBy(follower::get).hasCauseInstanceOf(FeignException.NotFound.class);
+            }
+            verify(accountClient).getAccount("ACC-999");
+        }
+
+        @Test
+        @DisplayName("should call again once the previous call has returned")
+        void shouldNotCacheResults() {
+            when(accountClient.getAccount("ACC-001")).thenReturn(ACCOUNT);
+            SingleFlightAccountLookup lookup = lookup(true);
+
+            lookup.getAccount("ACC-001");
+            lookup.getAccount("ACC-001");
+
+            verify(accountClient, times(2)).getAccount("ACC-001");
+            assertThat(count("payment.account.lookup.coalesced")).isZero();
+        }
+
+        @Test
+        @DisplayName("should not share calls between different accounts")
+        void shouldNotShareAcrossAccounts() throws Exception {
+            when(accountClient.getAccount("ACC-001")).thenReturn(ACCOUNT);
+            when(accountClient.getAccount("ACC-002"))
+                    .thenReturn(new AccountDto("ACC-002", "李小華", new BigDecimal("5000.00"), "ACTIVE"));
+            SingleFlightAccountLookup lookup = lookup(true);
+
+            List<Future<AccountDto>> results = burst(lookup, List.of("ACC-001", "ACC-002"));
+
+            assertThat(results.get(0).get().accountNumber()).isEqualTo("ACC-001");
+            assertThat(results.get(1).get().accountNumber()).isEqualTo("ACC-002");
+        }
+    }
+
+    @Nested
+    @DisplayName("Under bursty same-key traffic")
+    class BurstyTraffic {
+
+        private static final int BURSTS = 20;
+        private static final int CALLERS_PER_BURST = 200;
+
+        private final AtomicInteger downstreamCalls = new AtomicInteger();
+
+        @BeforeEach
+        void slowAccountService() {
+            when(accountClient.getAccount("ACC-001")).thenAnswer(invocation -> {
+                downstreamCalls.incrementAndGet();
+                Thread.sleep(20);
+                return ACCOUNT;
+            });
+        }
+
+        private void runBursts(SingleFlightAccountLookup lookup) throws Exception {
+            for (int i = 0; i < BURSTS; i++) {
+                List<String> sameKey = Collections.nCopies(CALLERS_PER_BURST, "ACC-001");
+                for (Future<AccountDto> result : burst(lookup, sameKey)) {
+                    assertThat(result.get()).isSameAs(ACCOUNT);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should send far fewer calls downstream than lookups it receives")
+        void shouldCoalesceBursts() throws Exception {
+            runBursts(lookup(true));
+
+            int lookups = BURSTS * CALLERS_PER_BURST;
+            assertThat(count("payment.account.lookup.requests")).isEqualTo(lookups);
+            assertThat(downstreamCalls.get()).isLessThan(lookups / 10);
+            assertThat(count("payment.account.lookup.calls")).isEqualTo(downstreamCalls.get());
+            assertThat(meterRegistry.get("payment.account.lookup.coalescing.ratio").gauge().value())
+                    .isGreaterThan(0.9);
+        }
+
+        @Test
+        @DisplayName("should send every lookup downstream when coalescing is off")
+        void shouldPassThroughWhenDisabled() throws Exception {
+            runBursts(lookup(false));
+
+            assertThat(downstreamCalls.get()).isEqualTo(BURSTS * CALLERS_PER_BURST);
+            assertThat(meterRegistry.get("payment.account.lookup.coalescing.ratio").gauge().value()).isZero();
+        }
+    }
+}
@@ -16,6 +16,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -51,6 +53,19 @@ class PaymentControllerTest {
                     .andExpect(jsonPath("$.balance").value(10000.00))
                     .andExpect(jsonPath("$.status").value("ACTIVE"));
         }
+
+        @Test
+        @DisplayName("should pass the account-service version marker through")
+        void shouldPassVersionMarkerThrough() throws Exception {
+            AccountDto account = new AccountDto("ACC-001", "王大明", new BigDecimal("10000.00"), "ACTIVE",
+                    42L, "2026-10-17T09:30");
+            when(paymentService.getAccount("ACC-001")).thenReturn(account);
+
+            mockMvc.perform(get("/api/v1/payments/accounts/ACC-001"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.version").value(42))
+                    .andExpect(jsonPath("$.asOf").value("2026-10-17T09:30"));
+        }
     }
 
     @Nested
@@ -142,5 +157,22 @@ class PaymentControllerTest {
                             .content(requestBody))
                     .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("should return bad request for an amount with more than 2 decimal places")
+        void shouldReturnBadRequestForSubCentAmount() throws Exception {
+            String requestBody = """
+                    {
+                        "accountNumber": "ACC-001",
+                        "amount": 10.005
+                    }
+                    """;
+
+            mockMvc.perform(post("/api/v1/payments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestBody))
+                    .andExpect(status().isBadRequest());
+            verify(paymentService, never()).processPayment(any());
+        }
     }
 }
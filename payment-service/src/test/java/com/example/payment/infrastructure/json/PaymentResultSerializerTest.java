@@ -0,0 +1,48 @@
+package com.example.payment.infrastructure.json;
+
+import com.example.payment.application.PaymentService.PaymentResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentResultSerializer Tests")
+class PaymentResultSerializerTest {
+
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper handWritten = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new SimpleModule().addSerializer(new PaymentResultSerializer()))
+            .build();
+
+    @Test
+    @DisplayName("should write the bytes the reflective record serializer did")
+    void shouldWriteReflectiveBytes() throws Exception {
+        List<PaymentResult> results = List.of(
+                PaymentResult.success("ACC-001", new BigDecimal("10000.00"), new BigDecimal("9000.00"),
+                        new BigDecimal("1000.00")),
+                PaymentResult.failed("ACC-002", PaymentResult.NOT_ACTIVE_MESSAGE),
+                PaymentResult.failed("ACC-003", "Insufficient balance"),
+                PaymentResult.error("ACC-004", "帳戶服務暫時無法使用 \"503\""),
+                new PaymentResult(null, null, null, null, null, null));
+
+        for (PaymentResult result : results) {
+            assertThat(handWritten.writeValueAsBytes(result)).as("%s", result)
+                    .isEqualTo(reflective.writeValueAsBytes(result));
+        }
+    }
+
+    @Test
+    @DisplayName("should read back what it writes")
+    void shouldRoundTrip() throws Exception {
+        PaymentResult result = PaymentResult.success("ACC-001", new BigDecimal("10000.00"),
+                new BigDecimal("9000.00"), new BigDecimal("1000.00"));
+
+        assertThat(handWritten.readValue(handWritten.writeValueAsBytes(result), PaymentResult.class)).isEqualTo(result);
+    }
+}